@@ -0,0 +1,206 @@
+package org.synyx.urlaubsverwaltung.benchmark;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTimeConstants;
+
+import org.mockito.Mockito;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.settings.Settings;
+import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+
+/**
+ * In-memory fixtures for the benchmarks: a person with a realistic history of applications for leave and sick notes
+ * over a configurable number of years. The data is generated with a fixed seed, so every run uses the same data.
+ */
+public final class BenchmarkData {
+
+    public static final int FIRST_YEAR = 2000;
+
+    private static final long SEED = 42L;
+
+    private static final int APPLICATIONS_PER_YEAR = 15;
+    private static final int SICK_NOTES_PER_YEAR = 4;
+
+    private final Person person;
+    private final WorkingTime workingTime;
+    private final List<Application> applications;
+    private final List<SickNote> sickNotes;
+    private final int years;
+
+    public BenchmarkData(int years) {
+
+        this.years = years;
+        this.person = TestDataCreator.createPerson("muster", "Marlene", "Muster", "muster@firma.test");
+
+        this.workingTime = TestDataCreator.createWorkingTime();
+        this.workingTime.setPerson(person);
+        this.workingTime.setValidFrom(new DateMidnight(FIRST_YEAR, DateTimeConstants.JANUARY, 1));
+
+        Random random = new Random(SEED);
+
+        this.applications = new ArrayList<>();
+        this.sickNotes = new ArrayList<>();
+
+        for (int year = FIRST_YEAR; year < FIRST_YEAR + years; year++) {
+            applications.addAll(createApplications(random, year));
+            sickNotes.addAll(createSickNotes(random, year));
+        }
+    }
+
+    private List<Application> createApplications(Random random, int year) {
+
+        List<Application> applicationsOfYear = new ArrayList<>();
+
+        // spread the applications over the year, every application within its own slot
+        int slotLength = 365 / APPLICATIONS_PER_YEAR;
+
+        for (int i = 0; i < APPLICATIONS_PER_YEAR; i++) {
+            DateMidnight startDate = new DateMidnight(year, DateTimeConstants.JANUARY, 1).plusDays(i * slotLength
+                    + random.nextInt(slotLength / 2));
+
+            Application application;
+
+            if (random.nextInt(5) == 0) {
+                DayLength dayLength = random.nextBoolean() ? DayLength.MORNING : DayLength.NOON;
+                application = TestDataCreator.createApplication(person, startDate, startDate, dayLength);
+            } else {
+                DateMidnight endDate = startDate.plusDays(random.nextInt(slotLength / 2));
+                application = TestDataCreator.createApplication(person, startDate, endDate, DayLength.FULL);
+            }
+
+            application.setStatus(getStatus(random));
+
+            applicationsOfYear.add(application);
+        }
+
+        return applicationsOfYear;
+    }
+
+
+    private static ApplicationStatus getStatus(Random random) {
+
+        int value = random.nextInt(10);
+
+        if (value < 7) {
+            return ApplicationStatus.ALLOWED;
+        }
+
+        if (value < 8) {
+            return ApplicationStatus.WAITING;
+        }
+
+        if (value < 9) {
+            return ApplicationStatus.REJECTED;
+        }
+
+        return ApplicationStatus.CANCELLED;
+    }
+
+
+    private List<SickNote> createSickNotes(Random random, int year) {
+
+        List<SickNote> sickNotesOfYear = new ArrayList<>();
+
+        int slotLength = 365 / SICK_NOTES_PER_YEAR;
+
+        for (int i = 0; i < SICK_NOTES_PER_YEAR; i++) {
+            DateMidnight startDate = new DateMidnight(year, DateTimeConstants.JANUARY, 1).plusDays(i * slotLength
+                    + random.nextInt(slotLength / 2));
+            DateMidnight endDate = startDate.plusDays(random.nextInt(7));
+
+            SickNote sickNote = TestDataCreator.createSickNote(person, startDate, endDate, DayLength.FULL);
+            sickNote.setId(sickNotes.size() + sickNotesOfYear.size() + 1);
+
+            sickNotesOfYear.add(sickNote);
+        }
+
+        return sickNotesOfYear;
+    }
+
+
+    /**
+     * Creates a stub of the given type. Unlike a usual mock, the stub does not record its invocations, so it does not
+     * distort the measurements.
+     *
+     * @param  type  to create a stub of
+     *
+     * @return  the created stub
+     */
+    public static <T> T stub(Class<T> type) {
+
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+
+
+    /**
+     * @return  a settings service stub returning the default settings
+     */
+    public static SettingsService createSettingsService() {
+
+        SettingsService settingsService = stub(SettingsService.class);
+        Mockito.when(settingsService.getSettings()).thenReturn(new Settings());
+
+        return settingsService;
+    }
+
+
+    public Person getPerson() {
+
+        return person;
+    }
+
+
+    public WorkingTime getWorkingTime() {
+
+        return workingTime;
+    }
+
+
+    public List<Application> getApplications() {
+
+        return applications;
+    }
+
+
+    /**
+     * Emulates the query for the applications for leave of the person overlapping the given period.
+     */
+    public List<Application> getApplications(DateMidnight startDate, DateMidnight endDate) {
+
+        return applications.stream()
+            .filter(application ->
+                    !application.getStartDate().isAfter(endDate) && !application.getEndDate().isBefore(startDate))
+            .collect(Collectors.toList());
+    }
+
+
+    public List<SickNote> getSickNotes() {
+
+        return sickNotes;
+    }
+
+
+    public int getYears() {
+
+        return years;
+    }
+
+
+    public int getLastYear() {
+
+        return FIRST_YEAR + years - 1;
+    }
+}
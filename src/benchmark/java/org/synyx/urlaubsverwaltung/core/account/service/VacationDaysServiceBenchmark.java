@@ -0,0 +1,104 @@
+package org.synyx.urlaubsverwaltung.core.account.service;
+
+import org.joda.time.DateMidnight;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.synyx.urlaubsverwaltung.benchmark.BenchmarkData;
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.account.domain.Account;
+import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeDAO;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.period.NowService;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmark for {@link VacationDaysService#getVacationDaysLeft}: calculates the left vacation days of all the holidays
+ * accounts of a person. The applications for leave are provided by an in-memory emulation of the database query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class VacationDaysServiceBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int years;
+
+    private VacationDaysService vacationDaysService;
+    private List<Account> accounts;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkData data = new BenchmarkData(years);
+
+        SettingsService settingsService = BenchmarkData.createSettingsService();
+
+        WorkingTimeDAO workingTimeDAO = BenchmarkData.stub(WorkingTimeDAO.class);
+        Mockito.when(workingTimeDAO.findByPerson(data.getPerson()))
+            .thenReturn(Collections.singletonList(data.getWorkingTime()));
+
+        WorkDaysService workDaysService = new WorkDaysService(new PublicHolidaysService(settingsService),
+                new WorkingTimeService(workingTimeDAO, settingsService, new DataVersionService(),
+                    BenchmarkData.stub(UsedVacationDaysDAO.class),
+                    BenchmarkData.stub(ApplicationForLeaveDaysService.class),
+                    BenchmarkData.stub(SickNoteStatisticsService.class)), settingsService);
+
+        ApplicationService applicationService = BenchmarkData.stub(ApplicationService.class);
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPerson(Matchers.any(DateMidnight.class),
+                    Matchers.any(DateMidnight.class), Matchers.any(Person.class)))
+            .thenAnswer(invocation ->
+                    data.getApplications((DateMidnight) invocation.getArguments()[0],
+                        (DateMidnight) invocation.getArguments()[1]));
+
+        // the accounts are not persisted, so the used vacation days are calculated on every call
+        vacationDaysService = new VacationDaysService(workDaysService, new NowService(), applicationService,
+                BenchmarkData.stub(AccountService.class), BenchmarkData.stub(UsedVacationDaysDAO.class));
+
+        accounts = new ArrayList<>();
+
+        for (int year = BenchmarkData.FIRST_YEAR; year <= data.getLastYear(); year++) {
+            accounts.add(TestDataCreator.createHolidaysAccount(data.getPerson(), year));
+        }
+    }
+
+
+    @Benchmark
+    public void getVacationDaysLeft(Blackhole blackhole) {
+
+        for (Account account : accounts) {
+            blackhole.consume(vacationDaysService.getVacationDaysLeft(account));
+        }
+    }
+}
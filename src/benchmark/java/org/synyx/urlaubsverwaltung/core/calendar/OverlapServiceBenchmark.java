@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.synyx.urlaubsverwaltung.benchmark.BenchmarkData;
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmark for {@link OverlapService#getOverlapCase}: checks a period covering all the years of data against the
+ * periods of all the applications for leave and sick notes of a person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class OverlapServiceBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int years;
+
+    private BenchmarkData data;
+    private OverlapService overlapService;
+    private DateMidnight startDate;
+    private DateMidnight endDate;
+    private List<AbsencePeriod> periods;
+
+    @Setup
+    public void setUp() {
+
+        data = new BenchmarkData(years);
+
+        overlapService = new OverlapService(BenchmarkData.stub(AbsencePeriodDAO.class));
+
+        startDate = DateUtil.getFirstDayOfYear(BenchmarkData.FIRST_YEAR);
+        endDate = DateUtil.getLastDayOfYear(data.getLastYear());
+
+        periods = new ArrayList<>();
+
+        for (Application application : data.getApplications()) {
+            periods.add(new AbsencePeriod(AbsencePeriod.Type.APPLICATION, null, application.getStartDate(),
+                    application.getEndDate(), application.getDayLength(), application.getStatus().name()));
+        }
+
+        for (SickNote sickNote : data.getSickNotes()) {
+            periods.add(new AbsencePeriod(AbsencePeriod.Type.SICK_NOTE, sickNote.getId(), sickNote.getStartDate(),
+                    sickNote.getEndDate(), sickNote.getDayLength(), sickNote.getStatus().name()));
+        }
+    }
+
+
+    @Benchmark
+    public OverlapCase getOverlapCase() {
+
+        return overlapService.getOverlapCase(startDate, endDate, periods);
+    }
+}
@@ -0,0 +1,71 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.synyx.urlaubsverwaltung.benchmark.BenchmarkData;
+import org.synyx.urlaubsverwaltung.core.settings.FederalState;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmark for {@link PublicHolidaysService#getWorkingDurationOfDate}: gets the working duration of every day of the
+ * years of data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class PublicHolidaysServiceBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int years;
+
+    private PublicHolidaysService publicHolidaysService;
+    private List<DateMidnight> days;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkData data = new BenchmarkData(years);
+
+        publicHolidaysService = new PublicHolidaysService(BenchmarkData.createSettingsService());
+
+        days = new ArrayList<>();
+
+        DateMidnight day = DateUtil.getFirstDayOfYear(BenchmarkData.FIRST_YEAR);
+        DateMidnight lastDay = DateUtil.getLastDayOfYear(data.getLastYear());
+
+        while (!day.isAfter(lastDay)) {
+            days.add(day);
+            day = day.plusDays(1);
+        }
+    }
+
+
+    @Benchmark
+    public void getWorkingDurationOfDate(Blackhole blackhole) {
+
+        for (DateMidnight day : days) {
+            blackhole.consume(publicHolidaysService.getWorkingDurationOfDate(day, FederalState.BADEN_WUERTTEMBERG));
+        }
+    }
+}
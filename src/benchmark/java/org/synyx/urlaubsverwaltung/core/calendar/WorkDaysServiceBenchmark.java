@@ -0,0 +1,110 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.synyx.urlaubsverwaltung.benchmark.BenchmarkData;
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeDAO;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
+import java.math.BigDecimal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+/**
+ * Benchmark for {@link WorkDaysService#getWorkDays}: calculates the work days of all the applications for leave of a
+ * person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class WorkDaysServiceBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int years;
+
+    private BenchmarkData data;
+    private WorkDaysService workDaysService;
+    private List<WorkDaysRequest> requests;
+
+    @Setup
+    public void setUp() {
+
+        data = new BenchmarkData(years);
+
+        SettingsService settingsService = BenchmarkData.createSettingsService();
+
+        WorkingTimeDAO workingTimeDAO = BenchmarkData.stub(WorkingTimeDAO.class);
+        Mockito.when(workingTimeDAO.findByPerson(data.getPerson()))
+            .thenReturn(Collections.singletonList(data.getWorkingTime()));
+        Mockito.when(workingTimeDAO.findByPersons(Matchers.anyCollection()))
+            .thenReturn(Collections.singletonList(data.getWorkingTime()));
+
+        workDaysService = new WorkDaysService(new PublicHolidaysService(settingsService),
+                new WorkingTimeService(workingTimeDAO, settingsService, new DataVersionService(),
+                    BenchmarkData.stub(UsedVacationDaysDAO.class),
+                    BenchmarkData.stub(ApplicationForLeaveDaysService.class),
+                    BenchmarkData.stub(SickNoteStatisticsService.class)), settingsService);
+
+        requests = data.getApplications()
+            .stream()
+            .map(application ->
+                    new WorkDaysRequest(application.getPerson(), application.getDayLength(),
+                        application.getStartDate(), application.getEndDate()))
+            .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public void getWorkDays(Blackhole blackhole) {
+
+        for (Application application : data.getApplications()) {
+            blackhole.consume(workDaysService.getWorkDays(application.getDayLength(), application.getStartDate(),
+                    application.getEndDate(), application.getPerson()));
+        }
+    }
+
+
+    @Benchmark
+    public List<BigDecimal> getWorkDaysOfRequests() {
+
+        return workDaysService.getWorkDays(requests);
+    }
+
+
+    @Benchmark
+    public BigDecimal getWorkDaysOfWholePeriod() {
+
+        List<Application> applications = data.getApplications();
+
+        return workDaysService.getWorkDays(DayLength.FULL, applications.get(0).getStartDate(),
+                applications.get(applications.size() - 1).getEndDate(), data.getPerson());
+    }
+}
@@ -0,0 +1,64 @@
+package org.synyx.urlaubsverwaltung.core.sync.absence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.synyx.urlaubsverwaltung.benchmark.BenchmarkData;
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.period.Period;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.settings.CalendarSettings;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+/**
+ * Benchmark for the construction of {@link Absence}s as done by the calendar sync for all the applications for leave
+ * of a person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AbsenceBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int years;
+
+    private Person person;
+    private List<Period> periods;
+    private AbsenceTimeConfiguration timeConfiguration;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkData data = new BenchmarkData(years);
+
+        person = data.getPerson();
+        periods = data.getApplications().stream().map(Application::getPeriod).collect(Collectors.toList());
+        timeConfiguration = new AbsenceTimeConfiguration(new CalendarSettings());
+    }
+
+
+    @Benchmark
+    public void createAbsences(Blackhole blackhole) {
+
+        for (Period period : periods) {
+            blackhole.consume(new Absence(person, period, EventType.ALLOWED_APPLICATION, timeConfiguration));
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import org.springframework.web.context.request.ServletWebRequest;
+
 
 /**
  * @author  Aljona Murygina - murygina@synyx.de
@@ -39,6 +41,7 @@ public class SwaggerConfig {
         swaggerSpringMvcPlugin.apiVersion(version);
         swaggerSpringMvcPlugin.apiInfo(new ProjectApiInfo());
         swaggerSpringMvcPlugin.includePatterns("/api/.+");
+        swaggerSpringMvcPlugin.ignoredParameterTypes(ServletWebRequest.class);
 
         return swaggerSpringMvcPlugin;
     }
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 
+import java.util.List;
+
 
 /**
  * Repository for {@link org.synyx.urlaubsverwaltung.core.account.domain.Account} entities.
@@ -17,4 +19,8 @@ public interface AccountDAO extends JpaRepository<Account, Integer> {
 
     @Query("select x from Account x where YEAR(x.validFrom) = ?1 and x.person = ?2")
     Account getHolidaysAccountByYearAndPerson(int year, Person person);
+
+
+    @Query("select x from Account x where YEAR(x.validFrom) = ?1 and x.person in ?2")
+    List<Account> getHolidaysAccountsByYearAndPersons(int year, List<Person> persons);
 }
@@ -0,0 +1,54 @@
+package org.synyx.urlaubsverwaltung.core.account.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import org.synyx.urlaubsverwaltung.core.account.domain.Account;
+import org.synyx.urlaubsverwaltung.core.account.domain.UsedVacationDays;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+
+import java.math.BigDecimal;
+
+import java.util.List;
+
+
+/**
+ * Repository for {@link UsedVacationDays} entities.
+ */
+public interface UsedVacationDaysDAO extends JpaRepository<UsedVacationDays, Integer> {
+
+    UsedVacationDays findByAccount(Account account);
+
+
+    List<UsedVacationDays> findByAccountIn(List<Account> accounts);
+
+
+    @Query("select x from UsedVacationDays x where x.account.person = ?1")
+    List<UsedVacationDays> findByPerson(Person person);
+
+
+    @Query("select x from Account x where not exists (select u from UsedVacationDays u where u.account = x)")
+    List<Account> findAccountsWithoutUsedVacationDays();
+
+
+    /**
+     * Adds the given days to the persisted used vacation days of the given holidays account with a single update
+     * statement, so that concurrent updates of the same account can not overwrite each other.
+     *
+     * @param  account  to add the used vacation days to
+     * @param  daysBeforeApril  to add to the days used before April, negative to subtract them
+     * @param  daysAfterApril  to add to the days used after April, negative to subtract them
+     *
+     * @return  the number of updated used vacation days, {@code 0} if none are persisted for the account yet
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        "update UsedVacationDays x set x.usedDaysBeforeApril = x.usedDaysBeforeApril + ?2, "
+        + "x.usedDaysAfterApril = x.usedDaysAfterApril + ?3 where x.account = ?1"
+    )
+    int addUsedDays(Account account, BigDecimal daysBeforeApril, BigDecimal daysAfterApril);
+}
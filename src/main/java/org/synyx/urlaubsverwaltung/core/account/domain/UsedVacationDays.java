@@ -0,0 +1,85 @@
+package org.synyx.urlaubsverwaltung.core.account.domain;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+
+import java.math.BigDecimal;
+
+import javax.persistence.Entity;
+import javax.persistence.OneToOne;
+
+
+/**
+ * Persisted number of vacation days that are used within the year of a holidays {@link Account}, split into the days
+ * used before and after April, since the remaining vacation days may expire on 1st April.
+ *
+ * <p>It is updated whenever an application for leave changes its status, so that the used vacation days need not be
+ * calculated from all the applications for leave of the year on every access.</p>
+ */
+@Entity
+public class UsedVacationDays extends AbstractPersistable<Integer> {
+
+    private static final long serialVersionUID = 3498564378934754L;
+
+    @OneToOne
+    private Account account;
+
+    private BigDecimal usedDaysBeforeApril;
+    private BigDecimal usedDaysAfterApril;
+
+    public UsedVacationDays() {
+
+        /* OK */
+    }
+
+
+    public UsedVacationDays(Account account, BigDecimal usedDaysBeforeApril, BigDecimal usedDaysAfterApril) {
+
+        this.account = account;
+        this.usedDaysBeforeApril = usedDaysBeforeApril;
+        this.usedDaysAfterApril = usedDaysAfterApril;
+    }
+
+    public Account getAccount() {
+
+        return account;
+    }
+
+
+    public BigDecimal getUsedDaysBeforeApril() {
+
+        return usedDaysBeforeApril;
+    }
+
+
+    public void setUsedDaysBeforeApril(BigDecimal usedDaysBeforeApril) {
+
+        this.usedDaysBeforeApril = usedDaysBeforeApril;
+    }
+
+
+    public BigDecimal getUsedDaysAfterApril() {
+
+        return usedDaysAfterApril;
+    }
+
+
+    public void setUsedDaysAfterApril(BigDecimal usedDaysAfterApril) {
+
+        this.usedDaysAfterApril = usedDaysAfterApril;
+    }
+
+
+    @Override
+    public String toString() {
+
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE) // NOSONAR - Formatting issues
+            .append("person", getAccount().getPerson().getLoginName())
+            .append("year", getAccount().getYear())
+            .append("usedDaysBeforeApril", getUsedDaysBeforeApril())
+            .append("usedDaysAfterApril", getUsedDaysAfterApril())
+            .toString();
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
@@ -30,14 +32,20 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
 
     private static final Logger LOG = Logger.getLogger(AccountInteractionServiceImpl.class);
 
+    private static final String CREATED = "CREATED";
+    private static final String EDITED = "EDITED";
+
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
-    AccountInteractionServiceImpl(AccountService accountService, VacationDaysService vacationDaysService) {
+    AccountInteractionServiceImpl(AccountService accountService, VacationDaysService vacationDaysService,
+        ChangeLogService changeLogService) {
 
         this.accountService = accountService;
         this.vacationDaysService = vacationDaysService;
+        this.changeLogService = changeLogService;
     }
 
     @Override
@@ -51,6 +59,7 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
         account.setVacationDays(actualVacationDays);
 
         accountService.save(account);
+        appendToChangeLog(account, CREATED);
 
         LOG.info("Created holidays account: " + account);
 
@@ -71,6 +80,7 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
         account.setRemainingVacationDaysNotExpiring(remainingDaysNotExpiring);
 
         accountService.save(account);
+        appendToChangeLog(account, EDITED);
 
         LOG.info("Updated holidays account: " + account);
 
@@ -123,6 +133,7 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
         }
 
         accountService.save(newAccount);
+        appendToChangeLog(newAccount, EDITED);
     }
 
 
@@ -149,4 +160,10 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
                 DateUtil.getLastDayOfYear(nextYear), referenceAccount.getAnnualVacationDays(),
                 referenceAccount.getAnnualVacationDays(), leftVacationDays, BigDecimal.ZERO);
     }
+
+
+    private void appendToChangeLog(Account account, String action) {
+
+        changeLogService.append(ChangeType.ACCOUNT, account.getId(), account.getPerson(), action);
+    }
 }
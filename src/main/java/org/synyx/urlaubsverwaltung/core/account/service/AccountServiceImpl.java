@@ -8,6 +8,8 @@ import org.synyx.urlaubsverwaltung.core.account.dao.AccountDAO;
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -34,6 +36,18 @@ public class AccountServiceImpl implements AccountService {
     }
 
 
+    @Override
+    public List<Account> getHolidaysAccounts(int year, List<Person> persons) {
+
+        if (persons.isEmpty()) {
+            // an empty 'in' clause is not valid SQL
+            return Collections.emptyList();
+        }
+
+        return accountDAO.getHolidaysAccountsByYearAndPersons(year, persons);
+    }
+
+
     @Override
     public void save(Account account) {
 
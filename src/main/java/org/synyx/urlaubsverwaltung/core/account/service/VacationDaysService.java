@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.core.account.service;
 
+import org.apache.log4j.Logger;
+
 import org.joda.time.DateMidnight;
 import org.joda.time.DateTimeConstants;
 
@@ -7,11 +9,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.stereotype.Service;
 
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
+import org.synyx.urlaubsverwaltung.core.account.domain.UsedVacationDays;
 import org.synyx.urlaubsverwaltung.core.account.domain.VacationDaysLeft;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.domain.VacationCategory;
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
 import org.synyx.urlaubsverwaltung.core.period.NowService;
@@ -20,29 +25,49 @@ import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
 import java.math.BigDecimal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 
 /**
  * Provides calculation of used / left vacation days.
  *
+ * <p>The used vacation days of a holidays account are persisted as {@link UsedVacationDays} by
+ * {@link #persistMissingUsedVacationDays()} and updated incrementally via
+ * {@link #updateUsedVacationDays(Application, Optional)}, so they need not be calculated from all the applications
+ * for leave of the year on every access. Read accesses never persist anything: used vacation days that are not
+ * persisted yet, e.g. because they have been reset by a change of the settings or of a working time, are calculated
+ * on every access until they are persisted.</p>
+ *
  * @author  Aljona Murygina - murygina@synyx.de
  */
 @Service
 public class VacationDaysService {
 
+    private static final Logger LOG = Logger.getLogger(VacationDaysService.class);
+
     private final WorkDaysService calendarService;
     private final NowService nowService;
     private final ApplicationService applicationService;
+    private final AccountService accountService;
+    private final UsedVacationDaysDAO usedVacationDaysDAO;
 
     @Autowired
     public VacationDaysService(WorkDaysService calendarService, NowService nowService,
-        ApplicationService applicationService) {
+        ApplicationService applicationService, AccountService accountService,
+        UsedVacationDaysDAO usedVacationDaysDAO) {
 
         this.calendarService = calendarService;
         this.nowService = nowService;
         this.applicationService = applicationService;
+        this.accountService = accountService;
+        this.usedVacationDaysDAO = usedVacationDaysDAO;
     }
 
     /**
@@ -58,7 +83,30 @@ public class VacationDaysService {
      */
     public BigDecimal calculateTotalLeftVacationDays(Account account) {
 
-        VacationDaysLeft vacationDaysLeft = getVacationDaysLeft(account);
+        return getTotalLeftVacationDays(account, getVacationDaysLeft(account));
+    }
+
+
+    /**
+     * Calculates the total number of days that are left to be used for applying for leave for the given holidays
+     * accounts at once, like {@link #calculateTotalLeftVacationDays(Account)}.
+     *
+     * @param  accounts  to calculate the total number of left vacation days for
+     *
+     * @return  total number of left vacation days per holidays account, in the order of the given accounts
+     */
+    public Map<Account, BigDecimal> calculateTotalLeftVacationDays(List<Account> accounts) {
+
+        Map<Account, BigDecimal> totalLeftVacationDays = new LinkedHashMap<>();
+
+        getVacationDaysLeft(accounts).forEach((account, vacationDaysLeft) ->
+                totalLeftVacationDays.put(account, getTotalLeftVacationDays(account, vacationDaysLeft)));
+
+        return totalLeftVacationDays;
+    }
+
+
+    private BigDecimal getTotalLeftVacationDays(Account account, VacationDaysLeft vacationDaysLeft) {
 
         // it's before April - the left remaining vacation days must be used
         if (DateUtil.isBeforeApril(nowService.now()) && account.getYear() == nowService.currentYear()) {
@@ -72,23 +120,239 @@ public class VacationDaysService {
 
     public VacationDaysLeft getVacationDaysLeft(Account account) {
 
-        BigDecimal vacationDays = account.getVacationDays();
-        BigDecimal remainingVacationDays = account.getRemainingVacationDays();
-        BigDecimal remainingVacationDaysNotExpiring = account.getRemainingVacationDaysNotExpiring();
+        return getVacationDaysLeft(account, getUsedVacationDays(account));
+    }
+
+
+    /**
+     * Calculates the left vacation days of the given holidays accounts at once: the persisted used vacation days of all
+     * accounts are loaded with one query, the missing ones are calculated (but not persisted) from the applications
+     * for leave of all the concerned persons, that are loaded with one query per year.
+     *
+     * @param  accounts  to get the left vacation days for
+     *
+     * @return  the left vacation days per holidays account, in the order of the given accounts
+     */
+    public Map<Account, VacationDaysLeft> getVacationDaysLeft(List<Account> accounts) {
+
+        Map<Account, UsedVacationDays> usedVacationDaysByAccount = new HashMap<>();
+
+        List<Account> persistedAccounts = accounts.stream()
+            .filter(account -> !account.isNew())
+            .collect(Collectors.toList());
+
+        if (!persistedAccounts.isEmpty()) {
+            for (UsedVacationDays usedVacationDays : usedVacationDaysDAO.findByAccountIn(persistedAccounts)) {
+                usedVacationDaysByAccount.put(usedVacationDays.getAccount(), usedVacationDays);
+            }
+        }
+
+        Map<Integer, List<Account>> accountsWithoutUsedVacationDaysByYear = accounts.stream()
+            .filter(account -> !usedVacationDaysByAccount.containsKey(account))
+            .collect(Collectors.groupingBy(Account::getYear));
+
+        accountsWithoutUsedVacationDaysByYear.forEach((year, accountsOfYear) -> {
+            for (UsedVacationDays usedVacationDays : calculateUsedVacationDays(year, accountsOfYear)) {
+                usedVacationDaysByAccount.put(usedVacationDays.getAccount(), usedVacationDays);
+            }
+        });
+
+        Map<Account, VacationDaysLeft> vacationDaysLeftByAccount = new LinkedHashMap<>();
+
+        for (Account account : accounts) {
+            vacationDaysLeftByAccount.put(account,
+                getVacationDaysLeft(account, usedVacationDaysByAccount.get(account)));
+        }
+
+        return vacationDaysLeftByAccount;
+    }
 
-        BigDecimal daysBeforeApril = getUsedDaysBeforeApril(account);
-        BigDecimal daysAfterApril = getUsedDaysAfterApril(account);
+
+    private static VacationDaysLeft getVacationDaysLeft(Account account, UsedVacationDays usedVacationDays) {
 
         return VacationDaysLeft.builder()
-            .withAnnualVacation(vacationDays)
-            .withRemainingVacation(remainingVacationDays)
-            .notExpiring(remainingVacationDaysNotExpiring)
-            .forUsedDaysBeforeApril(daysBeforeApril)
-            .forUsedDaysAfterApril(daysAfterApril)
+            .withAnnualVacation(account.getVacationDays())
+            .withRemainingVacation(account.getRemainingVacationDays())
+            .notExpiring(account.getRemainingVacationDaysNotExpiring())
+            .forUsedDaysBeforeApril(usedVacationDays.getUsedDaysBeforeApril())
+            .forUsedDaysAfterApril(usedVacationDays.getUsedDaysAfterApril())
             .get();
     }
 
 
+    /**
+     * Get the used vacation days of the given holidays account. They are calculated, but not persisted, if they are
+     * not persisted yet, e.g. for a new holidays account or after they have been reset.
+     *
+     * @param  account  to get the used vacation days for
+     *
+     * @return  the used vacation days of the account
+     */
+    UsedVacationDays getUsedVacationDays(Account account) {
+
+        if (account.isNew()) {
+            return calculateUsedVacationDays(account);
+        }
+
+        UsedVacationDays usedVacationDays = usedVacationDaysDAO.findByAccount(account);
+
+        if (usedVacationDays == null) {
+            return calculateUsedVacationDays(account);
+        }
+
+        return usedVacationDays;
+    }
+
+
+    private UsedVacationDays calculateUsedVacationDays(Account account) {
+
+        return new UsedVacationDays(account, getUsedDaysBeforeApril(account), getUsedDaysAfterApril(account));
+    }
+
+
+    private List<UsedVacationDays> calculateUsedVacationDays(int year, List<Account> accounts) {
+
+        DateMidnight firstOfJanuary = DateUtil.getFirstDayOfMonth(year, DateTimeConstants.JANUARY);
+        DateMidnight lastOfMarch = DateUtil.getLastDayOfMonth(year, DateTimeConstants.MARCH);
+        DateMidnight firstOfApril = DateUtil.getFirstDayOfMonth(year, DateTimeConstants.APRIL);
+        DateMidnight lastOfDecember = DateUtil.getLastDayOfMonth(year, DateTimeConstants.DECEMBER);
+
+        List<Person> persons = accounts.stream().map(Account::getPerson).collect(Collectors.toList());
+
+        Map<Person, List<Application>> applicationsForLeaveByPerson = applicationService
+            .getApplicationsForACertainPeriodAndPersons(firstOfJanuary, lastOfDecember, persons)
+            .stream()
+            .filter(input -> isUsingVacationDays(input.getVacationType(), input.getStatus()))
+            .collect(Collectors.groupingBy(Application::getPerson));
+
+        List<UsedVacationDays> usedVacationDays = new ArrayList<>();
+
+        for (Account account : accounts) {
+            BigDecimal usedDaysBeforeApril = BigDecimal.ZERO;
+            BigDecimal usedDaysAfterApril = BigDecimal.ZERO;
+
+            for (Application applicationForLeave
+                    : applicationsForLeaveByPerson.getOrDefault(account.getPerson(), Collections.emptyList())) {
+                usedDaysBeforeApril = usedDaysBeforeApril.add(getUsedDays(applicationForLeave, firstOfJanuary,
+                            lastOfMarch));
+                usedDaysAfterApril = usedDaysAfterApril.add(getUsedDays(applicationForLeave, firstOfApril,
+                            lastOfDecember));
+            }
+
+            usedVacationDays.add(new UsedVacationDays(account, usedDaysBeforeApril, usedDaysAfterApril));
+        }
+
+        return usedVacationDays;
+    }
+
+
+    /**
+     * Updates the persisted used vacation days of all the holidays accounts that are affected by the given application
+     * for leave, after its status has been changed.
+     *
+     * <p>The days are added or subtracted with a single update statement per holidays account, so concurrent status
+     * changes of applications for leave of the same person do not lose updates. Used vacation days that are not
+     * persisted yet are not touched, they are calculated including the application for leave when they are
+     * persisted.</p>
+     *
+     * @param  application  for leave whose status has been changed
+     * @param  previousStatus  of the application for leave, {@link Optional#empty()} if it has been created
+     */
+    public void updateUsedVacationDays(Application application, Optional<ApplicationStatus> previousStatus) {
+
+        VacationType vacationType = application.getVacationType();
+
+        boolean wasUsingVacationDays = previousStatus.isPresent()
+            && isUsingVacationDays(vacationType, previousStatus.get());
+        boolean isUsingVacationDays = isUsingVacationDays(vacationType, application.getStatus());
+
+        if (wasUsingVacationDays == isUsingVacationDays) {
+            return;
+        }
+
+        Person person = application.getPerson();
+
+        for (int year = application.getStartDate().getYear(); year <= application.getEndDate().getYear(); year++) {
+            Optional<Account> account = accountService.getHolidaysAccount(year, person);
+
+            if (!account.isPresent()) {
+                continue;
+            }
+
+            BigDecimal daysBeforeApril = getUsedDays(application,
+                    DateUtil.getFirstDayOfMonth(year, DateTimeConstants.JANUARY),
+                    DateUtil.getLastDayOfMonth(year, DateTimeConstants.MARCH));
+            BigDecimal daysAfterApril = getUsedDays(application,
+                    DateUtil.getFirstDayOfMonth(year, DateTimeConstants.APRIL),
+                    DateUtil.getLastDayOfMonth(year, DateTimeConstants.DECEMBER));
+
+            if (isUsingVacationDays) {
+                usedVacationDaysDAO.addUsedDays(account.get(), daysBeforeApril, daysAfterApril);
+            } else {
+                usedVacationDaysDAO.addUsedDays(account.get(), daysBeforeApril.negate(), daysAfterApril.negate());
+            }
+        }
+    }
+
+
+    /**
+     * Calculates and persists the used vacation days of all the holidays accounts that have none persisted yet, e.g.
+     * new holidays accounts or the ones whose used vacation days have been reset.
+     *
+     * @return  the persisted used vacation days
+     */
+    public List<UsedVacationDays> persistMissingUsedVacationDays() {
+
+        Map<Integer, List<Account>> accountsByYear = usedVacationDaysDAO.findAccountsWithoutUsedVacationDays()
+            .stream()
+            .collect(Collectors.groupingBy(Account::getYear));
+
+        List<UsedVacationDays> usedVacationDays = new ArrayList<>();
+
+        accountsByYear.forEach((year, accountsOfYear) ->
+                usedVacationDays.addAll(calculateUsedVacationDays(year, accountsOfYear)));
+
+        if (usedVacationDays.isEmpty()) {
+            return usedVacationDays;
+        }
+
+        return usedVacationDaysDAO.save(usedVacationDays);
+    }
+
+
+    /**
+     * Calculates all the persisted used vacation days again and corrects the ones that differ from the calculated
+     * ones, e.g. because of changes that have not been tracked.
+     *
+     * @return  the corrected used vacation days
+     */
+    public List<UsedVacationDays> verifyUsedVacationDays() {
+
+        List<UsedVacationDays> correctedUsedVacationDays = new ArrayList<>();
+
+        for (UsedVacationDays usedVacationDays : usedVacationDaysDAO.findAll()) {
+            UsedVacationDays calculatedUsedVacationDays = calculateUsedVacationDays(usedVacationDays.getAccount());
+
+            boolean differsBeforeApril = usedVacationDays.getUsedDaysBeforeApril()
+                    .compareTo(calculatedUsedVacationDays.getUsedDaysBeforeApril()) != 0;
+            boolean differsAfterApril = usedVacationDays.getUsedDaysAfterApril()
+                    .compareTo(calculatedUsedVacationDays.getUsedDaysAfterApril()) != 0;
+
+            if (differsBeforeApril || differsAfterApril) {
+                LOG.warn("Persisted used vacation days differ from calculated ones: " + usedVacationDays
+                    + ", calculated: " + calculatedUsedVacationDays);
+
+                usedVacationDays.setUsedDaysBeforeApril(calculatedUsedVacationDays.getUsedDaysBeforeApril());
+                usedVacationDays.setUsedDaysAfterApril(calculatedUsedVacationDays.getUsedDaysAfterApril());
+
+                correctedUsedVacationDays.add(usedVacationDaysDAO.save(usedVacationDays));
+            }
+        }
+
+        return correctedUsedVacationDays;
+    }
+
+
     BigDecimal getUsedDaysBeforeApril(Account account) {
 
         DateMidnight firstOfJanuary = DateUtil.getFirstDayOfMonth(account.getYear(), DateTimeConstants.JANUARY);
@@ -115,29 +379,46 @@ public class VacationDaysService {
 
         // filter them since only waiting and allowed applications for leave of type holiday are relevant
         List<Application> applicationsForLeave = allApplicationsForLeave.stream()
-            .filter(input ->
-                        VacationCategory.HOLIDAY.equals(input.getVacationType().getCategory())
-                        && (input.hasStatus(ApplicationStatus.WAITING) || input.hasStatus(ApplicationStatus.ALLOWED)))
-                .collect(Collectors.toList());
+            .filter(input -> isUsingVacationDays(input.getVacationType(), input.getStatus()))
+            .collect(Collectors.toList());
 
         BigDecimal usedDays = BigDecimal.ZERO;
 
         for (Application applicationForLeave : applicationsForLeave) {
-            DateMidnight startDate = applicationForLeave.getStartDate();
-            DateMidnight endDate = applicationForLeave.getEndDate();
+            usedDays = usedDays.add(getUsedDays(applicationForLeave, firstMilestone, lastMilestone));
+        }
 
-            if (startDate.isBefore(firstMilestone)) {
-                startDate = firstMilestone;
-            }
+        return usedDays;
+    }
 
-            if (endDate.isAfter(lastMilestone)) {
-                endDate = lastMilestone;
-            }
 
-            usedDays = usedDays.add(calendarService.getWorkDays(applicationForLeave.getDayLength(), startDate, endDate,
-                        person));
+    private BigDecimal getUsedDays(Application applicationForLeave, DateMidnight firstMilestone,
+        DateMidnight lastMilestone) {
+
+        DateMidnight startDate = applicationForLeave.getStartDate();
+        DateMidnight endDate = applicationForLeave.getEndDate();
+
+        if (startDate.isAfter(lastMilestone) || endDate.isBefore(firstMilestone)) {
+            return BigDecimal.ZERO;
         }
 
-        return usedDays;
+        if (startDate.isBefore(firstMilestone)) {
+            startDate = firstMilestone;
+        }
+
+        if (endDate.isAfter(lastMilestone)) {
+            endDate = lastMilestone;
+        }
+
+        return calendarService.getWorkDays(applicationForLeave.getDayLength(), startDate, endDate,
+                applicationForLeave.getPerson());
+    }
+
+
+    private static boolean isUsingVacationDays(VacationType vacationType, ApplicationStatus status) {
+
+        // only waiting and allowed applications for leave of type holiday are relevant
+        return VacationCategory.HOLIDAY.equals(vacationType.getCategory())
+            && (status == ApplicationStatus.WAITING || status == ApplicationStatus.ALLOWED);
     }
 }
@@ -21,12 +21,19 @@ import java.util.List;
  */
 public interface ApplicationDAO extends JpaRepository<Application, Integer> {
 
-    @Query("select x from Application x where x.status = ?1")
+    /**
+     * Loads the persons and the vacation type of the applications for leave with the list itself, instead of one
+     * query per referenced entity.
+     */
+    String FETCH_ASSOCIATIONS = "left join fetch x.person left join fetch x.vacationType left join fetch x.applier "
+        + "left join fetch x.boss left join fetch x.canceller left join fetch x.holidayReplacement ";
+
+    @Query("select x from Application x " + FETCH_ASSOCIATIONS + "where x.status = ?1")
     List<Application> getApplicationsForACertainState(ApplicationStatus status);
 
 
     @Query(
-        "select x from Application x "
+        "select x from Application x " + FETCH_ASSOCIATIONS
         + "where x.status = ?3 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
         + "or (x.startDate < ?1 and x.endDate > ?2)) "
         + "order by x.startDate"
@@ -35,7 +42,7 @@ public interface ApplicationDAO extends JpaRepository<Application, Integer> {
 
 
     @Query(
-        "select x from Application x "
+        "select x from Application x " + FETCH_ASSOCIATIONS
         + "where x.person = ?3 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
         + "or (x.startDate < ?1 and x.endDate > ?2)) "
         + "order by x.startDate"
@@ -44,7 +51,16 @@ public interface ApplicationDAO extends JpaRepository<Application, Integer> {
 
 
     @Query(
-        "select x from Application x "
+        "select x from Application x " + FETCH_ASSOCIATIONS
+        + "where x.person in ?3 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
+        + "or (x.startDate < ?1 and x.endDate > ?2)) "
+        + "order by x.startDate"
+    )
+    List<Application> getApplicationsForACertainTimeAndPersons(Date startDate, Date endDate, List<Person> persons);
+
+
+    @Query(
+        "select x from Application x " + FETCH_ASSOCIATIONS
         + "where x.person = ?3 and x.status = ?4 and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) "
         + "or (x.startDate < ?1 and x.endDate > ?2)) "
         + "order by x.startDate"
@@ -59,4 +75,14 @@ public interface ApplicationDAO extends JpaRepository<Application, Integer> {
         + "AND (application.status = 'WAITING' OR application.status = 'ALLOWED')"
     )
     BigDecimal calculateTotalOvertimeOfPerson(@Param("person") Person person);
+
+
+    @Query(
+        "SELECT application.person.id, SUM(application.hours) FROM Application application "
+        + "WHERE application.person IN :persons "
+        + "AND application.vacationType.category = 'OVERTIME' "
+        + "AND (application.status = 'WAITING' OR application.status = 'ALLOWED') "
+        + "GROUP BY application.person.id"
+    )
+    List<Object[]> calculateTotalOvertimeOfPersons(@Param("persons") List<Person> persons);
 }
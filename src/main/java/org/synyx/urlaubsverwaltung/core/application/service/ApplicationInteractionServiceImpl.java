@@ -11,13 +11,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.synyx.urlaubsverwaltung.core.account.service.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationAction;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationComment;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.service.exception.ImpatientAboutApplicationForLeaveProcessException;
 import org.synyx.urlaubsverwaltung.core.application.service.exception.RemindAlreadySentException;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.mail.MailService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
@@ -31,6 +36,7 @@ import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMappingService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceTimeConfiguration;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.core.sync.absence.EventType;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,13 +62,21 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
     private final AbsenceMappingService absenceMappingService;
     private final SettingsService settingsService;
     private final DepartmentService departmentService;
+    private final VacationDaysService vacationDaysService;
+    private final ApplicationForLeaveDaysService applicationForLeaveDaysService;
+    private final DepartmentCoverageService departmentCoverageService;
+    private final DataVersionService dataVersionService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
     public ApplicationInteractionServiceImpl(ApplicationService applicationService,
         ApplicationCommentService commentService, AccountInteractionService accountInteractionService,
         SignService signService, MailService mailService, CalendarSyncService calendarSyncService,
         AbsenceMappingService absenceMappingService, SettingsService settingsService,
-        DepartmentService departmentService) {
+        DepartmentService departmentService, VacationDaysService vacationDaysService,
+        ApplicationForLeaveDaysService applicationForLeaveDaysService,
+        DepartmentCoverageService departmentCoverageService, DataVersionService dataVersionService,
+        ChangeLogService changeLogService) {
 
         this.applicationService = applicationService;
         this.commentService = commentService;
@@ -73,6 +87,11 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
         this.absenceMappingService = absenceMappingService;
         this.settingsService = settingsService;
         this.departmentService = departmentService;
+        this.vacationDaysService = vacationDaysService;
+        this.applicationForLeaveDaysService = applicationForLeaveDaysService;
+        this.departmentCoverageService = departmentCoverageService;
+        this.dataVersionService = dataVersionService;
+        this.changeLogService = changeLogService;
     }
 
     @Override
@@ -96,6 +115,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         LOG.info("Created application for leave: " + application.toString());
 
+        updateVacationDays(application, Optional.empty());
+
+        appendToChangeLog(application, ApplicationAction.APPLIED);
+
         // COMMENT
         ApplicationComment createdComment = commentService.create(application, ApplicationAction.APPLIED, comment,
                 applier);
@@ -181,6 +204,8 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
             return applicationForLeave;
         }
 
+        ApplicationStatus previousStatus = applicationForLeave.getStatus();
+
         applicationForLeave.setStatus(ApplicationStatus.TEMPORARY_ALLOWED);
         applicationForLeave.setBoss(privilegedUser);
         applicationForLeave.setEditedDate(DateMidnight.now());
@@ -191,6 +216,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         LOG.info("Temporary allowed application for leave: " + applicationForLeave.toString());
 
+        updateVacationDays(applicationForLeave, Optional.ofNullable(previousStatus));
+
+        appendToChangeLog(applicationForLeave, ApplicationAction.TEMPORARY_ALLOWED);
+
         ApplicationComment createdComment = commentService.create(applicationForLeave,
                 ApplicationAction.TEMPORARY_ALLOWED, comment, privilegedUser);
 
@@ -211,6 +240,8 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
             return applicationForLeave;
         }
 
+        ApplicationStatus previousStatus = applicationForLeave.getStatus();
+
         applicationForLeave.setStatus(ApplicationStatus.ALLOWED);
         applicationForLeave.setBoss(privilegedUser);
         applicationForLeave.setEditedDate(DateMidnight.now());
@@ -221,6 +252,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         LOG.info("Allowed application for leave: " + applicationForLeave.toString());
 
+        updateVacationDays(applicationForLeave, Optional.ofNullable(previousStatus));
+
+        appendToChangeLog(applicationForLeave, ApplicationAction.ALLOWED);
+
         ApplicationComment createdComment = commentService.create(applicationForLeave, ApplicationAction.ALLOWED,
                 comment, privilegedUser);
 
@@ -247,6 +282,8 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
     @Override
     public Application reject(Application application, Person privilegedUser, Optional<String> comment) {
 
+        ApplicationStatus previousStatus = application.getStatus();
+
         application.setStatus(ApplicationStatus.REJECTED);
         application.setBoss(privilegedUser);
         application.setEditedDate(DateMidnight.now());
@@ -257,6 +294,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         LOG.info("Rejected application for leave: " + application.toString());
 
+        updateVacationDays(application, Optional.ofNullable(previousStatus));
+
+        appendToChangeLog(application, ApplicationAction.REJECTED);
+
         ApplicationComment createdComment = commentService.create(application, ApplicationAction.REJECTED, comment,
                 privilegedUser);
 
@@ -304,12 +345,18 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
     private Application revokeApplication(Application application, Person canceller, Optional<String> comment) {
 
+        ApplicationStatus previousStatus = application.getStatus();
+
         application.setStatus(ApplicationStatus.REVOKED);
 
         applicationService.save(application);
 
         LOG.info("Revoked application for leave: " + application);
 
+        updateVacationDays(application, Optional.ofNullable(previousStatus));
+
+        appendToChangeLog(application, ApplicationAction.REVOKED);
+
         ApplicationComment createdComment = commentService.create(application, ApplicationAction.REVOKED, comment,
                 canceller);
 
@@ -334,6 +381,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
             LOG.info("Cancelled application for leave: " + application);
 
+            updateVacationDays(application, Optional.of(ApplicationStatus.ALLOWED));
+
+            appendToChangeLog(application, ApplicationAction.CANCELLED);
+
             ApplicationComment createdComment = commentService.create(application, ApplicationAction.CANCELLED, comment,
                     canceller);
 
@@ -352,6 +403,8 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
             LOG.info("Request cancellation of application for leave: " + application);
 
+            appendToChangeLog(application, ApplicationAction.CANCEL_REQUESTED);
+
             ApplicationComment createdComment = commentService.create(application, ApplicationAction.CANCEL_REQUESTED,
                     comment, canceller);
 
@@ -372,6 +425,10 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
         signService.signApplicationByBoss(application, creator);
         applicationService.save(application);
 
+        updateVacationDays(application, Optional.empty());
+
+        appendToChangeLog(application, ApplicationAction.CONVERTED);
+
         commentService.create(application, ApplicationAction.CONVERTED, Optional.<String>empty(), creator);
         mailService.sendSickNoteConvertedToVacationNotification(application);
 
@@ -414,4 +471,19 @@ public class ApplicationInteractionServiceImpl implements ApplicationInteraction
 
         return application;
     }
+
+
+    private void updateVacationDays(Application application, Optional<ApplicationStatus> previousStatus) {
+
+        vacationDaysService.updateUsedVacationDays(application, previousStatus);
+        applicationForLeaveDaysService.evict(application.getPerson());
+        departmentCoverageService.evict(application.getPerson());
+        dataVersionService.bump(application.getPerson());
+    }
+
+
+    private void appendToChangeLog(Application application, ApplicationAction action) {
+
+        changeLogService.append(ChangeType.APPLICATION, application.getId(), application.getPerson(), action.name());
+    }
 }
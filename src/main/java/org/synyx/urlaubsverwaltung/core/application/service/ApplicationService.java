@@ -9,6 +9,7 @@ import org.synyx.urlaubsverwaltung.core.person.Person;
 import java.math.BigDecimal;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -62,6 +63,19 @@ public interface ApplicationService {
         Person person);
 
 
+    /**
+     * Gets all {@link Application}s with vacation time between startDate x and endDate y for the given persons at once.
+     *
+     * @param  startDate {@link DateMidnight}
+     * @param  endDate {@link DateMidnight}
+     * @param  persons  to get the {@link Application}s for
+     *
+     * @return  all {@link Application}s of the given persons with vacation time between startDate x and endDate y
+     */
+    List<Application> getApplicationsForACertainPeriodAndPersons(DateMidnight startDate, DateMidnight endDate,
+        List<Person> persons);
+
+
     /**
      * Gets all {@link Application}s with vacation time between startDate x and endDate y for the given state.
      *
@@ -99,4 +113,14 @@ public interface ApplicationService {
      * @return  the total overtime reduction of a person, never {@code null}
      */
     BigDecimal getTotalOvertimeReductionOfPerson(Person person);
+
+
+    /**
+     * Get the total hours of overtime reduction for the given persons at once.
+     *
+     * @param  persons  to get the total hours of overtime reduction for
+     *
+     * @return  the total overtime reduction per person, contains every given person and never {@code null} values
+     */
+    Map<Person, BigDecimal> getTotalOvertimeReductionOfPersons(List<Person> persons);
 }
@@ -16,7 +16,10 @@ import org.synyx.urlaubsverwaltung.core.person.Person;
 
 import java.math.BigDecimal;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -65,6 +68,19 @@ class ApplicationServiceImpl implements ApplicationService {
     }
 
 
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndPersons(DateMidnight startDate, DateMidnight endDate,
+        List<Person> persons) {
+
+        if (persons.isEmpty()) {
+            // an empty 'in' clause is not valid SQL
+            return Collections.emptyList();
+        }
+
+        return applicationDAO.getApplicationsForACertainTimeAndPersons(startDate.toDate(), endDate.toDate(), persons);
+    }
+
+
     @Override
     public List<Application> getApplicationsForACertainPeriodAndState(DateMidnight startDate, DateMidnight endDate,
         ApplicationStatus status) {
@@ -96,4 +112,28 @@ class ApplicationServiceImpl implements ApplicationService {
 
         return BigDecimal.ZERO;
     }
+
+
+    @Override
+    public Map<Person, BigDecimal> getTotalOvertimeReductionOfPersons(List<Person> persons) {
+
+        Map<Person, BigDecimal> overtimeReductions = new HashMap<>();
+
+        if (persons.isEmpty()) {
+            // an empty 'in' clause is not valid SQL
+            return overtimeReductions;
+        }
+
+        Map<Integer, BigDecimal> overtimeReductionsByPersonId = new HashMap<>();
+
+        for (Object[] row : applicationDAO.calculateTotalOvertimeOfPersons(persons)) {
+            overtimeReductionsByPersonId.put((Integer) row[0], (BigDecimal) row[1]);
+        }
+
+        for (Person person : persons) {
+            overtimeReductions.put(person, overtimeReductionsByPersonId.getOrDefault(person.getId(), BigDecimal.ZERO));
+        }
+
+        return overtimeReductions;
+    }
 }
@@ -0,0 +1,93 @@
+package org.synyx.urlaubsverwaltung.core.application.statistics;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
+
+import java.math.BigDecimal;
+
+
+/**
+ * The work days of an {@link Application} for leave within a certain year, e.g. the days in 2015 of an application for
+ * leave from 28.12.2015 to 04.01.2016.
+ *
+ * <p>Only holds the information needed for statistics, so that it can be cached independent of the persistence
+ * context.</p>
+ */
+public final class ApplicationForLeaveDays {
+
+    private final DateMidnight startDate;
+    private final DateMidnight endDate;
+    private final VacationType vacationType;
+    private final ApplicationStatus status;
+    private final BigDecimal workDays;
+
+    public ApplicationForLeaveDays(Application application, BigDecimal workDays) {
+
+        Assert.notNull(application, "Application must be given.");
+        Assert.notNull(workDays, "Work days must be given.");
+
+        this.startDate = application.getStartDate();
+        this.endDate = application.getEndDate();
+        this.vacationType = application.getVacationType();
+        this.status = application.getStatus();
+        this.workDays = workDays;
+    }
+
+    /**
+     * @return  the start date of the whole application for leave
+     */
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    /**
+     * @return  the end date of the whole application for leave
+     */
+    public DateMidnight getEndDate() {
+
+        return endDate;
+    }
+
+
+    public VacationType getVacationType() {
+
+        return vacationType;
+    }
+
+
+    public ApplicationStatus getStatus() {
+
+        return status;
+    }
+
+
+    /**
+     * @return  the work days of the application for leave within the year
+     */
+    public BigDecimal getWorkDays() {
+
+        return workDays;
+    }
+
+
+    /**
+     * Checks if the application for leave overlaps the given period.
+     *
+     * @param  from  start of the period
+     * @param  to  end of the period
+     *
+     * @return  {@code true} if the application for leave has at least one day within the given period, else
+     *          {@code false}
+     */
+    public boolean isOverlapping(DateMidnight from, DateMidnight to) {
+
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+}
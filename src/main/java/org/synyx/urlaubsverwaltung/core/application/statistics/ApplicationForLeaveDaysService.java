@@ -0,0 +1,251 @@
+package org.synyx.urlaubsverwaltung.core.application.statistics;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.stereotype.Service;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.core.util.TransactionUtil;
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+
+/**
+ * Provides the work days of the waiting, temporary allowed and allowed applications for leave of persons per year, as
+ * needed for the applications for leave statistics.
+ *
+ * <p>The work days are kept in a snapshot per year, holding the work days per person, so that statistics for periods
+ * like April to March reuse the already calculated years. The work days of a person are evicted via
+ * {@link #evict(Person)} whenever an application for leave or the working time of the person changes and are
+ * calculated again on next access. {@link #rebuild()} recreates all snapshots as a safety net.</p>
+ */
+@Service
+public class ApplicationForLeaveDaysService {
+
+    private final ApplicationService applicationService;
+    private final WorkDaysService calendarService;
+
+    private final ConcurrentMap<Integer, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApplicationForLeaveDaysService(ApplicationService applicationService, WorkDaysService calendarService) {
+
+        this.applicationService = applicationService;
+        this.calendarService = calendarService;
+    }
+
+    /**
+     * Get the work days of the waiting, temporary allowed and allowed applications for leave of the given persons
+     * within the given year. The applications for leave of all the persons without cached work days for the year are
+     * fetched with a single query.
+     *
+     * @param  year  to get the work days for
+     * @param  persons  to get the work days for
+     *
+     * @return  the work days of the applications for leave per person, contains every given person
+     */
+    public Map<Person, List<ApplicationForLeaveDays>> getApplicationForLeaveDays(int year, List<Person> persons) {
+
+        ConcurrentMap<Person, List<ApplicationForLeaveDays>> cacheOfYear = getSnapshot(year).applicationForLeaveDays;
+
+        Map<Person, List<ApplicationForLeaveDays>> applicationForLeaveDays = new HashMap<>();
+        List<Person> personsWithoutCachedDays = new ArrayList<>();
+
+        for (Person person : persons) {
+            List<ApplicationForLeaveDays> cachedDays = cacheOfYear.get(person);
+
+            if (cachedDays == null) {
+                personsWithoutCachedDays.add(person);
+            } else {
+                applicationForLeaveDays.put(person, cachedDays);
+            }
+        }
+
+        if (!personsWithoutCachedDays.isEmpty()) {
+            Map<Person, List<ApplicationForLeaveDays>> calculatedDays = calculateApplicationForLeaveDays(year,
+                    personsWithoutCachedDays);
+
+            for (Person person : personsWithoutCachedDays) {
+                List<ApplicationForLeaveDays> days = Collections.unmodifiableList(calculatedDays.getOrDefault(person,
+                            Collections.emptyList()));
+
+                cacheOfYear.putIfAbsent(person, days);
+                applicationForLeaveDays.put(person, days);
+            }
+        }
+
+        return applicationForLeaveDays;
+    }
+
+
+    /**
+     * Get the creation time of the snapshot of the given year. The work days of persons that have been evicted since
+     * then are calculated again on access, so the work days are at least as recent as the returned time.
+     *
+     * @param  year  to get the creation time of the snapshot for
+     *
+     * @return  the creation time of the snapshot
+     */
+    public DateTime getCreated(int year) {
+
+        return getSnapshot(year).created;
+    }
+
+
+    /**
+     * Evicts the cached work days of the given person, e.g. because an application for leave or the working time of
+     * the person has been changed. Within a transaction, they are evicted again after commit.
+     *
+     * @param  person  to evict the cached work days for
+     */
+    public void evict(Person person) {
+
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            for (Integer year : snapshots.keySet()) {
+                snapshots.computeIfPresent(year, (y, snapshot) -> snapshot.without(person));
+            }
+        });
+    }
+
+
+    /**
+     * Evicts the cached work days of all persons, e.g. because the settings concerning public holidays have been
+     * changed.
+     */
+    public void evictAll() {
+
+        TransactionUtil.runNowAndAfterCommit(snapshots::clear);
+    }
+
+
+    /**
+     * Recreates the snapshots of all years that have a snapshot at the moment, containing the work days of the same
+     * persons as before. Uses one query per year. A snapshot that has been evicted meanwhile is not replaced, as the
+     * recreated snapshot may have been calculated from the state before the eviction.
+     */
+    public void rebuild() {
+
+        for (Map.Entry<Integer, Snapshot> entry : new ArrayList<>(snapshots.entrySet())) {
+            int year = entry.getKey();
+            List<Person> persons = new ArrayList<>(entry.getValue().applicationForLeaveDays.keySet());
+
+            Snapshot snapshot = new Snapshot();
+
+            if (!persons.isEmpty()) {
+                Map<Person, List<ApplicationForLeaveDays>> calculatedDays = calculateApplicationForLeaveDays(year,
+                        persons);
+
+                for (Person person : persons) {
+                    snapshot.applicationForLeaveDays.put(person,
+                        Collections.unmodifiableList(calculatedDays.getOrDefault(person, Collections.emptyList())));
+                }
+            }
+
+            snapshots.replace(year, entry.getValue(), snapshot);
+        }
+    }
+
+
+    private Snapshot getSnapshot(int year) {
+
+        return snapshots.computeIfAbsent(year, y -> new Snapshot());
+    }
+
+
+    private Map<Person, List<ApplicationForLeaveDays>> calculateApplicationForLeaveDays(int year,
+        List<Person> persons) {
+
+        DateMidnight firstDayOfYear = DateUtil.getFirstDayOfYear(year);
+        DateMidnight lastDayOfYear = DateUtil.getLastDayOfYear(year);
+
+        List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPersons(
+                    firstDayOfYear, lastDayOfYear, persons)
+            .stream().filter(application ->
+                        application.hasStatus(ApplicationStatus.WAITING)
+                        || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)
+                        || application.hasStatus(ApplicationStatus.ALLOWED)).collect(Collectors.toList());
+
+        // only the days within the year are relevant
+        List<WorkDaysRequest> requests = applications.stream().map(application ->
+                    new WorkDaysRequest(application.getPerson(), application.getDayLength(),
+                        max(application.getStartDate(), firstDayOfYear), min(application.getEndDate(), lastDayOfYear)))
+            .collect(Collectors.toList());
+
+        Iterator<BigDecimal> workDays = calendarService.getWorkDays(requests).iterator();
+
+        Map<Person, List<ApplicationForLeaveDays>> applicationForLeaveDays = new HashMap<>();
+
+        for (Application application : applications) {
+            applicationForLeaveDays.computeIfAbsent(application.getPerson(), p -> new ArrayList<>())
+                .add(new ApplicationForLeaveDays(application, workDays.next()));
+        }
+
+        return applicationForLeaveDays;
+    }
+
+
+    private static DateMidnight max(DateMidnight date, DateMidnight otherDate) {
+
+        return date.isAfter(otherDate) ? date : otherDate;
+    }
+
+
+    private static DateMidnight min(DateMidnight date, DateMidnight otherDate) {
+
+        return date.isBefore(otherDate) ? date : otherDate;
+    }
+
+
+    /**
+     * Evicting the work days of a person creates a new snapshot instead of changing the existing one, so that
+     * {@link #rebuild()} can detect an eviction by the identity of the snapshot.
+     */
+    private static final class Snapshot {
+
+        private final DateTime created;
+
+        private final ConcurrentMap<Person, List<ApplicationForLeaveDays>> applicationForLeaveDays;
+
+        Snapshot() {
+
+            this(DateTime.now(), new ConcurrentHashMap<>());
+        }
+
+
+        private Snapshot(DateTime created,
+            ConcurrentMap<Person, List<ApplicationForLeaveDays>> applicationForLeaveDays) {
+
+            this.created = created;
+            this.applicationForLeaveDays = applicationForLeaveDays;
+        }
+
+
+        Snapshot without(Person person) {
+
+            ConcurrentMap<Person, List<ApplicationForLeaveDays>> remainingDays = new ConcurrentHashMap<>(
+                    applicationForLeaveDays);
+            remainingDays.remove(person);
+
+            return new Snapshot(created, remainingDays);
+        }
+    }
+}
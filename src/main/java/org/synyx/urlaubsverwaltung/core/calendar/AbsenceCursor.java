@@ -0,0 +1,106 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+
+/**
+ * Position within absences ordered by start date and id, used to load them page by page. A page contains the
+ * absences after the cursor, so the next page is loaded from the cursor of the last absence of a page.
+ *
+ * <p>The string representation is the start date with pattern yyyy-MM-dd and the id, separated by a comma.</p>
+ */
+public final class AbsenceCursor {
+
+    /**
+     * Cursor before any absence.
+     */
+    public static final AbsenceCursor FIRST = new AbsenceCursor(new DateMidnight(1970, 1, 1), 0);
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormat.forPattern("yyyy-MM-dd");
+
+    private final DateMidnight startDate;
+    private final int id;
+
+    private AbsenceCursor(DateMidnight startDate, int id) {
+
+        this.startDate = startDate;
+        this.id = id;
+    }
+
+    /**
+     * @param  record  to get the cursor of
+     *
+     * @return  cursor pointing at the given absence, i.e. before the absence following it
+     */
+    public static AbsenceCursor of(AbsenceRecord record) {
+
+        return new AbsenceCursor(record.getStartDate(), record.getId());
+    }
+
+
+    /**
+     * @param  cursor  string representation of a cursor, e.g. {@code 2016-03-01,42}
+     *
+     * @return  the parsed cursor
+     *
+     * @throws  IllegalArgumentException  if the given string is no valid cursor
+     */
+    public static AbsenceCursor parse(String cursor) {
+
+        Assert.hasText(cursor, "Cursor must be given");
+
+        String[] parts = cursor.split(",");
+        Assert.isTrue(parts.length == 2, "Cursor must consist of start date and id");
+
+        return new AbsenceCursor(FORMATTER.parseDateTime(parts[0]).toDateMidnight(), Integer.parseInt(parts[1]));
+    }
+
+
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    public int getId() {
+
+        return id;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AbsenceCursor other = (AbsenceCursor) o;
+
+        return id == other.id && startDate.equals(other.startDate);
+    }
+
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(startDate, id);
+    }
+
+
+    @Override
+    public String toString() {
+
+        return startDate.toString(FORMATTER) + "," + id;
+    }
+}
@@ -0,0 +1,147 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Sorted set of disjoint day intervals, built by merging the periods of absences. Overlapping periods and periods
+ * abutting each other (e.g. 16.-18. and 19.-20.) are merged into one interval.
+ *
+ * <p>Days are given as epoch days, see {@link EpochDay}.</p>
+ */
+final class AbsenceIntervals {
+
+    private final int[] startDays;
+    private final int[] endDays;
+
+    private AbsenceIntervals(int[] startDays, int[] endDays) {
+
+        this.startDays = startDays;
+        this.endDays = endDays;
+    }
+
+    /**
+     * Sorts and merges the given periods.
+     *
+     * @param  periods  to build the intervals of
+     *
+     * @return  the merged intervals
+     */
+    static AbsenceIntervals of(List<AbsencePeriod> periods) {
+
+        long[] sortedPeriods = new long[periods.size()];
+
+        for (int i = 0; i < sortedPeriods.length; i++) {
+            AbsencePeriod period = periods.get(i);
+
+            // start day in the upper, end day in the lower bits: sorting by the packed value sorts by start day
+            sortedPeriods[i] = ((long) EpochDay.of(period.getStartDate()) << 32)
+                | (EpochDay.of(period.getEndDate()) & 0xFFFFFFFFL);
+        }
+
+        Arrays.sort(sortedPeriods);
+
+        int[] startDays = new int[sortedPeriods.length];
+        int[] endDays = new int[sortedPeriods.length];
+        int size = 0;
+
+        for (long period : sortedPeriods) {
+            int startDay = (int) (period >> 32);
+            int endDay = (int) period;
+
+            if (size > 0 && startDay <= endDays[size - 1] + 1) {
+                endDays[size - 1] = Math.max(endDays[size - 1], endDay);
+            } else {
+                startDays[size] = startDay;
+                endDays[size] = endDay;
+                size++;
+            }
+        }
+
+        return new AbsenceIntervals(Arrays.copyOf(startDays, size), Arrays.copyOf(endDays, size));
+    }
+
+
+    /**
+     * Determines how the given period is covered by the intervals.
+     *
+     * @param  startDay  of the period
+     * @param  endDay  of the period
+     *
+     * @return  {@link OverlapCase#NO_OVERLAPPING} if no day of the period is covered,
+     *          {@link OverlapCase#FULLY_OVERLAPPING} if every day of the period is covered, else
+     *          {@link OverlapCase#PARTLY_OVERLAPPING}
+     */
+    OverlapCase getOverlapCase(int startDay, int endDay) {
+
+        int index = indexOfFirstIntervalEndingNotBefore(startDay);
+
+        if (index == endDays.length || startDays[index] > endDay) {
+            return OverlapCase.NO_OVERLAPPING;
+        }
+
+        // the intervals are merged, so the period is fully covered only if a single interval covers it
+        if (startDays[index] <= startDay && endDays[index] >= endDay) {
+            return OverlapCase.FULLY_OVERLAPPING;
+        }
+
+        return OverlapCase.PARTLY_OVERLAPPING;
+    }
+
+
+    private int indexOfFirstIntervalEndingNotBefore(int day) {
+
+        int low = 0;
+        int high = endDays.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (endDays[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+
+    /**
+     * Sets the given flag for every day of the given period that is covered by the intervals.
+     *
+     * @param  days  flags of the days of the period, the first element represents the start day
+     * @param  startDay  of the period
+     * @param  flag  to be set
+     */
+    void mark(byte[] days, int startDay, byte flag) {
+
+        int endDay = startDay + days.length - 1;
+
+        for (int i = indexOfFirstIntervalEndingNotBefore(startDay); i < startDays.length; i++) {
+            if (startDays[i] > endDay) {
+                break;
+            }
+
+            int from = Math.max(startDays[i], startDay);
+            int to = Math.min(endDays[i], endDay);
+
+            for (int day = from; day <= to; day++) {
+                days[day - startDay] |= flag;
+            }
+        }
+    }
+
+
+    /**
+     * @return  number of disjoint intervals
+     */
+    int size() {
+
+        return startDays.length;
+    }
+}
@@ -0,0 +1,113 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+
+
+/**
+ * Period of an application for leave or a sick note, without loading the entity itself.
+ */
+public final class AbsencePeriod {
+
+    public enum Type {
+
+        APPLICATION,
+        SICK_NOTE
+    }
+
+    private final Type type;
+    private final Integer id;
+    private final DateMidnight startDate;
+    private final DateMidnight endDate;
+    private final DayLength dayLength;
+    private final String status;
+
+    public AbsencePeriod(Type type, Integer id, DateMidnight startDate, DateMidnight endDate, DayLength dayLength,
+        String status) {
+
+        Assert.notNull(type, "Type must be given");
+        Assert.notNull(startDate, "Start date must be given");
+        Assert.notNull(endDate, "End date must be given");
+
+        this.type = type;
+        this.id = id;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dayLength = dayLength;
+        this.status = status;
+    }
+
+    /**
+     * Converts a row as loaded by {@link AbsencePeriodDAO}.
+     *
+     * @param  row  type, id, start date, end date, day length and status
+     *
+     * @return  the converted period
+     */
+    public static AbsencePeriod of(Object[] row) {
+
+        return of(row, 0);
+    }
+
+
+    /**
+     * Converts a row as loaded by {@link AbsencePeriodDAO}, starting at the given column.
+     *
+     * @param  row  containing type, id, start date, end date, day length and status from the given column on
+     * @param  offset  column of the type
+     *
+     * @return  the converted period
+     */
+    public static AbsencePeriod of(Object[] row, int offset) {
+
+        Type type = Type.valueOf((String) row[offset]);
+        Integer id = row[offset + 1] == null ? null : ((Number) row[offset + 1]).intValue();
+        DayLength dayLength = row[offset + 4] == null ? null : DayLength.valueOf((String) row[offset + 4]);
+
+        return new AbsencePeriod(type, id, new DateMidnight(row[offset + 2]), new DateMidnight(row[offset + 3]),
+                dayLength, (String) row[offset + 5]);
+    }
+
+
+    public Type getType() {
+
+        return type;
+    }
+
+
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    public DateMidnight getEndDate() {
+
+        return endDate;
+    }
+
+
+    public DayLength getDayLength() {
+
+        return dayLength;
+    }
+
+
+    /**
+     * @return  the name of the {@link org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus} or the
+     *          {@link org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus}, depending on the type
+     */
+    public String getStatus() {
+
+        return status;
+    }
+}
@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * Loads the periods of applications for leave and sick notes with a single query. The rows can be converted with
+ * {@link AbsencePeriod#of(Object[])}.
+ *
+ * <p>The repository is bound to {@link Application} only because Spring Data requires a domain type, it does not load
+ * any entities.</p>
+ */
+public interface AbsencePeriodDAO extends Repository<Application, Integer> {
+
+    @Query(
+        value = "SELECT 'APPLICATION', a.id, a.startDate, a.endDate, a.dayLength, a.status FROM Application a "
+            + "WHERE a.person_id = ?1 AND a.startDate <= ?3 AND a.endDate >= ?2 "
+            + "UNION ALL "
+            + "SELECT 'SICK_NOTE', s.id, s.startDate, s.endDate, s.dayLength, s.status FROM SickNote s "
+            + "WHERE s.person_id = ?1 AND s.startDate <= ?3 AND s.endDate >= ?2",
+        nativeQuery = true
+    )
+    List<Object[]> findByPersonAndPeriod(Integer personId, Date startDate, Date endDate);
+
+
+    /**
+     * Same as {@link #findByPersonAndPeriod(Integer, Date, Date)} for several persons at once. The id of the person is
+     * prepended to each row, the remaining columns can be converted with {@link AbsencePeriod#of(Object[], int)}.
+     */
+    @Query(
+        value = "SELECT a.person_id, 'APPLICATION', a.id, a.startDate, a.endDate, a.dayLength, a.status "
+            + "FROM Application a WHERE a.person_id IN ?1 AND a.startDate <= ?3 AND a.endDate >= ?2 "
+            + "UNION ALL "
+            + "SELECT s.person_id, 'SICK_NOTE', s.id, s.startDate, s.endDate, s.dayLength, s.status "
+            + "FROM SickNote s WHERE s.person_id IN ?1 AND s.startDate <= ?3 AND s.endDate >= ?2",
+        nativeQuery = true
+    )
+    List<Object[]> findByPersonsAndPeriod(List<Integer> personIds, Date startDate, Date endDate);
+}
@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+
+
+/**
+ * Application for leave or sick note as needed to export it, loaded by {@link AbsenceRecordDAO} without loading the
+ * entity or the graph of its person.
+ */
+public final class AbsenceRecord {
+
+    private final Integer id;
+    private final Person person;
+    private final DateMidnight startDate;
+    private final DateMidnight endDate;
+    private final DayLength dayLength;
+    private final String category;
+    private final String typeName;
+    private final String status;
+
+    private AbsenceRecord(Integer id, Person person, DateMidnight startDate, DateMidnight endDate,
+        DayLength dayLength, String category, String typeName, String status) {
+
+        this.id = id;
+        this.person = person;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dayLength = dayLength;
+        this.category = category;
+        this.typeName = typeName;
+        this.status = status;
+    }
+
+    /**
+     * Converts a row as loaded by {@link AbsenceRecordDAO}.
+     *
+     * @param  row  id, start date, end date, day length, category, type name, status and the login name, last name,
+     *              first name and email of the person
+     *
+     * @return  the converted record
+     */
+    public static AbsenceRecord of(Object[] row) {
+
+        Person person = new Person((String) row[7], (String) row[8], (String) row[9], (String) row[10]);
+
+        return new AbsenceRecord(((Number) row[0]).intValue(), person, new DateMidnight(row[1]),
+                new DateMidnight(row[2]), (DayLength) row[3], row[4].toString(), (String) row[5],
+                ((Enum<?>) row[6]).name());
+    }
+
+
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    /**
+     * @return  a transient person containing only the login name, the name and the email
+     */
+    public Person getPerson() {
+
+        return person;
+    }
+
+
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    public DateMidnight getEndDate() {
+
+        return endDate;
+    }
+
+
+    public DayLength getDayLength() {
+
+        return dayLength;
+    }
+
+
+    /**
+     * @return  the {@link org.synyx.urlaubsverwaltung.core.application.domain.VacationCategory} or the
+     *          {@link org.synyx.urlaubsverwaltung.core.sicknote.SickNoteCategory}, depending on the type
+     */
+    public String getCategory() {
+
+        return category;
+    }
+
+
+    public String getTypeName() {
+
+        return typeName;
+    }
+
+
+    /**
+     * @return  the name of the {@link org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus} or the
+     *          {@link org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus}, depending on the type
+     */
+    public String getStatus() {
+
+        return status;
+    }
+}
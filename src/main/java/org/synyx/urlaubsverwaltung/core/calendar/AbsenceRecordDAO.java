@@ -0,0 +1,68 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * Loads applications for leave and sick notes page by page, ordered by start date and id. A page starts after the
+ * given start date and id (keyset pagination), so loading a page does not depend on the number of preceding rows. The
+ * rows can be converted with {@link AbsenceRecord#of(Object[])}.
+ *
+ * <p>The rows contain the columns of the absence, its type and its person, so a page is loaded with a single query:
+ * neither the persons nor the types are fetched separately, and no managed entities with their snapshots for dirty
+ * checking are created. The memory needed for a page is therefore bounded by its rows, however long the persistence
+ * context of the caller lives.</p>
+ *
+ * <p>The repository is bound to {@link Application} only because Spring Data requires a domain type, it does not load
+ * any entities.</p>
+ */
+public interface AbsenceRecordDAO extends Repository<Application, Integer> {
+
+    @Query(
+        "SELECT x.id, x.startDate, x.endDate, x.dayLength, t.category, t.displayName, x.status, "
+        + "p.loginName, p.lastName, p.firstName, p.email FROM Application x JOIN x.person p JOIN x.vacationType t "
+        + "WHERE x.status = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 "
+        + "AND (x.startDate > ?4 OR (x.startDate = ?4 AND x.id > ?5)) ORDER BY x.startDate, x.id"
+    )
+    List<Object[]> findApplications(ApplicationStatus status, Date startDate, Date endDate, Date afterStartDate,
+        Integer afterId, Pageable pageable);
+
+
+    @Query(
+        "SELECT x.id, x.startDate, x.endDate, x.dayLength, t.category, t.displayName, x.status, "
+        + "p.loginName, p.lastName, p.firstName, p.email FROM Application x JOIN x.person p JOIN x.vacationType t "
+        + "WHERE p.id = ?1 AND x.status = ?2 AND x.startDate <= ?4 AND x.endDate >= ?3 "
+        + "AND (x.startDate > ?5 OR (x.startDate = ?5 AND x.id > ?6)) ORDER BY x.startDate, x.id"
+    )
+    List<Object[]> findApplicationsOfPerson(Integer personId, ApplicationStatus status, Date startDate, Date endDate,
+        Date afterStartDate, Integer afterId, Pageable pageable);
+
+
+    @Query(
+        "SELECT x.id, x.startDate, x.endDate, x.dayLength, t.category, t.displayName, x.status, "
+        + "p.loginName, p.lastName, p.firstName, p.email FROM SickNote x JOIN x.person p JOIN x.sickNoteType t "
+        + "WHERE x.status = ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 "
+        + "AND (x.startDate > ?4 OR (x.startDate = ?4 AND x.id > ?5)) ORDER BY x.startDate, x.id"
+    )
+    List<Object[]> findSickNotes(SickNoteStatus status, Date startDate, Date endDate, Date afterStartDate,
+        Integer afterId, Pageable pageable);
+
+
+    @Query(
+        "SELECT x.id, x.startDate, x.endDate, x.dayLength, t.category, t.displayName, x.status, "
+        + "p.loginName, p.lastName, p.firstName, p.email FROM SickNote x JOIN x.person p JOIN x.sickNoteType t "
+        + "WHERE p.id = ?1 AND x.status = ?2 AND x.startDate <= ?4 AND x.endDate >= ?3 "
+        + "AND (x.startDate > ?5 OR (x.startDate = ?5 AND x.id > ?6)) ORDER BY x.startDate, x.id"
+    )
+    List<Object[]> findSickNotesOfPerson(Integer personId, SickNoteStatus status, Date startDate, Date endDate,
+        Date afterStartDate, Integer afterId, Pageable pageable);
+}
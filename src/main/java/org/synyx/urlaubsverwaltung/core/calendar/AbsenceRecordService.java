@@ -0,0 +1,158 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.data.domain.PageRequest;
+
+import org.springframework.stereotype.Service;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+
+/**
+ * Provides applications for leave and sick notes of a period as {@link AbsenceRecord}s, either page by page or one by
+ * one. In both cases only a single page of rows is held in memory, independent of the length of the period.
+ */
+@Service
+public class AbsenceRecordService {
+
+    /**
+     * Number of rows loaded at once by {@link #forEachApplication} and {@link #forEachSickNote}.
+     */
+    static final int PAGE_SIZE = 500;
+
+    private final AbsenceRecordDAO absenceRecordDAO;
+
+    @Autowired
+    public AbsenceRecordService(AbsenceRecordDAO absenceRecordDAO) {
+
+        this.absenceRecordDAO = absenceRecordDAO;
+    }
+
+    /**
+     * Get a page of the applications for leave with the given status overlapping the given period, ordered by start
+     * date and id.
+     *
+     * @param  status  of the applications for leave
+     * @param  from  start of the period
+     * @param  to  end of the period
+     * @param  personId  to get only the applications for leave of this person, may be {@code null}
+     * @param  after  cursor of the last application for leave of the previous page or {@link AbsenceCursor#FIRST}
+     * @param  limit  maximum number of applications for leave
+     *
+     * @return  the applications for leave after the cursor
+     */
+    public List<AbsenceRecord> getApplications(ApplicationStatus status, DateMidnight from, DateMidnight to,
+        Integer personId, AbsenceCursor after, int limit) {
+
+        Assert.isTrue(limit > 0, "Limit must be positive");
+
+        PageRequest page = new PageRequest(0, limit);
+
+        List<Object[]> rows;
+
+        if (personId == null) {
+            rows = absenceRecordDAO.findApplications(status, from.toDate(), to.toDate(), after.getStartDate().toDate(),
+                    after.getId(), page);
+        } else {
+            rows = absenceRecordDAO.findApplicationsOfPerson(personId, status, from.toDate(), to.toDate(),
+                    after.getStartDate().toDate(), after.getId(), page);
+        }
+
+        return rows.stream().map(AbsenceRecord::of).collect(Collectors.toList());
+    }
+
+
+    /**
+     * Get a page of the sick notes with the given status overlapping the given period, ordered by start date and id.
+     *
+     * @param  status  of the sick notes
+     * @param  from  start of the period
+     * @param  to  end of the period
+     * @param  personId  to get only the sick notes of this person, may be {@code null}
+     * @param  after  cursor of the last sick note of the previous page or {@link AbsenceCursor#FIRST}
+     * @param  limit  maximum number of sick notes
+     *
+     * @return  the sick notes after the cursor
+     */
+    public List<AbsenceRecord> getSickNotes(SickNoteStatus status, DateMidnight from, DateMidnight to,
+        Integer personId, AbsenceCursor after, int limit) {
+
+        Assert.isTrue(limit > 0, "Limit must be positive");
+
+        PageRequest page = new PageRequest(0, limit);
+
+        List<Object[]> rows;
+
+        if (personId == null) {
+            rows = absenceRecordDAO.findSickNotes(status, from.toDate(), to.toDate(), after.getStartDate().toDate(),
+                    after.getId(), page);
+        } else {
+            rows = absenceRecordDAO.findSickNotesOfPerson(personId, status, from.toDate(), to.toDate(),
+                    after.getStartDate().toDate(), after.getId(), page);
+        }
+
+        return rows.stream().map(AbsenceRecord::of).collect(Collectors.toList());
+    }
+
+
+    /**
+     * Passes all applications for leave with the given status overlapping the given period to the given consumer,
+     * ordered by start date and id. The applications for leave are loaded in pages of {@link #PAGE_SIZE}.
+     *
+     * @param  status  of the applications for leave
+     * @param  from  start of the period
+     * @param  to  end of the period
+     * @param  personId  to get only the applications for leave of this person, may be {@code null}
+     * @param  consumer  to pass the applications for leave to
+     */
+    public void forEachApplication(ApplicationStatus status, DateMidnight from, DateMidnight to, Integer personId,
+        Consumer<AbsenceRecord> consumer) {
+
+        forEach((after, limit) -> getApplications(status, from, to, personId, after, limit), consumer);
+    }
+
+
+    /**
+     * Passes all sick notes with the given status overlapping the given period to the given consumer, ordered by
+     * start date and id. The sick notes are loaded in pages of {@link #PAGE_SIZE}.
+     *
+     * @param  status  of the sick notes
+     * @param  from  start of the period
+     * @param  to  end of the period
+     * @param  personId  to get only the sick notes of this person, may be {@code null}
+     * @param  consumer  to pass the sick notes to
+     */
+    public void forEachSickNote(SickNoteStatus status, DateMidnight from, DateMidnight to, Integer personId,
+        Consumer<AbsenceRecord> consumer) {
+
+        forEach((after, limit) -> getSickNotes(status, from, to, personId, after, limit), consumer);
+    }
+
+
+    private static void forEach(BiFunction<AbsenceCursor, Integer, List<AbsenceRecord>> pages,
+        Consumer<AbsenceRecord> consumer) {
+
+        AbsenceCursor cursor = AbsenceCursor.FIRST;
+        List<AbsenceRecord> page;
+
+        do {
+            page = pages.apply(cursor, PAGE_SIZE);
+            page.forEach(consumer);
+
+            if (!page.isEmpty()) {
+                cursor = AbsenceCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+}
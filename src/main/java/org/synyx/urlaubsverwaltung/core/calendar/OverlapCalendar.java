@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+
+/**
+ * Case of overlap for every day of a period: a day is not blocked at all ({@link OverlapCase#NO_OVERLAPPING}), blocked
+ * for the morning or the noon only ({@link OverlapCase#PARTLY_OVERLAPPING}) or blocked for the whole day
+ * ({@link OverlapCase#FULLY_OVERLAPPING}).
+ */
+public class OverlapCalendar {
+
+    static final byte MORNING_BLOCKED = 1;
+    static final byte NOON_BLOCKED = 2;
+
+    private static final byte FULLY_BLOCKED = MORNING_BLOCKED | NOON_BLOCKED;
+
+    private final int startDay;
+    private final byte[] blockedHalfDays;
+
+    OverlapCalendar(int startDay, byte[] blockedHalfDays) {
+
+        this.startDay = startDay;
+        this.blockedHalfDays = blockedHalfDays;
+    }
+
+    public DateMidnight getStartDate() {
+
+        return EpochDay.toDateMidnight(startDay);
+    }
+
+
+    public DateMidnight getEndDate() {
+
+        return EpochDay.toDateMidnight(startDay + blockedHalfDays.length - 1);
+    }
+
+
+    /**
+     * @param  date  within the period of the calendar
+     *
+     * @return  {@link OverlapCase} of the given day - none, partly, fully
+     */
+    public OverlapCase getOverlapCase(DateMidnight date) {
+
+        return getOverlapCase(EpochDay.of(date));
+    }
+
+
+    /**
+     * @param  epochDay  within the period of the calendar, see {@link EpochDay}
+     *
+     * @return  {@link OverlapCase} of the given day - none, partly, fully
+     */
+    public OverlapCase getOverlapCase(int epochDay) {
+
+        int index = epochDay - startDay;
+
+        Assert.isTrue(index >= 0 && index < blockedHalfDays.length, "Day must be within the period of the calendar");
+
+        byte blocked = blockedHalfDays[index];
+
+        if (blocked == 0) {
+            return OverlapCase.NO_OVERLAPPING;
+        }
+
+        if (blocked == FULLY_BLOCKED) {
+            return OverlapCase.FULLY_OVERLAPPING;
+        }
+
+        return OverlapCase.PARTLY_OVERLAPPING;
+    }
+}
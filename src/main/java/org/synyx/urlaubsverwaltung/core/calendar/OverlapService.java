@@ -1,44 +1,44 @@
 package org.synyx.urlaubsverwaltung.core.calendar;
 
-import com.google.common.base.Predicate;
-import com.google.common.collect.FluentIterable;
-
 import org.joda.time.DateMidnight;
-import org.joda.time.Interval;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.stereotype.Service;
 
-import org.synyx.urlaubsverwaltung.core.application.dao.ApplicationDAO;
+import org.springframework.util.Assert;
+
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteDAO;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 
 /**
  * This service handles the validation of {@link Application} for leave concerning overlapping, i.e. if there is already
  * an existent {@link Application} for leave in the same period, the user may not apply for leave in this period.
  *
+ * <p>The applications for leave and sick notes of the person within the period are loaded with a single query and
+ * merged into sorted {@link AbsenceIntervals}, so the case of overlap is determined by a single lookup.</p>
+ *
  * @author  Aljona Murygina - murygina@synyx.de
  */
 @Service
 public class OverlapService {
 
-    private final ApplicationDAO applicationDAO;
-    private final SickNoteDAO sickNoteDAO;
+    private final AbsencePeriodDAO absencePeriodDAO;
 
     @Autowired
-    public OverlapService(ApplicationDAO applicationDAO, SickNoteDAO sickNoteDAO) {
+    public OverlapService(AbsencePeriodDAO absencePeriodDAO) {
 
-        this.applicationDAO = applicationDAO;
-        this.sickNoteDAO = sickNoteDAO;
+        this.absencePeriodDAO = absencePeriodDAO;
     }
 
     /**
@@ -50,28 +50,11 @@ public class OverlapService {
      */
     public OverlapCase checkOverlap(final Application application) {
 
-        Person person = application.getPerson();
-        DateMidnight startDate = application.getStartDate();
-        DateMidnight endDate = application.getEndDate();
-
-        List<Application> applications = getRelevantApplicationsForLeave(person, startDate, endDate,
-                application.getDayLength());
-
-        if (!application.isNew()) {
-            applications = FluentIterable.from(applications).filter(new Predicate<Application>() {
+        List<AbsencePeriod> periods = getRelevantAbsencePeriods(application.getPerson(), application.getStartDate(),
+                application.getEndDate(), application.getDayLength(),
+                isSameAbsence(AbsencePeriod.Type.APPLICATION, application.getId()));
 
-                            @Override
-                            public boolean apply(Application input) {
-
-                                // the same application for leave should not be recognized as overlapping
-                                return input.getId() != null && !input.getId().equals(application.getId());
-                            }
-                        }).toList();
-        }
-
-        List<SickNote> sickNotes = getRelevantSickNotes(person, startDate, endDate);
-
-        return getOverlapCase(startDate, endDate, applications, sickNotes);
+        return getOverlapCase(application.getStartDate(), application.getEndDate(), periods);
     }
 
 
@@ -84,260 +67,124 @@ public class OverlapService {
      */
     public OverlapCase checkOverlap(final SickNote sickNote) {
 
-        Person person = sickNote.getPerson();
-        DateMidnight startDate = sickNote.getStartDate();
-        DateMidnight endDate = sickNote.getEndDate();
-
-        List<Application> applications = getRelevantApplicationsForLeave(person, startDate, endDate,
-                sickNote.getDayLength());
+        List<AbsencePeriod> periods = getRelevantAbsencePeriods(sickNote.getPerson(), sickNote.getStartDate(),
+                sickNote.getEndDate(), sickNote.getDayLength(),
+                isSameAbsence(AbsencePeriod.Type.SICK_NOTE, sickNote.getId()));
 
-        List<SickNote> sickNotes = getRelevantSickNotes(person, startDate, endDate);
-
-        if (!sickNote.isNew()) {
-            sickNotes = FluentIterable.from(sickNotes).filter(new Predicate<SickNote>() {
-
-                            @Override
-                            public boolean apply(SickNote input) {
-
-                                // the same sick note should not be recognized as overlapping
-                                return input.getId() != null && !input.getId().equals(sickNote.getId());
-                            }
-                        }).toList();
-        }
-
-        return getOverlapCase(startDate, endDate, applications, sickNotes);
+        return getOverlapCase(sickNote.getStartDate(), sickNote.getEndDate(), periods);
     }
 
 
     /**
-     * Determine the case of overlap for the given period and overlapping applications for leave and sick notes.
+     * Determine the case of overlap for every day of the given period at once, e.g. to be able to show which days are
+     * already blocked by applications for leave or sick notes before applying for leave.
      *
-     * @param  startDate  defines the start of the period to be checked
-     * @param  endDate  defines the end of the period to be checked
-     * @param  applications  for leave that are overlapping in the given period
-     * @param  sickNotes  that are overlapping in the given period
-     *
-     * @return  {@link OverlapCase} - none, partly, fully
-     */
-    OverlapCase getOverlapCase(DateMidnight startDate, DateMidnight endDate, List<Application> applications,
-        List<SickNote> sickNotes) {
-
-        // case (1): no overlap at all
-        if (applications.isEmpty() && sickNotes.isEmpty()) {
-            return OverlapCase.NO_OVERLAPPING;
-        } else {
-            // case (2) or (3): overlap
-
-            List<Interval> listOfOverlaps = getListOfOverlaps(startDate, endDate, applications, sickNotes);
-            List<Interval> listOfGaps = getListOfGaps(startDate, endDate, listOfOverlaps);
-
-            // gaps between the intervals mean that you can apply vacation for this periods
-            // this is case (3)
-            if (!listOfGaps.isEmpty()) {
-                /* (3) The period of the new application is part
-                 * of an existent application's period, but for a part of it you could apply new vacation; i.e. user
-                 * must be asked if he wants to apply for leave for the not overlapping period of the new
-                 * application.
-                 */
-                return OverlapCase.PARTLY_OVERLAPPING;
-            }
-            // no gaps mean that period of application is element of other periods of applications
-            // i.e. you have no free periods to apply vacation for
-            // this is case (2)
-
-            /* (2) The period of
-             * the new application is element of an existent application's period; i.e. the new application is not
-             * necessary because there is already an existent application for this period.
-             */
-            return OverlapCase.FULLY_OVERLAPPING;
-        }
-    }
-
-
-    /**
-     * Get all active applications for leave of the given person that are in the given period.
-     *
-     * @param  person  to get overlapping applications for leave for
+     * @param  person  to get the overlaps for
      * @param  startDate  defines the start of the period
      * @param  endDate  defines the end of the period
-     * @param  dayLength  defines the time of day of the period
      *
-     * @return  {@link List} of {@link Application}s overlapping with the period
+     * @return  {@link OverlapCalendar} with the case of overlap for every day of the period
      */
-    private List<Application> getRelevantApplicationsForLeave(Person person, DateMidnight startDate,
-        DateMidnight endDate, DayLength dayLength) {
+    public OverlapCalendar getOverlapCalendar(Person person, DateMidnight startDate, DateMidnight endDate) {
 
-        // get all applications for leave
-        List<Application> applicationsForLeave = applicationDAO.getApplicationsForACertainTimeAndPerson(
-                startDate.toDate(), endDate.toDate(), person);
+        Assert.isTrue(!startDate.isAfter(endDate), "Start date must be before or equal to end date");
 
-        // remove the non-relevant ones
-        return FluentIterable.from(applicationsForLeave).filter(new Predicate<Application>() {
+        // every absence blocks at least a half day, so all of them are relevant
+        List<AbsencePeriod> periods = getRelevantAbsencePeriods(person, startDate, endDate, DayLength.FULL,
+                period -> false);
 
-                        @Override
-                        public boolean apply(Application input) {
+        List<AbsencePeriod> morningPeriods = periods.stream()
+            .filter(period -> !DayLength.NOON.equals(period.getDayLength()))
+            .collect(Collectors.toList());
+        List<AbsencePeriod> noonPeriods = periods.stream()
+            .filter(period -> !DayLength.MORNING.equals(period.getDayLength()))
+            .collect(Collectors.toList());
 
-                            // only waiting and allowed applications for leave are relevant
-                            boolean isWaitingOrAllowed = input.hasStatus(ApplicationStatus.WAITING)
-                                || input.hasStatus(ApplicationStatus.ALLOWED);
+        int startDay = EpochDay.of(startDate);
+        byte[] blockedHalfDays = new byte[EpochDay.of(endDate) - startDay + 1];
 
-                            // if only half day, then only the same time of day is relevant
-                            if (!DayLength.FULL.equals(dayLength)) {
-                                return isWaitingOrAllowed && input.getDayLength().equals(dayLength);
-                            }
+        AbsenceIntervals.of(morningPeriods).mark(blockedHalfDays, startDay, OverlapCalendar.MORNING_BLOCKED);
+        AbsenceIntervals.of(noonPeriods).mark(blockedHalfDays, startDay, OverlapCalendar.NOON_BLOCKED);
 
-                            return isWaitingOrAllowed;
-                        }
-                    }).toList();
+        return new OverlapCalendar(startDay, blockedHalfDays);
     }
 
 
     /**
-     * Get all active sick notes of the given person that are in the given period.
-     *
-     * @param  person  to get overlapping sick notes for
-     * @param  startDate  defines the start of the period
-     * @param  endDate  defines the end of the period
+     * Determine the case of overlap for the given period and overlapping absences.
      *
-     * @return  {@link List} of {@link SickNote}s overlapping with the period of the given {@link Application}
-     */
-    private List<SickNote> getRelevantSickNotes(Person person, DateMidnight startDate, DateMidnight endDate) {
-
-        // get all sick notes
-        List<SickNote> sickNotes = sickNoteDAO.findByPersonAndPeriod(person, startDate.toDate(), endDate.toDate());
-
-        // filter them since only active sick notes are relevant
-        return FluentIterable.from(sickNotes).filter(new Predicate<SickNote>() {
-
-                        @Override
-                        public boolean apply(SickNote input) {
-
-                            return input.isActive();
-                        }
-                    }).toList();
-    }
-
-
-    /**
-     * Get a list of intervals that overlap with the period of the given {@link Application} for leave.
-     *
-     * @param  startDate  defines the start of the period
-     * @param  endDate  defines the end of the period
-     * @param  applicationsForLeave  overlapping the reference application for leave
-     * @param  sickNotes  overlapping the reference application for leave
+     * @param  startDate  defines the start of the period to be checked
+     * @param  endDate  defines the end of the period to be checked
+     * @param  periods  of the applications for leave and sick notes that are overlapping in the given period
      *
-     * @return  {@link List} of overlap intervals
+     * @return  {@link OverlapCase} - none, partly, fully
      */
-    private List<Interval> getListOfOverlaps(DateMidnight startDate, DateMidnight endDate,
-        List<Application> applicationsForLeave, List<SickNote> sickNotes) {
-
-        Interval interval = new Interval(startDate, endDate);
-
-        List<Interval> overlappingIntervals = new ArrayList<>();
-
-        for (Application application : applicationsForLeave) {
-            overlappingIntervals.add(new Interval(application.getStartDate(), application.getEndDate()));
-        }
-
-        for (SickNote sickNote : sickNotes) {
-            overlappingIntervals.add(new Interval(sickNote.getStartDate(), sickNote.getEndDate()));
-        }
-
-        List<Interval> listOfOverlaps = new ArrayList<>();
+    OverlapCase getOverlapCase(DateMidnight startDate, DateMidnight endDate, List<AbsencePeriod> periods) {
 
-        for (Interval overlappingInterval : overlappingIntervals) {
-            Interval overlap = overlappingInterval.overlap(interval);
-
-            // because intervals are inclusive of the start instant, but exclusive of the end instant
-            // you have to check if end of interval a is start of interval b
-
-            if (overlappingInterval.getEnd().equals(interval.getStart())) {
-                overlap = new Interval(interval.getStart(), interval.getStart());
-            }
-
-            if (overlappingInterval.getStart().equals(interval.getEnd())) {
-                overlap = new Interval(interval.getEnd(), interval.getEnd());
-            }
-
-            // check if they really overlap, else value of overlap would be null
-            if (overlap != null) {
-                listOfOverlaps.add(overlap);
-            }
+        // case (1): no overlap at all
+        if (periods.isEmpty()) {
+            return OverlapCase.NO_OVERLAPPING;
         }
 
-        return listOfOverlaps;
+        /* (2) The period of the new application is element of an existent application's period; i.e. the new
+         * application is not necessary because there is already an existent application for this period.
+         *
+         * (3) The period of the new application is part of an existent application's period, but for a part of it you
+         * could apply new vacation; i.e. user must be asked if he wants to apply for leave for the not overlapping
+         * period of the new application.
+         */
+        return AbsenceIntervals.of(periods).getOverlapCase(EpochDay.of(startDate), EpochDay.of(endDate));
     }
 
 
     /**
-     * Get a list of gaps within the given intervals.
+     * Get all active applications for leave and sick notes of the given person that are in the given period.
      *
+     * @param  person  to get overlapping absences for
      * @param  startDate  defines the start of the period
      * @param  endDate  defines the end of the period
-     * @param  listOfOverlaps  list of overlaps
+     * @param  dayLength  defines the time of day of the period
+     * @param  sameAbsence  matches the absence that is checked, that should not be recognized as overlapping
      *
-     * @return  {@link List} of gaps
+     * @return  {@link List} of {@link AbsencePeriod}s overlapping with the period
      */
-    private List<Interval> getListOfGaps(DateMidnight startDate, DateMidnight endDate, List<Interval> listOfOverlaps) {
+    private List<AbsencePeriod> getRelevantAbsencePeriods(Person person, DateMidnight startDate,
+        DateMidnight endDate, DayLength dayLength, Predicate<AbsencePeriod> sameAbsence) {
 
-        List<Interval> listOfGaps = new ArrayList<>();
+        List<Object[]> rows = absencePeriodDAO.findByPersonAndPeriod(person.getId(), startDate.toDate(),
+                endDate.toDate());
 
-        // check start and end points
+        return rows.stream()
+            .map(AbsencePeriod::of)
+            .filter(period -> isRelevant(period, dayLength))
+            .filter(sameAbsence.negate())
+            .collect(Collectors.toList());
+    }
 
-        if (listOfOverlaps.isEmpty()) {
-            return listOfGaps;
-        }
 
-        DateMidnight firstOverlapStart = listOfOverlaps.get(0).getStart().toDateMidnight();
-        DateMidnight lastOverlapEnd = listOfOverlaps.get(listOfOverlaps.size() - 1).getEnd().toDateMidnight();
+    private static boolean isRelevant(AbsencePeriod period, DayLength dayLength) {
 
-        if (startDate.isBefore(firstOverlapStart)) {
-            Interval gapStart = new Interval(startDate, firstOverlapStart);
-            listOfGaps.add(gapStart);
+        if (period.getType() == AbsencePeriod.Type.SICK_NOTE) {
+            // only active sick notes are relevant
+            return SickNoteStatus.ACTIVE.name().equals(period.getStatus());
         }
 
-        if (endDate.isAfter(lastOverlapEnd)) {
-            Interval gapEnd = new Interval(lastOverlapEnd, endDate);
-            listOfGaps.add(gapEnd);
-        }
+        // only waiting and allowed applications for leave are relevant
+        boolean isWaitingOrAllowed = ApplicationStatus.WAITING.name().equals(period.getStatus())
+            || ApplicationStatus.ALLOWED.name().equals(period.getStatus());
 
-        // check if intervals abut or gap
-        for (int i = 0; (i + 1) < listOfOverlaps.size(); i++) {
-            // if they don't abut, you can calculate the gap
-            // test if end of interval is equals resp. one day plus of start of other interval
-            // e.g. if period 1: 16.-18. and period 2: 19.-20 --> they abut
-            // e.g. if period 1: 16.-18. and period 2: 20.-22 --> they have a gap
-            if (intervalsHaveGap(listOfOverlaps.get(i), listOfOverlaps.get(i + 1))) {
-                Interval gap = listOfOverlaps.get(i).gap(listOfOverlaps.get(i + 1));
-                listOfGaps.add(gap);
-            }
+        // if only half day, then only the same time of day is relevant
+        if (!DayLength.FULL.equals(dayLength)) {
+            return isWaitingOrAllowed && dayLength.equals(period.getDayLength());
         }
 
-        return listOfGaps;
+        return isWaitingOrAllowed;
     }
 
 
-    /**
-     * Check if the two given intervals have a gap or if they abut.
-     *
-     * <p>Some examples:</p>
-     *
-     * <p>(1) period 16.-18. and period 19.-20. --> they abut</p>
-     *
-     * <p>(2) period 16.-18. and period 20.-22. --> they have a gap</p>
-     *
-     * @param  firstInterval
-     * @param  secondInterval
-     *
-     * @return  {@code true} if they have a gap between or {@code false} if they have no gap
-     */
-    private boolean intervalsHaveGap(Interval firstInterval, Interval secondInterval) {
-
-        // test if end of interval is equals resp. one day plus of start of other interval
-        DateMidnight endOfFirstInterval = firstInterval.getEnd().toDateMidnight();
-        DateMidnight startOfSecondInterval = secondInterval.getStart().toDateMidnight();
+    private static Predicate<AbsencePeriod> isSameAbsence(AbsencePeriod.Type type, Integer id) {
 
-        return !(endOfFirstInterval.equals(startOfSecondInterval)
-                || endOfFirstInterval.plusDays(1).equals(startOfSecondInterval));
+        // a new absence has no ID yet, so it can not be the same
+        return period -> id != null && period.getType() == type && id.equals(period.getId());
     }
 }
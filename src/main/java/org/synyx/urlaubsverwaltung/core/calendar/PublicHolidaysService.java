@@ -20,7 +20,13 @@ import java.math.BigDecimal;
 
 import java.net.URL;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -35,9 +41,26 @@ public class PublicHolidaysService {
 
     private static final String HOLIDAY_DEFINITION_FILE = "Holidays_de.xml";
 
+    /**
+     * Public holidays and working duration tables are only cached for years at most this far from the current year, so
+     * requests for arbitrary years can not fill the caches.
+     */
+    private static final int MAX_CACHED_YEARS_FROM_NOW = 10;
+
     private final HolidayManager manager;
     private final SettingsService settingsService;
 
+    /**
+     * Working duration tables are built lazily and cached per year and federal state. The working durations for
+     * Christmas Eve and New Year's Eve are part of the key, so changing these settings leads to rebuilding the tables.
+     */
+    private final ConcurrentMap<TableKey, WorkingDurationTable> workingDurationTables = new ConcurrentHashMap<>();
+
+    /**
+     * Public holidays are cached per year and federal state, they do not depend on any settings.
+     */
+    private final ConcurrentMap<HolidaysKey, Set<Holiday>> holidays = new ConcurrentHashMap<>();
+
     @Autowired
     public PublicHolidaysService(SettingsService settingsService) {
 
@@ -75,26 +98,99 @@ public class PublicHolidaysService {
      */
     public BigDecimal getWorkingDurationOfDate(DateMidnight date, FederalState federalState) {
 
+        return getWorkingDurationTable(date.getYear(), federalState).getWorkingDuration(date);
+    }
+
+
+    /**
+     * Returns the precomputed working durations of every day of the given year, considering the public holidays of the
+     * given federal state and the configured working durations for Christmas Eve and New Year's Eve.
+     *
+     * @param  year  to get the working durations for
+     * @param  federalState  the federal state to consider holiday settings for
+     *
+     * @return  working durations of the given year
+     */
+    public WorkingDurationTable getWorkingDurationTable(int year, FederalState federalState) {
+
         Settings settings = settingsService.getSettings();
         WorkingTimeSettings workingTimeSettings = settings.getWorkingTimeSettings();
 
-        if (isPublicHoliday(date, federalState)) {
+        TableKey key = new TableKey(year, federalState, workingTimeSettings.getWorkingDurationForChristmasEve(),
+                workingTimeSettings.getWorkingDurationForNewYearsEve());
+
+        return getCached(workingDurationTables, key, year, this::buildWorkingDurationTable);
+    }
+
+
+    /**
+     * Checks if data of the given year may be cached. Caches derived from public holidays or working duration tables
+     * have to respect the same bound, else they grow with every distant year that is requested.
+     *
+     * @param  year  to check
+     *
+     * @return  true if the year is at most {@value #MAX_CACHED_YEARS_FROM_NOW} years from the current year, else
+     *          false
+     */
+    static boolean isCachedYear(int year) {
+
+        return Math.abs(year - DateMidnight.now().getYear()) <= MAX_CACHED_YEARS_FROM_NOW;
+    }
+
+
+    private static <K, V> V getCached(ConcurrentMap<K, V> cache, K key, int year, Function<K, V> computation) {
+
+        if (!isCachedYear(year)) {
+            return computation.apply(key);
+        }
+
+        return cache.computeIfAbsent(key, computation);
+    }
+
+
+    private WorkingDurationTable buildWorkingDurationTable(TableKey key) {
+
+        int numberOfDays = new DateMidnight(key.year, 1, 1).dayOfYear().getMaximumValue();
+
+        byte[] halfDays = new byte[numberOfDays];
+        Arrays.fill(halfDays, WorkingDurationTable.FULL);
+
+        for (Holiday holiday : getHolidays(key.year, key.federalState)) {
+            DateMidnight date = holiday.getDate().toDateMidnight();
+
+            if (date.getYear() != key.year) {
+                continue;
+            }
+
+            byte duration;
+
             if (DateUtil.isChristmasEve(date)) {
-                return workingTimeSettings.getWorkingDurationForChristmasEve().getDuration();
+                duration = (byte) key.workingDurationForChristmasEve.getHalfDays();
             } else if (DateUtil.isNewYearsEve(date)) {
-                return workingTimeSettings.getWorkingDurationForNewYearsEve().getDuration();
+                duration = (byte) key.workingDurationForNewYearsEve.getHalfDays();
             } else {
-                return DayLength.ZERO.getDuration();
+                duration = WorkingDurationTable.NONE;
             }
+
+            halfDays[date.getDayOfYear() - 1] = duration;
         }
 
-        return DayLength.FULL.getDuration();
+        return new WorkingDurationTable(key.year, halfDays);
     }
 
 
+    /**
+     * Returns the public holidays of the given year and federal state.
+     *
+     * @param  year  to get the public holidays for
+     * @param  federalState  the federal state to consider holiday settings for
+     *
+     * @return  the public holidays, must not be modified as they are cached
+     */
     public Set<Holiday> getHolidays(int year, FederalState federalState) {
 
-        return manager.getHolidays(year, federalState.getCodes());
+        return getCached(holidays, new HolidaysKey(year, federalState), year,
+                key -> Collections.unmodifiableSet(manager.getHolidays(key.year, key.federalState.getCodes())));
     }
 
 
@@ -110,4 +206,83 @@ public class PublicHolidaysService {
 
         return holiday -> holiday.getDate().getMonthOfYear() == month;
     }
+
+
+    private static final class HolidaysKey {
+
+        private final int year;
+        private final FederalState federalState;
+
+        HolidaysKey(int year, FederalState federalState) {
+
+            this.year = year;
+            this.federalState = federalState;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            HolidaysKey other = (HolidaysKey) o;
+
+            return year == other.year && federalState == other.federalState;
+        }
+
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(year, federalState);
+        }
+    }
+
+
+    private static final class TableKey {
+
+        private final int year;
+        private final FederalState federalState;
+        private final DayLength workingDurationForChristmasEve;
+        private final DayLength workingDurationForNewYearsEve;
+
+        TableKey(int year, FederalState federalState, DayLength workingDurationForChristmasEve,
+            DayLength workingDurationForNewYearsEve) {
+
+            this.year = year;
+            this.federalState = federalState;
+            this.workingDurationForChristmasEve = workingDurationForChristmasEve;
+            this.workingDurationForNewYearsEve = workingDurationForNewYearsEve;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TableKey other = (TableKey) o;
+
+            return year == other.year && federalState == other.federalState
+                && workingDurationForChristmasEve == other.workingDurationForChristmasEve
+                && workingDurationForNewYearsEve == other.workingDurationForNewYearsEve;
+        }
+
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(year, federalState, workingDurationForChristmasEve, workingDurationForNewYearsEve);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateTimeConstants;
+
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+
+/**
+ * Cumulative work durations of a year for a certain weekly working schedule, considering the public holidays of a
+ * {@link WorkingDurationTable}.
+ *
+ * <p>The work duration of any period within the year can be calculated by two array reads and a subtraction. Work
+ * durations are counted in quarter days: the working duration of a day (full, half or none) multiplied by the day
+ * length of the working schedule (full, half or none).</p>
+ */
+final class WorkDaysIndex {
+
+    private final int year;
+
+    /**
+     * Element {@code i} contains the work duration of the first {@code i} days of the year.
+     */
+    private final int[] cumulativeQuarterDays;
+
+    private WorkDaysIndex(int year, int[] cumulativeQuarterDays) {
+
+        this.year = year;
+        this.cumulativeQuarterDays = cumulativeQuarterDays;
+    }
+
+    /**
+     * Builds the index for the given working durations and weekly working schedule.
+     *
+     * @param  workingDurations  of the year to build the index for
+     * @param  schedule  weekly working schedule, see {@link #getSchedule(WorkingTime)}
+     *
+     * @return  the built index
+     */
+    static WorkDaysIndex build(WorkingDurationTable workingDurations, int schedule) {
+
+        int year = workingDurations.getYear();
+        int firstDay = EpochDay.getFirstDayOfYear(year);
+        int numberOfDays = EpochDay.getLastDayOfYear(year) - firstDay + 1;
+
+        int[] cumulativeQuarterDays = new int[numberOfDays + 1];
+
+        for (int i = 0; i < numberOfDays; i++) {
+            int workingDuration = getHalfDaysOfWeekDay(schedule, EpochDay.getDayOfWeek(firstDay + i));
+
+            cumulativeQuarterDays[i + 1] = cumulativeQuarterDays[i]
+                + workingDurations.getHalfDaysOfDayOfYear(i + 1) * workingDuration;
+        }
+
+        return new WorkDaysIndex(year, cumulativeQuarterDays);
+    }
+
+
+    /**
+     * Encodes the day lengths of the given working time as number of half days with two bits per week day.
+     *
+     * @param  workingTime  to encode the weekly working schedule of
+     *
+     * @return  the encoded weekly working schedule
+     */
+    static int getSchedule(WorkingTime workingTime) {
+
+        int schedule = 0;
+
+        for (int dayOfWeek = DateTimeConstants.MONDAY; dayOfWeek <= DateTimeConstants.SUNDAY; dayOfWeek++) {
+            int halfDays = workingTime.getHalfDaysForWeekDay(dayOfWeek);
+
+            schedule |= halfDays << (2 * (dayOfWeek - 1));
+        }
+
+        return schedule;
+    }
+
+
+    private static int getHalfDaysOfWeekDay(int schedule, int dayOfWeek) {
+
+        return (schedule >> (2 * (dayOfWeek - 1))) & 0b11;
+    }
+
+
+    int getYear() {
+
+        return year;
+    }
+
+
+    /**
+     * Returns the work duration of the given period in quarter days.
+     *
+     * @param  firstDayOfYear  of the period, one-based
+     * @param  lastDayOfYear  of the period, one-based and not before the first day
+     *
+     * @return  work duration of the given period in quarter days
+     */
+    int getQuarterDays(int firstDayOfYear, int lastDayOfYear) {
+
+        return cumulativeQuarterDays[lastDayOfYear] - cumulativeQuarterDays[firstDayOfYear - 1];
+    }
+
+
+    /**
+     * @return  number of days of the year, i.e. the last valid day of year
+     */
+    int getNumberOfDays() {
+
+        return cumulativeQuarterDays.length - 1;
+    }
+
+
+    /**
+     * @return  work duration of the whole year in quarter days
+     */
+    int getQuarterDaysOfYear() {
+
+        return cumulativeQuarterDays[cumulativeQuarterDays.length - 1];
+    }
+}
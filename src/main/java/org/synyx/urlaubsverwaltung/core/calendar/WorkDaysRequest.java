@@ -0,0 +1,83 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+
+import java.util.Objects;
+
+
+/**
+ * Request to calculate the work days of a person in a certain period, used for batch calculations via
+ * {@link WorkDaysService#getWorkDays(java.util.List)}.
+ */
+public final class WorkDaysRequest {
+
+    private final Person person;
+    private final DayLength dayLength;
+    private final DateMidnight startDate;
+    private final DateMidnight endDate;
+
+    public WorkDaysRequest(Person person, DayLength dayLength, DateMidnight startDate, DateMidnight endDate) {
+
+        Assert.notNull(person, "Person must be given");
+        Assert.notNull(startDate, "Start date must be given");
+        Assert.notNull(endDate, "End date must be given");
+
+        this.person = person;
+        this.dayLength = dayLength;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Person getPerson() {
+
+        return person;
+    }
+
+
+    public DayLength getDayLength() {
+
+        return dayLength;
+    }
+
+
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    public DateMidnight getEndDate() {
+
+        return endDate;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        WorkDaysRequest other = (WorkDaysRequest) o;
+
+        return person.equals(other.person) && dayLength == other.dayLength && startDate.equals(other.startDate)
+            && endDate.equals(other.endDate);
+    }
+
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(person, dayLength, startDate, endDate);
+    }
+}
@@ -10,16 +10,23 @@ import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.NoValidWorkingTimeException;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeTimeline;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.core.util.DateFormat;
-import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
 import java.math.BigDecimal;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 
 /**
@@ -30,10 +37,19 @@ import java.util.Optional;
 @Service
 public class WorkDaysService {
 
+    private static final int QUARTER_DAYS_PER_DAY = 4;
+
     private final PublicHolidaysService publicHolidaysService;
     private final WorkingTimeService workingTimeService;
     private final SettingsService settingsService;
 
+    /**
+     * Work days indexes are shared by all persons with the same weekly working schedule. Changing the working time of
+     * a person or the working time settings results in another key, so outdated indexes are never used. Like the
+     * working duration tables, indexes are only cached for the years {@link PublicHolidaysService} caches.
+     */
+    private final ConcurrentMap<IndexKey, WorkDaysIndex> workDaysIndexes = new ConcurrentHashMap<>();
+
     @Autowired
     public WorkDaysService(PublicHolidaysService publicHolidaysService, WorkingTimeService workingTimeService,
         SettingsService settingsService) {
@@ -58,18 +74,10 @@ public class WorkDaysService {
 
         double workDays = 0.0;
 
-        if (!startDate.equals(endDate)) {
-            DateMidnight day = startDate;
+        int endDay = EpochDay.of(endDate);
 
-            while (!day.isAfter(endDate)) {
-                if (DateUtil.isWorkDay(day)) {
-                    workDays++;
-                }
-
-                day = day.plusDays(1);
-            }
-        } else {
-            if (DateUtil.isWorkDay(startDate)) {
+        for (int day = EpochDay.of(startDate); day <= endDay; day++) {
+            if (EpochDay.isWorkDay(day)) {
                 workDays++;
             }
         }
@@ -82,7 +90,8 @@ public class WorkDaysService {
      * This method calculates how many workdays are used in the stated period (from start date to end date) considering
      * the personal working time of the given person, getNumberOfPublicHolidays calculates the number of official
      * holidays within the personal workdays period. Number of workdays results from difference between personal
-     * workdays and official holidays.
+     * workdays and official holidays. If the working time of the person changes within the period, each part of the
+     * period is calculated with the working time valid for it.
      *
      * @param  dayLength
      * @param  startDate
@@ -93,43 +102,111 @@ public class WorkDaysService {
      */
     public BigDecimal getWorkDays(DayLength dayLength, DateMidnight startDate, DateMidnight endDate, Person person) {
 
-        Optional<WorkingTime> optionalWorkingTime = workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(
-                person, startDate);
+        return getWorkDays(dayLength, startDate, endDate, person, workingTimeService.getTimeline(person));
+    }
+
+
+    /**
+     * Calculates the work days of all the given requests like {@link #getWorkDays(DayLength, DateMidnight,
+     * DateMidnight, Person)}, but fetches the working times of all the involved persons with a single query.
+     *
+     * @param  requests  to calculate the work days for
+     *
+     * @return  number of workdays for each of the given requests, in the order of the requests
+     */
+    public List<BigDecimal> getWorkDays(List<WorkDaysRequest> requests) {
+
+        Set<Person> persons = requests.stream().map(WorkDaysRequest::getPerson).collect(Collectors.toSet());
+        Map<Person, WorkingTimeTimeline> timelines = workingTimeService.getTimelines(persons);
+
+        List<BigDecimal> workDays = new ArrayList<>(requests.size());
 
-        if (!optionalWorkingTime.isPresent()) {
+        for (WorkDaysRequest request : requests) {
+            workDays.add(getWorkDays(request.getDayLength(), request.getStartDate(), request.getEndDate(),
+                    request.getPerson(), timelines.get(request.getPerson())));
+        }
+
+        return workDays;
+    }
+
+
+    private BigDecimal getWorkDays(DayLength dayLength, DateMidnight startDate, DateMidnight endDate, Person person,
+        WorkingTimeTimeline timeline) {
+
+        if (!timeline.getValidWorkingTime(startDate).isPresent()) {
             throw new NoValidWorkingTimeException("No working time found for User '" + person.getLoginName()
                 + "' in period " + startDate.toString(DateFormat.PATTERN) + " - "
                 + endDate.toString(DateFormat.PATTERN));
         }
 
-        WorkingTime workingTime = optionalWorkingTime.get();
+        int quarterDays = 0;
+
+        for (WorkingTimeTimeline.ValidityInterval interval
+                : timeline.getValidityIntervals(EpochDay.of(startDate), EpochDay.of(endDate))) {
+            quarterDays += getQuarterDays(interval.getWorkingTime(), interval.getStartDay(), interval.getEndDay());
+        }
+
+        // vacation days < 1 day --> must not be multiplied with the day length
+        int eighthDays;
+
+        if (quarterDays < QUARTER_DAYS_PER_DAY) {
+            eighthDays = 2 * quarterDays;
+        } else {
+            eighthDays = quarterDays * dayLength.getHalfDays();
+        }
+
+        return toBigDecimal(eighthDays);
+    }
 
-        FederalState federalState = getFederalState(workingTime);
 
-        BigDecimal vacationDays = BigDecimal.ZERO;
+    /**
+     * Converts the given number of eighth days to days with a scale of one, like {@code setScale(1)} without
+     * rounding: throws an {@link ArithmeticException} if the days can not be represented with one decimal place.
+     */
+    private static BigDecimal toBigDecimal(int eighthDays) {
+
+        // 1/8 day = 0.125 days
+        return BigDecimal.valueOf(eighthDays * 125L, 3).setScale(1);
+    }
 
-        DateMidnight day = startDate;
 
-        while (!day.isAfter(endDate)) {
-            // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
-            BigDecimal duration = publicHolidaysService.getWorkingDurationOfDate(day, federalState);
+    private int getQuarterDays(WorkingTime workingTime, int startDay, int endDay) {
 
-            int dayOfWeek = day.getDayOfWeek();
-            BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(dayOfWeek).getDuration();
+        FederalState federalState = getFederalState(workingTime);
+        int schedule = WorkDaysIndex.getSchedule(workingTime);
+
+        int startYear = EpochDay.getYear(startDay);
+        int endYear = EpochDay.getYear(endDay);
+
+        if (startYear == endYear) {
+            return getWorkDaysIndex(startYear, federalState, schedule).getQuarterDays(EpochDay.getDayOfYear(startDay),
+                    EpochDay.getDayOfYear(endDay));
+        }
 
-            BigDecimal result = duration.multiply(workingDuration);
+        WorkDaysIndex firstYear = getWorkDaysIndex(startYear, federalState, schedule);
+        WorkDaysIndex lastYear = getWorkDaysIndex(endYear, federalState, schedule);
 
-            vacationDays = vacationDays.add(result);
+        int quarterDays = firstYear.getQuarterDays(EpochDay.getDayOfYear(startDay), firstYear.getNumberOfDays())
+            + lastYear.getQuarterDays(1, EpochDay.getDayOfYear(endDay));
 
-            day = day.plusDays(1);
+        for (int year = startYear + 1; year < endYear; year++) {
+            quarterDays += getWorkDaysIndex(year, federalState, schedule).getQuarterDaysOfYear();
         }
 
-        // vacation days < 1 day --> must not be divided, else an ArithmeticException is thrown
-        if (vacationDays.compareTo(BigDecimal.ONE) < 0) {
-            return vacationDays.setScale(1);
+        return quarterDays;
+    }
+
+
+    private WorkDaysIndex getWorkDaysIndex(int year, FederalState federalState, int schedule) {
+
+        WorkingDurationTable workingDurations = publicHolidaysService.getWorkingDurationTable(year, federalState);
+
+        if (!PublicHolidaysService.isCachedYear(year)) {
+            return WorkDaysIndex.build(workingDurations, schedule);
         }
 
-        return vacationDays.multiply(dayLength.getDuration()).setScale(1);
+        return workDaysIndexes.computeIfAbsent(new IndexKey(workingDurations, schedule),
+                key -> WorkDaysIndex.build(key.workingDurations, key.schedule));
     }
 
 
@@ -141,4 +218,40 @@ public class WorkDaysService {
 
         return settingsService.getSettings().getWorkingTimeSettings().getFederalState();
     }
+
+
+    private static final class IndexKey {
+
+        private final WorkingDurationTable workingDurations;
+        private final int schedule;
+
+        IndexKey(WorkingDurationTable workingDurations, int schedule) {
+
+            this.workingDurations = workingDurations;
+            this.schedule = schedule;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            IndexKey other = (IndexKey) o;
+
+            return schedule == other.schedule && workingDurations.equals(other.workingDurations);
+        }
+
+
+        @Override
+        public int hashCode() {
+
+            return 31 * workingDurations.hashCode() + schedule;
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+
+import java.math.BigDecimal;
+
+import java.util.Arrays;
+
+
+/**
+ * Precomputed working durations of every day of a year for a certain federal state, considering public holidays and
+ * the configured working durations for Christmas Eve and New Year's Eve.
+ *
+ * <p>The working duration of each day is stored as number of half days: {@code 2} for a full working day, {@code 1}
+ * for a half working day and {@code 0} for a public holiday.</p>
+ *
+ * <p>Tables are equal if they contain the same working durations for the same year, so a table that is built again,
+ * e.g. for a year that is not cached, can be used as key of data derived from it.</p>
+ */
+public final class WorkingDurationTable {
+
+    static final byte FULL = 2;
+    static final byte HALF = 1;
+    static final byte NONE = 0;
+
+    private final int year;
+    private final byte[] halfDays;
+    private final int hashCode;
+
+    WorkingDurationTable(int year, byte[] halfDays) {
+
+        this.year = year;
+        this.halfDays = halfDays;
+        this.hashCode = 31 * year + Arrays.hashCode(halfDays);
+    }
+
+    public int getYear() {
+
+        return year;
+    }
+
+
+    /**
+     * Returns the working duration of the given date as number of half days.
+     *
+     * @param  date  to get the working duration for, must be in the year of this table
+     *
+     * @return  {@code 2} for a full working day, {@code 1} for a half working day, {@code 0} for a public holiday
+     */
+    public int getHalfDays(DateMidnight date) {
+
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Date " + date + " is not in year " + year);
+        }
+
+        return getHalfDaysOfDayOfYear(date.getDayOfYear());
+    }
+
+
+    /**
+     * Returns the working duration of the given day of year as number of half days.
+     *
+     * @param  dayOfYear  one-based day of the year of this table
+     *
+     * @return  {@code 2} for a full working day, {@code 1} for a half working day, {@code 0} for a public holiday
+     */
+    int getHalfDaysOfDayOfYear(int dayOfYear) {
+
+        return halfDays[dayOfYear - 1];
+    }
+
+
+    /**
+     * Returns the working duration of the given date: may be full day (1.0) for a non public holiday, half day (0.5)
+     * or zero (0.0) for a public holiday.
+     *
+     * @param  date  to get the working duration for, must be in the year of this table
+     *
+     * @return  working duration of the given date
+     */
+    public BigDecimal getWorkingDuration(DateMidnight date) {
+
+        switch (getHalfDays(date)) {
+            case FULL:
+                return DayLength.FULL.getDuration();
+
+            case HALF:
+                return DayLength.MORNING.getDuration();
+
+            default:
+                return DayLength.ZERO.getDuration();
+        }
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        WorkingDurationTable other = (WorkingDurationTable) o;
+
+        return year == other.year && hashCode == other.hashCode && Arrays.equals(halfDays, other.halfDays);
+    }
+
+
+    @Override
+    public int hashCode() {
+
+        return hashCode;
+    }
+}
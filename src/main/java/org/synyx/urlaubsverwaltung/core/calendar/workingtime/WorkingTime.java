@@ -156,6 +156,21 @@ public class WorkingTime extends AbstractPersistable<Integer> {
     }
 
 
+    /**
+     * Returns the working duration of the given week day as number of half days, see {@link DayLength#getHalfDays()}.
+     *
+     * @param  weekDay  to get the working duration for
+     *
+     * @return  number of half days
+     */
+    public int getHalfDaysForWeekDay(int weekDay) {
+
+        DayLength dayLength = getDayLengthForWeekDay(weekDay);
+
+        return dayLength == null ? 0 : dayLength.getHalfDays();
+    }
+
+
     public void setDayLengthForWeekDay(int weekDay, DayLength dayLength) {
 
         switch (weekDay) {
@@ -6,18 +6,33 @@ import org.joda.time.DateMidnight;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.context.annotation.Lazy;
+
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
 import org.synyx.urlaubsverwaltung.core.util.DateFormat;
+import org.synyx.urlaubsverwaltung.core.util.TransactionUtil;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 
 /**
@@ -33,19 +48,49 @@ public class WorkingTimeService {
 
     private final WorkingTimeDAO workingTimeDAO;
     private final SettingsService settingsService;
+    private final DataVersionService dataVersionService;
+    private final UsedVacationDaysDAO usedVacationDaysDAO;
+    private final ApplicationForLeaveDaysService applicationForLeaveDaysService;
+    private final SickNoteStatisticsService sickNoteStatisticsService;
+
+    private final ConcurrentMap<Person, WorkingTimeTimeline> timelines = new ConcurrentHashMap<>();
 
+    /**
+     * The statistics services are injected lazily, because they depend on the working times themselves via the
+     * calculation of work days.
+     */
     @Autowired
-    public WorkingTimeService(WorkingTimeDAO workingTimeDAO, SettingsService settingsService) {
+    public WorkingTimeService(WorkingTimeDAO workingTimeDAO, SettingsService settingsService,
+        DataVersionService dataVersionService, UsedVacationDaysDAO usedVacationDaysDAO,
+        @Lazy ApplicationForLeaveDaysService applicationForLeaveDaysService,
+        @Lazy SickNoteStatisticsService sickNoteStatisticsService) {
 
         this.workingTimeDAO = workingTimeDAO;
         this.settingsService = settingsService;
+        this.dataVersionService = dataVersionService;
+        this.usedVacationDaysDAO = usedVacationDaysDAO;
+        this.applicationForLeaveDaysService = applicationForLeaveDaysService;
+        this.sickNoteStatisticsService = sickNoteStatisticsService;
     }
 
+    /**
+     * Creates or changes the working time of the given person valid from the given date. If this changes the working
+     * days or the federal state of the person, the persisted used vacation days of the person are reset and the
+     * statistics are evicted, since they depend on both.
+     *
+     * @param  workingDays  of the person
+     * @param  federalState  overriding the system-wide federal state, if present
+     * @param  validFrom  date the working time is valid from
+     * @param  person  to create or change the working time for
+     */
     public void touch(List<Integer> workingDays, Optional<FederalState> federalState, DateMidnight validFrom,
         Person person) {
 
         WorkingTime workingTime = workingTimeDAO.findByPersonAndValidityDate(person, validFrom.toDate());
 
+        boolean workingTimeChanged = workingTime == null || !workingTime.hasWorkingDays(workingDays)
+            || (federalState.isPresent() && !federalState.equals(workingTime.getFederalStateOverride()));
+
         /*
          * create a new WorkingTime object if no one existent for the given person and date
          */
@@ -65,6 +110,15 @@ public class WorkingTimeService {
         }
 
         workingTimeDAO.save(workingTime);
+
+        if (workingTimeChanged) {
+            usedVacationDaysDAO.delete(usedVacationDaysDAO.findByPerson(person));
+            applicationForLeaveDaysService.evict(person);
+            sickNoteStatisticsService.evictAll();
+        }
+
+        evictTimeline(person);
+        dataVersionService.bump(person);
     }
 
 
@@ -74,6 +128,66 @@ public class WorkingTimeService {
     }
 
 
+    /**
+     * Returns the timeline of all the working times of the given person. Timelines are cached until the working time
+     * of the person is changed via {@link #touch(List, Optional, DateMidnight, Person)}.
+     *
+     * @param  person  to get the timeline for
+     *
+     * @return  the timeline of the working times of the given person
+     */
+    public WorkingTimeTimeline getTimeline(Person person) {
+
+        return timelines.computeIfAbsent(person, p -> new WorkingTimeTimeline(workingTimeDAO.findByPerson(p)));
+    }
+
+
+    /**
+     * Returns the timelines of all the given persons like {@link #getTimeline(Person)}, but fetches the working times
+     * of all the persons that have no cached timeline yet with a single query.
+     *
+     * @param  persons  to get the timelines for
+     *
+     * @return  the timeline of the working times of each of the given persons
+     */
+    public Map<Person, WorkingTimeTimeline> getTimelines(Collection<Person> persons) {
+
+        Map<Person, WorkingTimeTimeline> result = new HashMap<>();
+        List<Person> personsWithoutTimeline = new ArrayList<>();
+
+        for (Person person : persons) {
+            WorkingTimeTimeline timeline = timelines.get(person);
+
+            if (timeline == null) {
+                personsWithoutTimeline.add(person);
+            } else {
+                result.put(person, timeline);
+            }
+        }
+
+        if (!personsWithoutTimeline.isEmpty()) {
+            Map<Person, List<WorkingTime>> workingTimes = workingTimeDAO.findByPersons(personsWithoutTimeline)
+                .stream().collect(Collectors.groupingBy(WorkingTime::getPerson));
+
+            for (Person person : personsWithoutTimeline) {
+                WorkingTimeTimeline timeline = new WorkingTimeTimeline(workingTimes.getOrDefault(person,
+                            Collections.emptyList()));
+
+                timelines.putIfAbsent(person, timeline);
+                result.put(person, timeline);
+            }
+        }
+
+        return result;
+    }
+
+
+    private void evictTimeline(Person person) {
+
+        TransactionUtil.runNowAndAfterCommit(() -> timelines.remove(person));
+    }
+
+
     public Optional<WorkingTime> getByPersonAndValidityDateEqualsOrMinorDate(Person person, DateMidnight date) {
 
         return Optional.ofNullable(workingTimeDAO.findByPersonAndValidityDateEqualsOrMinorDate(person, date.toDate()));
@@ -102,6 +216,32 @@ public class WorkingTimeService {
     }
 
 
+    /**
+     * Returns the federal state of each of the given persons at the given date like
+     * {@link #getFederalStateForPerson(Person, DateMidnight)}, but resolves them from the cached timelines, so at most
+     * a single query is needed for all the persons.
+     *
+     * @param  persons  to get the federal states for
+     * @param  date  to get the federal states at
+     *
+     * @return  the federal state of each of the given persons
+     */
+    public Map<Person, FederalState> getFederalStatesForPersons(Collection<Person> persons, DateMidnight date) {
+
+        Map<Person, FederalState> federalStates = new HashMap<>();
+
+        for (Map.Entry<Person, WorkingTimeTimeline> entry : getTimelines(persons).entrySet()) {
+            Optional<WorkingTime> optionalWorkingTime = entry.getValue().getValidWorkingTime(date);
+
+            federalStates.put(entry.getKey(),
+                optionalWorkingTime.isPresent() ? getFederalState(optionalWorkingTime.get())
+                                                : getSystemDefaultFederalState());
+        }
+
+        return federalStates;
+    }
+
+
     private FederalState getFederalState(WorkingTime workingTime) {
 
         if (workingTime.getFederalStateOverride().isPresent()) {
@@ -0,0 +1,168 @@
+package org.synyx.urlaubsverwaltung.core.calendar.workingtime;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * All the {@link WorkingTime}s of a person, sorted by the date they are valid from. A working time is valid until the
+ * day before the next working time becomes valid.
+ */
+public final class WorkingTimeTimeline {
+
+    private final List<WorkingTime> workingTimes;
+    private final int[] validFromDays;
+
+    public WorkingTimeTimeline(List<WorkingTime> workingTimes) {
+
+        Assert.notNull(workingTimes, "Working times must be given");
+
+        List<WorkingTime> sortedWorkingTimes = new ArrayList<>(workingTimes);
+        sortedWorkingTimes.sort(Comparator.comparing(WorkingTime::getValidFrom));
+
+        this.workingTimes = Collections.unmodifiableList(sortedWorkingTimes);
+        this.validFromDays = sortedWorkingTimes.stream().mapToInt(workingTime -> EpochDay.of(workingTime.getValidFrom()))
+            .toArray();
+    }
+
+    public List<WorkingTime> getWorkingTimes() {
+
+        return workingTimes;
+    }
+
+
+    /**
+     * Returns the working time that is valid at the given date.
+     *
+     * @param  date  to get the valid working time for
+     *
+     * @return  the valid working time, empty if there is no working time valid at the given date
+     */
+    public Optional<WorkingTime> getValidWorkingTime(DateMidnight date) {
+
+        return getValidWorkingTime(EpochDay.of(date));
+    }
+
+
+    /**
+     * Returns the working time that is valid at the given day.
+     *
+     * @param  epochDay  to get the valid working time for, see {@link EpochDay}
+     *
+     * @return  the valid working time, empty if there is no working time valid at the given day
+     */
+    public Optional<WorkingTime> getValidWorkingTime(int epochDay) {
+
+        int index = indexOfValidWorkingTime(epochDay);
+
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(workingTimes.get(index));
+    }
+
+
+    /**
+     * Splits the given period at the validity boundaries of the working times. Days of the period before the first
+     * working time becomes valid are not covered by any interval.
+     *
+     * @param  startDay  of the period, see {@link EpochDay}
+     * @param  endDay  of the period, see {@link EpochDay}
+     *
+     * @return  the validity intervals within the given period, sorted by their start day
+     */
+    public List<ValidityInterval> getValidityIntervals(int startDay, int endDay) {
+
+        List<ValidityInterval> intervals = new ArrayList<>();
+
+        for (int index = Math.max(indexOfValidWorkingTime(startDay), 0); index < workingTimes.size(); index++) {
+            int from = Math.max(validFromDays[index], startDay);
+
+            if (from > endDay) {
+                break;
+            }
+
+            int to = endDay;
+
+            if (index + 1 < validFromDays.length && validFromDays[index + 1] <= endDay) {
+                to = validFromDays[index + 1] - 1;
+            }
+
+            intervals.add(new ValidityInterval(workingTimes.get(index), from, to));
+        }
+
+        return intervals;
+    }
+
+
+    private int indexOfValidWorkingTime(int epochDay) {
+
+        int low = 0;
+        int high = validFromDays.length - 1;
+        int result = -1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (validFromDays[middle] > epochDay) {
+                high = middle - 1;
+            } else {
+                result = middle;
+                low = middle + 1;
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Part of a period in which a certain working time is valid.
+     */
+    public static final class ValidityInterval {
+
+        private final WorkingTime workingTime;
+        private final int startDay;
+        private final int endDay;
+
+        private ValidityInterval(WorkingTime workingTime, int startDay, int endDay) {
+
+            this.workingTime = workingTime;
+            this.startDay = startDay;
+            this.endDay = endDay;
+        }
+
+        public WorkingTime getWorkingTime() {
+
+            return workingTime;
+        }
+
+
+        /**
+         * @return  the first day of the interval, see {@link EpochDay}
+         */
+        public int getStartDay() {
+
+            return startDay;
+        }
+
+
+        /**
+         * @return  the last day of the interval, see {@link EpochDay}
+         */
+        public int getEndDay() {
+
+            return endDay;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.core.change;
+
+import org.joda.time.DateTime;
+
+import org.springframework.data.jpa.domain.AbstractPersistable;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Temporal;
+
+
+/**
+ * Entry of the change log, recording that an entity has been changed. The sequence numbers of the entries are
+ * ascending in the order the changes have been committed, so they are used as cursor to read the change log
+ * incrementally.
+ *
+ * <p>The entity and its person are referenced by id only, so reading the change log does not load them.</p>
+ */
+@Entity
+public class ChangeLogEntry extends AbstractPersistable<Integer> {
+
+    private static final long serialVersionUID = 2961734286405913621L;
+
+    @Column(nullable = false)
+    @Temporal(javax.persistence.TemporalType.TIMESTAMP)
+    private Date created;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ChangeType type;
+
+    @Column(nullable = false)
+    private String action;
+
+    @Column(nullable = false)
+    private Integer entityId;
+
+    private Integer personId;
+
+    @Column(unique = true)
+    private Integer sequenceNumber;
+
+    ChangeLogEntry() {
+
+        // OK
+    }
+
+
+    ChangeLogEntry(DateTime created, ChangeType type, String action, Integer entityId, Integer personId) {
+
+        this.created = created.toDate();
+        this.type = type;
+        this.action = action;
+        this.entityId = entityId;
+        this.personId = personId;
+    }
+
+    public DateTime getCreated() {
+
+        return new DateTime(created);
+    }
+
+
+    public ChangeType getType() {
+
+        return type;
+    }
+
+
+    /**
+     * @return  name of the executed action, e.g. of the
+     *          {@link org.synyx.urlaubsverwaltung.core.application.domain.ApplicationAction}
+     */
+    public String getAction() {
+
+        return action;
+    }
+
+
+    public Integer getEntityId() {
+
+        return entityId;
+    }
+
+
+    /**
+     * @return  id of the person the changed entity belongs to, i.e. the id of the entity itself for persons
+     */
+    public Integer getPersonId() {
+
+        return personId;
+    }
+
+
+    /**
+     * @return  position of the entry in the change log, {@code null} until the entry has been read for the first time
+     */
+    public Integer getSequenceNumber() {
+
+        return sequenceNumber;
+    }
+
+
+    void setSequenceNumber(Integer sequenceNumber) {
+
+        this.sequenceNumber = sequenceNumber;
+    }
+}
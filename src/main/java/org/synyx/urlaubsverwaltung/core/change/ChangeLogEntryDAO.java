@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.core.change;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+
+/**
+ * Repository for {@link ChangeLogEntry} entities.
+ */
+public interface ChangeLogEntryDAO extends JpaRepository<ChangeLogEntry, Integer> {
+
+    @Query("SELECT x FROM ChangeLogEntry x WHERE x.sequenceNumber IS NULL ORDER BY x.id")
+    List<ChangeLogEntry> findWithoutSequenceNumber();
+
+
+    @Query("SELECT MAX(x.sequenceNumber) FROM ChangeLogEntry x")
+    Integer findMaxSequenceNumber();
+
+
+    @Query("SELECT x FROM ChangeLogEntry x WHERE x.sequenceNumber > ?1 ORDER BY x.sequenceNumber")
+    List<ChangeLogEntry> findAfter(Integer sequenceNumber, Pageable pageable);
+}
@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.core.change;
+
+import org.joda.time.DateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.data.domain.PageRequest;
+
+import org.springframework.stereotype.Service;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+
+import java.util.List;
+
+
+/**
+ * Persistent log of the changes of applications for leave, sick notes, overtime records, holidays accounts and
+ * persons, so that other systems can synchronize only the changed data instead of reading everything.
+ *
+ * <p>Entries are written within the transaction of the change, so there is an entry for every committed change and
+ * none for a rolled back one. The ids of the entries are assigned on insert and therefore reflect the order of the
+ * changes, not of the commits: an entry of a transaction taking long, e.g. for sending mails, may become visible after
+ * entries with higher ids have already been read. So the entries are numbered when reading the change log: each read
+ * first assigns ascending sequence numbers to all the committed entries without one, in a transaction of its own, and
+ * then returns the entries after the given sequence number. An entry committed later always gets a higher sequence
+ * number than the entries already read, so a consumer using the sequence numbers as cursor does not miss it.</p>
+ */
+@Service
+public class ChangeLogService {
+
+    private final ChangeLogEntryDAO changeLogEntryDAO;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object sequenceNumberLock = new Object();
+
+    @Autowired
+    public ChangeLogService(ChangeLogEntryDAO changeLogEntryDAO, PlatformTransactionManager transactionManager) {
+
+        this.changeLogEntryDAO = changeLogEntryDAO;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Appends an entry for the given change to the change log. Within a transaction, the entry is written as part of
+     * it, so it is committed or rolled back together with the change.
+     *
+     * @param  type  of the changed entity
+     * @param  entityId  id of the changed entity
+     * @param  person  the changed entity belongs to
+     * @param  action  name of the executed action
+     */
+    public void append(ChangeType type, Integer entityId, Person person, String action) {
+
+        Assert.notNull(type, "Type must be given.");
+        Assert.notNull(entityId, "ID of the entity must be given.");
+        Assert.notNull(person, "Person must be given.");
+        Assert.hasText(action, "Action must be given.");
+
+        changeLogEntryDAO.save(new ChangeLogEntry(DateTime.now(), type, action, entityId, person.getId()));
+    }
+
+
+    /**
+     * Get the changes after the given one, in the order they have been committed.
+     *
+     * @param  since  sequence number of the last change already known or {@code 0} to get the changes from the
+     *                beginning
+     * @param  limit  maximum number of changes
+     *
+     * @return  the changes after the given one
+     */
+    public List<ChangeLogEntry> getChanges(int since, int limit) {
+
+        Assert.isTrue(since >= 0, "Since must not be negative.");
+        Assert.isTrue(limit > 0, "Limit must be positive.");
+
+        assignSequenceNumbers();
+
+        return changeLogEntryDAO.findAfter(since, new PageRequest(0, limit));
+    }
+
+
+    private void assignSequenceNumbers() {
+
+        // reads are serialized, so that simultaneous reads do not assign the same sequence numbers
+        synchronized (sequenceNumberLock) {
+            transactionTemplate.execute(status -> {
+                List<ChangeLogEntry> entries = changeLogEntryDAO.findWithoutSequenceNumber();
+
+                if (!entries.isEmpty()) {
+                    Integer maxSequenceNumber = changeLogEntryDAO.findMaxSequenceNumber();
+                    int sequenceNumber = maxSequenceNumber == null ? 0 : maxSequenceNumber;
+
+                    for (ChangeLogEntry entry : entries) {
+                        entry.setSequenceNumber(++sequenceNumber);
+                    }
+
+                    changeLogEntryDAO.save(entries);
+                }
+
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.synyx.urlaubsverwaltung.core.change;
+
+/**
+ * Type of the entity a {@link ChangeLogEntry} refers to.
+ */
+public enum ChangeType {
+
+    APPLICATION,
+    SICK_NOTE,
+    OVERTIME,
+    ACCOUNT,
+    PERSON
+}
@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.core.cron;
+
+import org.apache.log4j.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import org.springframework.stereotype.Service;
+
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+
+
+/**
+ * Is to be scheduled regularly: recreates the snapshots the statistics are based on, in case a change has not been
+ * considered by the incremental refresh.
+ */
+@Service
+public class StatisticsRebuildService {
+
+    private static final Logger LOG = Logger.getLogger(StatisticsRebuildService.class);
+
+    private final SickNoteStatisticsService sickNoteStatisticsService;
+    private final ApplicationForLeaveDaysService applicationForLeaveDaysService;
+
+    @Autowired
+    public StatisticsRebuildService(SickNoteStatisticsService sickNoteStatisticsService,
+        ApplicationForLeaveDaysService applicationForLeaveDaysService) {
+
+        this.sickNoteStatisticsService = sickNoteStatisticsService;
+        this.applicationForLeaveDaysService = applicationForLeaveDaysService;
+    }
+
+    @Scheduled(cron = "${uv.cron.rebuildStatistics}")
+    void rebuildStatistics() {
+
+        LOG.info("Starting rebuild of the statistics snapshots.");
+
+        sickNoteStatisticsService.rebuildStatistics();
+        applicationForLeaveDaysService.rebuild();
+
+        LOG.info("Successfully rebuilt the statistics snapshots.");
+    }
+}
@@ -0,0 +1,63 @@
+package org.synyx.urlaubsverwaltung.core.cron;
+
+import org.apache.log4j.Logger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import org.springframework.stereotype.Service;
+
+import org.synyx.urlaubsverwaltung.core.account.domain.UsedVacationDays;
+import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+
+/**
+ * Is to be scheduled regularly: verifies the persisted used vacation days against the applications for leave and
+ * corrects them if they differ, and persists the missing ones, which is done during startup, too. Read accesses never
+ * persist used vacation days, so they are calculated on every access until they are persisted here.
+ */
+@Service
+public class UsedVacationDaysVerificationService {
+
+    private static final Logger LOG = Logger.getLogger(UsedVacationDaysVerificationService.class);
+
+    private final VacationDaysService vacationDaysService;
+
+    @Autowired
+    public UsedVacationDaysVerificationService(VacationDaysService vacationDaysService) {
+
+        this.vacationDaysService = vacationDaysService;
+    }
+
+    @Scheduled(cron = "${uv.cron.verifyUsedVacationDays}")
+    void verifyUsedVacationDays() {
+
+        LOG.info("Starting verification of the persisted used vacation days.");
+
+        List<UsedVacationDays> correctedUsedVacationDays = vacationDaysService.verifyUsedVacationDays();
+
+        if (correctedUsedVacationDays.isEmpty()) {
+            LOG.info("Successfully verified the persisted used vacation days, no differences found.");
+        } else {
+            LOG.warn("Verified the persisted used vacation days, corrected " + correctedUsedVacationDays.size()
+                + " differing ones.");
+        }
+
+        persistMissingUsedVacationDays();
+    }
+
+
+    @PostConstruct
+    void persistMissingUsedVacationDays() {
+
+        List<UsedVacationDays> persistedUsedVacationDays = vacationDaysService.persistMissingUsedVacationDays();
+
+        LOG.info("Persisted the missing used vacation days of " + persistedUsedVacationDays.size()
+            + " holidays accounts.");
+    }
+}
@@ -0,0 +1,94 @@
+package org.synyx.urlaubsverwaltung.core.department;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+
+import java.util.BitSet;
+import java.util.List;
+
+
+/**
+ * Days of a year on which a person is absent, as one bit per day of the year. A day is marked as soon as the person
+ * is absent for a part of it, i.e. half days count as absent.
+ */
+final class AbsenceDays {
+
+    private final BitSet vacation = new BitSet();
+    private final BitSet waiting = new BitSet();
+    private final BitSet sick = new BitSet();
+    private final BitSet absent = new BitSet();
+
+    /**
+     * Marks the days of the given periods within the given year. Only allowed, waiting and temporary allowed
+     * applications for leave and active sick notes are considered.
+     *
+     * @param  year  to mark the days of
+     * @param  periods  of the absences of a person
+     */
+    AbsenceDays(int year, List<AbsencePeriod> periods) {
+
+        int firstDay = EpochDay.getFirstDayOfYear(year);
+        int lastDay = EpochDay.getLastDayOfYear(year);
+
+        for (AbsencePeriod period : periods) {
+            BitSet days = getDays(period);
+
+            if (days != null) {
+                int from = Math.max(EpochDay.of(period.getStartDate()), firstDay);
+                int to = Math.min(EpochDay.of(period.getEndDate()), lastDay);
+
+                if (from <= to) {
+                    days.set(from - firstDay, to - firstDay + 1);
+                }
+            }
+        }
+
+        absent.or(vacation);
+        absent.or(waiting);
+        absent.or(sick);
+    }
+
+    private BitSet getDays(AbsencePeriod period) {
+
+        if (period.getType() == AbsencePeriod.Type.SICK_NOTE) {
+            return SickNoteStatus.ACTIVE.name().equals(period.getStatus()) ? sick : null;
+        }
+
+        if (ApplicationStatus.ALLOWED.name().equals(period.getStatus())) {
+            return vacation;
+        }
+
+        if (ApplicationStatus.WAITING.name().equals(period.getStatus())
+                || ApplicationStatus.TEMPORARY_ALLOWED.name().equals(period.getStatus())) {
+            return waiting;
+        }
+
+        return null;
+    }
+
+
+    BitSet getVacation() {
+
+        return vacation;
+    }
+
+
+    BitSet getWaiting() {
+
+        return waiting;
+    }
+
+
+    BitSet getSick() {
+
+        return sick;
+    }
+
+
+    BitSet getAbsent() {
+
+        return absent;
+    }
+}
@@ -0,0 +1,90 @@
+package org.synyx.urlaubsverwaltung.core.department;
+
+import org.joda.time.DateMidnight;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+
+/**
+ * Number of absent members of a department on a certain day.
+ */
+public final class DayCoverage {
+
+    private final DateMidnight date;
+    private final int members;
+    private final int vacation;
+    private final int waiting;
+    private final int sick;
+    private final int absent;
+
+    DayCoverage(DateMidnight date, int members, int vacation, int waiting, int sick, int absent) {
+
+        this.date = date;
+        this.members = members;
+        this.vacation = vacation;
+        this.waiting = waiting;
+        this.sick = sick;
+        this.absent = absent;
+    }
+
+    public DateMidnight getDate() {
+
+        return date;
+    }
+
+
+    public int getMembers() {
+
+        return members;
+    }
+
+
+    /**
+     * @return  number of members with an allowed application for leave on this day
+     */
+    public int getVacation() {
+
+        return vacation;
+    }
+
+
+    /**
+     * @return  number of members with a waiting or temporary allowed application for leave on this day
+     */
+    public int getWaiting() {
+
+        return waiting;
+    }
+
+
+    /**
+     * @return  number of members with an active sick note on this day
+     */
+    public int getSick() {
+
+        return sick;
+    }
+
+
+    /**
+     * @return  number of members that are absent for any of the reasons above, every member is counted once
+     */
+    public int getAbsent() {
+
+        return absent;
+    }
+
+
+    /**
+     * @return  fraction of absent members, between 0 and 1
+     */
+    public BigDecimal getAbsentRatio() {
+
+        if (members == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return BigDecimal.valueOf(absent).divide(BigDecimal.valueOf(members), 2, RoundingMode.HALF_UP);
+    }
+}
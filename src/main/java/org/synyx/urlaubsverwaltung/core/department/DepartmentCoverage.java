@@ -0,0 +1,67 @@
+package org.synyx.urlaubsverwaltung.core.department;
+
+import org.joda.time.DateMidnight;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Number of absent members of a department for each day of a period, as calculated by
+ * {@link DepartmentCoverageService}.
+ */
+public final class DepartmentCoverage {
+
+    private final DateMidnight startDate;
+    private final int members;
+    private final int[] vacation;
+    private final int[] waiting;
+    private final int[] sick;
+    private final int[] absent;
+
+    public DepartmentCoverage(DateMidnight startDate, int members, int[] vacation, int[] waiting, int[] sick,
+        int[] absent) {
+
+        this.startDate = startDate;
+        this.members = members;
+        this.vacation = vacation;
+        this.waiting = waiting;
+        this.sick = sick;
+        this.absent = absent;
+    }
+
+    public DateMidnight getStartDate() {
+
+        return startDate;
+    }
+
+
+    public DateMidnight getEndDate() {
+
+        return startDate.plusDays(absent.length - 1);
+    }
+
+
+    /**
+     * @return  number of active members of the department
+     */
+    public int getMembers() {
+
+        return members;
+    }
+
+
+    /**
+     * @return  the coverage of each day of the period, in chronological order
+     */
+    public List<DayCoverage> getDays() {
+
+        List<DayCoverage> days = new ArrayList<>(absent.length);
+
+        for (int i = 0; i < absent.length; i++) {
+            days.add(new DayCoverage(startDate.plusDays(i), members, vacation[i], waiting[i], sick[i], absent[i]));
+        }
+
+        return days;
+    }
+}
@@ -0,0 +1,183 @@
+package org.synyx.urlaubsverwaltung.core.department;
+
+import org.joda.time.DateMidnight;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.stereotype.Service;
+
+import org.springframework.util.Assert;
+
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriodDAO;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.core.util.TransactionUtil;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+
+/**
+ * Calculates how many members of a department are absent on each day of a period.
+ *
+ * <p>The absence days of each person are kept as bitsets per year, so a coverage is calculated by counting the set
+ * bits of the members, without any query once the members are cached. The absence days of a person are evicted via
+ * {@link #evict(Person)} whenever an application for leave or a sick note of the person changes and are loaded again
+ * on next access, together with the other members missing in the cache.</p>
+ */
+@Service
+public class DepartmentCoverageService {
+
+    private final AbsencePeriodDAO absencePeriodDAO;
+
+    private final ConcurrentMap<Integer, ConcurrentMap<Person, AbsenceDays>> absenceDaysPerYear =
+        new ConcurrentHashMap<>();
+
+    @Autowired
+    public DepartmentCoverageService(AbsencePeriodDAO absencePeriodDAO) {
+
+        this.absencePeriodDAO = absencePeriodDAO;
+    }
+
+    /**
+     * Get the number of absent active members of the given department for each day of the given period.
+     *
+     * @param  department  to get the coverage for
+     * @param  from  start of the period
+     * @param  to  end of the period
+     *
+     * @return  the coverage of the department
+     */
+    public DepartmentCoverage getCoverage(Department department, DateMidnight from, DateMidnight to) {
+
+        Assert.notNull(department, "Department must be given.");
+        Assert.isTrue(!from.isAfter(to), "Start date must not be after end date.");
+
+        List<Person> members = department.getMembers()
+            .stream()
+            .filter(person -> !person.hasRole(Role.INACTIVE))
+            .collect(Collectors.toList());
+
+        int firstDay = EpochDay.of(from);
+        int lastDay = EpochDay.of(to);
+        int numberOfDays = lastDay - firstDay + 1;
+
+        int[] vacation = new int[numberOfDays];
+        int[] waiting = new int[numberOfDays];
+        int[] sick = new int[numberOfDays];
+        int[] absent = new int[numberOfDays];
+
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int firstDayOfYear = EpochDay.getFirstDayOfYear(year);
+
+            // bit indices of the part of the period within the year
+            int fromIndex = Math.max(firstDay, firstDayOfYear) - firstDayOfYear;
+            int toIndex = Math.min(lastDay, EpochDay.getLastDayOfYear(year)) - firstDayOfYear;
+            int shift = firstDayOfYear - firstDay;
+
+            for (AbsenceDays days : getAbsenceDays(year, members).values()) {
+                count(days.getVacation(), fromIndex, toIndex, shift, vacation);
+                count(days.getWaiting(), fromIndex, toIndex, shift, waiting);
+                count(days.getSick(), fromIndex, toIndex, shift, sick);
+                count(days.getAbsent(), fromIndex, toIndex, shift, absent);
+            }
+        }
+
+        return new DepartmentCoverage(from, members.size(), vacation, waiting, sick, absent);
+    }
+
+
+    /**
+     * Evicts the cached absence days of the given person, e.g. because an application for leave or a sick note of the
+     * person has been changed. Within a transaction, they are evicted again after commit.
+     *
+     * @param  person  to evict the cached absence days for
+     */
+    public void evict(Person person) {
+
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            for (Map<Person, AbsenceDays> absenceDaysOfYear : absenceDaysPerYear.values()) {
+                absenceDaysOfYear.remove(person);
+            }
+        });
+    }
+
+
+    /**
+     * Evicts the cached absence days of all persons.
+     */
+    public void evictAll() {
+
+        TransactionUtil.runNowAndAfterCommit(absenceDaysPerYear::clear);
+    }
+
+
+    private static void count(BitSet days, int fromIndex, int toIndex, int shift, int[] counts) {
+
+        for (int i = days.nextSetBit(fromIndex); i >= 0 && i <= toIndex; i = days.nextSetBit(i + 1)) {
+            counts[i + shift]++;
+        }
+    }
+
+
+    private Map<Person, AbsenceDays> getAbsenceDays(int year, List<Person> persons) {
+
+        ConcurrentMap<Person, AbsenceDays> cacheOfYear = absenceDaysPerYear.computeIfAbsent(year,
+                y -> new ConcurrentHashMap<>());
+
+        Map<Person, AbsenceDays> absenceDays = new HashMap<>();
+        List<Person> personsWithoutCachedDays = new ArrayList<>();
+
+        for (Person person : persons) {
+            AbsenceDays cachedDays = cacheOfYear.get(person);
+
+            if (cachedDays == null) {
+                personsWithoutCachedDays.add(person);
+            } else {
+                absenceDays.put(person, cachedDays);
+            }
+        }
+
+        // an empty 'in' clause is not valid SQL
+        if (!personsWithoutCachedDays.isEmpty()) {
+            Map<Integer, List<AbsencePeriod>> periods = getAbsencePeriods(year, personsWithoutCachedDays);
+
+            for (Person person : personsWithoutCachedDays) {
+                AbsenceDays days = new AbsenceDays(year, periods.getOrDefault(person.getId(), new ArrayList<>()));
+
+                cacheOfYear.putIfAbsent(person, days);
+                absenceDays.put(person, days);
+            }
+        }
+
+        return absenceDays;
+    }
+
+
+    private Map<Integer, List<AbsencePeriod>> getAbsencePeriods(int year, List<Person> persons) {
+
+        List<Integer> personIds = persons.stream().map(Person::getId).collect(Collectors.toList());
+
+        List<Object[]> rows = absencePeriodDAO.findByPersonsAndPeriod(personIds,
+                DateUtil.getFirstDayOfYear(year).toDate(), DateUtil.getLastDayOfYear(year).toDate());
+
+        Map<Integer, List<AbsencePeriod>> periods = new HashMap<>();
+
+        for (Object[] row : rows) {
+            Integer personId = ((Number) row[0]).intValue();
+
+            periods.computeIfAbsent(personId, id -> new ArrayList<>()).add(AbsencePeriod.of(row, 1));
+        }
+
+        return periods;
+    }
+}
@@ -85,6 +85,17 @@ public interface DepartmentService {
     List<Department> getManagedDepartmentsOfSecondStageAuthority(Person secondStageAuthority);
 
 
+    /**
+     * Finds all departments the given person is allowed to see the absences of: all departments for a boss or an
+     * office user, else the departments the given person manages as department head or second stage authority.
+     *
+     * @param  person  to get the departments of
+     *
+     * @return  list of departments the given person is allowed to see the absences of
+     */
+    List<Department> getManagedDepartments(Person person);
+
+
     /**
      * Get all active (waiting or allowed) applications for leave of the members of the departments of the given person
      * for the provided period.
@@ -14,6 +14,7 @@ import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -36,12 +37,15 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentDAO departmentDAO;
     private final ApplicationService applicationService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public DepartmentServiceImpl(DepartmentDAO departmentDAO, ApplicationService applicationService) {
+    public DepartmentServiceImpl(DepartmentDAO departmentDAO, ApplicationService applicationService,
+        DataVersionService dataVersionService) {
 
         this.departmentDAO = departmentDAO;
         this.applicationService = applicationService;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -55,6 +59,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void create(Department department) {
 
         departmentDAO.save(department);
+        dataVersionService.bumpAll();
 
         LOG.info("Created department: " + department.toString());
     }
@@ -66,6 +71,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setLastModification(DateTime.now());
 
         departmentDAO.save(department);
+        dataVersionService.bumpAll();
 
         LOG.info("Updated department: " + department.toString());
     }
@@ -78,6 +84,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             LOG.info("No department found for ID = " + departmentId + ", deletion is not necessary.");
         } else {
             departmentDAO.delete(departmentId);
+            dataVersionService.bumpAll();
         }
     }
 
@@ -110,6 +117,29 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
 
+    @Override
+    public List<Department> getManagedDepartments(Person person) {
+
+        if (person.hasRole(Role.BOSS) || person.hasRole(Role.OFFICE)) {
+            return getAllDepartments();
+        }
+
+        List<Department> departments = new ArrayList<>();
+
+        if (person.hasRole(Role.DEPARTMENT_HEAD)) {
+            departments.addAll(getManagedDepartmentsOfDepartmentHead(person));
+        }
+
+        if (person.hasRole(Role.SECOND_STAGE_AUTHORITY)) {
+            getManagedDepartmentsOfSecondStageAuthority(person).stream()
+                .filter(department -> !departments.contains(department))
+                .forEach(departments::add);
+        }
+
+        return departments;
+    }
+
+
     @Override
     public List<Application> getApplicationsForLeaveOfMembersInDepartmentsOfPerson(Person member,
         DateMidnight startDate, DateMidnight endDate) {
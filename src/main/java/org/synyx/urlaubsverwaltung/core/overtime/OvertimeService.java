@@ -5,6 +5,7 @@ import org.synyx.urlaubsverwaltung.core.person.Person;
 import java.math.BigDecimal;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -91,4 +92,14 @@ public interface OvertimeService {
      * @since  2.13.0
      */
     BigDecimal getLeftOvertimeForPerson(Person person);
+
+
+    /**
+     * Get the left overtime hours of the given persons at once, like {@link #getLeftOvertimeForPerson(Person)}.
+     *
+     * @param  persons  to get the left overtime for
+     *
+     * @return  the left overtime per person, contains every given person and never {@code null} values
+     */
+    Map<Person, BigDecimal> getLeftOvertimeForPersons(List<Person> persons);
 }
@@ -9,13 +9,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.mail.MailService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
 import java.math.BigDecimal;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.transaction.Transactional;
@@ -35,15 +39,17 @@ public class OvertimeServiceImpl implements OvertimeService {
     private final OvertimeCommentDAO commentDAO;
     private final ApplicationService applicationService;
     private final MailService mailService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
     public OvertimeServiceImpl(OvertimeDAO overtimeDAO, OvertimeCommentDAO commentDAO,
-        ApplicationService applicationService, MailService mailService) {
+        ApplicationService applicationService, MailService mailService, ChangeLogService changeLogService) {
 
         this.overtimeDAO = overtimeDAO;
         this.commentDAO = commentDAO;
         this.applicationService = applicationService;
         this.mailService = mailService;
+        this.changeLogService = changeLogService;
     }
 
     @Override
@@ -81,6 +87,8 @@ public class OvertimeServiceImpl implements OvertimeService {
 
         commentDAO.save(overtimeComment);
 
+        changeLogService.append(ChangeType.OVERTIME, overtime.getId(), overtime.getPerson(), action.name());
+
         mailService.sendOvertimeNotification(overtime, overtimeComment);
 
         String loggingAction = isNewOvertime ? "Created" : "Updated";
@@ -138,6 +146,34 @@ public class OvertimeServiceImpl implements OvertimeService {
     }
 
 
+    @Override
+    public Map<Person, BigDecimal> getLeftOvertimeForPersons(List<Person> persons) {
+
+        Map<Person, BigDecimal> leftOvertime = new HashMap<>();
+
+        if (persons.isEmpty()) {
+            // an empty 'in' clause is not valid SQL
+            return leftOvertime;
+        }
+
+        Map<Integer, BigDecimal> totalOvertimeByPersonId = new HashMap<>();
+
+        for (Object[] row : overtimeDAO.calculateTotalHoursForPersons(persons)) {
+            totalOvertimeByPersonId.put((Integer) row[0], (BigDecimal) row[1]);
+        }
+
+        Map<Person, BigDecimal> overtimeReductions = applicationService.getTotalOvertimeReductionOfPersons(persons);
+
+        for (Person person : persons) {
+            BigDecimal totalOvertime = totalOvertimeByPersonId.getOrDefault(person.getId(), BigDecimal.ZERO);
+
+            leftOvertime.put(person, totalOvertime.subtract(overtimeReductions.get(person)));
+        }
+
+        return leftOvertime;
+    }
+
+
     private BigDecimal getTotalOvertimeForPerson(Person person) {
 
         Optional<BigDecimal> totalOvertime = Optional.ofNullable(overtimeDAO.calculateTotalHoursForPerson(person));
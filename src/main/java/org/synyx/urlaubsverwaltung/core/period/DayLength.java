@@ -8,20 +8,34 @@ import java.math.BigDecimal;
  */
 public enum DayLength {
 
-    FULL(new BigDecimal("1.0")),
-    MORNING(new BigDecimal("0.5")),
-    NOON(new BigDecimal("0.5")),
-    ZERO(BigDecimal.ZERO);
+    FULL(new BigDecimal("1.0"), 2),
+    MORNING(new BigDecimal("0.5"), 1),
+    NOON(new BigDecimal("0.5"), 1),
+    ZERO(BigDecimal.ZERO, 0);
 
     private BigDecimal duration;
 
-    DayLength(BigDecimal duration) {
+    private int halfDays;
+
+    DayLength(BigDecimal duration, int halfDays) {
 
         this.duration = duration;
+        this.halfDays = halfDays;
     }
 
     public BigDecimal getDuration() {
 
         return this.duration;
     }
+
+
+    /**
+     * Returns the duration as number of half days, to be used for calculations without {@link BigDecimal}s.
+     *
+     * @return  {@code 2} for a full day, {@code 1} for a half day, {@code 0} for zero
+     */
+    public int getHalfDays() {
+
+        return this.halfDays;
+    }
 }
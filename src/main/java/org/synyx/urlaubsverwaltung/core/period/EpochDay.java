@@ -0,0 +1,193 @@
+package org.synyx.urlaubsverwaltung.core.period;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTimeConstants;
+
+
+/**
+ * Primitive date model for calendar calculations: a date is represented as {@code int} counting the days since
+ * 1970-01-01 (the epoch day), so iterating over days, calculating the day of week or the year of a date needs no
+ * object allocations and no time zone calculations.
+ *
+ * <p>Dates should be converted from and to {@link DateMidnight} only at the edges, i.e. when reading from entities or
+ * building responses.</p>
+ */
+public final class EpochDay {
+
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_FROM_YEAR_ZERO_TO_EPOCH = 719468;
+
+    private EpochDay() {
+
+        // Hide constructor for util classes
+    }
+
+    /**
+     * @param  date  to convert
+     *
+     * @return  the epoch day of the given date
+     */
+    public static int of(DateMidnight date) {
+
+        return of(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth());
+    }
+
+
+    /**
+     * @param  year  of the date
+     * @param  month  of the date, 1 for January
+     * @param  dayOfMonth  of the date, one-based
+     *
+     * @return  the epoch day of the given date
+     */
+    public static int of(int year, int month, int dayOfMonth) {
+
+        // see http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+    }
+
+
+    /**
+     * @param  epochDay  to convert
+     *
+     * @return  the date of the given epoch day
+     */
+    public static DateMidnight toDateMidnight(int epochDay) {
+
+        int[] date = toYearMonthDay(epochDay);
+
+        return new DateMidnight(date[0], date[1], date[2]);
+    }
+
+
+    /**
+     * @param  epochDay  to get the day of week for
+     *
+     * @return  the day of week, {@link DateTimeConstants#MONDAY} to {@link DateTimeConstants#SUNDAY}
+     */
+    public static int getDayOfWeek(int epochDay) {
+
+        // 1970-01-01 was a Thursday
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+
+    /**
+     * @param  epochDay  to check
+     *
+     * @return  {@code true} if the given day is a work day (Monday to Friday), else {@code false}
+     */
+    public static boolean isWorkDay(int epochDay) {
+
+        int dayOfWeek = getDayOfWeek(epochDay);
+
+        return dayOfWeek != DateTimeConstants.SATURDAY && dayOfWeek != DateTimeConstants.SUNDAY;
+    }
+
+
+    /**
+     * @param  epochDay  to get the year for
+     *
+     * @return  the year of the given epoch day
+     */
+    public static int getYear(int epochDay) {
+
+        // same as toYearMonthDay, but without allocating an array
+        int z = epochDay + DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+        int era = Math.floorDiv(z, DAYS_PER_ERA);
+        int dayOfEra = z - era * DAYS_PER_ERA;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+
+        return yearOfEra + era * 400 + (shiftedMonth >= 10 ? 1 : 0);
+    }
+
+
+    /**
+     * @param  epochDay  to get the day of year for
+     *
+     * @return  the one-based day of year of the given epoch day
+     */
+    public static int getDayOfYear(int epochDay) {
+
+        return epochDay - getFirstDayOfYear(getYear(epochDay)) + 1;
+    }
+
+
+    /**
+     * @param  year  to get the first day for
+     *
+     * @return  the epoch day of January 1st of the given year
+     */
+    public static int getFirstDayOfYear(int year) {
+
+        return of(year, DateTimeConstants.JANUARY, 1);
+    }
+
+
+    /**
+     * @param  year  to get the last day for
+     *
+     * @return  the epoch day of December 31st of the given year
+     */
+    public static int getLastDayOfYear(int year) {
+
+        return getFirstDayOfYear(year + 1) - 1;
+    }
+
+
+    /**
+     * @param  epochDay  to format
+     *
+     * @return  the given epoch day formatted as ISO date, i.e. {@code yyyy-MM-dd}
+     */
+    public static String toIsoString(int epochDay) {
+
+        int[] date = toYearMonthDay(epochDay);
+
+        StringBuilder builder = new StringBuilder(10);
+        appendPadded(builder, date[0], 4);
+        builder.append('-');
+        appendPadded(builder, date[1], 2);
+        builder.append('-');
+        appendPadded(builder, date[2], 2);
+
+        return builder.toString();
+    }
+
+
+    private static void appendPadded(StringBuilder builder, int value, int digits) {
+
+        String string = Integer.toString(value);
+
+        for (int i = string.length(); i < digits; i++) {
+            builder.append('0');
+        }
+
+        builder.append(string);
+    }
+
+
+    private static int[] toYearMonthDay(int epochDay) {
+
+        // see http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        int z = epochDay + DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+        int era = Math.floorDiv(z, DAYS_PER_ERA);
+        int dayOfEra = z - era * DAYS_PER_ERA;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        return new int[] { year, month, day };
+    }
+}
@@ -64,6 +64,16 @@ public interface PersonService {
     Optional<Person> getPersonByID(Integer id);
 
 
+    /**
+     * finds all {@link Person}s in the database with the given primary keys with a single query.
+     *
+     * @param  ids  of the persons
+     *
+     * @return  the found persons, ids without a person are ignored
+     */
+    List<Person> getPersonsByIDs(List<Integer> ids);
+
+
     /**
      * finds a {@link Person} in the database by login name.
      *
@@ -6,10 +6,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Transactional;
+
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.keys.KeyPairService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.security.KeyPair;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -29,12 +35,17 @@ class PersonServiceImpl implements PersonService {
 
     private final PersonDAO personDAO;
     private final KeyPairService keyPairService;
+    private final DataVersionService dataVersionService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
-    PersonServiceImpl(PersonDAO personDAO, KeyPairService keyPairService) {
+    PersonServiceImpl(PersonDAO personDAO, KeyPairService keyPairService, DataVersionService dataVersionService,
+        ChangeLogService changeLogService) {
 
         this.personDAO = personDAO;
         this.keyPairService = keyPairService;
+        this.dataVersionService = dataVersionService;
+        this.changeLogService = changeLogService;
     }
 
     @Override
@@ -82,9 +93,14 @@ class PersonServiceImpl implements PersonService {
 
 
     @Override
+    @Transactional
     public void save(Person person) {
 
+        String action = person.isNew() ? "CREATED" : "EDITED";
+
         personDAO.save(person);
+        dataVersionService.bump(person);
+        changeLogService.append(ChangeType.PERSON, person.getId(), person, action);
     }
 
 
@@ -95,6 +111,18 @@ class PersonServiceImpl implements PersonService {
     }
 
 
+    @Override
+    public List<Person> getPersonsByIDs(List<Integer> ids) {
+
+        if (ids.isEmpty()) {
+            // an empty 'in' clause is not valid SQL
+            return Collections.emptyList();
+        }
+
+        return personDAO.findAll(ids);
+    }
+
+
     @Override
     public Optional<Person> getPersonByLogin(String loginName) {
 
@@ -4,8 +4,15 @@ import org.apache.log4j.Logger;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.context.annotation.Lazy;
+
 import org.springframework.stereotype.Service;
 
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.core.settings.SettingsService}.
@@ -18,22 +25,64 @@ public class SettingsServiceImpl implements SettingsService {
     private static final Logger LOG = Logger.getLogger(SettingsServiceImpl.class);
 
     private final SettingsDAO settingsDAO;
-
+    private final DataVersionService dataVersionService;
+    private final UsedVacationDaysDAO usedVacationDaysDAO;
+    private final ApplicationForLeaveDaysService applicationForLeaveDaysService;
+    private final SickNoteStatisticsService sickNoteStatisticsService;
+
+    /**
+     * The statistics services are injected lazily, because they depend on the settings themselves via the calculation
+     * of work days.
+     */
     @Autowired
-    public SettingsServiceImpl(SettingsDAO settingsDAO) {
+    public SettingsServiceImpl(SettingsDAO settingsDAO, DataVersionService dataVersionService,
+        UsedVacationDaysDAO usedVacationDaysDAO, @Lazy ApplicationForLeaveDaysService applicationForLeaveDaysService,
+        @Lazy SickNoteStatisticsService sickNoteStatisticsService) {
 
         this.settingsDAO = settingsDAO;
+        this.dataVersionService = dataVersionService;
+        this.usedVacationDaysDAO = usedVacationDaysDAO;
+        this.applicationForLeaveDaysService = applicationForLeaveDaysService;
+        this.sickNoteStatisticsService = sickNoteStatisticsService;
     }
 
     @Override
     public void save(Settings settings) {
 
+        boolean publicHolidaysChanged = arePublicHolidaysChanged(settings);
+
         settingsDAO.save(settings);
+        dataVersionService.bumpSettings();
+
+        if (publicHolidaysChanged) {
+            // the used vacation days and the statistics of all persons depend on the public holidays
+            usedVacationDaysDAO.deleteAllInBatch();
+            applicationForLeaveDaysService.evictAll();
+            sickNoteStatisticsService.evictAll();
+        }
 
         LOG.info("Updated settings: " + settings.toString());
     }
 
 
+    private boolean arePublicHolidaysChanged(Settings settings) {
+
+        Settings previousSettings = settingsDAO.findOne(1);
+
+        // the changes can not be determined if the given settings are the loaded ones that have been modified
+        if (previousSettings == null || previousSettings == settings) {
+            return true;
+        }
+
+        WorkingTimeSettings previous = previousSettings.getWorkingTimeSettings();
+        WorkingTimeSettings current = settings.getWorkingTimeSettings();
+
+        return previous.getFederalState() != current.getFederalState()
+            || previous.getWorkingDurationForChristmasEve() != current.getWorkingDurationForChristmasEve()
+            || previous.getWorkingDurationForNewYearsEve() != current.getWorkingDurationForNewYearsEve();
+    }
+
+
     @Override
     public Settings getSettings() {
 
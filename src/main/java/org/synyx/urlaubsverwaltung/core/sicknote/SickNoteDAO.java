@@ -30,17 +30,35 @@ public interface SickNoteDAO extends JpaRepository<SickNote, Integer> {
     List<SickNote> findByPeriod(Date startDate, Date endDate);
 
 
+    @Query(
+        "SELECT x FROM SickNote x WHERE x.person IN ?1 AND x.startDate <= ?3 AND x.endDate >= ?2 "
+        + "ORDER BY x.startDate"
+    )
+    List<SickNote> findByPersonsAndPeriod(List<Person> persons, Date startDate, Date endDate);
+
+
     // NOTE: Following methods are to create statistic
 
-    @Query("SELECT x FROM SickNote x WHERE (YEAR(x.startDate) = ?1 OR YEAR(x.endDate) = ?1) AND x.status = 'ACTIVE'")
-    List<SickNote> findAllActiveByYear(int year);
+    /**
+     * Loads only the data of the active sick notes in the given period that is needed to calculate their work days.
+     *
+     * @param  startDate  of the period
+     * @param  endDate  of the period
+     *
+     * @return  rows containing the person, the day length, the start date and the end date of a sick note
+     */
+    @Query(
+        "SELECT x.person, x.dayLength, x.startDate, x.endDate FROM SickNote x "
+        + "WHERE x.status = 'ACTIVE' AND x.startDate <= ?2 AND x.endDate >= ?1"
+    )
+    List<Object[]> findPeriodsOfActiveSickNotes(Date startDate, Date endDate);
 
 
     @Query(
-        "SELECT COUNT(DISTINCT x.person) FROM SickNote x WHERE "
-        + "(YEAR(x.startDate) = ?1 OR YEAR(x.endDate) = ?1) AND x.status = 'ACTIVE'"
+        "SELECT COUNT(DISTINCT x.person) FROM SickNote x "
+        + "WHERE x.status = 'ACTIVE' AND x.startDate <= ?2 AND x.endDate >= ?1"
     )
-    Long findNumberOfPersonsWithMinimumOneSickNote(int year);
+    Long findNumberOfPersonsWithMinimumOneSickNote(Date startDate, Date endDate);
 
 
     // NOTE: Only needed to send email after certain duration of a sick note
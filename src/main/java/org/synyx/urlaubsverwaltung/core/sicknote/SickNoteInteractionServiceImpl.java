@@ -12,9 +12,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationInteractionService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.CalendarSettings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
 import org.synyx.urlaubsverwaltung.core.sync.CalendarSyncService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.Absence;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMapping;
@@ -22,6 +26,7 @@ import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMappingService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceTimeConfiguration;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.core.sync.absence.EventType;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.Optional;
 
@@ -43,11 +48,17 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
     private final CalendarSyncService calendarSyncService;
     private final AbsenceMappingService absenceMappingService;
     private final SettingsService settingsService;
+    private final SickNoteStatisticsService sickNoteStatisticsService;
+    private final DepartmentCoverageService departmentCoverageService;
+    private final DataVersionService dataVersionService;
+    private final ChangeLogService changeLogService;
 
     @Autowired
     public SickNoteInteractionServiceImpl(SickNoteService sickNoteService, SickNoteCommentService commentService,
         ApplicationInteractionService applicationInteractionService, CalendarSyncService calendarSyncService,
-        AbsenceMappingService absenceMappingService, SettingsService settingsService) {
+        AbsenceMappingService absenceMappingService, SettingsService settingsService,
+        SickNoteStatisticsService sickNoteStatisticsService, DepartmentCoverageService departmentCoverageService,
+        DataVersionService dataVersionService, ChangeLogService changeLogService) {
 
         this.sickNoteService = sickNoteService;
         this.commentService = commentService;
@@ -55,6 +66,10 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
         this.calendarSyncService = calendarSyncService;
         this.absenceMappingService = absenceMappingService;
         this.settingsService = settingsService;
+        this.sickNoteStatisticsService = sickNoteStatisticsService;
+        this.departmentCoverageService = departmentCoverageService;
+        this.dataVersionService = dataVersionService;
+        this.changeLogService = changeLogService;
     }
 
     @Override
@@ -65,6 +80,10 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
 
         sickNoteService.save(sickNote);
         commentService.create(sickNote, SickNoteAction.CREATED, Optional.<String>empty(), creator);
+        sickNoteStatisticsService.evict(sickNote);
+        departmentCoverageService.evict(sickNote.getPerson());
+        dataVersionService.bump(sickNote.getPerson());
+        appendToChangeLog(sickNote, SickNoteAction.CREATED);
 
         LOG.info("Created sick note: " + sickNote.toString());
 
@@ -91,6 +110,12 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
         sickNoteService.save(sickNote);
         commentService.create(sickNote, SickNoteAction.EDITED, Optional.<String>empty(), editor);
 
+        // the previous period of the sick note is not known anymore
+        sickNoteStatisticsService.evictAll();
+        departmentCoverageService.evict(sickNote.getPerson());
+        dataVersionService.bump(sickNote.getPerson());
+        appendToChangeLog(sickNote, SickNoteAction.EDITED);
+
         LOG.info("Updated sick note: " + sickNote.toString());
 
         Optional<AbsenceMapping> absenceMapping = absenceMappingService.getAbsenceByIdAndType(sickNote.getId(),
@@ -116,6 +141,10 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
 
         sickNoteService.save(sickNote);
         commentService.create(sickNote, SickNoteAction.CONVERTED_TO_VACATION, Optional.<String>empty(), converter);
+        sickNoteStatisticsService.evict(sickNote);
+        departmentCoverageService.evict(sickNote.getPerson());
+        dataVersionService.bump(sickNote.getPerson());
+        appendToChangeLog(sickNote, SickNoteAction.CONVERTED_TO_VACATION);
 
         applicationInteractionService.createFromConvertedSickNote(application, converter);
 
@@ -146,6 +175,10 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
 
         sickNoteService.save(sickNote);
         commentService.create(sickNote, SickNoteAction.CANCELLED, Optional.<String>empty(), canceller);
+        sickNoteStatisticsService.evict(sickNote);
+        departmentCoverageService.evict(sickNote.getPerson());
+        dataVersionService.bump(sickNote.getPerson());
+        appendToChangeLog(sickNote, SickNoteAction.CANCELLED);
 
         LOG.info("Cancelled sick note: " + sickNote.toString());
 
@@ -159,4 +192,10 @@ public class SickNoteInteractionServiceImpl implements SickNoteInteractionServic
 
         return sickNote;
     }
+
+
+    private void appendToChangeLog(SickNote sickNote, SickNoteAction action) {
+
+        changeLogService.append(ChangeType.SICK_NOTE, sickNote.getId(), sickNote.getPerson(), action.name());
+    }
 }
@@ -56,6 +56,18 @@ public interface SickNoteService {
     List<SickNote> getByPeriod(DateMidnight from, DateMidnight to);
 
 
+    /**
+     * Get all the sick notes of the given persons that are in the given period.
+     *
+     * @param  persons  defines the owners of the sick notes
+     * @param  from  defines the start of the period
+     * @param  to  defines the end of the period
+     *
+     * @return  all the sick notes matching the given parameters
+     */
+    List<SickNote> getByPersonsAndPeriod(List<Person> persons, DateMidnight from, DateMidnight to);
+
+
     /**
      * Get all the sick notes that are reaching the end of sick pay.
      *
@@ -11,6 +11,7 @@ import org.synyx.urlaubsverwaltung.core.settings.AbsenceSettings;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,6 +62,18 @@ public class SickNoteServiceImpl implements SickNoteService {
     }
 
 
+    @Override
+    public List<SickNote> getByPersonsAndPeriod(List<Person> persons, DateMidnight from, DateMidnight to) {
+
+        // an empty 'in' clause is not valid SQL
+        if (persons.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return sickNoteDAO.findByPersonsAndPeriod(persons, from.toDate(), to.toDate());
+    }
+
+
     @Override
     public List<SickNote> getSickNotesReachingEndOfSickPay() {
 
@@ -1,15 +1,21 @@
 package org.synyx.urlaubsverwaltung.core.sicknote.statistics;
 
 import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
 
 import org.springframework.util.Assert;
 
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
-import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteDAO;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
 import java.math.BigDecimal;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 
@@ -20,7 +26,7 @@ import java.util.List;
  */
 public class SickNoteStatistics {
 
-    private final DateMidnight created;
+    private final DateTime created;
 
     private final int year;
 
@@ -33,13 +39,18 @@ public class SickNoteStatistics {
     public SickNoteStatistics(int year, SickNoteDAO sickNoteDAO, WorkDaysService calendarService) {
 
         this.year = year;
-        this.numberOfPersonsWithMinimumOneSickNote = sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(year);
-        this.created = DateMidnight.now();
+        this.created = DateTime.now();
 
-        List<SickNote> sickNotes = sickNoteDAO.findAllActiveByYear(year);
+        Date firstDayOfYear = DateUtil.getFirstDayOfYear(year).toDate();
+        Date lastDayOfYear = DateUtil.getLastDayOfYear(year).toDate();
 
-        this.totalNumberOfSickNotes = sickNotes.size();
-        this.totalNumberOfSickDays = calculateTotalNumberOfSickDays(calendarService, sickNotes);
+        this.numberOfPersonsWithMinimumOneSickNote = sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(
+                firstDayOfYear, lastDayOfYear);
+
+        List<Object[]> sickNotePeriods = sickNoteDAO.findPeriodsOfActiveSickNotes(firstDayOfYear, lastDayOfYear);
+
+        this.totalNumberOfSickNotes = sickNotePeriods.size();
+        this.totalNumberOfSickDays = calculateTotalNumberOfSickDays(calendarService, sickNotePeriods);
     }
 
     public int getTotalNumberOfSickNotes() {
@@ -54,35 +65,37 @@ public class SickNoteStatistics {
     }
 
 
-    private BigDecimal calculateTotalNumberOfSickDays(WorkDaysService calendarService, List<SickNote> sickNotes) {
+    /**
+     * Calculates the work days of the given sick note periods within the year, see
+     * {@link SickNoteDAO#findPeriodsOfActiveSickNotes(Date, Date)} for the structure of the rows.
+     */
+    private BigDecimal calculateTotalNumberOfSickDays(WorkDaysService calendarService,
+        List<Object[]> sickNotePeriods) {
 
-        BigDecimal numberOfSickDays = BigDecimal.ZERO;
+        DateMidnight firstDayOfYear = DateUtil.getFirstDayOfYear(this.year);
+        DateMidnight lastDayOfYear = DateUtil.getLastDayOfYear(this.year);
 
-        for (SickNote sickNote : sickNotes) {
-            DateMidnight sickNoteStartDate = sickNote.getStartDate();
-            DateMidnight sickNoteEndDate = sickNote.getEndDate();
+        List<WorkDaysRequest> requests = new ArrayList<>(sickNotePeriods.size());
 
-            DateMidnight startDate;
-            DateMidnight endDate;
+        for (Object[] sickNotePeriod : sickNotePeriods) {
+            Person person = (Person) sickNotePeriod[0];
+            DayLength dayLength = (DayLength) sickNotePeriod[1];
+            DateMidnight sickNoteStartDate = new DateTime(sickNotePeriod[2]).toDateMidnight();
+            DateMidnight sickNoteEndDate = new DateTime(sickNotePeriod[3]).toDateMidnight();
 
-            Assert.isTrue(sickNoteStartDate.getYear() == this.year || sickNoteEndDate.getYear() == this.year,
-                "Start date OR end date of the sick note must be in the year " + this.year);
+            Assert.isTrue(!sickNoteStartDate.isAfter(lastDayOfYear) && !sickNoteEndDate.isBefore(firstDayOfYear),
+                "The sick note must have at least one day in the year " + this.year);
 
-            if (sickNoteStartDate.getYear() == this.year) {
-                startDate = sickNoteStartDate;
-            } else {
-                startDate = sickNoteEndDate.dayOfYear().withMinimumValue();
-            }
+            // the sick note may span several years, only the days within the year are relevant
+            DateMidnight startDate = sickNoteStartDate.isBefore(firstDayOfYear) ? firstDayOfYear : sickNoteStartDate;
+            DateMidnight endDate = sickNoteEndDate.isAfter(lastDayOfYear) ? lastDayOfYear : sickNoteEndDate;
 
-            if (sickNoteEndDate.getYear() == this.year) {
-                endDate = sickNoteEndDate;
-            } else {
-                endDate = sickNoteStartDate.dayOfYear().withMaximumValue();
-            }
+            requests.add(new WorkDaysRequest(person, dayLength, startDate, endDate));
+        }
 
-            BigDecimal workDays = calendarService.getWorkDays(sickNote.getDayLength(), startDate, endDate,
-                    sickNote.getPerson());
+        BigDecimal numberOfSickDays = BigDecimal.ZERO;
 
+        for (BigDecimal workDays : calendarService.getWorkDays(requests)) {
             numberOfSickDays = numberOfSickDays.add(workDays);
         }
 
@@ -90,7 +103,7 @@ public class SickNoteStatistics {
     }
 
 
-    public DateMidnight getCreated() {
+    public DateTime getCreated() {
 
         return this.created;
     }
@@ -7,18 +7,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteDAO;
+import org.synyx.urlaubsverwaltung.core.util.TransactionUtil;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
  * Service for creating {@link SickNoteStatistics}.
  *
+ * <p>The statistics are kept as snapshots per year: a snapshot is created once on first access and reused until a
+ * sick note of the year changes, so that many simultaneous requests do not recalculate the statistics each.</p>
+ *
  * @author  Aljona Murygina - murygina@synyx.de
  */
 @Service
 @Transactional
 public class SickNoteStatisticsService {
 
+    private final ConcurrentMap<Integer, SickNoteStatistics> snapshots = new ConcurrentHashMap<>();
+
     private SickNoteDAO sickNoteDAO;
     private WorkDaysService calendarService;
 
@@ -40,4 +52,69 @@ public class SickNoteStatisticsService {
 
         return new SickNoteStatistics(year, sickNoteDAO, calendarService);
     }
+
+
+    /**
+     * Get the snapshot of the statistics for the given year, the snapshot is created if there is none yet.
+     *
+     * @param  year  to get the statistics for
+     *
+     * @return  the snapshot of the statistics, see {@link SickNoteStatistics#getCreated()} for its creation time
+     */
+    public SickNoteStatistics getStatistics(int year) {
+
+        SickNoteStatistics snapshot = snapshots.get(year);
+
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // created outside of the map, so that the database queries do not block other years, a snapshot created
+        // simultaneously by another request wins
+        SickNoteStatistics statistics = createStatistics(year);
+        SickNoteStatistics existingSnapshot = snapshots.putIfAbsent(year, statistics);
+
+        return existingSnapshot != null ? existingSnapshot : statistics;
+    }
+
+
+    /**
+     * Evicts the snapshots of all the years the given sick note lies in, they are created again on next access. Within
+     * a transaction, they are evicted again after commit.
+     *
+     * @param  sickNote  that has been created or changed
+     */
+    public void evict(SickNote sickNote) {
+
+        int startYear = sickNote.getStartDate().getYear();
+        int endYear = sickNote.getEndDate().getYear();
+
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            for (int year = startYear; year <= endYear; year++) {
+                snapshots.remove(year);
+            }
+        });
+    }
+
+
+    /**
+     * Evicts the snapshots of all years, e.g. because the period of a sick note has been changed or the settings
+     * concerning public holidays have been changed.
+     */
+    public void evictAll() {
+
+        TransactionUtil.runNowAndAfterCommit(snapshots::clear);
+    }
+
+
+    /**
+     * Recreates the snapshots of all years that have a snapshot at the moment. A snapshot that has been evicted
+     * meanwhile is not replaced, as the recreated snapshot may have been created from the state before the eviction.
+     */
+    public void rebuildStatistics() {
+
+        for (Map.Entry<Integer, SickNoteStatistics> entry : new ArrayList<>(snapshots.entrySet())) {
+            snapshots.replace(entry.getKey(), entry.getValue(), createStatistics(entry.getKey()));
+        }
+    }
 }
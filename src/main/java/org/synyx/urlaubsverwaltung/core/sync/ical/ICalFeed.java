@@ -0,0 +1,44 @@
+package org.synyx.urlaubsverwaltung.core.sync.ical;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Calendar in the iCalendar format, as provided by {@link ICalFeedService}.
+ */
+public final class ICalFeed {
+
+    private final String version;
+    private final byte[] content;
+
+    public ICalFeed(String version, byte[] content) {
+
+        this.version = version;
+        this.content = content;
+    }
+
+    String getVersion() {
+
+        return version;
+    }
+
+
+    /**
+     * @return  the entity tag of the calendar, changes whenever the content of the calendar changes
+     */
+    public String getETag() {
+
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+
+    /**
+     * @return  the calendar, encoded in UTF-8; must not be modified, because it is shared by all requests
+     */
+    public byte[] getContent() {
+
+        return content;
+    }
+}
@@ -0,0 +1,294 @@
+package org.synyx.urlaubsverwaltung.core.sync.ical;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.stereotype.Service;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriodDAO;
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.Period;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.core.sync.absence.Absence;
+import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.core.sync.absence.EventType;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+/**
+ * Provides the absences of a person, of the members of a department or of all active persons as subscribable
+ * calendars in the iCalendar format. The calendars contain the same events as the calendar synchronized via
+ * {@link org.synyx.urlaubsverwaltung.core.sync.CalendarSyncService}: allowed and waiting applications for leave and
+ * active sick notes, from the beginning of the last year until the end of the next year. As sick notes are health
+ * data, the caller decides whether a calendar contains them; calendars with and without sick notes are cached
+ * separately.
+ *
+ * <p>Each calendar is cached together with the version of its data, taken from the {@link DataVersionService} and
+ * the calendar settings. As long as the version does not change, polling clients are served the cached calendar
+ * without loading any absences; the calendar is regenerated on the first request after an absence of its scope has
+ * changed.</p>
+ */
+@Service
+public class ICalFeedService {
+
+    private static final String COMPANY_NAME = "Urlaubsverwaltung";
+
+    private final PersonService personService;
+    private final DepartmentService departmentService;
+    private final SettingsService settingsService;
+    private final AbsencePeriodDAO absencePeriodDAO;
+    private final DataVersionService dataVersionService;
+
+    private final ConcurrentMap<String, ICalFeed> feeds = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ICalFeedService(PersonService personService, DepartmentService departmentService,
+        SettingsService settingsService, AbsencePeriodDAO absencePeriodDAO, DataVersionService dataVersionService) {
+
+        this.personService = personService;
+        this.departmentService = departmentService;
+        this.settingsService = settingsService;
+        this.absencePeriodDAO = absencePeriodDAO;
+        this.dataVersionService = dataVersionService;
+    }
+
+    /**
+     * Get the calendar with the absences of the person with the given id.
+     *
+     * @param  personId  of the person to get the calendar for
+     * @param  withSickNotes  whether the calendar should contain the sick notes of the person
+     *
+     * @return  the calendar of the person or {@link Optional#empty()} if there is no person with the given id
+     */
+    public Optional<ICalFeed> getFeedOfPerson(Integer personId, boolean withSickNotes) {
+
+        AbsenceTimeConfiguration timeConfiguration = getTimeConfiguration();
+        String version = getVersion(timeConfiguration, withSickNotes,
+                dataVersionService.getVersionOfPerson(personId).getETag());
+        String scope = getScope("person-" + personId, withSickNotes);
+
+        ICalFeed cachedFeed = getCachedFeed(scope, version);
+
+        if (cachedFeed != null) {
+            return Optional.of(cachedFeed);
+        }
+
+        return personService.getPersonByID(personId)
+            .map(person ->
+                    createFeed(scope, version, person.getNiceName(), Collections.singletonList(person),
+                        timeConfiguration, withSickNotes));
+    }
+
+
+    /**
+     * Get the calendar with the absences of the active members of the department with the given id.
+     *
+     * @param  departmentId  of the department to get the calendar for
+     * @param  withSickNotes  whether the calendar should contain the sick notes of the members
+     *
+     * @return  the calendar of the department or {@link Optional#empty()} if there is no department with the given id
+     */
+    public Optional<ICalFeed> getFeedOfDepartment(Integer departmentId, boolean withSickNotes) {
+
+        AbsenceTimeConfiguration timeConfiguration = getTimeConfiguration();
+
+        Optional<Department> optionalDepartment = departmentService.getDepartmentById(departmentId);
+
+        if (!optionalDepartment.isPresent()) {
+            return Optional.empty();
+        }
+
+        Department department = optionalDepartment.get();
+        List<Person> members = getActive(department.getMembers());
+
+        // changes of the members and name of a department do not bump the versions of the persons
+        String membersVersion = members.stream()
+            .map(person -> person.getId() + ":" + dataVersionService.getVersionOfPerson(person.getId()).getETag())
+            .collect(Collectors.joining(","));
+        String version = getVersion(timeConfiguration, withSickNotes, department.getName(), membersVersion);
+        String scope = getScope("department-" + departmentId, withSickNotes);
+
+        ICalFeed cachedFeed = getCachedFeed(scope, version);
+
+        if (cachedFeed != null) {
+            return Optional.of(cachedFeed);
+        }
+
+        return Optional.of(createFeed(scope, version, department.getName(), members, timeConfiguration,
+                    withSickNotes));
+    }
+
+
+    /**
+     * Get the calendar with the absences of all active persons.
+     *
+     * @param  withSickNotes  whether the calendar should contain the sick notes of the persons
+     *
+     * @return  the calendar of the company
+     */
+    public ICalFeed getFeedOfCompany(boolean withSickNotes) {
+
+        AbsenceTimeConfiguration timeConfiguration = getTimeConfiguration();
+        String version = getVersion(timeConfiguration, withSickNotes,
+                dataVersionService.getGlobalVersion().getETag());
+        String scope = getScope("company", withSickNotes);
+
+        ICalFeed cachedFeed = getCachedFeed(scope, version);
+
+        if (cachedFeed != null) {
+            return cachedFeed;
+        }
+
+        return createFeed(scope, version, COMPANY_NAME, personService.getActivePersons(), timeConfiguration,
+                withSickNotes);
+    }
+
+
+    private AbsenceTimeConfiguration getTimeConfiguration() {
+
+        return new AbsenceTimeConfiguration(settingsService.getSettings().getCalendarSettings());
+    }
+
+
+    private static String getVersion(AbsenceTimeConfiguration timeConfiguration, boolean withSickNotes,
+        String... dataVersions) {
+
+        // the period of the calendar moves with the current year; calendars with and without sick notes must never
+        // share an entity tag
+        return DateMidnight.now().getYear() + "|" + timeConfiguration.getMorningStart() + "-"
+            + timeConfiguration.getNoonEnd() + "|" + withSickNotes + "|" + String.join("|", dataVersions);
+    }
+
+
+    private static String getScope(String scope, boolean withSickNotes) {
+
+        return withSickNotes ? scope : scope + "-without-sicknotes";
+    }
+
+
+    private ICalFeed getCachedFeed(String scope, String version) {
+
+        ICalFeed feed = feeds.get(scope);
+
+        return feed != null && feed.getVersion().equals(version) ? feed : null;
+    }
+
+
+    private static List<Person> getActive(List<Person> persons) {
+
+        return persons.stream().filter(person -> !person.hasRole(Role.INACTIVE)).collect(Collectors.toList());
+    }
+
+
+    private ICalFeed createFeed(String scope, String version, String name, List<Person> persons,
+        AbsenceTimeConfiguration timeConfiguration, boolean withSickNotes) {
+
+        ICalWriter writer = new ICalWriter(name, DateTime.now());
+
+        // an empty 'in' clause is not valid SQL
+        if (!persons.isEmpty()) {
+            Map<Integer, Person> personsById = persons.stream()
+                .collect(Collectors.toMap(Person::getId, Function.identity()));
+
+            int year = DateMidnight.now().getYear();
+
+            List<Object[]> rows = absencePeriodDAO.findByPersonsAndPeriod(
+                    persons.stream().map(Person::getId).collect(Collectors.toList()),
+                    DateUtil.getFirstDayOfYear(year - 1).toDate(), DateUtil.getLastDayOfYear(year + 1).toDate());
+
+            for (Object[] row : rows) {
+                Person person = personsById.get(((Number) row[0]).intValue());
+                AbsencePeriod period = AbsencePeriod.of(row, 1);
+
+                if (period.getType() == AbsencePeriod.Type.SICK_NOTE && !withSickNotes) {
+                    continue;
+                }
+
+                getEventType(period).ifPresent(eventType ->
+                        write(writer, person, period, eventType, timeConfiguration));
+            }
+        }
+
+        ICalFeed feed = new ICalFeed(version, writer.finish());
+
+        feeds.put(scope, feed);
+
+        return feed;
+    }
+
+
+    private static void write(ICalWriter writer, Person person, AbsencePeriod period, EventType eventType,
+        AbsenceTimeConfiguration timeConfiguration) {
+
+        Absence absence = new Absence(person,
+                new Period(period.getStartDate(), period.getEndDate(), period.getDayLength()), eventType,
+                timeConfiguration);
+
+        // the instants of the absence depend on the time zone, so the events are written from the local dates
+        LocalDate startDate = period.getStartDate().toLocalDate();
+
+        if (absence.isAllDay()) {
+            writer.writeAllDayEvent(getUid(period), absence.getEventSubject(), startDate,
+                period.getEndDate().toLocalDate().plusDays(1));
+        } else {
+            boolean morning = period.getDayLength() == DayLength.MORNING;
+
+            int startHour = morning ? timeConfiguration.getMorningStart() : timeConfiguration.getNoonStart();
+            int endHour = morning ? timeConfiguration.getMorningEnd() : timeConfiguration.getNoonEnd();
+
+            writer.writeEvent(getUid(period), absence.getEventSubject(),
+                startDate.toLocalDateTime(new LocalTime(startHour, 0)),
+                startDate.toLocalDateTime(new LocalTime(endHour, 0)));
+        }
+    }
+
+
+    private static Optional<EventType> getEventType(AbsencePeriod period) {
+
+        if (period.getType() == AbsencePeriod.Type.SICK_NOTE) {
+            return SickNoteStatus.ACTIVE.name().equals(period.getStatus()) ? Optional.of(EventType.SICKNOTE)
+                                                                           : Optional.empty();
+        }
+
+        if (ApplicationStatus.ALLOWED.name().equals(period.getStatus())) {
+            return Optional.of(EventType.ALLOWED_APPLICATION);
+        }
+
+        if (ApplicationStatus.WAITING.name().equals(period.getStatus())
+                || ApplicationStatus.TEMPORARY_ALLOWED.name().equals(period.getStatus())) {
+            return Optional.of(EventType.WAITING_APPLICATION);
+        }
+
+        return Optional.empty();
+    }
+
+
+    private static String getUid(AbsencePeriod period) {
+
+        String type = period.getType() == AbsencePeriod.Type.SICK_NOTE ? "sicknote" : "application";
+
+        return type + "-" + period.getId() + "@urlaubsverwaltung";
+    }
+}
@@ -0,0 +1,146 @@
+package org.synyx.urlaubsverwaltung.core.sync.ical;
+
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes absences as events of a calendar in the iCalendar format (RFC 5545).
+ */
+final class ICalWriter {
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * Maximum length of a content line in octets, excluding the line break. Longer lines are folded.
+     */
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter DATE = DateTimeFormat.forPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormat.forPattern("yyyyMMdd'T'HHmmss");
+
+    private final StringBuilder builder = new StringBuilder();
+    private final String timestamp;
+
+    /**
+     * Starts a calendar with the given name.
+     *
+     * @param  name  of the calendar, as shown by calendar clients
+     * @param  created  time the calendar is created at, used as time stamp of all events
+     */
+    ICalWriter(String name, DateTime created) {
+
+        // the time stamp is the only value in UTC
+        this.timestamp = DATE_TIME.withZoneUTC().print(created) + "Z";
+
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//synyx//Urlaubsverwaltung//DE");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    /**
+     * Writes an all day event.
+     *
+     * @param  uid  unique and persistent id of the event
+     * @param  summary  of the event
+     * @param  startDate  first day of the event
+     * @param  endDate  day after the last day of the event, as the end of an event is exclusive
+     */
+    void writeAllDayEvent(String uid, String summary, LocalDate startDate, LocalDate endDate) {
+
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + timestamp);
+        line("DTSTART;VALUE=DATE:" + DATE.print(startDate));
+        line("DTEND;VALUE=DATE:" + DATE.print(endDate));
+        line("SUMMARY:" + escape(summary));
+        line("END:VEVENT");
+    }
+
+
+    /**
+     * Writes an event in floating time, i.e. in the local time of the calendar client.
+     *
+     * @param  uid  unique and persistent id of the event
+     * @param  summary  of the event
+     * @param  start  local date and time the event starts at
+     * @param  end  local date and time the event ends at
+     */
+    void writeEvent(String uid, String summary, LocalDateTime start, LocalDateTime end) {
+
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + timestamp);
+        line("DTSTART:" + DATE_TIME.print(start));
+        line("DTEND:" + DATE_TIME.print(end));
+        line("SUMMARY:" + escape(summary));
+        line("END:VEVENT");
+    }
+
+
+    /**
+     * Ends the calendar.
+     *
+     * @return  the calendar, encoded in UTF-8
+     */
+    byte[] finish() {
+
+        line("END:VCALENDAR");
+
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    private void line(String content) {
+
+        int octets = 0;
+
+        for (int i = 0; i < content.length(); i += Character.charCount(content.codePointAt(i))) {
+            int codePoint = content.codePointAt(i);
+            int length = getUtf8Length(codePoint);
+
+            if (octets + length > MAX_LINE_OCTETS) {
+                // a folded line is continued with a single space, which counts for the length of the next line
+                builder.append(CRLF).append(' ');
+                octets = 1;
+            }
+
+            builder.appendCodePoint(codePoint);
+            octets += length;
+        }
+
+        builder.append(CRLF);
+    }
+
+
+    private static int getUtf8Length(int codePoint) {
+
+        if (codePoint < 0x80) {
+            return 1;
+        }
+
+        if (codePoint < 0x800) {
+            return 2;
+        }
+
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+
+    private static String escape(String text) {
+
+        return text.replace("\\", "\\\\")
+            .replace(";", "\\;")
+            .replace(",", "\\,")
+            .replace("\r\n", "\\n")
+            .replace("\n", "\\n");
+    }
+}
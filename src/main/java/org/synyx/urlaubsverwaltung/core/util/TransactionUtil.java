@@ -0,0 +1,39 @@
+package org.synyx.urlaubsverwaltung.core.util;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+/**
+ * Contains helper methods for keeping caches consistent with transactions.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+
+        // Hide constructor for util classes
+    }
+
+    /**
+     * Runs the given action, e.g. evicting a cache, immediately and, within a transaction, once more after the
+     * transaction has been committed. Until then, a concurrent request may have filled the cache again from the state
+     * before the commit.
+     *
+     * @param  action  to run now and after commit
+     */
+    public static void runNowAndAfterCommit(Runnable action) {
+
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                    @Override
+                    public void afterCommit() {
+
+                        action.run();
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.synyx.urlaubsverwaltung.core.version;
+
+/**
+ * Immutable state of a data version counter of {@link DataVersionService}.
+ */
+public final class DataVersion {
+
+    private final String instance;
+    private final long counter;
+
+    DataVersion(String instance, long counter) {
+
+        this.instance = instance;
+        this.counter = counter;
+    }
+
+    /**
+     * @return  the entity tag of the data, changes with every change of the data and with every restart
+     */
+    public String getETag() {
+
+        return "\"" + instance + "-" + counter + "\"";
+    }
+
+
+    DataVersion next() {
+
+        return new DataVersion(instance, counter + 1);
+    }
+}
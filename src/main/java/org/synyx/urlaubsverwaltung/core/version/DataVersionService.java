@@ -0,0 +1,105 @@
+package org.synyx.urlaubsverwaltung.core.version;
+
+import org.springframework.stereotype.Service;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.util.TransactionUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Counts the changes of the data provided by the REST API, so conditional requests can be answered without loading
+ * the data again.
+ *
+ * <p>There is a version per person, which is bumped whenever an application for leave, a sick note, the working time
+ * or the master data of the person changes, a version of the settings and a global version, which is bumped on every
+ * change of any person and on changes of the settings or departments. The versions are kept in memory only: they
+ * start over on restart, with a new instance id as part of the entity tags.</p>
+ */
+@Service
+public class DataVersionService {
+
+    private final DataVersion initialVersion = new DataVersion(Long.toString(System.currentTimeMillis(), 36), 0);
+
+    private final AtomicReference<DataVersion> globalVersion = new AtomicReference<>(initialVersion);
+    private final AtomicReference<DataVersion> settingsVersion = new AtomicReference<>(initialVersion);
+    private final ConcurrentMap<Integer, DataVersion> personVersions = new ConcurrentHashMap<>();
+
+    /**
+     * @return  the version of all the data
+     */
+    public DataVersion getGlobalVersion() {
+
+        return globalVersion.get();
+    }
+
+
+    /**
+     * @param  personId  of the person to get the version for
+     *
+     * @return  the version of the data of the person with the given id
+     */
+    public DataVersion getVersionOfPerson(Integer personId) {
+
+        return personVersions.getOrDefault(personId, initialVersion);
+    }
+
+
+    /**
+     * @return  the version of the settings
+     */
+    public DataVersion getVersionOfSettings() {
+
+        return settingsVersion.get();
+    }
+
+
+    /**
+     * Bumps the version of the given person and the global version, because data of the person has been changed.
+     *
+     * @param  person  whose data has been changed
+     */
+    public void bump(Person person) {
+
+        Integer personId = person.getId();
+
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            // a person that is not persisted yet cannot have been requested by id
+            if (personId != null) {
+                personVersions.compute(personId, (id, version) -> (version == null ? initialVersion : version).next());
+            }
+
+            bumpGlobalVersion();
+        });
+    }
+
+
+    /**
+     * Bumps the global version, because data not belonging to a single person has been changed.
+     */
+    public void bumpAll() {
+
+        TransactionUtil.runNowAndAfterCommit(this::bumpGlobalVersion);
+    }
+
+
+    /**
+     * Bumps the version of the settings and the global version, because the settings have been changed.
+     */
+    public void bumpSettings() {
+
+        TransactionUtil.runNowAndAfterCommit(() -> {
+            settingsVersion.updateAndGet(DataVersion::next);
+            bumpGlobalVersion();
+        });
+    }
+
+
+    private void bumpGlobalVersion() {
+
+        globalVersion.updateAndGet(DataVersion::next);
+    }
+}
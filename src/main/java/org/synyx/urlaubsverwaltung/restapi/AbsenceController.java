@@ -12,15 +12,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,14 +42,16 @@ public class AbsenceController {
     private final PersonService personService;
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
     AbsenceController(PersonService personService, ApplicationService applicationService,
-        SickNoteService sickNoteService) {
+        SickNoteService sickNoteService, DataVersionService dataVersionService) {
 
         this.personService = personService;
         this.applicationService = applicationService;
         this.sickNoteService = sickNoteService;
+        this.dataVersionService = dataVersionService;
     }
 
     @ApiOperation(
@@ -66,19 +71,17 @@ public class AbsenceController {
         Integer personId,
         @ApiParam(value = "Type of absences, vacation or sick notes", allowableValues = "VACATION, SICK_NOTE")
         @RequestParam(value = "type", required = false)
-        String type) {
+        String type, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getVersionOfPerson(personId))) {
+            return null;
+        }
 
         DateMidnight startDate = getStartDate(year, Optional.ofNullable(month));
         DateMidnight endDate = getEndDate(year, Optional.ofNullable(month));
-
-        Optional<Person> optionalPerson = personService.getPersonByID(personId);
-
-        if (!optionalPerson.isPresent()) {
-            throw new IllegalArgumentException("No person found for ID=" + personId);
-        }
+        Person person = getPerson(personId);
 
         List<DayAbsence> absences = new ArrayList<>();
-        Person person = optionalPerson.get();
 
         if (type == null || DayAbsence.Type.valueOf(type).equals(DayAbsence.Type.VACATION)) {
             absences.addAll(getVacations(startDate, endDate, person));
@@ -92,6 +95,66 @@ public class AbsenceController {
     }
 
 
+    @ApiOperation(
+        value = "Get all absences for a certain period and person as ranges of days",
+        notes = "Get all absences for a certain period and person, one entry per application for leave or sick note "
+            + "with start and end date clipped to the period. Omit the type to get vacation and sick notes at once."
+    )
+    @RequestMapping(value = "/absences", method = RequestMethod.GET, params = "format=compact")
+    public ResponseWrapper<AbsenceRangeList> personsAbsenceRanges(
+        @ApiParam(value = "Year to get the absences for", defaultValue = "2016")
+        @RequestParam("year")
+        String year,
+        @ApiParam(value = "Month of year to get the absences for")
+        @RequestParam(value = "month", required = false)
+        String month,
+        @ApiParam(value = "ID of the person")
+        @RequestParam("person")
+        Integer personId,
+        @ApiParam(value = "Type of absences, vacation or sick notes", allowableValues = "VACATION, SICK_NOTE")
+        @RequestParam(value = "type", required = false)
+        String type,
+        @ApiParam(value = "Format of the absences", allowableValues = "compact")
+        @RequestParam("format")
+        String format, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getVersionOfPerson(personId))) {
+            return null;
+        }
+
+        DateMidnight startDate = getStartDate(year, Optional.ofNullable(month));
+        DateMidnight endDate = getEndDate(year, Optional.ofNullable(month));
+        Person person = getPerson(personId);
+
+        List<AbsenceRange> absences = new ArrayList<>();
+
+        if (type == null || DayAbsence.Type.valueOf(type).equals(DayAbsence.Type.VACATION)) {
+            absences.addAll(AbsenceRange.ofApplications(
+                    applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person),
+                    startDate, endDate));
+        }
+
+        if (type == null || DayAbsence.Type.valueOf(type).equals(DayAbsence.Type.SICK_NOTE)) {
+            absences.addAll(AbsenceRange.ofSickNotes(
+                    sickNoteService.getByPersonAndPeriod(person, startDate, endDate), startDate, endDate));
+        }
+
+        return new ResponseWrapper<>(new AbsenceRangeList(absences));
+    }
+
+
+    private Person getPerson(Integer personId) {
+
+        Optional<Person> optionalPerson = personService.getPersonByID(personId);
+
+        if (!optionalPerson.isPresent()) {
+            throw new IllegalArgumentException("No person found for ID=" + personId);
+        }
+
+        return optionalPerson.get();
+    }
+
+
     private DateMidnight getStartDate(String year, Optional<String> optionalMonth) throws NumberFormatException {
 
         if (optionalMonth.isPresent()) {
@@ -116,28 +179,17 @@ public class AbsenceController {
 
         List<DayAbsence> absences = new ArrayList<>();
 
-        List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(start, end,
-                    person)
-                .stream()
-                .filter(application ->
-                            application.hasStatus(ApplicationStatus.WAITING)
-                            || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)
-                            || application.hasStatus(ApplicationStatus.ALLOWED))
-                .collect(Collectors.toList());
-
-        for (Application application : applications) {
-            DateMidnight startDate = application.getStartDate();
-            DateMidnight endDate = application.getEndDate();
-
-            DateMidnight day = startDate;
+        int startDay = EpochDay.of(start);
+        int endDay = EpochDay.of(end);
 
-            while (!day.isAfter(endDate)) {
-                if (!day.isBefore(start) && !day.isAfter(end)) {
-                    absences.add(new DayAbsence(day, application.getDayLength(), DayAbsence.Type.VACATION,
-                            application.getStatus().name(), application.getId()));
-                }
+        for (Application application : getActiveApplications(start, end, person)) {
+            // only the days within the requested period are relevant
+            int from = Math.max(EpochDay.of(application.getStartDate()), startDay);
+            int to = Math.min(EpochDay.of(application.getEndDate()), endDay);
 
-                day = day.plusDays(1);
+            for (int day = from; day <= to; day++) {
+                absences.add(new DayAbsence(day, application.getDayLength(), DayAbsence.Type.VACATION,
+                        application.getStatus().name(), application.getId()));
             }
         }
 
@@ -145,31 +197,45 @@ public class AbsenceController {
     }
 
 
-    private List<DayAbsence> getSickNotes(DateMidnight start, DateMidnight end, Person person) {
+    private List<Application> getActiveApplications(DateMidnight start, DateMidnight end, Person person) {
 
-        List<DayAbsence> absences = new ArrayList<>();
+        return applicationService.getApplicationsForACertainPeriodAndPerson(start, end, person)
+            .stream()
+            .filter(application ->
+                        application.hasStatus(ApplicationStatus.WAITING)
+                        || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)
+                        || application.hasStatus(ApplicationStatus.ALLOWED))
+            .collect(Collectors.toList());
+    }
 
-        List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, start, end)
-                .stream()
-                .filter(SickNote::isActive)
-                .collect(Collectors.toList());
 
-        for (SickNote sickNote : sickNotes) {
-            DateMidnight startDate = sickNote.getStartDate();
-            DateMidnight endDate = sickNote.getEndDate();
+    private List<DayAbsence> getSickNotes(DateMidnight start, DateMidnight end, Person person) {
+
+        List<DayAbsence> absences = new ArrayList<>();
 
-            DateMidnight day = startDate;
+        int startDay = EpochDay.of(start);
+        int endDay = EpochDay.of(end);
 
-            while (!day.isAfter(endDate)) {
-                if (!day.isBefore(start) && !day.isAfter(end)) {
-                    absences.add(new DayAbsence(day, sickNote.getDayLength(), DayAbsence.Type.SICK_NOTE, "ACTIVE",
-                            sickNote.getId()));
-                }
+        for (SickNote sickNote : getActiveSickNotes(start, end, person)) {
+            // only the days within the requested period are relevant
+            int from = Math.max(EpochDay.of(sickNote.getStartDate()), startDay);
+            int to = Math.min(EpochDay.of(sickNote.getEndDate()), endDay);
 
-                day = day.plusDays(1);
+            for (int day = from; day <= to; day++) {
+                absences.add(new DayAbsence(day, sickNote.getDayLength(), DayAbsence.Type.SICK_NOTE, "ACTIVE",
+                        sickNote.getId()));
             }
         }
 
         return absences;
     }
+
+
+    private List<SickNote> getActiveSickNotes(DateMidnight start, DateMidnight end, Person person) {
+
+        return sickNoteService.getByPersonAndPeriod(person, start, end)
+            .stream()
+            .filter(SickNote::isActive)
+            .collect(Collectors.toList());
+    }
 }
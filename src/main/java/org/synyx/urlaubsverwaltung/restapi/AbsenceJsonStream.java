@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.MediaType;
+
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+
+/**
+ * Writes absences directly to the response, one by one, in the same format as a {@link ResponseWrapper} containing
+ * the list of absences. Used to export absences of long periods without holding all of them in memory.
+ */
+class AbsenceJsonStream {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonGenerator generator;
+
+    /**
+     * Starts the JSON document, i.e. the absences are written to an array with the given name.
+     *
+     * @param  response  to write the absences to
+     * @param  fieldName  name of the array of absences, e.g. {@code vacations}
+     */
+    AbsenceJsonStream(HttpServletResponse response, String fieldName) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+
+        this.generator = MAPPER.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("response");
+        generator.writeArrayFieldStart(fieldName);
+    }
+
+    /**
+     * Writes the given absence.
+     *
+     * @param  record  to write
+     *
+     * @throws  UncheckedIOException  if writing fails, e.g. because the client closed the connection
+     */
+    void write(AbsenceRecord record) {
+
+        try {
+            generator.writeObject(new AbsenceResponse(record));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+
+    /**
+     * Ends the JSON document. Not called if writing the absences fails, so that the client can not mistake an
+     * incomplete export for a complete one.
+     */
+    void finish() throws IOException {
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+    }
+}
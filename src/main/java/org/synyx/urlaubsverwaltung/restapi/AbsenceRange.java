@@ -0,0 +1,141 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.joda.time.DateMidnight;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Represents an absence for a range of consecutive days, i.e. the compact form of the {@link DayAbsence}s of an
+ * application for leave or a sick note.
+ */
+class AbsenceRange {
+
+    private final String start;
+    private final String end;
+    private final BigDecimal dayLength;
+    private final String type;
+    private final String status;
+    private final String href;
+
+    AbsenceRange(int startEpochDay, int endEpochDay, DayLength dayLength, DayAbsence.Type type, String status,
+        Integer id) {
+
+        // same as formatting the dates with RestApiDateFormat.PATTERN
+        this.start = EpochDay.toIsoString(startEpochDay);
+        this.end = EpochDay.toIsoString(endEpochDay);
+        this.dayLength = dayLength.getDuration();
+        this.type = type.name();
+        this.status = status;
+        this.href = id == null ? "" : id.toString();
+    }
+
+    /**
+     * Converts the waiting, temporary allowed and allowed applications for leave to ranges clipped to the given
+     * period.
+     *
+     * @param  applications  to convert
+     * @param  start  of the period
+     * @param  end  of the period
+     *
+     * @return  the ranges of the relevant applications within the period
+     */
+    static List<AbsenceRange> ofApplications(List<Application> applications, DateMidnight start, DateMidnight end) {
+
+        List<AbsenceRange> ranges = new ArrayList<>();
+
+        int startDay = EpochDay.of(start);
+        int endDay = EpochDay.of(end);
+
+        for (Application application : applications) {
+            boolean relevant = application.hasStatus(ApplicationStatus.WAITING)
+                || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)
+                || application.hasStatus(ApplicationStatus.ALLOWED);
+
+            int from = Math.max(EpochDay.of(application.getStartDate()), startDay);
+            int to = Math.min(EpochDay.of(application.getEndDate()), endDay);
+
+            if (relevant && from <= to) {
+                ranges.add(new AbsenceRange(from, to, application.getDayLength(), DayAbsence.Type.VACATION,
+                        application.getStatus().name(), application.getId()));
+            }
+        }
+
+        return ranges;
+    }
+
+
+    /**
+     * Converts the active sick notes to ranges clipped to the given period.
+     *
+     * @param  sickNotes  to convert
+     * @param  start  of the period
+     * @param  end  of the period
+     *
+     * @return  the ranges of the active sick notes within the period
+     */
+    static List<AbsenceRange> ofSickNotes(List<SickNote> sickNotes, DateMidnight start, DateMidnight end) {
+
+        List<AbsenceRange> ranges = new ArrayList<>();
+
+        int startDay = EpochDay.of(start);
+        int endDay = EpochDay.of(end);
+
+        for (SickNote sickNote : sickNotes) {
+            int from = Math.max(EpochDay.of(sickNote.getStartDate()), startDay);
+            int to = Math.min(EpochDay.of(sickNote.getEndDate()), endDay);
+
+            if (sickNote.isActive() && from <= to) {
+                ranges.add(new AbsenceRange(from, to, sickNote.getDayLength(), DayAbsence.Type.SICK_NOTE, "ACTIVE",
+                        sickNote.getId()));
+            }
+        }
+
+        return ranges;
+    }
+
+
+    public String getStart() {
+
+        return start;
+    }
+
+
+    public String getEnd() {
+
+        return end;
+    }
+
+
+    public BigDecimal getDayLength() {
+
+        return dayLength;
+    }
+
+
+    public String getType() {
+
+        return type;
+    }
+
+
+    public String getStatus() {
+
+        return status;
+    }
+
+
+    public String getHref() {
+
+        return href;
+    }
+}
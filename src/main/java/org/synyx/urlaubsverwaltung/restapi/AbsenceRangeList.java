@@ -0,0 +1,19 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import java.util.List;
+
+
+class AbsenceRangeList {
+
+    private final List<AbsenceRange> absences;
+
+    AbsenceRangeList(List<AbsenceRange> absences) {
+
+        this.absences = absences;
+    }
+
+    public List<AbsenceRange> getAbsences() {
+
+        return absences;
+    }
+}
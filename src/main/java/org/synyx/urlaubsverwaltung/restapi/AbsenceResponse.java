@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.restapi;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteType;
 
@@ -49,6 +50,18 @@ class AbsenceResponse {
         this.typeName = sickNoteType.getDisplayName();
     }
 
+
+    AbsenceResponse(AbsenceRecord record) {
+
+        this.from = record.getStartDate().toString(RestApiDateFormat.PATTERN);
+        this.to = record.getEndDate().toString(RestApiDateFormat.PATTERN);
+        this.dayLength = record.getDayLength().getDuration();
+        this.person = new PersonResponse(record.getPerson());
+        this.status = record.getStatus();
+        this.type = record.getCategory();
+        this.typeName = record.getTypeName();
+    }
+
     public String getFrom() {
 
         return from;
@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import com.wordnik.swagger.annotations.Api;
+import com.wordnik.swagger.annotations.ApiOperation;
+import com.wordnik.swagger.annotations.ApiParam;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogEntry;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * Provides the change log, so that other systems can synchronize their data incrementally, see
+ * {@link ChangeLogService}.
+ */
+@Api(value = "Changes", description = "Get the changes of vacations, sick notes, overtime, accounts and persons")
+@RestController("restApiChangeController")
+@RequestMapping("/api")
+public class ChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogService changeLogService;
+
+    @Autowired
+    ChangeController(ChangeLogService changeLogService) {
+
+        this.changeLogService = changeLogService;
+    }
+
+    @ApiOperation(
+        value = "Get the changes since a certain change",
+        notes = "Get the changes of vacations, sick notes, overtime, holidays accounts and persons since a certain "
+            + "change, in the order they have been committed. The response contains the cursor to get the following "
+            + "changes with. "
+            + "Information only reachable for users with role office."
+    )
+    @RequestMapping(value = "/changes", method = RequestMethod.GET)
+    public ResponseWrapper<ChangeListResponse> changes(
+        @ApiParam(value = "Cursor of the last known change, 0 to get all changes", defaultValue = "0")
+        @RequestParam(value = "since", defaultValue = "0")
+        Integer since,
+        @ApiParam(value = "Maximum number of changes, at most " + MAX_LIMIT, defaultValue = "500")
+        @RequestParam(value = "limit", defaultValue = "500")
+        Integer limit) {
+
+        if (since < 0) {
+            throw new IllegalArgumentException("Parameter 'since' must not be negative");
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<ChangeLogEntry> changes = changeLogService.getChanges(since, limit);
+
+        List<ChangeResponse> changeResponses = changes.stream().map(ChangeResponse::new).collect(Collectors.toList());
+
+        Integer next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequenceNumber();
+
+        return new ResponseWrapper<>(new ChangeListResponse(changeResponses, next));
+    }
+}
@@ -0,0 +1,47 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import java.util.List;
+
+
+/**
+ * Changes read from the change log, together with the cursor to get the following changes with.
+ */
+class ChangeListResponse {
+
+    private List<ChangeResponse> changes;
+
+    private Integer next;
+
+    ChangeListResponse(List<ChangeResponse> changes, Integer next) {
+
+        this.changes = changes;
+        this.next = next;
+    }
+
+    public List<ChangeResponse> getChanges() {
+
+        return changes;
+    }
+
+
+    public void setChanges(List<ChangeResponse> changes) {
+
+        this.changes = changes;
+    }
+
+
+    /**
+     * @return  cursor to get the following changes with, i.e. the id of the last change or the given cursor if there
+     *          are no new changes
+     */
+    public Integer getNext() {
+
+        return next;
+    }
+
+
+    public void setNext(Integer next) {
+
+        this.next = next;
+    }
+}
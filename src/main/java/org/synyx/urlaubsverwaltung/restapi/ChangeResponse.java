@@ -0,0 +1,109 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogEntry;
+
+
+/**
+ * Change of an entity, see {@link ChangeLogEntry}.
+ */
+class ChangeResponse {
+
+    private Integer id;
+
+    private String created;
+
+    private String type;
+
+    private String action;
+
+    private Integer entityId;
+
+    private Integer personId;
+
+    ChangeResponse(ChangeLogEntry entry) {
+
+        this.id = entry.getSequenceNumber();
+        this.created = entry.getCreated().toString();
+        this.type = entry.getType().name();
+        this.action = entry.getAction();
+        this.entityId = entry.getEntityId();
+        this.personId = entry.getPersonId();
+    }
+
+    /**
+     * @return  the position of the change in the change log
+     */
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    public void setId(Integer id) {
+
+        this.id = id;
+    }
+
+
+    /**
+     * @return  the time of the change in ISO 8601 format
+     */
+    public String getCreated() {
+
+        return created;
+    }
+
+
+    public void setCreated(String created) {
+
+        this.created = created;
+    }
+
+
+    public String getType() {
+
+        return type;
+    }
+
+
+    public void setType(String type) {
+
+        this.type = type;
+    }
+
+
+    public String getAction() {
+
+        return action;
+    }
+
+
+    public void setAction(String action) {
+
+        this.action = action;
+    }
+
+
+    public Integer getEntityId() {
+
+        return entityId;
+    }
+
+
+    public void setEntityId(Integer entityId) {
+
+        this.entityId = entityId;
+    }
+
+
+    public Integer getPersonId() {
+
+        return personId;
+    }
+
+
+    public void setPersonId(Integer personId) {
+
+        this.personId = personId;
+    }
+}
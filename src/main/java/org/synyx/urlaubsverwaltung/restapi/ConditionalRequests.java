@@ -0,0 +1,90 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.springframework.http.HttpHeaders;
+
+import org.springframework.web.context.request.ServletWebRequest;
+
+import org.synyx.urlaubsverwaltung.core.version.DataVersion;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+
+/**
+ * Answers conditional requests of the REST API by the entity tag of a {@link DataVersion}, so unchanged data is
+ * neither loaded nor transferred again.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+
+        // Hide constructor for util classes
+    }
+
+    /**
+     * Sets the entity tag of the given version on the response and checks it against the {@code If-None-Match} header
+     * of the request. If the data has not been modified, the response status is set to 304 and the handler has to
+     * return {@code null} without loading the data.
+     *
+     * @param  request  to check
+     * @param  version  of the requested data
+     *
+     * @return  true if the requested data has not been modified since the client got it, else false
+     */
+    static boolean isNotModified(ServletWebRequest request, DataVersion version) {
+
+        return isNotModified(request, version.getETag());
+    }
+
+
+    /**
+     * Same as {@link #isNotModified(ServletWebRequest, DataVersion)} for data with an entity tag of its own.
+     *
+     * @param  request  to check
+     * @param  eTag  of the requested data
+     *
+     * @return  true if the requested data has not been modified since the client got it, else false
+     */
+    static boolean isNotModified(ServletWebRequest request, String eTag) {
+
+        // browsers may store the response, but have to revalidate it on every use
+        return isNotModified(request, eTag, "private, no-cache");
+    }
+
+
+    /**
+     * Same as {@link #isNotModified(ServletWebRequest, String)} for data that changes rarely enough that browsers may
+     * use a stored response for the given time without revalidating it.
+     *
+     * @param  request  to check
+     * @param  eTag  of the requested data
+     * @param  maxAgeInSeconds  time a stored response may be used without revalidation
+     *
+     * @return  true if the requested data has not been modified since the client got it, else false
+     */
+    static boolean isNotModified(ServletWebRequest request, String eTag, long maxAgeInSeconds) {
+
+        return isNotModified(request, eTag, "private, max-age=" + maxAgeInSeconds);
+    }
+
+
+    /**
+     * @param  versions  the requested data depends on
+     *
+     * @return  an entity tag that changes as soon as one of the given versions changes
+     */
+    static String getETag(DataVersion... versions) {
+
+        return Arrays.stream(versions)
+            .map(version -> version.getETag().replace("\"", ""))
+            .collect(Collectors.joining("+", "\"", "\""));
+    }
+
+
+    private static boolean isNotModified(ServletWebRequest request, String eTag, String cacheControl) {
+
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        return request.checkNotModified(eTag);
+    }
+}
@@ -1,8 +1,7 @@
 package org.synyx.urlaubsverwaltung.restapi;
 
-import org.joda.time.DateMidnight;
-
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
 
 import java.math.BigDecimal;
 
@@ -26,9 +25,10 @@ class DayAbsence {
     private final String status;
     private final String href;
 
-    DayAbsence(DateMidnight date, DayLength dayLength, DayAbsence.Type type, String status, Integer id) {
+    DayAbsence(int epochDay, DayLength dayLength, DayAbsence.Type type, String status, Integer id) {
 
-        this.date = date.toString(RestApiDateFormat.PATTERN);
+        // same as formatting the date with RestApiDateFormat.PATTERN
+        this.date = EpochDay.toIsoString(epochDay);
         this.dayLength = dayLength.getDuration();
         this.type = type.name();
         this.status = status;
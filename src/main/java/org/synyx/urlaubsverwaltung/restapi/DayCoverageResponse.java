@@ -0,0 +1,64 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.synyx.urlaubsverwaltung.core.department.DayCoverage;
+
+import java.math.BigDecimal;
+
+
+/**
+ * Number of absent members of a department on a certain day.
+ */
+class DayCoverageResponse {
+
+    private final String date;
+    private final int vacation;
+    private final int waiting;
+    private final int sick;
+    private final int absent;
+    private final BigDecimal absentRatio;
+
+    DayCoverageResponse(DayCoverage dayCoverage) {
+
+        this.date = dayCoverage.getDate().toString(RestApiDateFormat.PATTERN);
+        this.vacation = dayCoverage.getVacation();
+        this.waiting = dayCoverage.getWaiting();
+        this.sick = dayCoverage.getSick();
+        this.absent = dayCoverage.getAbsent();
+        this.absentRatio = dayCoverage.getAbsentRatio();
+    }
+
+    public String getDate() {
+
+        return date;
+    }
+
+
+    public int getVacation() {
+
+        return vacation;
+    }
+
+
+    public int getWaiting() {
+
+        return waiting;
+    }
+
+
+    public int getSick() {
+
+        return sick;
+    }
+
+
+    public int getAbsent() {
+
+        return absent;
+    }
+
+
+    public BigDecimal getAbsentRatio() {
+
+        return absentRatio;
+    }
+}
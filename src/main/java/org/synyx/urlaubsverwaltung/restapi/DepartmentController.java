@@ -2,14 +2,26 @@ package org.synyx.urlaubsverwaltung.restapi;
 
 import com.wordnik.swagger.annotations.Api;
 import com.wordnik.swagger.annotations.ApiOperation;
+import com.wordnik.swagger.annotations.ApiParam;
+
+import org.joda.time.DateMidnight;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.security.access.AccessDeniedException;
+
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.security.SessionService;
 
 import java.util.stream.Collectors;
 
@@ -25,11 +37,16 @@ public class DepartmentController {
     private static final String ROOT_URL = "/departments";
 
     private final DepartmentService departmentService;
+    private final DepartmentCoverageService departmentCoverageService;
+    private final SessionService sessionService;
 
     @Autowired
-    DepartmentController(DepartmentService departmentService) {
+    DepartmentController(DepartmentService departmentService, DepartmentCoverageService departmentCoverageService,
+        SessionService sessionService) {
 
         this.departmentService = departmentService;
+        this.departmentCoverageService = departmentCoverageService;
+        this.sessionService = sessionService;
     }
 
     @ApiOperation(value = "Get all departments of the application", notes = "Get all departments of the application")
@@ -42,4 +59,43 @@ public class DepartmentController {
                         .map(DepartmentResponse::new)
                         .collect(Collectors.toList())));
     }
+
+
+    @ApiOperation(
+        value = "Get the number of absent members of a department per day",
+        notes = "Get the number of members of a department with allowed vacation, waiting vacation or sick note for "
+            + "each day of a year or month. Information only reachable for users with role boss or office and for "
+            + "department heads and second stage authorities of the department."
+    )
+    @RequestMapping(value = ROOT_URL + "/{id}/coverage", method = RequestMethod.GET)
+    public ResponseWrapper<DepartmentCoverageResponse> coverage(
+        @ApiParam(value = "ID of the department")
+        @PathVariable("id")
+        Integer departmentId,
+        @ApiParam(value = "Year to get the coverage for", defaultValue = "2016")
+        @RequestParam("year")
+        Integer year,
+        @ApiParam(value = "Month of year to get the coverage for")
+        @RequestParam(value = "month", required = false)
+        Integer month) {
+
+        Department department = departmentService.getDepartmentById(departmentId).orElseThrow(() ->
+                    new IllegalArgumentException("No department found for ID=" + departmentId));
+
+        Person signedInUser = sessionService.getSignedInUser();
+
+        if (!departmentService.getManagedDepartments(signedInUser).contains(department)) {
+            throw new AccessDeniedException(String.format(
+                    "User '%s' has not the correct permissions to see the coverage of department '%s'",
+                    signedInUser.getLoginName(), department.getName()));
+        }
+
+        DateMidnight startDate = month == null ? DateUtil.getFirstDayOfYear(year)
+                                               : DateUtil.getFirstDayOfMonth(year, month);
+        DateMidnight endDate = month == null ? DateUtil.getLastDayOfYear(year)
+                                             : DateUtil.getLastDayOfMonth(year, month);
+
+        return new ResponseWrapper<>(new DepartmentCoverageResponse(
+                    departmentCoverageService.getCoverage(department, startDate, endDate)));
+    }
 }
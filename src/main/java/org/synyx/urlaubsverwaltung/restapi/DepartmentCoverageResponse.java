@@ -0,0 +1,33 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * Number of absent members of a department for each day of a period.
+ */
+class DepartmentCoverageResponse {
+
+    private final int members;
+    private final List<DayCoverageResponse> days;
+
+    DepartmentCoverageResponse(DepartmentCoverage coverage) {
+
+        this.members = coverage.getMembers();
+        this.days = coverage.getDays().stream().map(DayCoverageResponse::new).collect(Collectors.toList());
+    }
+
+    public int getMembers() {
+
+        return members;
+    }
+
+
+    public List<DayCoverageResponse> getDays() {
+
+        return days;
+    }
+}
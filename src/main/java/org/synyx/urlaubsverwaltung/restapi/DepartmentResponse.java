@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
  */
 class DepartmentResponse {
 
+    private Integer id;
     private String name;
     private String description;
     private String lastModification;
@@ -19,6 +20,7 @@ class DepartmentResponse {
 
     DepartmentResponse(Department department) {
 
+        this.id = department.getId();
         this.name = department.getName();
         this.description = department.getName();
         this.lastModification = department.getLastModification().toString(RestApiDateFormat.PATTERN);
@@ -38,6 +40,18 @@ class DepartmentResponse {
         this.departmentHeads = new PersonListResponse(departmentHeadsResponses);
     }
 
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    public void setId(Integer id) {
+
+        this.id = id;
+    }
+
+
     public String getName() {
 
         return name;
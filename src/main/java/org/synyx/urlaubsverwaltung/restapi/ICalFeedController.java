@@ -0,0 +1,121 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import com.wordnik.swagger.annotations.Api;
+import com.wordnik.swagger.annotations.ApiOperation;
+import com.wordnik.swagger.annotations.ApiParam;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.sync.ical.ICalFeed;
+import org.synyx.urlaubsverwaltung.core.sync.ical.ICalFeedService;
+import org.synyx.urlaubsverwaltung.security.SessionService;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Provides the absences as calendars in the iCalendar format, to be subscribed to by calendar clients, see
+ * {@link ICalFeedService}.
+ *
+ * <p>Like the sick note API, the calendars only contain sick notes for the office; other users only get their own sick
+ * notes in their own calendar.</p>
+ */
+@Api(value = "Calendars", description = "Get the absences as subscribable calendars in the iCalendar format")
+@RestController("restApiICalFeedController")
+@RequestMapping("/api")
+public class ICalFeedController {
+
+    private static final String ROOT_URL = "/calendar";
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final ICalFeedService iCalFeedService;
+    private final SessionService sessionService;
+
+    @Autowired
+    ICalFeedController(ICalFeedService iCalFeedService, SessionService sessionService) {
+
+        this.iCalFeedService = iCalFeedService;
+        this.sessionService = sessionService;
+    }
+
+    @ApiOperation(
+        value = "Get the absences of a person as calendar",
+        notes = "Get the allowed and waiting vacations and the sick notes of a person from the beginning of the last "
+            + "year until the end of the next year in the iCalendar format. The sick notes are only contained if the "
+            + "signed in user has the role office or is the person."
+    )
+    @RequestMapping(value = ROOT_URL + "/persons/{id}/absences.ics", method = RequestMethod.GET)
+    public ResponseEntity<byte[]> personCalendar(
+        @ApiParam(value = "ID of the person")
+        @PathVariable("id")
+        Integer personId, ServletWebRequest request) {
+
+        Person signedInUser = sessionService.getSignedInUser();
+        boolean withSickNotes = signedInUser.hasRole(Role.OFFICE) || signedInUser.getId().equals(personId);
+
+        ICalFeed feed = iCalFeedService.getFeedOfPerson(personId, withSickNotes).orElseThrow(() ->
+                    new IllegalArgumentException("No person found for ID=" + personId));
+
+        return toResponse(feed, request);
+    }
+
+
+    @ApiOperation(
+        value = "Get the absences of the members of a department as calendar",
+        notes = "Get the allowed and waiting vacations and the sick notes of the active members of a department from "
+            + "the beginning of the last year until the end of the next year in the iCalendar format. The sick notes "
+            + "are only contained if the signed in user has the role office."
+    )
+    @RequestMapping(value = ROOT_URL + "/departments/{id}/absences.ics", method = RequestMethod.GET)
+    public ResponseEntity<byte[]> departmentCalendar(
+        @ApiParam(value = "ID of the department")
+        @PathVariable("id")
+        Integer departmentId, ServletWebRequest request) {
+
+        ICalFeed feed = iCalFeedService.getFeedOfDepartment(departmentId, isOffice()).orElseThrow(() ->
+                    new IllegalArgumentException("No department found for ID=" + departmentId));
+
+        return toResponse(feed, request);
+    }
+
+
+    @ApiOperation(
+        value = "Get the absences of all persons as calendar",
+        notes = "Get the allowed and waiting vacations and the sick notes of all active persons from the beginning of "
+            + "the last year until the end of the next year in the iCalendar format. The sick notes are only "
+            + "contained if the signed in user has the role office."
+    )
+    @RequestMapping(value = ROOT_URL + "/absences.ics", method = RequestMethod.GET)
+    public ResponseEntity<byte[]> companyCalendar(ServletWebRequest request) {
+
+        return toResponse(iCalFeedService.getFeedOfCompany(isOffice()), request);
+    }
+
+
+    private boolean isOffice() {
+
+        return sessionService.getSignedInUser().hasRole(Role.OFFICE);
+    }
+
+
+    private static ResponseEntity<byte[]> toResponse(ICalFeed feed, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, feed.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().contentType(TEXT_CALENDAR).body(feed.getContent());
+    }
+}
@@ -0,0 +1,115 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import com.wordnik.swagger.annotations.Api;
+import com.wordnik.swagger.annotations.ApiOperation;
+import com.wordnik.swagger.annotations.ApiParam;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import org.synyx.urlaubsverwaltung.core.calendar.OverlapCalendar;
+import org.synyx.urlaubsverwaltung.core.calendar.OverlapService;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Provides the days of a period that are already blocked by applications for leave or sick notes, so that a client is
+ * able to show them before applying for leave instead of checking every candidate period separately.
+ */
+@Api(value = "Overlaps", description = "Get the days of a certain period that are blocked by absences")
+@RestController("restApiOverlapController")
+@RequestMapping("/api")
+public class OverlapController {
+
+    /**
+     * Maximum number of days of the requested period, as the response contains every single day.
+     */
+    static final int MAX_DAYS = 366;
+
+    private final PersonService personService;
+    private final OverlapService overlapService;
+
+    @Autowired
+    OverlapController(PersonService personService, OverlapService overlapService) {
+
+        this.personService = personService;
+        this.overlapService = overlapService;
+    }
+
+    @ApiOperation(
+        value = "Get the free, partly blocked and fully blocked days for a certain period and person",
+        notes = "A day is partly blocked if only the morning or the noon is blocked by waiting or allowed applications "
+            + "for leave or by active sick notes. The period may contain at most " + MAX_DAYS + " days."
+    )
+    @RequestMapping(value = "/overlaps", method = RequestMethod.GET)
+    public ResponseWrapper<OverlapDaysResponse> overlaps(
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam("from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-01-31")
+        @RequestParam("to")
+        String to,
+        @ApiParam(value = "ID of the person")
+        @RequestParam("person")
+        Integer personId) {
+
+        DateTimeFormatter fmt = DateTimeFormat.forPattern(RestApiDateFormat.PATTERN);
+        DateMidnight startDate = DateMidnight.parse(from, fmt);
+        DateMidnight endDate = DateMidnight.parse(to, fmt);
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Parameter 'from' must be before or equals to 'to' parameter");
+        }
+
+        if (EpochDay.of(endDate) - EpochDay.of(startDate) + 1 > MAX_DAYS) {
+            throw new IllegalArgumentException("Period must not contain more than " + MAX_DAYS + " days");
+        }
+
+        Optional<Person> person = personService.getPersonByID(personId);
+
+        if (!person.isPresent()) {
+            throw new IllegalArgumentException("No person found for ID=" + personId);
+        }
+
+        OverlapCalendar overlapCalendar = overlapService.getOverlapCalendar(person.get(), startDate, endDate);
+
+        List<String> freeDays = new ArrayList<>();
+        List<String> partlyBlockedDays = new ArrayList<>();
+        List<String> fullyBlockedDays = new ArrayList<>();
+
+        for (int day = EpochDay.of(startDate); day <= EpochDay.of(endDate); day++) {
+            // same as formatting the date with RestApiDateFormat.PATTERN
+            String date = EpochDay.toIsoString(day);
+
+            switch (overlapCalendar.getOverlapCase(day)) {
+                case FULLY_OVERLAPPING:
+                    fullyBlockedDays.add(date);
+                    break;
+
+                case PARTLY_OVERLAPPING:
+                    partlyBlockedDays.add(date);
+                    break;
+
+                default:
+                    freeDays.add(date);
+                    break;
+            }
+        }
+
+        return new ResponseWrapper<>(new OverlapDaysResponse(freeDays, partlyBlockedDays, fullyBlockedDays));
+    }
+}
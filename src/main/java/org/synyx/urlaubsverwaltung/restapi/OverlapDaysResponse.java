@@ -0,0 +1,39 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import java.util.List;
+
+
+/**
+ * Days of a period grouped by how they are blocked by existent absences, formatted with
+ * {@link RestApiDateFormat#PATTERN}.
+ */
+class OverlapDaysResponse {
+
+    private final List<String> freeDays;
+    private final List<String> partlyBlockedDays;
+    private final List<String> fullyBlockedDays;
+
+    OverlapDaysResponse(List<String> freeDays, List<String> partlyBlockedDays, List<String> fullyBlockedDays) {
+
+        this.freeDays = freeDays;
+        this.partlyBlockedDays = partlyBlockedDays;
+        this.fullyBlockedDays = fullyBlockedDays;
+    }
+
+    public List<String> getFreeDays() {
+
+        return freeDays;
+    }
+
+
+    public List<String> getPartlyBlockedDays() {
+
+        return partlyBlockedDays;
+    }
+
+
+    public List<String> getFullyBlockedDays() {
+
+        return fullyBlockedDays;
+    }
+}
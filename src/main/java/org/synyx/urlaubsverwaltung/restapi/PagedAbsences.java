@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.format.DateTimeFormat;
+
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+
+import java.util.List;
+
+
+/**
+ * Handles the parameters of the paged and streamed absences of {@link VacationController} and
+ * {@link SickNoteController}.
+ */
+final class PagedAbsences {
+
+    static final int MAX_LIMIT = 1000;
+
+    private PagedAbsences() {
+
+        // Hide constructor for util classes
+    }
+
+    static DateMidnight parseDate(String date) {
+
+        return DateTimeFormat.forPattern(RestApiDateFormat.PATTERN).parseDateTime(date).toDateMidnight();
+    }
+
+
+    static void validatePeriod(DateMidnight startDate, DateMidnight endDate) {
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Parameter 'from' must be before or equals to 'to' parameter");
+        }
+    }
+
+
+    static void validateLimit(int limit) {
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+
+    /**
+     * @param  after  cursor given by the client, may be {@code null} to get the first page
+     *
+     * @return  the parsed cursor
+     */
+    static AbsenceCursor parseCursor(String after) {
+
+        return after == null ? AbsenceCursor.FIRST : AbsenceCursor.parse(after);
+    }
+
+
+    /**
+     * @param  page  the absences of the current page
+     * @param  limit  requested size of the page
+     *
+     * @return  cursor of the next page or {@code null} if there is no next page
+     */
+    static String getNextCursor(List<AbsenceRecord> page, int limit) {
+
+        if (page.size() < limit) {
+            return null;
+        }
+
+        return AbsenceCursor.of(page.get(page.size() - 1)).toString();
+    }
+}
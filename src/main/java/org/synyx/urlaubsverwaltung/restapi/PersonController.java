@@ -10,9 +10,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,11 +33,13 @@ public class PersonController {
     private static final String ROOT_URL = "/persons";
 
     private final PersonService personService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    PersonController(PersonService personService) {
+    PersonController(PersonService personService, DataVersionService dataVersionService) {
 
         this.personService = personService;
+        this.dataVersionService = dataVersionService;
     }
 
     @ApiOperation(
@@ -45,7 +49,11 @@ public class PersonController {
     public ResponseWrapper<PersonListResponse> persons(
         @ApiParam(value = "LDAP Login")
         @RequestParam(value = "ldap", required = false)
-        String ldapName) {
+        String ldapName, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
 
         List<Person> persons = new ArrayList<>();
 
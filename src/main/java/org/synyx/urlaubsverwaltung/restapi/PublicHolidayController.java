@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
@@ -22,10 +23,13 @@ import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.core.util.DateUtil;
+import org.synyx.urlaubsverwaltung.core.version.DataVersion;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
@@ -37,23 +41,33 @@ import java.util.stream.Collectors;
 @RequestMapping("/api")
 public class PublicHolidayController {
 
+    /**
+     * Time the public holidays of the system defaults may be used by clients without revalidation.
+     */
+    private static final long MAX_AGE_IN_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
     private final PublicHolidaysService publicHolidaysService;
     private final PersonService personService;
     private final WorkingTimeService workingTimeService;
     private final SettingsService settingsService;
+    private final DataVersionService dataVersionService;
 
     @Autowired
     public PublicHolidayController(PublicHolidaysService publicHolidaysService, PersonService personService,
-        WorkingTimeService workingTimeService, SettingsService settingsService) {
+        WorkingTimeService workingTimeService, SettingsService settingsService,
+        DataVersionService dataVersionService) {
 
         this.publicHolidaysService = publicHolidaysService;
         this.personService = personService;
         this.workingTimeService = workingTimeService;
         this.settingsService = settingsService;
+        this.dataVersionService = dataVersionService;
     }
 
     @ApiOperation(
-        value = "Get all public holidays for a certain period", notes = "Get all public holidays for a certain period"
+        value = "Get all public holidays for a certain period",
+        notes = "Get all public holidays for a certain period. Without person, the response may be used by clients for "
+            + "a day without revalidation, so changes of the settings may be visible only a day later."
     )
     @RequestMapping(value = "/holidays", method = RequestMethod.GET)
     public ResponseWrapper<PublicHolidayListResponse> getPublicHolidays(
@@ -65,64 +79,74 @@ public class PublicHolidayController {
         String month,
         @ApiParam(value = "ID of the person to get the public holidays for. Can be missing to get system defaults.")
         @RequestParam(value = "person", required = false)
-        Integer personId) {
+        Integer personId, ServletWebRequest request) {
+
+        int holidaysYear = Integer.parseInt(year);
+        Optional<Integer> optionalMonth = Optional.ofNullable(month).map(Integer::parseInt);
 
-        Optional<Person> optionalPerson = personId == null ? Optional.empty() : personService.getPersonByID(personId);
+        DataVersion settingsVersion = dataVersionService.getVersionOfSettings();
 
-        if (personId != null && !optionalPerson.isPresent()) {
-            throw new IllegalArgumentException("No person found for ID=" + personId);
+        if (personId == null) {
+            if (ConditionalRequests.isNotModified(request, settingsVersion.getETag(), MAX_AGE_IN_SECONDS)) {
+                return null;
+            }
+
+            FederalState federalState = settingsService.getSettings().getWorkingTimeSettings().getFederalState();
+
+            return new ResponseWrapper<>(getPublicHolidays(holidaysYear, optionalMonth, federalState));
         }
 
-        Optional<String> optionalMonth = Optional.ofNullable(month);
+        // the federal state of a person changes with the working time, so the response has to be revalidated
+        if (ConditionalRequests.isNotModified(request,
+                    ConditionalRequests.getETag(dataVersionService.getVersionOfPerson(personId), settingsVersion))) {
+            return null;
+        }
 
-        FederalState federalState = getFederalState(year, optionalMonth, optionalPerson);
-        Set<Holiday> holidays = getHolidays(year, optionalMonth, federalState);
+        Person person = personService.getPersonByID(personId).orElseThrow(() ->
+                    new IllegalArgumentException("No person found for ID=" + personId));
 
-        List<PublicHolidayResponse> publicHolidayResponses = holidays.stream().map(holiday ->
-                        new PublicHolidayResponse(holiday,
-                            publicHolidaysService.getWorkingDurationOfDate(holiday.getDate().toDateMidnight(),
-                                federalState))).collect(Collectors.toList());
+        FederalState federalState = workingTimeService.getFederalStateForPerson(person,
+                getValidFrom(holidaysYear, optionalMonth));
 
-        return new ResponseWrapper<>(new PublicHolidayListResponse(publicHolidayResponses));
+        return new ResponseWrapper<>(getPublicHolidays(holidaysYear, optionalMonth, federalState));
     }
 
 
-    private FederalState getFederalState(String year, Optional<String> optionalMonth, Optional<Person> optionalPerson) {
+    /**
+     * Get the public holidays of the given year or month and federal state. The public holidays and their working
+     * durations are cached by the {@link PublicHolidaysService}, so the requests of all persons of a federal state
+     * share them.
+     */
+    private PublicHolidayListResponse getPublicHolidays(int year, Optional<Integer> optionalMonth,
+        FederalState federalState) {
 
-        if (optionalPerson.isPresent()) {
-            DateMidnight validFrom = getValidFrom(year, optionalMonth);
+        Set<Holiday> holidays = getHolidays(year, optionalMonth, federalState);
 
-            return workingTimeService.getFederalStateForPerson(optionalPerson.get(), validFrom);
-        }
+        List<PublicHolidayResponse> publicHolidayResponses = holidays.stream().map(holiday ->
+                        new PublicHolidayResponse(holiday,
+                            publicHolidaysService.getWorkingDurationOfDate(holiday.getDate().toDateMidnight(),
+                                federalState))).collect(Collectors.toList());
 
-        return settingsService.getSettings().getWorkingTimeSettings().getFederalState();
+        return new PublicHolidayListResponse(publicHolidayResponses);
     }
 
 
-    private DateMidnight getValidFrom(String year, Optional<String> optionalMonth) {
-
-        int holidaysYear = Integer.parseInt(year);
+    private DateMidnight getValidFrom(int year, Optional<Integer> optionalMonth) {
 
         if (optionalMonth.isPresent()) {
-            int holidaysMonth = Integer.parseInt(optionalMonth.get());
-
-            return new DateMidnight(holidaysYear, holidaysMonth, 1);
+            return new DateMidnight(year, optionalMonth.get(), 1);
         }
 
-        return DateUtil.getFirstDayOfYear(holidaysYear);
+        return DateUtil.getFirstDayOfYear(year);
     }
 
 
-    private Set<Holiday> getHolidays(String year, Optional<String> optionalMonth, FederalState federalState) {
-
-        int holidaysYear = Integer.parseInt(year);
+    private Set<Holiday> getHolidays(int year, Optional<Integer> optionalMonth, FederalState federalState) {
 
         if (optionalMonth.isPresent()) {
-            int holidaysMonth = Integer.parseInt(optionalMonth.get());
-
-            return publicHolidaysService.getHolidays(holidaysYear, holidaysMonth, federalState);
+            return publicHolidaysService.getHolidays(year, optionalMonth.get(), federalState);
         }
 
-        return publicHolidaysService.getHolidays(holidaysYear, federalState);
+        return publicHolidaysService.getHolidays(year, federalState);
     }
 }
@@ -14,11 +14,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecordService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
+import java.io.IOException;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,12 +42,17 @@ public class SickNoteController {
 
     private final SickNoteService sickNoteService;
     private final PersonService personService;
+    private final DataVersionService dataVersionService;
+    private final AbsenceRecordService absenceRecordService;
 
     @Autowired
-    SickNoteController(SickNoteService sickNoteService, PersonService personService) {
+    SickNoteController(SickNoteService sickNoteService, PersonService personService,
+        DataVersionService dataVersionService, AbsenceRecordService absenceRecordService) {
 
         this.sickNoteService = sickNoteService;
         this.personService = personService;
+        this.dataVersionService = dataVersionService;
+        this.absenceRecordService = absenceRecordService;
     }
 
     @ApiOperation(
@@ -58,7 +70,11 @@ public class SickNoteController {
         String to,
         @ApiParam(value = "ID of the person")
         @RequestParam(value = "person", required = false)
-        Integer personId) {
+        Integer personId, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
 
         DateTimeFormatter formatter = DateTimeFormat.forPattern(RestApiDateFormat.PATTERN);
         DateMidnight startDate = formatter.parseDateTime(from).toDateMidnight();
@@ -85,4 +101,87 @@ public class SickNoteController {
 
         return new ResponseWrapper<>(new SickNoteListResponse(sickNoteResponses));
     }
+
+
+    @ApiOperation(
+        value = "Get a page of the sick notes for a certain period",
+        notes = "Get a page of the sick notes for a certain period, ordered by start date. "
+            + "If a person is specified, only the sick notes of this person are fetched. "
+            + "The response contains the cursor to fetch the next page with, unless it is the last page. "
+            + "Information only reachable for users with role office."
+    )
+    @RequestMapping(value = "/sicknotes", method = RequestMethod.GET, params = "limit")
+    public ResponseWrapper<SickNotePageResponse> sickNotesPage(
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam(value = "from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-12-31")
+        @RequestParam(value = "to")
+        String to,
+        @ApiParam(value = "ID of the person")
+        @RequestParam(value = "person", required = false)
+        Integer personId,
+        @ApiParam(value = "Maximum number of sick notes, at most " + PagedAbsences.MAX_LIMIT, defaultValue = "500")
+        @RequestParam(value = "limit")
+        Integer limit,
+        @ApiParam(value = "Cursor of the previous page")
+        @RequestParam(value = "after", required = false)
+        String after, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
+
+        DateMidnight startDate = PagedAbsences.parseDate(from);
+        DateMidnight endDate = PagedAbsences.parseDate(to);
+
+        PagedAbsences.validatePeriod(startDate, endDate);
+        PagedAbsences.validateLimit(limit);
+
+        List<AbsenceRecord> sickNotes = absenceRecordService.getSickNotes(SickNoteStatus.ACTIVE, startDate, endDate,
+                personId, PagedAbsences.parseCursor(after), limit);
+
+        List<AbsenceResponse> sickNoteResponses = sickNotes.stream()
+                .map(AbsenceResponse::new)
+                .collect(Collectors.toList());
+
+        return new ResponseWrapper<>(new SickNotePageResponse(sickNoteResponses,
+                    PagedAbsences.getNextCursor(sickNotes, limit)));
+    }
+
+
+    @ApiOperation(
+        value = "Stream all sick notes for a certain period",
+        notes = "Stream all sick notes for a certain period, ordered by start date, in the same format as "
+            + "without streaming. Intended for exports of long periods. "
+            + "If a person is specified, only the sick notes of this person are fetched. "
+            + "Information only reachable for users with role office."
+    )
+    @RequestMapping(value = "/sicknotes", method = RequestMethod.GET, params = "stream=true")
+    public void sickNotesStream(
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam(value = "from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-12-31")
+        @RequestParam(value = "to")
+        String to,
+        @ApiParam(value = "ID of the person")
+        @RequestParam(value = "person", required = false)
+        Integer personId, ServletWebRequest request) throws IOException {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return;
+        }
+
+        DateMidnight startDate = PagedAbsences.parseDate(from);
+        DateMidnight endDate = PagedAbsences.parseDate(to);
+
+        PagedAbsences.validatePeriod(startDate, endDate);
+
+        AbsenceJsonStream stream = new AbsenceJsonStream(request.getResponse(), "sickNotes");
+
+        absenceRecordService.forEachSickNote(SickNoteStatus.ACTIVE, startDate, endDate, personId, stream::write);
+
+        stream.finish();
+    }
 }
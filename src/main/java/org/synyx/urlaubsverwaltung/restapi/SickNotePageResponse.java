@@ -0,0 +1,46 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import java.util.List;
+
+
+/**
+ * A page of sick notes, see {@link org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor}.
+ */
+class SickNotePageResponse {
+
+    private List<AbsenceResponse> sickNotes;
+
+    private String next;
+
+    SickNotePageResponse(List<AbsenceResponse> sickNotes, String next) {
+
+        this.sickNotes = sickNotes;
+        this.next = next;
+    }
+
+    public List<AbsenceResponse> getSickNotes() {
+
+        return sickNotes;
+    }
+
+
+    public void setSickNotes(List<AbsenceResponse> sickNotes) {
+
+        this.sickNotes = sickNotes;
+    }
+
+
+    /**
+     * @return  cursor to get the next page with or {@code null} if this is the last page
+     */
+    public String getNext() {
+
+        return next;
+    }
+
+
+    public void setNext(String next) {
+
+        this.next = next;
+    }
+}
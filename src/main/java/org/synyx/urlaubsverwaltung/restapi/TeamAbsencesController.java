@@ -0,0 +1,222 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import com.wordnik.swagger.annotations.Api;
+import com.wordnik.swagger.annotations.ApiOperation;
+import com.wordnik.swagger.annotations.ApiParam;
+
+import de.jollyday.Holiday;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.settings.FederalState;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+import org.synyx.urlaubsverwaltung.security.SessionService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+
+/**
+ * Provides the absences of a whole team at once, e.g. for a team calendar: the absences of all the persons are loaded
+ * with one query for applications for leave and one for sick notes, and the public holidays are resolved once per
+ * federal state instead of once per person.
+ *
+ * <p>Sick notes are health data and are therefore only provided to the office, like by the sick note API.</p>
+ */
+@Api(value = "Team absences", description = "Get the absences of several persons for a certain period")
+@RestController("restApiTeamAbsencesController")
+@RequestMapping("/api")
+public class TeamAbsencesController {
+
+    /**
+     * Maximum number of days of the requested period, as the absences and public holidays of the whole period are
+     * loaded for every person at once.
+     */
+    static final int MAX_DAYS = 366;
+
+    private final PersonService personService;
+    private final DepartmentService departmentService;
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final WorkingTimeService workingTimeService;
+    private final PublicHolidaysService publicHolidaysService;
+    private final DataVersionService dataVersionService;
+    private final SessionService sessionService;
+
+    @Autowired
+    TeamAbsencesController(PersonService personService, DepartmentService departmentService,
+        ApplicationService applicationService, SickNoteService sickNoteService, WorkingTimeService workingTimeService,
+        PublicHolidaysService publicHolidaysService, DataVersionService dataVersionService,
+        SessionService sessionService) {
+
+        this.personService = personService;
+        this.departmentService = departmentService;
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.workingTimeService = workingTimeService;
+        this.publicHolidaysService = publicHolidaysService;
+        this.dataVersionService = dataVersionService;
+        this.sessionService = sessionService;
+    }
+
+    @ApiOperation(
+        value = "Get the absences of a department or of several persons for a certain period",
+        notes = "Get the absences of the active members of a department or of the given persons for a certain period. "
+            + "The absences are grouped by person and given as ranges of days, the public holidays are given once per "
+            + "federal state of the persons. Sick notes are only contained if the signed in user has the role office. "
+            + "The period may contain at most " + MAX_DAYS + " days."
+    )
+    @RequestMapping(value = "/absences/team", method = RequestMethod.GET)
+    public ResponseWrapper<TeamAbsencesResponse> teamAbsences(
+        @ApiParam(value = "ID of the department, can be missing if persons are given")
+        @RequestParam(value = "department", required = false)
+        Integer departmentId,
+        @ApiParam(value = "Comma separated IDs of the persons, can be missing if a department is given")
+        @RequestParam(value = "persons", required = false)
+        List<Integer> personIds,
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam(value = "from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-12-31")
+        @RequestParam(value = "to")
+        String to, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
+
+        DateTimeFormatter formatter = DateTimeFormat.forPattern(RestApiDateFormat.PATTERN);
+        DateMidnight startDate = formatter.parseDateTime(from).toDateMidnight();
+        DateMidnight endDate = formatter.parseDateTime(to).toDateMidnight();
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Parameter 'from' must be before or equals to 'to' parameter");
+        }
+
+        if (EpochDay.of(endDate) - EpochDay.of(startDate) + 1 > MAX_DAYS) {
+            throw new IllegalArgumentException("Period must not contain more than " + MAX_DAYS + " days");
+        }
+
+        List<Person> persons = getPersons(departmentId, personIds);
+
+        Map<Person, List<Application>> applications = applicationService.getApplicationsForACertainPeriodAndPersons(
+                    startDate, endDate, persons)
+                .stream()
+                .collect(Collectors.groupingBy(Application::getPerson));
+        Map<Person, List<SickNote>> sickNotes = getSickNotes(persons, startDate, endDate);
+        Map<Person, FederalState> federalStates = workingTimeService.getFederalStatesForPersons(persons, startDate);
+
+        List<TeamMemberAbsencesResponse> memberResponses = new ArrayList<>();
+
+        for (Person person : persons) {
+            List<AbsenceRange> absences = new ArrayList<>();
+            absences.addAll(AbsenceRange.ofApplications(applications.getOrDefault(person, Collections.emptyList()),
+                    startDate, endDate));
+            absences.addAll(AbsenceRange.ofSickNotes(sickNotes.getOrDefault(person, Collections.emptyList()),
+                    startDate, endDate));
+
+            memberResponses.add(new TeamMemberAbsencesResponse(person, federalStates.get(person), absences));
+        }
+
+        Map<FederalState, List<PublicHolidayResponse>> publicHolidays = new EnumMap<>(FederalState.class);
+
+        for (FederalState federalState : new HashSet<>(federalStates.values())) {
+            publicHolidays.put(federalState, getPublicHolidays(startDate, endDate, federalState));
+        }
+
+        return new ResponseWrapper<>(new TeamAbsencesResponse(startDate, endDate, publicHolidays, memberResponses));
+    }
+
+
+    private List<Person> getPersons(Integer departmentId, List<Integer> personIds) {
+
+        if ((departmentId == null) == (personIds == null)) {
+            throw new IllegalArgumentException("Either a department or persons must be given");
+        }
+
+        List<Person> persons;
+
+        if (departmentId != null) {
+            Department department = departmentService.getDepartmentById(departmentId).orElseThrow(() ->
+                        new IllegalArgumentException("No department found for ID=" + departmentId));
+
+            persons = department.getMembers()
+                .stream()
+                .filter(person -> !person.hasRole(Role.INACTIVE))
+                .collect(Collectors.toList());
+        } else {
+            persons = personService.getPersonsByIDs(personIds);
+
+            if (persons.size() != new HashSet<>(personIds).size()) {
+                throw new IllegalArgumentException("No person found for some of the IDs=" + personIds);
+            }
+        }
+
+        return persons.stream()
+            .sorted(Comparator.comparing(person -> person.getNiceName().toLowerCase()))
+            .collect(Collectors.toList());
+    }
+
+
+    private Map<Person, List<SickNote>> getSickNotes(List<Person> persons, DateMidnight startDate,
+        DateMidnight endDate) {
+
+        if (!sessionService.getSignedInUser().hasRole(Role.OFFICE)) {
+            return Collections.emptyMap();
+        }
+
+        return sickNoteService.getByPersonsAndPeriod(persons, startDate, endDate)
+            .stream()
+            .collect(Collectors.groupingBy(SickNote::getPerson));
+    }
+
+
+    private List<PublicHolidayResponse> getPublicHolidays(DateMidnight startDate, DateMidnight endDate,
+        FederalState federalState) {
+
+        List<PublicHolidayResponse> publicHolidays = new ArrayList<>();
+
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            for (Holiday holiday : publicHolidaysService.getHolidays(year, federalState)) {
+                DateMidnight date = holiday.getDate().toDateMidnight();
+
+                if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                    publicHolidays.add(new PublicHolidayResponse(holiday,
+                            publicHolidaysService.getWorkingDurationOfDate(date, federalState)));
+                }
+            }
+        }
+
+        publicHolidays.sort(Comparator.comparing(PublicHolidayResponse::getDate));
+
+        return publicHolidays;
+    }
+}
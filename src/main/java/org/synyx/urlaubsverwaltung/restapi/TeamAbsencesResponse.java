@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.joda.time.DateMidnight;
+
+import org.synyx.urlaubsverwaltung.core.settings.FederalState;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The absences of several persons for a period, see {@link TeamAbsencesController}.
+ */
+class TeamAbsencesResponse {
+
+    private final String from;
+    private final String to;
+    private final Map<FederalState, List<PublicHolidayResponse>> publicHolidays;
+    private final List<TeamMemberAbsencesResponse> persons;
+
+    TeamAbsencesResponse(DateMidnight from, DateMidnight to,
+        Map<FederalState, List<PublicHolidayResponse>> publicHolidays, List<TeamMemberAbsencesResponse> persons) {
+
+        this.from = from.toString(RestApiDateFormat.PATTERN);
+        this.to = to.toString(RestApiDateFormat.PATTERN);
+        this.publicHolidays = publicHolidays;
+        this.persons = persons;
+    }
+
+    public String getFrom() {
+
+        return from;
+    }
+
+
+    public String getTo() {
+
+        return to;
+    }
+
+
+    /**
+     * @return  the public holidays within the period per federal state of the persons
+     */
+    public Map<FederalState, List<PublicHolidayResponse>> getPublicHolidays() {
+
+        return publicHolidays;
+    }
+
+
+    public List<TeamMemberAbsencesResponse> getPersons() {
+
+        return persons;
+    }
+}
@@ -0,0 +1,60 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.settings.FederalState;
+
+import java.util.List;
+
+
+/**
+ * The absences of a single person within a {@link TeamAbsencesResponse}.
+ */
+class TeamMemberAbsencesResponse {
+
+    private final Integer id;
+    private final String ldapName;
+    private final String niceName;
+    private final String federalState;
+    private final List<AbsenceRange> absences;
+
+    TeamMemberAbsencesResponse(Person person, FederalState federalState, List<AbsenceRange> absences) {
+
+        this.id = person.getId();
+        this.ldapName = person.getLoginName();
+        this.niceName = person.getNiceName();
+        this.federalState = federalState.name();
+        this.absences = absences;
+    }
+
+    public Integer getId() {
+
+        return id;
+    }
+
+
+    public String getLdapName() {
+
+        return ldapName;
+    }
+
+
+    public String getNiceName() {
+
+        return niceName;
+    }
+
+
+    /**
+     * @return  the federal state of the person, to look up the public holidays of the person
+     */
+    public String getFederalState() {
+
+        return federalState;
+    }
+
+
+    public List<AbsenceRange> getAbsences() {
+
+        return absences;
+    }
+}
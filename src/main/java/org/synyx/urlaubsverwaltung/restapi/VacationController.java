@@ -16,17 +16,25 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecordService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
+import java.io.IOException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 /**
@@ -40,14 +48,19 @@ public class VacationController {
     private final PersonService personService;
     private final ApplicationService applicationService;
     private final DepartmentService departmentService;
+    private final DataVersionService dataVersionService;
+    private final AbsenceRecordService absenceRecordService;
 
     @Autowired
     VacationController(PersonService personService, ApplicationService applicationService,
-        DepartmentService departmentService) {
+        DepartmentService departmentService, DataVersionService dataVersionService,
+        AbsenceRecordService absenceRecordService) {
 
         this.personService = personService;
         this.applicationService = applicationService;
         this.departmentService = departmentService;
+        this.dataVersionService = dataVersionService;
+        this.absenceRecordService = absenceRecordService;
     }
 
     @ApiOperation(
@@ -71,7 +84,11 @@ public class VacationController {
         String to,
         @ApiParam(value = "ID of the person")
         @RequestParam(value = "person", required = false)
-        Integer personId) {
+        Integer personId, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
 
         DateTimeFormatter formatter = DateTimeFormat.forPattern(RestApiDateFormat.PATTERN);
         DateMidnight startDate = formatter.parseDateTime(from).toDateMidnight();
@@ -106,4 +123,88 @@ public class VacationController {
 
         return new ResponseWrapper<>(new VacationListResponse(vacationResponses));
     }
+
+
+    @ApiOperation(
+        value = "Get a page of the allowed vacations for a certain period",
+        notes = "Get a page of the allowed vacations for a certain period, ordered by start date. "
+            + "If a person is specified, only the allowed vacations of the person are fetched. "
+            + "The response contains the cursor to fetch the next page with, unless it is the last page. "
+            + "Information only reachable for users with role office."
+    )
+    @RequestMapping(value = "/vacations", method = RequestMethod.GET, params = "limit")
+    public ResponseWrapper<VacationPageResponse> vacationsPage(
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam(value = "from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-12-31")
+        @RequestParam(value = "to")
+        String to,
+        @ApiParam(value = "ID of the person")
+        @RequestParam(value = "person", required = false)
+        Integer personId,
+        @ApiParam(value = "Maximum number of vacations, at most " + PagedAbsences.MAX_LIMIT, defaultValue = "500")
+        @RequestParam(value = "limit")
+        Integer limit,
+        @ApiParam(value = "Cursor of the previous page")
+        @RequestParam(value = "after", required = false)
+        String after, ServletWebRequest request) {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return null;
+        }
+
+        DateMidnight startDate = PagedAbsences.parseDate(from);
+        DateMidnight endDate = PagedAbsences.parseDate(to);
+
+        PagedAbsences.validatePeriod(startDate, endDate);
+        PagedAbsences.validateLimit(limit);
+
+        List<AbsenceRecord> vacations = absenceRecordService.getApplications(ApplicationStatus.ALLOWED, startDate,
+                endDate, personId, PagedAbsences.parseCursor(after), limit);
+
+        List<AbsenceResponse> vacationResponses = vacations.stream()
+                .map(AbsenceResponse::new)
+                .collect(Collectors.toList());
+
+        return new ResponseWrapper<>(new VacationPageResponse(vacationResponses,
+                    PagedAbsences.getNextCursor(vacations, limit)));
+    }
+
+
+    @ApiOperation(
+        value = "Stream all allowed vacations for a certain period",
+        notes = "Stream all allowed vacations for a certain period, ordered by start date, in the same format as "
+            + "without streaming. Intended for exports of long periods. "
+            + "If a person is specified, only the allowed vacations of the person are fetched. "
+            + "Information only reachable for users with role office."
+    )
+    @RequestMapping(value = "/vacations", method = RequestMethod.GET, params = "stream=true")
+    public void vacationsStream(
+        @ApiParam(value = "Start date with pattern yyyy-MM-dd", defaultValue = "2016-01-01")
+        @RequestParam(value = "from")
+        String from,
+        @ApiParam(value = "End date with pattern yyyy-MM-dd", defaultValue = "2016-12-31")
+        @RequestParam(value = "to")
+        String to,
+        @ApiParam(value = "ID of the person")
+        @RequestParam(value = "person", required = false)
+        Integer personId, ServletWebRequest request) throws IOException {
+
+        if (ConditionalRequests.isNotModified(request, dataVersionService.getGlobalVersion())) {
+            return;
+        }
+
+        DateMidnight startDate = PagedAbsences.parseDate(from);
+        DateMidnight endDate = PagedAbsences.parseDate(to);
+
+        PagedAbsences.validatePeriod(startDate, endDate);
+
+        AbsenceJsonStream stream = new AbsenceJsonStream(request.getResponse(), "vacations");
+
+        absenceRecordService.forEachApplication(ApplicationStatus.ALLOWED, startDate, endDate, personId,
+            stream::write);
+
+        stream.finish();
+    }
 }
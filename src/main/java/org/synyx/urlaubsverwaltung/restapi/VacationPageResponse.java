@@ -0,0 +1,46 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import java.util.List;
+
+
+/**
+ * A page of vacations, see {@link org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor}.
+ */
+class VacationPageResponse {
+
+    private List<AbsenceResponse> vacations;
+
+    private String next;
+
+    VacationPageResponse(List<AbsenceResponse> vacations, String next) {
+
+        this.vacations = vacations;
+        this.next = next;
+    }
+
+    public List<AbsenceResponse> getVacations() {
+
+        return vacations;
+    }
+
+
+    public void setVacations(List<AbsenceResponse> vacations) {
+
+        this.vacations = vacations;
+    }
+
+
+    /**
+     * @return  cursor to get the next page with or {@code null} if this is the last page
+     */
+    public String getNext() {
+
+        return next;
+    }
+
+
+    public void setNext(String next) {
+
+        this.next = next;
+    }
+}
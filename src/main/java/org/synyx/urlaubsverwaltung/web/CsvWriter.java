@@ -0,0 +1,150 @@
+package org.synyx.urlaubsverwaltung.web;
+
+import org.springframework.util.Assert;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.math.BigDecimal;
+
+import java.nio.charset.StandardCharsets;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+
+import java.util.Locale;
+
+import javax.servlet.http.HttpServletResponse;
+
+
+/**
+ * Writes CSV rows directly to a {@link Writer}, so that exports can be streamed row by row without keeping the whole
+ * content in memory. Uses semicolons as separator and the decimal separator of the given locale, as expected by
+ * spreadsheet applications.
+ *
+ * <p>Text values starting with a character that makes spreadsheet applications evaluate a cell as formula are
+ * prefixed with an apostrophe, so values entered by users, like names, can not inject formulas into an export. Numbers
+ * are written as they are.</p>
+ *
+ * <p>The number format is created once per writer and reused for all values, so a writer must not be shared between
+ * threads.</p>
+ */
+public final class CsvWriter implements Flushable {
+
+    private static final char SEPARATOR = ';';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+
+    // lets spreadsheet applications detect the encoding
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Writer writer;
+    private final NumberFormat numberFormat;
+
+    private boolean firstValueOfRow = true;
+
+    public CsvWriter(Writer writer, Locale locale) {
+
+        Assert.notNull(writer, "Writer must be given.");
+        Assert.notNull(locale, "Locale must be given.");
+
+        this.writer = writer;
+        this.numberFormat = new DecimalFormat("0.##", DecimalFormatSymbols.getInstance(locale));
+    }
+
+    /**
+     * Prepares the given response for a CSV download with the given file name and creates a writer for its body.
+     *
+     * @param  response  to write the CSV to
+     * @param  fileName  of the download
+     * @param  locale  to format the numbers with
+     *
+     * @return  writer for the body of the response
+     *
+     * @throws  IOException  if the body of the response can not be opened
+     */
+    public static CsvWriter forResponse(HttpServletResponse response, String fileName, Locale locale)
+        throws IOException {
+
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        writer.write(BYTE_ORDER_MARK);
+
+        return new CsvWriter(writer, locale);
+    }
+
+
+    public CsvWriter write(String value) throws IOException {
+
+        if (value != null && !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return writeValue(FORMULA_ESCAPE + value);
+        }
+
+        return writeValue(value);
+    }
+
+
+    public CsvWriter write(BigDecimal value) throws IOException {
+
+        if (value == null) {
+            return writeValue(null);
+        }
+
+        return writeValue(numberFormat.format(value));
+    }
+
+
+    public void endRow() throws IOException {
+
+        writer.write(LINE_SEPARATOR);
+        firstValueOfRow = true;
+    }
+
+
+    @Override
+    public void flush() throws IOException {
+
+        writer.flush();
+    }
+
+
+    private CsvWriter writeValue(String value) throws IOException {
+
+        writeSeparatorIfNeeded();
+
+        if (value == null) {
+            return this;
+        }
+
+        boolean needsQuotes = value.indexOf(SEPARATOR) >= 0 || value.indexOf(QUOTE) >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (needsQuotes) {
+            writer.write(QUOTE);
+            writer.write(value.replace("\"", "\"\""));
+            writer.write(QUOTE);
+        } else {
+            writer.write(value);
+        }
+
+        return this;
+    }
+
+
+    private void writeSeparatorIfNeeded() throws IOException {
+
+        if (firstValueOfRow) {
+            firstValueOfRow = false;
+        } else {
+            writer.write(SEPARATOR);
+        }
+    }
+}
@@ -11,6 +11,7 @@ public final class DepartmentConstants {
     // JSPs
     public static final String DEPARTMENT_JSP = "department/department_list";
     public static final String DEPARTMENT_FORM_JSP = "department/department_form";
+    public static final String DEPARTMENT_COVERAGE_JSP = "department/department_coverage";
 
     // Attributes
     public static final String DEPARTMENTS_ATTRIBUTE = "departments";
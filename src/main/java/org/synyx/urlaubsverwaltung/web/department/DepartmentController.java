@@ -1,7 +1,10 @@
 package org.synyx.urlaubsverwaltung.web.department;
 
+import org.joda.time.DateMidnight;
+
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import org.springframework.stereotype.Controller;
@@ -16,19 +19,29 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import org.synyx.urlaubsverwaltung.core.department.DayCoverage;
 import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverage;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
+import org.synyx.urlaubsverwaltung.security.SessionService;
 import org.synyx.urlaubsverwaltung.web.ControllerConstants;
 import org.synyx.urlaubsverwaltung.web.PersonPropertyEditor;
 import org.synyx.urlaubsverwaltung.web.person.PersonConstants;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 
 /**
@@ -47,6 +60,12 @@ public class DepartmentController {
     @Autowired
     private DepartmentValidator validator;
 
+    @Autowired
+    private DepartmentCoverageService departmentCoverageService;
+
+    @Autowired
+    private SessionService sessionService;
+
     @InitBinder
     public void initBinder(DataBinder binder) {
 
@@ -66,6 +85,59 @@ public class DepartmentController {
     }
 
 
+    @PreAuthorize(SecurityRules.IS_PRIVILEGED_USER)
+    @RequestMapping(value = "/department/coverage", method = RequestMethod.GET)
+    public String showCoverage(@RequestParam(value = "department", required = false) Integer departmentId,
+        @RequestParam(value = ControllerConstants.YEAR_ATTRIBUTE, required = false) Integer year, Model model)
+        throws UnknownDepartmentException {
+
+        Person signedInUser = sessionService.getSignedInUser();
+
+        List<Department> departments = departmentService.getManagedDepartments(signedInUser);
+        departments.sort(Comparator.comparing(Department::getName));
+
+        int yearToShow = year == null ? DateMidnight.now().getYear() : year;
+
+        model.addAttribute(DepartmentConstants.DEPARTMENTS_ATTRIBUTE, departments);
+        model.addAttribute(ControllerConstants.YEAR_ATTRIBUTE, yearToShow);
+
+        if (departments.isEmpty()) {
+            return DepartmentConstants.DEPARTMENT_COVERAGE_JSP;
+        }
+
+        Department department;
+
+        if (departmentId == null) {
+            department = departments.get(0);
+        } else {
+            department = departmentService.getDepartmentById(departmentId).orElseThrow(() ->
+                        new UnknownDepartmentException(departmentId));
+
+            if (!departments.contains(department)) {
+                throw new AccessDeniedException(String.format(
+                        "User '%s' has not the correct permissions to see the coverage of department '%s'",
+                        signedInUser.getLoginName(), department.getName()));
+            }
+        }
+
+        DepartmentCoverage coverage = departmentCoverageService.getCoverage(department,
+                DateUtil.getFirstDayOfYear(yearToShow), DateUtil.getLastDayOfYear(yearToShow));
+
+        // one row per month in the heat map
+        List<List<DayCoverage>> months = new ArrayList<>(coverage.getDays()
+                .stream()
+                .collect(Collectors.groupingBy(day -> day.getDate().getMonthOfYear(), TreeMap::new,
+                        Collectors.toList()))
+                .values());
+
+        model.addAttribute(DepartmentConstants.DEPARTMENT_ATTRIBUTE, department);
+        model.addAttribute("coverage", coverage);
+        model.addAttribute("months", months);
+
+        return DepartmentConstants.DEPARTMENT_COVERAGE_JSP;
+    }
+
+
     @PreAuthorize(SecurityRules.IS_OFFICE)
     @RequestMapping(value = "/department/new", method = RequestMethod.GET)
     public String newDepartmentForm(Model model) {
@@ -17,6 +17,14 @@ public final class PersonConstants {
     public static final String PERSONS_ATTRIBUTE = "persons";
     public static final String PERSON_ATTRIBUTE = "person";
     public static final String BEFORE_APRIL_ATTRIBUTE = "beforeApril";
+    public static final String PAGE_ATTRIBUTE = "page";
+    public static final String PAGES_ATTRIBUTE = "pages";
+    public static final String SORT_ATTRIBUTE = "sort";
+
+    // Staff list
+    public static final int STAFF_PAGE_SIZE = 50;
+    public static final String SORT_BY_FIRST_NAME = "firstName";
+    public static final String SORT_BY_LAST_NAME = "lastName";
 
     private PersonConstants() {
 
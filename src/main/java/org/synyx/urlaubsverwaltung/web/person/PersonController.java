@@ -33,7 +33,9 @@ import org.synyx.urlaubsverwaltung.web.ControllerConstants;
 import org.synyx.urlaubsverwaltung.web.department.DepartmentConstants;
 import org.synyx.urlaubsverwaltung.web.department.UnknownDepartmentException;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -117,6 +119,8 @@ public class PersonController {
     public String showStaff(@RequestParam(value = "active") Boolean active,
         @RequestParam(value = ControllerConstants.DEPARTMENT_ATTRIBUTE, required = false) Optional<Integer> requestedDepartmentId,
         @RequestParam(value = ControllerConstants.YEAR_ATTRIBUTE, required = false) Optional<Integer> requestedYear,
+        @RequestParam(value = PersonConstants.PAGE_ATTRIBUTE, required = false) Optional<Integer> requestedPage,
+        @RequestParam(value = PersonConstants.SORT_ATTRIBUTE, required = false) Optional<String> requestedSort,
         Model model) throws UnknownDepartmentException {
 
         Integer year = requestedYear.isPresent() ? requestedYear.get() : DateMidnight.now().getYear();
@@ -136,7 +140,21 @@ public class PersonController {
             model.addAttribute(ControllerConstants.DEPARTMENT_ATTRIBUTE, department);
         }
 
-        prepareStaffView(signedInUser, persons, year, model);
+        String sort = PersonConstants.SORT_BY_LAST_NAME.equals(requestedSort.orElse(null))
+            ? PersonConstants.SORT_BY_LAST_NAME : PersonConstants.SORT_BY_FIRST_NAME;
+        Collections.sort(persons, getPersonComparator(sort));
+
+        // only the persons of the requested page are relevant, so the holidays accounts are not fetched for all persons
+        int pageSize = PersonConstants.STAFF_PAGE_SIZE;
+        int pages = Math.max(1, (persons.size() + pageSize - 1) / pageSize);
+        int page = Math.min(Math.max(1, requestedPage.orElse(1)), pages);
+        List<Person> personsOfPage = persons.subList((page - 1) * pageSize, Math.min(page * pageSize, persons.size()));
+
+        model.addAttribute(PersonConstants.PAGE_ATTRIBUTE, page);
+        model.addAttribute(PersonConstants.PAGES_ATTRIBUTE, pages);
+        model.addAttribute(PersonConstants.SORT_ATTRIBUTE, sort);
+
+        prepareStaffView(signedInUser, new ArrayList<>(personsOfPage), year, model);
 
         return PersonConstants.STAFF_JSP;
     }
@@ -215,21 +233,40 @@ public class PersonController {
     }
 
 
+    private static Comparator<Person> getPersonComparator(String sort) {
+
+        Comparator<Person> byFirstName = Comparator.comparing(person -> nullToEmpty(person.getFirstName()),
+                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Person> byLastName = Comparator.comparing(person -> nullToEmpty(person.getLastName()),
+                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Person> byLoginName = Comparator.comparing(Person::getLoginName, String.CASE_INSENSITIVE_ORDER);
+
+        if (PersonConstants.SORT_BY_LAST_NAME.equals(sort)) {
+            return byLastName.thenComparing(byFirstName).thenComparing(byLoginName);
+        }
+
+        return byFirstName.thenComparing(byLastName).thenComparing(byLoginName);
+    }
+
+
+    private static String nullToEmpty(String value) {
+
+        return value == null ? "" : value;
+    }
+
+
     private void prepareStaffView(Person signedInUser, List<Person> persons, int year, Model model) {
 
         Map<Person, Account> accounts = new HashMap<>();
         Map<Person, VacationDaysLeft> vacationDaysLeftMap = new HashMap<>();
 
-        for (Person person : persons) {
-            // get person's account
-            Optional<Account> account = accountService.getHolidaysAccount(year, person);
+        // fetch the holidays accounts and calculate the left vacation days for all persons at once
+        List<Account> holidaysAccounts = accountService.getHolidaysAccounts(year, persons);
 
-            if (account.isPresent()) {
-                Account holidaysAccount = account.get();
-                accounts.put(person, holidaysAccount);
-                vacationDaysLeftMap.put(person, vacationDaysService.getVacationDaysLeft(holidaysAccount));
-            }
-        }
+        vacationDaysService.getVacationDaysLeft(holidaysAccounts).forEach((account, vacationDaysLeft) -> {
+            accounts.put(account.getPerson(), account);
+            vacationDaysLeftMap.put(account.getPerson(), vacationDaysLeft);
+        });
 
         model.addAttribute(PersonConstants.PERSONS_ATTRIBUTE, persons);
         model.addAttribute("accounts", accounts);
@@ -44,6 +44,7 @@ public class SettingsController {
     @Autowired
     private SettingsValidator settingsValidator;
 
+
     @PreAuthorize(SecurityRules.IS_OFFICE)
     @RequestMapping(value = "/settings", method = RequestMethod.GET)
     public String settingsDetails(Model model) {
@@ -4,6 +4,8 @@ import org.joda.time.DateMidnight;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.context.MessageSource;
+
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import org.springframework.stereotype.Controller;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
@@ -25,19 +28,27 @@ import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteCategory;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
+import org.synyx.urlaubsverwaltung.web.CsvWriter;
 import org.synyx.urlaubsverwaltung.web.DateMidnightPropertyEditor;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.web.person.PersonConstants;
 import org.synyx.urlaubsverwaltung.web.statistics.SickDays;
 
+import java.io.IOException;
+
 import java.math.BigDecimal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
 
 /**
  * Controller for overview about the sick days of all users.
@@ -48,6 +59,11 @@ import java.util.stream.Collectors;
 @RequestMapping("/web")
 public class SickDaysOverviewController {
 
+    /**
+     * Number of persons whose sick days are loaded and written at once during an export.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     @Autowired
     private SickNoteService sickNoteService;
 
@@ -57,6 +73,9 @@ public class SickDaysOverviewController {
     @Autowired
     private WorkDaysService calendarService;
 
+    @Autowired
+    private MessageSource messageSource;
+
     @InitBinder
     public void initBinder(DataBinder binder) {
 
@@ -87,6 +106,63 @@ public class SickDaysOverviewController {
     }
 
 
+    /**
+     * Exports the sick days of the active persons in the given period as CSV. The sick notes are loaded and written in
+     * chunks of persons, so the rows are streamed to the client instead of being collected in memory first.
+     */
+    @PreAuthorize(SecurityRules.IS_OFFICE)
+    @RequestMapping(value = "/sicknote/export", method = RequestMethod.GET)
+    public void exportSickDays(@RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to, Locale locale, HttpServletResponse response)
+        throws IOException {
+
+        FilterPeriod period = new FilterPeriod(Optional.ofNullable(from), Optional.ofNullable(to));
+
+        List<Person> persons = personService.getActivePersons();
+
+        CsvWriter csv = CsvWriter.forResponse(response,
+                "sickdays_" + period.getStartDateAsString() + "_" + period.getEndDateAsString() + ".csv", locale);
+
+        csv.write(getMessage("person.data.firstName", locale))
+            .write(getMessage("person.data.lastName", locale))
+            .write(getMessage("sicknotes.daysOverview.sickDays.number", locale))
+            .write(getMessage("sicknotes.daysOverview.sickDays.aub.number", locale))
+            .write(getMessage("sicknotes.daysOverview.sickDays.child.number", locale))
+            .write(getMessage("sicknotes.daysOverview.sickDays.child.aub.number", locale))
+            .endRow();
+
+        for (int index = 0; index < persons.size(); index += EXPORT_CHUNK_SIZE) {
+            List<Person> chunk = persons.subList(index, Math.min(index + EXPORT_CHUNK_SIZE, persons.size()));
+
+            Map<Person, SickDays> sickDays = new HashMap<>();
+            Map<Person, SickDays> childSickDays = new HashMap<>();
+
+            for (Person person : chunk) {
+                sickDays.put(person, new SickDays());
+                childSickDays.put(person, new SickDays());
+            }
+
+            addSickDays(sickNoteService.getByPersonsAndPeriod(chunk, period.getStartDate(), period.getEndDate()),
+                sickDays, childSickDays);
+
+            for (Person person : chunk) {
+                Map<String, BigDecimal> days = sickDays.get(person).getDays();
+                Map<String, BigDecimal> childDays = childSickDays.get(person).getDays();
+
+                csv.write(person.getFirstName())
+                    .write(person.getLastName())
+                    .write(days.get(SickDays.SickDayType.TOTAL.name()))
+                    .write(days.get(SickDays.SickDayType.WITH_AUB.name()))
+                    .write(childDays.get(SickDays.SickDayType.TOTAL.name()))
+                    .write(childDays.get(SickDays.SickDayType.WITH_AUB.name()))
+                    .endRow();
+            }
+
+            csv.flush();
+        }
+    }
+
+
     private void fillModel(Model model, List<SickNote> sickNotes, FilterPeriod period) {
 
         model.addAttribute("today", DateMidnight.now());
@@ -96,9 +172,6 @@ public class SickDaysOverviewController {
 
         List<Person> persons = personService.getActivePersons();
 
-        List<SickNote> sickNotesOfActivePersons = sickNotes.stream().filter(sickNote ->
-                    persons.contains(sickNote.getPerson()) && sickNote.isActive()).collect(Collectors.toList());
-
         Map<Person, SickDays> sickDays = new HashMap<>();
         Map<Person, SickDays> childSickDays = new HashMap<>();
 
@@ -107,35 +180,63 @@ public class SickDaysOverviewController {
             childSickDays.put(person, new SickDays());
         }
 
-        for (SickNote sickNote : sickNotesOfActivePersons) {
+        addSickDays(sickNotes, sickDays, childSickDays);
+
+        model.addAttribute("sickDays", sickDays);
+        model.addAttribute("childSickDays", childSickDays);
+
+        model.addAttribute(PersonConstants.PERSONS_ATTRIBUTE, persons);
+    }
+
+
+    /**
+     * Adds the work days of the given active sick notes to the sick days of their persons. Sick notes of persons that
+     * are not contained in the given maps are ignored. The work days of all the sick notes are calculated at once.
+     */
+    private void addSickDays(List<SickNote> sickNotes, Map<Person, SickDays> sickDays,
+        Map<Person, SickDays> childSickDays) {
+
+        List<SickNote> relevantSickNotes = sickNotes.stream().filter(sickNote ->
+                    sickDays.containsKey(sickNote.getPerson()) && sickNote.isActive()).collect(Collectors.toList());
+
+        List<WorkDaysRequest> requests = new ArrayList<>();
+
+        for (SickNote sickNote : relevantSickNotes) {
             Person person = sickNote.getPerson();
-            BigDecimal workDays = calendarService.getWorkDays(sickNote.getDayLength(), sickNote.getStartDate(),
-                    sickNote.getEndDate(), person);
 
-            if (sickNote.getSickNoteType().isOfCategory(SickNoteCategory.SICK_NOTE_CHILD)) {
-                childSickDays.get(person).addDays(SickDays.SickDayType.TOTAL, workDays);
+            requests.add(new WorkDaysRequest(person, sickNote.getDayLength(), sickNote.getStartDate(),
+                    sickNote.getEndDate()));
 
-                if (sickNote.isAubPresent()) {
-                    BigDecimal workDaysWithAUB = calendarService.getWorkDays(sickNote.getDayLength(),
-                            sickNote.getAubStartDate(), sickNote.getAubEndDate(), person);
+            if (sickNote.isAubPresent()) {
+                requests.add(new WorkDaysRequest(person, sickNote.getDayLength(), sickNote.getAubStartDate(),
+                        sickNote.getAubEndDate()));
+            }
+        }
 
-                    childSickDays.get(person).addDays(SickDays.SickDayType.WITH_AUB, workDaysWithAUB);
-                }
+        Iterator<BigDecimal> workDays = calendarService.getWorkDays(requests).iterator();
+
+        for (SickNote sickNote : relevantSickNotes) {
+            Person person = sickNote.getPerson();
+
+            SickDays sickDaysOfPerson;
+
+            if (sickNote.getSickNoteType().isOfCategory(SickNoteCategory.SICK_NOTE_CHILD)) {
+                sickDaysOfPerson = childSickDays.get(person);
             } else {
-                sickDays.get(person).addDays(SickDays.SickDayType.TOTAL, workDays);
+                sickDaysOfPerson = sickDays.get(person);
+            }
 
-                if (sickNote.isAubPresent()) {
-                    BigDecimal workDaysWithAUB = calendarService.getWorkDays(sickNote.getDayLength(),
-                            sickNote.getAubStartDate(), sickNote.getAubEndDate(), person);
+            sickDaysOfPerson.addDays(SickDays.SickDayType.TOTAL, workDays.next());
 
-                    sickDays.get(person).addDays(SickDays.SickDayType.WITH_AUB, workDaysWithAUB);
-                }
+            if (sickNote.isAubPresent()) {
+                sickDaysOfPerson.addDays(SickDays.SickDayType.WITH_AUB, workDays.next());
             }
         }
+    }
 
-        model.addAttribute("sickDays", sickDays);
-        model.addAttribute("childSickDays", childSickDays);
 
-        model.addAttribute(PersonConstants.PERSONS_ATTRIBUTE, persons);
+    private String getMessage(String code, Locale locale) {
+
+        return messageSource.getMessage(code, null, locale);
     }
 }
@@ -9,6 +9,7 @@ import org.synyx.urlaubsverwaltung.core.person.Person;
 import java.math.BigDecimal;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -34,10 +35,18 @@ public class ApplicationForLeaveStatistics {
 
         this.person = person;
 
-        for (VacationType vacationType : vacationTypeService.getVacationTypes()) {
-            waitingVacationDays.put(vacationType, BigDecimal.ZERO);
-            allowedVacationDays.put(vacationType, BigDecimal.ZERO);
-        }
+        initVacationDays(vacationTypeService.getVacationTypes());
+    }
+
+
+    public ApplicationForLeaveStatistics(Person person, List<VacationType> vacationTypes) {
+
+        Assert.notNull(person, "Person must be given.");
+        Assert.notNull(vacationTypes, "Vacation types must be given.");
+
+        this.person = person;
+
+        initVacationDays(vacationTypes);
     }
 
     public Person getPerson() {
@@ -130,4 +139,13 @@ public class ApplicationForLeaveStatistics {
 
         return leftOvertime;
     }
+
+
+    private void initVacationDays(List<VacationType> vacationTypes) {
+
+        for (VacationType vacationType : vacationTypes) {
+            waitingVacationDays.put(vacationType, BigDecimal.ZERO);
+            allowedVacationDays.put(vacationType, BigDecimal.ZERO);
+        }
+    }
 }
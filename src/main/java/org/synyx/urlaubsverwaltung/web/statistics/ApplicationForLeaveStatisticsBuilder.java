@@ -11,20 +11,20 @@ import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
 import org.synyx.urlaubsverwaltung.core.account.service.AccountService;
 import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
-import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
-import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.core.application.service.VacationTypeService;
-import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDays;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
 import org.synyx.urlaubsverwaltung.core.overtime.OvertimeService;
-import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.util.DateUtil;
 
-import java.math.BigDecimal;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 
 /**
@@ -37,96 +37,91 @@ import java.util.Optional;
 public class ApplicationForLeaveStatisticsBuilder {
 
     private final AccountService accountService;
-    private final ApplicationService applicationService;
-    private final WorkDaysService calendarService;
     private final VacationDaysService vacationDaysService;
     private final OvertimeService overtimeService;
     private final VacationTypeService vacationTypeService;
+    private final ApplicationForLeaveDaysService applicationForLeaveDaysService;
 
     @Autowired
-    public ApplicationForLeaveStatisticsBuilder(AccountService accountService, ApplicationService applicationService,
-        WorkDaysService calendarService, VacationDaysService vacationDaysService, OvertimeService overtimeService,
-        VacationTypeService vacationTypeService) {
+    public ApplicationForLeaveStatisticsBuilder(AccountService accountService, VacationDaysService vacationDaysService,
+        OvertimeService overtimeService, VacationTypeService vacationTypeService,
+        ApplicationForLeaveDaysService applicationForLeaveDaysService) {
 
         this.accountService = accountService;
-        this.applicationService = applicationService;
-        this.calendarService = calendarService;
         this.vacationDaysService = vacationDaysService;
         this.overtimeService = overtimeService;
         this.vacationTypeService = vacationTypeService;
+        this.applicationForLeaveDaysService = applicationForLeaveDaysService;
     }
 
     public ApplicationForLeaveStatistics build(Person person, DateMidnight from, DateMidnight to) {
 
         Assert.notNull(person, "Person must be given");
-        Assert.notNull(from, "From must be given");
-        Assert.notNull(to, "To must be given");
-
-        Assert.isTrue(from.getYear() == to.getYear(), "From and to must be in the same year");
-
-        ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(person, vacationTypeService);
 
-        Optional<Account> account = accountService.getHolidaysAccount(from.getYear(), person);
-
-        if (account.isPresent()) {
-            BigDecimal vacationDaysLeft = vacationDaysService.calculateTotalLeftVacationDays(account.get());
-            statistics.setLeftVacationDays(vacationDaysLeft);
-        }
-
-        List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(from, to, person);
-
-        for (Application application : applications) {
-            if (application.hasStatus(ApplicationStatus.WAITING)
-                    || application.hasStatus(ApplicationStatus.TEMPORARY_ALLOWED)) {
-                statistics.addWaitingVacationDays(application.getVacationType(),
-                    getVacationDays(application, from.getYear()));
-            } else if (application.hasStatus(ApplicationStatus.ALLOWED)) {
-                statistics.addAllowedVacationDays(application.getVacationType(),
-                    getVacationDays(application, from.getYear()));
-            }
-        }
-
-        statistics.setLeftOvertime(overtimeService.getLeftOvertimeForPerson(person));
-
-        return statistics;
+        return build(Collections.singletonList(person), from, to).get(0);
     }
 
 
-    private BigDecimal getVacationDays(Application application, int relevantYear) {
-
-        int yearOfStartDate = application.getStartDate().getYear();
-        int yearOfEndDate = application.getEndDate().getYear();
+    /**
+     * Builds the {@link ApplicationForLeaveStatistics} of all the given persons at once. The period may span several
+     * years: it is split into one slice per calendar year and the cached work days of the applications for leave of
+     * each year are merged afterwards, see {@link ApplicationForLeaveDaysService}. The holidays accounts and the
+     * overtime of all persons are fetched with a constant number of queries.
+     *
+     * <p>The left vacation days are the ones of the last year of the period.</p>
+     *
+     * @param  persons  to build the statistics for
+     * @param  from  start of the period
+     * @param  to  end of the period
+     *
+     * @return  the statistics of the given persons, in the order of the given persons
+     */
+    public List<ApplicationForLeaveStatistics> build(List<Person> persons, DateMidnight from, DateMidnight to) {
+
+        Assert.notNull(persons, "Persons must be given");
+        Assert.notNull(from, "From must be given");
+        Assert.notNull(to, "To must be given");
+        Assert.isTrue(!from.isAfter(to), "From must not be after to");
 
-        DayLength dayLength = application.getDayLength();
-        Person person = application.getPerson();
+        List<VacationType> vacationTypes = vacationTypeService.getVacationTypes();
 
-        if (yearOfStartDate != yearOfEndDate) {
-            DateMidnight startDate = getStartDateForCalculation(application, relevantYear);
-            DateMidnight endDate = getEndDateForCalculation(application, relevantYear);
+        Map<Person, ApplicationForLeaveStatistics> statistics = new LinkedHashMap<>();
 
-            return calendarService.getWorkDays(dayLength, startDate, endDate, person);
+        for (Person person : persons) {
+            statistics.put(person, new ApplicationForLeaveStatistics(person, vacationTypes));
         }
 
-        return calendarService.getWorkDays(dayLength, application.getStartDate(), application.getEndDate(), person);
-    }
+        List<Account> accounts = accountService.getHolidaysAccounts(to.getYear(), persons);
 
+        vacationDaysService.calculateTotalLeftVacationDays(accounts).forEach((account, vacationDaysLeft) ->
+                statistics.get(account.getPerson()).setLeftVacationDays(vacationDaysLeft));
 
-    private DateMidnight getStartDateForCalculation(Application application, int relevantYear) {
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            DateMidnight sliceStart = year == from.getYear() ? from : DateUtil.getFirstDayOfYear(year);
+            DateMidnight sliceEnd = year == to.getYear() ? to : DateUtil.getLastDayOfYear(year);
 
-        if (application.getStartDate().getYear() != relevantYear) {
-            return DateUtil.getFirstDayOfYear(application.getEndDate().getYear());
+            applicationForLeaveDaysService.getApplicationForLeaveDays(year, persons).forEach((person, daysOfYear) -> {
+                for (ApplicationForLeaveDays days : daysOfYear) {
+                    if (days.isOverlapping(sliceStart, sliceEnd)) {
+                        addVacationDays(statistics.get(person), days);
+                    }
+                }
+            });
         }
 
-        return application.getStartDate();
+        overtimeService.getLeftOvertimeForPersons(persons).forEach((person, leftOvertime) ->
+                statistics.get(person).setLeftOvertime(leftOvertime));
+
+        return new ArrayList<>(statistics.values());
     }
 
 
-    private DateMidnight getEndDateForCalculation(Application application, int relevantYear) {
+    private static void addVacationDays(ApplicationForLeaveStatistics statistics, ApplicationForLeaveDays days) {
 
-        if (application.getEndDate().getYear() != relevantYear) {
-            return DateUtil.getLastDayOfYear(application.getStartDate().getYear());
+        if (days.getStatus() == ApplicationStatus.ALLOWED) {
+            statistics.addAllowedVacationDays(days.getVacationType(), days.getWorkDays());
+        } else {
+            statistics.addWaitingVacationDays(days.getVacationType(), days.getWorkDays());
         }
-
-        return application.getEndDate();
     }
 }
@@ -1,9 +1,12 @@
 package org.synyx.urlaubsverwaltung.web.statistics;
 
 import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import org.springframework.context.MessageSource;
+
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import org.springframework.stereotype.Controller;
@@ -18,20 +21,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
 import org.synyx.urlaubsverwaltung.core.application.service.VacationTypeService;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.person.Role;
 import org.synyx.urlaubsverwaltung.security.SecurityRules;
 import org.synyx.urlaubsverwaltung.security.SessionService;
-import org.synyx.urlaubsverwaltung.web.ControllerConstants;
+import org.synyx.urlaubsverwaltung.web.CsvWriter;
 import org.synyx.urlaubsverwaltung.web.DateMidnightPropertyEditor;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.IOException;
+
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletResponse;
 
 
 /**
@@ -43,6 +52,11 @@ import java.util.stream.Collectors;
 @Controller
 public class ApplicationForLeaveStatisticsController {
 
+    /**
+     * Number of persons whose statistics are built and written at once during an export.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     @Autowired
     private SessionService sessionService;
 
@@ -58,6 +72,12 @@ public class ApplicationForLeaveStatisticsController {
     @Autowired
     private ApplicationForLeaveStatisticsBuilder applicationForLeaveStatisticsBuilder;
 
+    @Autowired
+    private ApplicationForLeaveDaysService applicationForLeaveDaysService;
+
+    @Autowired
+    private MessageSource messageSource;
+
     @InitBinder
     public void initBinder(DataBinder binder) {
 
@@ -84,22 +104,15 @@ public class ApplicationForLeaveStatisticsController {
         DateMidnight fromDate = period.getStartDate();
         DateMidnight toDate = period.getEndDate();
 
-        // NOTE: Not supported at the moment
-        if (fromDate.getYear() != toDate.getYear()) {
-            model.addAttribute("period", period);
-            model.addAttribute(ControllerConstants.ERRORS_ATTRIBUTE, "INVALID_PERIOD");
-
-            return "application/app_statistics";
-        }
-
         List<Person> persons = getRelevantPersons();
 
-        List<ApplicationForLeaveStatistics> statistics = persons.stream().map(person ->
-                    applicationForLeaveStatisticsBuilder.build(person, fromDate, toDate)).collect(Collectors.toList());
+        List<ApplicationForLeaveStatistics> statistics = applicationForLeaveStatisticsBuilder.build(persons, fromDate,
+                toDate);
 
         model.addAttribute("from", fromDate);
         model.addAttribute("to", toDate);
         model.addAttribute("statistics", statistics);
+        model.addAttribute("created", getCreated(fromDate, toDate));
         model.addAttribute("period", period);
         model.addAttribute("vacationTypes", vacationTypeService.getVacationTypes());
 
@@ -107,6 +120,109 @@ public class ApplicationForLeaveStatisticsController {
     }
 
 
+    /**
+     * Exports the statistics of the given period as CSV. The statistics are built and written in chunks of persons,
+     * so the rows are streamed to the client instead of being collected in memory first.
+     */
+    @PreAuthorize(SecurityRules.IS_PRIVILEGED_USER)
+    @RequestMapping(value = "/statistics/export", method = RequestMethod.GET)
+    public void exportApplicationForLeaveStatistics(@RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to, Locale locale, HttpServletResponse response)
+        throws IOException {
+
+        FilterPeriod period = new FilterPeriod(Optional.ofNullable(from), Optional.ofNullable(to));
+
+        DateMidnight fromDate = period.getStartDate();
+        DateMidnight toDate = period.getEndDate();
+
+        List<Person> persons = getRelevantPersons();
+        List<VacationType> vacationTypes = vacationTypeService.getVacationTypes();
+
+        CsvWriter csv = CsvWriter.forResponse(response,
+                "statistics_" + period.getStartDateAsString() + "_" + period.getEndDateAsString() + ".csv", locale);
+
+        writeHeader(csv, vacationTypes, locale);
+
+        for (int index = 0; index < persons.size(); index += EXPORT_CHUNK_SIZE) {
+            List<Person> chunk = persons.subList(index, Math.min(index + EXPORT_CHUNK_SIZE, persons.size()));
+
+            for (ApplicationForLeaveStatistics statistics
+                : applicationForLeaveStatisticsBuilder.build(chunk, fromDate, toDate)) {
+                writeRow(csv, statistics, vacationTypes);
+            }
+
+            csv.flush();
+        }
+    }
+
+
+    private void writeHeader(CsvWriter csv, List<VacationType> vacationTypes, Locale locale) throws IOException {
+
+        String allowed = getMessage("applications.statistics.allowed", locale);
+        String waiting = getMessage("applications.statistics.waiting", locale);
+        String left = getMessage("applications.statistics.left", locale);
+
+        csv.write(getMessage("person.data.firstName", locale))
+            .write(getMessage("person.data.lastName", locale))
+            .write(allowed)
+            .write(waiting);
+
+        for (VacationType vacationType : vacationTypes) {
+            csv.write(allowed + " (" + vacationType.getDisplayName() + ")")
+                .write(waiting + " (" + vacationType.getDisplayName() + ")");
+        }
+
+        csv.write(left + " " + getMessage("duration.vacationDays", locale))
+            .write(left + " " + getMessage("duration.overtime", locale));
+
+        csv.endRow();
+    }
+
+
+    private static void writeRow(CsvWriter csv, ApplicationForLeaveStatistics statistics,
+        List<VacationType> vacationTypes) throws IOException {
+
+        csv.write(statistics.getPerson().getFirstName())
+            .write(statistics.getPerson().getLastName())
+            .write(statistics.getTotalAllowedVacationDays())
+            .write(statistics.getTotalWaitingVacationDays());
+
+        for (VacationType vacationType : vacationTypes) {
+            csv.write(statistics.getAllowedVacationDays().get(vacationType))
+                .write(statistics.getWaitingVacationDays().get(vacationType));
+        }
+
+        csv.write(statistics.getLeftVacationDays()).write(statistics.getLeftOvertime());
+
+        csv.endRow();
+    }
+
+
+    private String getMessage(String code, Locale locale) {
+
+        return messageSource.getMessage(code, null, locale);
+    }
+
+
+    /**
+     * The statistics are based on one snapshot per year, so they are as recent as the oldest snapshot of the period.
+     */
+    private DateTime getCreated(DateMidnight from, DateMidnight to) {
+
+        DateTime created = applicationForLeaveDaysService.getCreated(from.getYear());
+
+        for (int year = from.getYear() + 1; year <= to.getYear(); year++) {
+            DateTime createdOfYear = applicationForLeaveDaysService.getCreated(year);
+
+            if (createdOfYear.isBefore(created)) {
+                created = createdOfYear;
+            }
+        }
+
+        return created;
+    }
+
+
     private List<Person> getRelevantPersons() {
 
         Person signedInUser = sessionService.getSignedInUser();
@@ -38,7 +38,7 @@ public class SickNoteStatisticsController {
 
         Integer year = requestedYear == null ? DateMidnight.now().getYear() : requestedYear;
 
-        SickNoteStatistics statistics = statisticsService.createStatistics(year);
+        SickNoteStatistics statistics = statisticsService.getStatistics(year);
 
         model.addAttribute("statistics", statistics);
 
@@ -38,6 +38,11 @@
                             <i class="fa fa-fw fa-bar-chart"></i>
                           </a>
 
+                          <a href="${URL_PREFIX}/department/coverage" class="fa-action pull-right"
+                              data-title="<spring:message code="action.department.coverage"/>">
+                            <i class="fa fa-fw fa-th"></i>
+                          </a>
+
                           <sec:authorize access="hasAuthority('OFFICE')">
                           <a href="${URL_PREFIX}/application/new" class="fa-action pull-right"
                               data-title="<spring:message code="action.apply.vacation"/>">
@@ -0,0 +1,125 @@
+<%@page contentType="text/html" pageEncoding="UTF-8"%>
+<%@taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@taglib prefix="spring" uri="http://www.springframework.org/tags" %>
+<%@taglib prefix="joda" uri="http://www.joda.org/joda/time/tags" %>
+<%@taglib prefix="uv" tagdir="/WEB-INF/tags" %>
+<%@taglib prefix="fn" uri="http://java.sun.com/jsp/jstl/functions" %>
+
+
+<!DOCTYPE html>
+<html>
+
+    <head>
+        <uv:head />
+
+        <spring:url var="URL_PREFIX" value="/web" />
+
+    </head>
+
+    <body>
+
+        <uv:menu />
+
+        <div class="print-info--only-landscape">
+            <h4><spring:message code="print.info.landscape" /></h4>
+        </div>
+
+        <div class="content print--only-landscape">
+            <div class="container">
+
+                <div class="row">
+
+                    <div class="col-xs-12">
+
+                    <legend>
+
+                        <c:choose>
+                            <c:when test="${fn:length(departments) > 1}">
+                                <div class="legend-dropdown dropdown">
+                                    <a id="department-selection" data-target="#" href="#" data-toggle="dropdown"
+                                       aria-haspopup="true" role="button" aria-expanded="false">
+                                        <c:out value="${department.name}" /><span class="caret"></span>
+                                    </a>
+                                    <ul class="dropdown-menu" role="menu" aria-labelledby="department-selection">
+                                        <c:forEach items="${departments}" var="selectableDepartment">
+                                            <li>
+                                                <a href="${URL_PREFIX}/department/coverage?department=${selectableDepartment.id}&year=${year}">
+                                                    <c:out value="${selectableDepartment.name}" />
+                                                </a>
+                                            </li>
+                                        </c:forEach>
+                                    </ul>
+                                </div>
+                            </c:when>
+                            <c:otherwise>
+                                <spring:message code="department.coverage.title" />
+                                <c:out value="${department.name}" />
+                            </c:otherwise>
+                        </c:choose>
+
+                        <uv:year-selector year="${year}" hrefPrefix="${URL_PREFIX}/department/coverage?department=${department.id}&year=" />
+
+                        <uv:print />
+
+                    </legend>
+
+                    <c:choose>
+                        <c:when test="${empty departments}">
+                            <spring:message code="department.coverage.none"/>
+                        </c:when>
+                        <c:otherwise>
+
+                            <p>
+                                <spring:message code="department.coverage.members" arguments="${coverage.members}" />
+                                <span class="pull-right">
+                                    <spring:message code="department.coverage.legend" />:
+                                    <span class="coverage-legend" style="background-color: rgba(217, 83, 79, 0)"></span>0 %
+                                    <span class="coverage-legend" style="background-color: rgba(217, 83, 79, 0.5)"></span>50 %
+                                    <span class="coverage-legend" style="background-color: rgba(217, 83, 79, 1)"></span>100 %
+                                </span>
+                            </p>
+
+                            <table class="coverage-table">
+                                <thead>
+                                <tr>
+                                    <th class="coverage-month"></th>
+                                    <c:forEach begin="1" end="31" var="dayOfMonth">
+                                        <th><c:out value="${dayOfMonth}" /></th>
+                                    </c:forEach>
+                                </tr>
+                                </thead>
+                                <tbody>
+                                <c:forEach items="${months}" var="month">
+                                    <tr>
+                                        <th class="coverage-month">
+                                            <joda:format value="${month[0].date}" pattern="MMMM" />
+                                        </th>
+                                        <c:forEach items="${month}" var="day">
+                                            <td class="${day.date.dayOfWeek > 5 ? 'coverage-weekend' : ''}"
+                                                style="background-color: rgba(217, 83, 79, ${day.absentRatio})"
+                                                title="<uv:date date="${day.date}" />: <spring:message code="department.coverage.day"
+                                                    arguments="${day.absent},${day.members},${day.vacation},${day.waiting},${day.sick}" />">
+                                                <c:if test="${day.absent > 0}">
+                                                    <c:out value="${day.absent}" />
+                                                </c:if>
+                                            </td>
+                                        </c:forEach>
+                                        <c:forEach begin="${fn:length(month) + 1}" end="31">
+                                            <td class="coverage-empty"></td>
+                                        </c:forEach>
+                                    </tr>
+                                </c:forEach>
+                                </tbody>
+                            </table>
+
+                        </c:otherwise>
+                    </c:choose>
+
+                    </div>
+                </div>
+            </div>
+        </div>
+
+    </body>
+
+</html>
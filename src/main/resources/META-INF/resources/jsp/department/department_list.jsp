@@ -36,6 +36,10 @@
                     <legend>
                         <spring:message code="departments.title" />
                         <uv:print />
+                        <a href="${URL_PREFIX}/department/coverage" class="fa-action pull-right"
+                           data-title="<spring:message code="action.department.coverage"/>">
+                            <i class="fa fa-fw fa-th"></i>
+                        </a>
                         <sec:authorize access="hasAuthority('OFFICE')">
                             <a href="${URL_PREFIX}/department/new" class="fa-action pull-right"
                             data-title="<spring:message code="action.department.create"/>">
@@ -5,6 +5,8 @@
 
 <spring:url var="URL_PREFIX" value="/web" />
 
+<c:set var="STAFF_URL" value="${URL_PREFIX}/staff?active=${param.active}&year=${year}&department=${department.id}" />
+
 <p class="text-right visible-print">
     <spring:message code="filter.validity"/> <uv:date date="${now}" />
 </p>
@@ -12,9 +14,11 @@
 <script type="text/javascript">
     $(document).ready(function() {
 
+        <%-- NOTE: first and last name are sorted on server side, since the persons are paginated --%>
         $("table.sortable").tablesorter({
-            sortList: [[1,0]],
             headers: {
+                1: { sorter: false },
+                2: { sorter: false },
                 3: { sorter: 'commaNumber' },
                 4: { sorter: 'commaNumber' },
                 5: { sorter: 'commaNumber' },
@@ -48,8 +52,14 @@
     <thead class="hidden-xs hidden-sm">
     <tr>
         <th><%-- placeholder to ensure correct number of th --%></th>
-        <th class="sortable-field"><spring:message code="person.data.firstName" /></th>
-        <th class="sortable-field"><spring:message code="person.data.lastName" /></th>
+        <th>
+            <a href="${STAFF_URL}&sort=firstName"><spring:message code="person.data.firstName" /></a>
+            <c:if test="${sort == 'firstName'}"><i class="fa fa-sort-asc"></i></c:if>
+        </th>
+        <th>
+            <a href="${STAFF_URL}&sort=lastName"><spring:message code="person.data.lastName" /></a>
+            <c:if test="${sort == 'lastName'}"><i class="fa fa-sort-asc"></i></c:if>
+        </th>
         <th class="sortable-field is-centered"><spring:message code='persons.account.vacation.entitlement.year' /></th>
         <th class="sortable-field is-centered"><spring:message code='persons.account.vacation.entitlement.actual' /></th>
         <th class="sortable-field is-centered"><spring:message code='persons.account.vacation.entitlement.remaining' /></th>
@@ -141,4 +151,16 @@
     </c:forEach>
     </tbody>
 </table>
+
+<c:if test="${pages > 1}">
+    <nav class="hidden-print">
+        <ul class="pagination">
+            <c:forEach begin="1" end="${pages}" var="pageNumber">
+                <li class="${pageNumber == page ? 'active' : ''}">
+                    <a href="${STAFF_URL}&sort=${sort}&page=${pageNumber}"><c:out value="${pageNumber}"/></a>
+                </li>
+            </c:forEach>
+        </ul>
+    </nav>
+</c:if>
 </div>
@@ -157,12 +157,10 @@
 
                     $.when(
                         holidayService.fetchPublic   ( yearOfStartDate ),
-                        holidayService.fetchPersonal ( yearOfStartDate ),
-                        holidayService.fetchSickDays ( yearOfStartDate ),
+                        holidayService.fetchAbsences ( yearOfStartDate ),
 
                         holidayService.fetchPublic   ( yearOfEndDate ),
-                        holidayService.fetchPersonal ( yearOfEndDate ),
-                        holidayService.fetchSickDays ( yearOfEndDate )
+                        holidayService.fetchAbsences ( yearOfEndDate )
                     ).always(function() {
                         Urlaubsverwaltung.Calendar.init(holidayService, date);
                     });
@@ -80,7 +80,7 @@
                             </ul>
                         </div>
 
-                        <uv:year-selector year="${year}" hrefPrefix="${URL_PREFIX}/staff?active=${param.active}&department=${department.id}&year=" />
+                        <uv:year-selector year="${year}" hrefPrefix="${URL_PREFIX}/staff?active=${param.active}&department=${department.id}&sort=${sort}&year=" />
 
                         <uv:print />
 
@@ -44,6 +44,11 @@
                 <legend class="is-sticky">
                     <spring:message code="sicknotes.title" />
                     <uv:print />
+                    <a href="${URL_PREFIX}/sicknote/export?from=${period.startDateAsString}&to=${period.endDateAsString}"
+                       class="fa-action pull-right hidden-xs hidden-sm"
+                       data-title="<spring:message code="action.export"/>">
+                      <i class="fa fa-download"></i>
+                    </a>
                     <a href="${URL_PREFIX}/sicknote/statistics" class="fa-action pull-right"
                        data-title="<spring:message code="action.sicknotes.statistics"/>">
                       <i class="fa fa-fw fa-bar-chart"></i>
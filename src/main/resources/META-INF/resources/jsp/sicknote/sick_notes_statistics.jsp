@@ -43,7 +43,7 @@
 
                 <thead>
                     <tr>
-                        <th colspan="2" class="text-right"><spring:message code="filter.validity"/> <uv:date date="${statistics.created}" /></th>
+                        <th colspan="2" class="text-right"><spring:message code="filter.validity"/> <uv:dateTime dateTime="${statistics.created}" /> <uv:time dateTime="${statistics.created}" /></th>
                     </tr>
                 </thead>
 
@@ -129,22 +129,31 @@ $(function() {
             });
         }
 
-        function cacheAbsences(type, year) {
-            var c = _CACHE[type] = _CACHE[type] || {};
+        function cacheAbsences(year) {
+            var holidays = _CACHE['holiday'] = _CACHE['holiday'] || {};
+            var sickDays = _CACHE['sick'] = _CACHE['sick'] || {};
 
             return function(data) {
 
-                var absences = data.response.absences;
+                holidays[year] = [];
+                sickDays[year] = [];
 
-                if(absences.length > 0) {
-                    $.each(absences, function(idx, absence) {
-                        c[year] = c[year] || [];
-                        c[year].push(absence);
-                    });
-                } else {
-                    c[year] = [];
-                }
+                // the absences are given as ranges of days, expand them to one entry per day
+                $.each(data.response.absences, function(idx, absence) {
 
+                    var c = absence.type === 'SICK_NOTE' ? sickDays : holidays;
+                    var end = moment(absence.end);
+
+                    for (var date = moment(absence.start); !date.isAfter(end); date.add('d', 1)) {
+                        c[year].push({
+                            date: date.format('YYYY-MM-DD'),
+                            dayLength: absence.dayLength,
+                            type: absence.type,
+                            status: absence.status,
+                            href: absence.href
+                        });
+                    }
+                });
 
             }
 
@@ -382,13 +391,12 @@ $(function() {
             },
 
             /**
+             * Fetches the vacation and the sick days of the given year with a single request.
              *
-             * @param {number} personId
              * @param {number} year
-             * @param {number} [month]
              * @returns {$.ajax}
              */
-            fetchPersonal: function(year) {
+            fetchAbsences: function(year) {
                 var deferred = $.Deferred();
 
                 _CACHE['holiday'] = _CACHE['holiday'] || {};
@@ -396,19 +404,7 @@ $(function() {
                 if (_CACHE['holiday'][year]) {
                     return deferred.resolve( _CACHE[year] );
                 } else {
-                    return fetch('/absences', {person: personId, year: year, type: 'VACATION'}).success( cacheAbsences('holiday', year) );
-                }
-            },
-
-            fetchSickDays: function(year) {
-                var deferred = $.Deferred();
-
-                _CACHE['sick'] = _CACHE['sick'] || {};
-
-                if (_CACHE['sick'][year]) {
-                    return deferred.resolve( _CACHE[year] );
-                } else {
-                    return fetch('/absences', {person: personId, year: year, type: 'SICK_NOTE'}).success( cacheAbsences('sick', year) );
+                    return fetch('/absences', {person: personId, year: year, format: 'compact'}).success( cacheAbsences(year) );
                 }
             }
         };
@@ -735,8 +731,7 @@ $(function() {
 
                 $.when(
                     holidayService.fetchPublic   ( date.year() ),
-                    holidayService.fetchPersonal ( date.year() ),
-                    holidayService.fetchSickDays ( date.year() )
+                    holidayService.fetchAbsences ( date.year() )
                 ).then(view.displayNext);
             },
 
@@ -753,8 +748,7 @@ $(function() {
 
                 $.when(
                     holidayService.fetchPublic   ( date.year() ),
-                    holidayService.fetchPersonal ( date.year() ),
-                    holidayService.fetchSickDays ( date.year() )
+                    holidayService.fetchAbsences ( date.year() )
                 ).then(view.displayPrev);
             }
         };
@@ -11,6 +11,8 @@ import org.mockito.Mockito;
 
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
@@ -34,6 +36,7 @@ public class AccountInteractionServiceImplTest {
 
     private AccountService accountService;
     private VacationDaysService vacationDaysService;
+    private ChangeLogService changeLogService;
 
     private Person person;
 
@@ -48,7 +51,9 @@ public class AccountInteractionServiceImplTest {
 
         vacationDaysService = Mockito.mock(VacationDaysService.class);
 
-        service = new AccountInteractionServiceImpl(accountService, vacationDaysService);
+        changeLogService = Mockito.mock(ChangeLogService.class);
+
+        service = new AccountInteractionServiceImpl(accountService, vacationDaysService, changeLogService);
 
         person = TestDataCreator.createPerson("horscht");
     }
@@ -172,4 +177,19 @@ public class AccountInteractionServiceImplTest {
         Mockito.verify(vacationDaysService).calculateTotalLeftVacationDays(referenceAccount);
         Mockito.verify(accountService).getHolidaysAccount(nextYear, person);
     }
+
+
+    @Test
+    public void ensureChangesOfHolidaysAccountsAreAppendedToChangeLog() {
+
+        Account account = service.createHolidaysAccount(person, new DateMidnight(2016, 1, 1),
+                new DateMidnight(2016, 12, 31), BigDecimal.valueOf(30), BigDecimal.valueOf(30), BigDecimal.ZERO,
+                BigDecimal.ZERO);
+
+        service.editHolidaysAccount(account, new DateMidnight(2016, 1, 1), new DateMidnight(2016, 12, 31),
+            BigDecimal.valueOf(28), BigDecimal.valueOf(28), BigDecimal.ZERO, BigDecimal.ZERO);
+
+        Mockito.verify(changeLogService).append(ChangeType.ACCOUNT, account.getId(), person, "CREATED");
+        Mockito.verify(changeLogService).append(ChangeType.ACCOUNT, account.getId(), person, "EDITED");
+    }
 }
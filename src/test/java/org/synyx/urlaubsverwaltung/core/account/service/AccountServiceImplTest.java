@@ -11,6 +11,9 @@ import org.synyx.urlaubsverwaltung.core.account.domain.Account;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -60,4 +63,32 @@ public class AccountServiceImplTest {
         Assert.assertNotNull("Optional must not be null", optionalHolidaysAccount);
         Assert.assertFalse("Holidays account should not exist", optionalHolidaysAccount.isPresent());
     }
+
+
+    @Test
+    public void ensureGetsHolidaysAccountsOfSeveralPersonsAtOnce() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("dampf");
+        List<Person> persons = Arrays.asList(person, otherPerson);
+
+        Account account = TestDataCreator.createHolidaysAccount(person, 2012);
+        Mockito.when(accountDAO.getHolidaysAccountsByYearAndPersons(2012, persons))
+            .thenReturn(Collections.singletonList(account));
+
+        List<Account> holidaysAccounts = accountService.getHolidaysAccounts(2012, persons);
+
+        Assert.assertEquals("Wrong holidays accounts", Collections.singletonList(account), holidaysAccounts);
+    }
+
+
+    @Test
+    public void ensureGetsNoHolidaysAccountsWithoutPersons() {
+
+        List<Account> holidaysAccounts = accountService.getHolidaysAccounts(2012, Collections.<Person>emptyList());
+
+        Assert.assertTrue("Should be empty", holidaysAccounts.isEmpty());
+
+        Mockito.verifyZeroInteractions(accountDAO);
+    }
 }
@@ -7,9 +7,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
 import org.synyx.urlaubsverwaltung.core.account.domain.Account;
+import org.synyx.urlaubsverwaltung.core.account.domain.UsedVacationDays;
 import org.synyx.urlaubsverwaltung.core.account.domain.VacationDaysLeft;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
@@ -20,6 +23,7 @@ import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeTimeline;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.period.NowService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
@@ -31,8 +35,12 @@ import java.io.IOException;
 
 import java.math.BigDecimal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -47,12 +55,19 @@ public class VacationDaysServiceTest {
 
     private ApplicationService applicationService;
     private NowService nowService;
+    private AccountService accountService;
+    private UsedVacationDaysDAO usedVacationDaysDAO;
 
     @Before
     public void setUp() throws IOException {
 
         applicationService = Mockito.mock(ApplicationService.class);
         nowService = Mockito.mock(NowService.class);
+        accountService = Mockito.mock(AccountService.class);
+        usedVacationDaysDAO = Mockito.mock(UsedVacationDaysDAO.class);
+
+        Mockito.when(usedVacationDaysDAO.save(Mockito.any(UsedVacationDays.class)))
+            .thenAnswer(invocation -> invocation.getArguments()[0]);
 
         WorkingTimeService workingTimeService = Mockito.mock(WorkingTimeService.class);
 
@@ -61,10 +76,10 @@ public class VacationDaysServiceTest {
         List<Integer> workingDays = Arrays.asList(DateTimeConstants.MONDAY, DateTimeConstants.TUESDAY,
                 DateTimeConstants.WEDNESDAY, DateTimeConstants.THURSDAY, DateTimeConstants.FRIDAY);
         workingTime.setWorkingDays(workingDays, DayLength.FULL);
+        workingTime.setValidFrom(new DateMidnight(2000, DateTimeConstants.JANUARY, 1));
 
-        Mockito.when(workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(Mockito.any(Person.class),
-                    Mockito.any(DateMidnight.class)))
-            .thenReturn(Optional.of(workingTime));
+        Mockito.when(workingTimeService.getTimeline(Mockito.any(Person.class)))
+            .thenReturn(new WorkingTimeTimeline(Collections.singletonList(workingTime)));
 
         SettingsService settingsService = Mockito.mock(SettingsService.class);
         Mockito.when(settingsService.getSettings()).thenReturn(new Settings());
@@ -72,7 +87,8 @@ public class VacationDaysServiceTest {
         WorkDaysService calendarService = new WorkDaysService(new PublicHolidaysService(settingsService),
                 workingTimeService, settingsService);
 
-        vacationDaysService = new VacationDaysService(calendarService, nowService, applicationService);
+        vacationDaysService = new VacationDaysService(calendarService, nowService, applicationService,
+                accountService, usedVacationDaysDAO);
     }
 
 
@@ -330,10 +346,316 @@ public class VacationDaysServiceTest {
     }
 
 
+    @Test
+    public void ensureCalculatesButDoesNotPersistUsedVacationDaysThatAreNotPersistedYet() {
+
+        initCustomService("4", "20");
+
+        Account account = getPersistedAccount(2015);
+
+        VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account);
+
+        Assert.assertEquals("Wrong number of vacation days", new BigDecimal("12"), vacationDaysLeft.getVacationDays());
+
+        Mockito.verify(usedVacationDaysDAO).findByAccount(account);
+        Mockito.verifyNoMoreInteractions(usedVacationDaysDAO);
+    }
+
+
+    @Test
+    public void ensureUsesPersistedUsedVacationDays() {
+
+        Account account = getPersistedAccount(2015);
+
+        Mockito.when(usedVacationDaysDAO.findByAccount(account))
+            .thenReturn(new UsedVacationDays(account, new BigDecimal("4"), new BigDecimal("20")));
+
+        VacationDaysLeft vacationDaysLeft = vacationDaysService.getVacationDaysLeft(account);
+
+        Assert.assertEquals("Wrong number of vacation days", new BigDecimal("12"), vacationDaysLeft.getVacationDays());
+        Assert.assertEquals("Wrong number of remaining vacation days", BigDecimal.ZERO,
+            vacationDaysLeft.getRemainingVacationDays());
+
+        Mockito.verifyZeroInteractions(applicationService);
+        Mockito.verify(usedVacationDaysDAO, Mockito.never()).save(Mockito.any(UsedVacationDays.class));
+    }
+
+
+    @Test
+    public void ensureDoesNotPersistUsedVacationDaysOfNotPersistedAccount() {
+
+        initCustomService("4", "20");
+
+        Account account = new Account();
+        account.setAnnualVacationDays(new BigDecimal("30"));
+        account.setVacationDays(new BigDecimal("30"));
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+
+        vacationDaysService.getVacationDaysLeft(account);
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAO);
+    }
+
+
+    @Test
+    public void ensureGetsVacationDaysLeftOfSeveralAccountsAtOnce() {
+
+        Account accountWithUsedVacationDays = getPersistedAccount(2015);
+        Account accountWithoutUsedVacationDays = getPersistedAccount(2015);
+        Mockito.doReturn(42).when(accountWithoutUsedVacationDays).getId();
+
+        Mockito.when(usedVacationDaysDAO.findByAccountIn(Mockito.anyListOf(Account.class)))
+            .thenReturn(Collections.singletonList(
+                    new UsedVacationDays(accountWithUsedVacationDays, new BigDecimal("4"), new BigDecimal("20"))));
+
+        // 2 days before April + 2 days after April
+        Person person = accountWithoutUsedVacationDays.getPerson();
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class), Mockito.eq(Collections.singletonList(person))))
+            .thenReturn(Collections.singletonList(getApplicationAroundApril(person, ApplicationStatus.ALLOWED)));
+
+        Map<Account, VacationDaysLeft> vacationDaysLeft = vacationDaysService.getVacationDaysLeft(Arrays.asList(
+                    accountWithUsedVacationDays, accountWithoutUsedVacationDays));
+
+        Assert.assertEquals("Wrong accounts", Arrays.asList(accountWithUsedVacationDays,
+                accountWithoutUsedVacationDays), new ArrayList<>(vacationDaysLeft.keySet()));
+        Assert.assertEquals("Wrong number of vacation days", new BigDecimal("12"),
+            vacationDaysLeft.get(accountWithUsedVacationDays).getVacationDays());
+        // the 2 days after April are taken from the 2 not expiring remaining vacation days
+        Assert.assertEquals("Wrong number of vacation days", 0,
+            new BigDecimal("30").compareTo(vacationDaysLeft.get(accountWithoutUsedVacationDays).getVacationDays()));
+        Assert.assertEquals("Wrong number of not expiring remaining vacation days", 0,
+            BigDecimal.ZERO.compareTo(
+                vacationDaysLeft.get(accountWithoutUsedVacationDays).getRemainingVacationDaysNotExpiring()));
+
+        Mockito.verify(usedVacationDaysDAO).findByAccountIn(Mockito.anyListOf(Account.class));
+        Mockito.verifyNoMoreInteractions(usedVacationDaysDAO);
+        Mockito.verify(applicationService, Mockito.never())
+            .getApplicationsForACertainPeriodAndPerson(Mockito.any(DateMidnight.class),
+                Mockito.any(DateMidnight.class), Mockito.any(Person.class));
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void ensurePersistsMissingUsedVacationDays() {
+
+        Account account = getPersistedAccount(2015);
+
+        Mockito.when(usedVacationDaysDAO.findAccountsWithoutUsedVacationDays())
+            .thenReturn(Collections.singletonList(account));
+
+        // 2 days before April + 2 days after April
+        Person person = account.getPerson();
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class), Mockito.eq(Collections.singletonList(person))))
+            .thenReturn(Collections.singletonList(getApplicationAroundApril(person, ApplicationStatus.ALLOWED)));
+
+        vacationDaysService.persistMissingUsedVacationDays();
+
+        ArgumentCaptor<Iterable> usedVacationDaysCaptor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(usedVacationDaysDAO).save(usedVacationDaysCaptor.capture());
+
+        Iterator<UsedVacationDays> persistedUsedVacationDays = usedVacationDaysCaptor.getValue().iterator();
+        UsedVacationDays usedVacationDays = persistedUsedVacationDays.next();
+        Assert.assertEquals("Wrong account", account, usedVacationDays.getAccount());
+        Assert.assertEquals("Wrong used days before April", 0,
+            new BigDecimal("2").compareTo(usedVacationDays.getUsedDaysBeforeApril()));
+        Assert.assertEquals("Wrong used days after April", 0,
+            new BigDecimal("2").compareTo(usedVacationDays.getUsedDaysAfterApril()));
+        Assert.assertFalse("Only the missing used vacation days should be persisted",
+            persistedUsedVacationDays.hasNext());
+    }
+
+
+    @Test
+    public void ensurePersistsNothingIfNoUsedVacationDaysAreMissing() {
+
+        Mockito.when(usedVacationDaysDAO.findAccountsWithoutUsedVacationDays())
+            .thenReturn(Collections.<Account>emptyList());
+
+        Assert.assertTrue("Should be empty", vacationDaysService.persistMissingUsedVacationDays().isEmpty());
+
+        Mockito.verify(usedVacationDaysDAO, Mockito.never()).save(Mockito.anyListOf(UsedVacationDays.class));
+    }
+
+
+    @Test
+    public void ensureGetsNoVacationDaysLeftWithoutAccounts() {
+
+        Map<Account, VacationDaysLeft> vacationDaysLeft = vacationDaysService.getVacationDaysLeft(
+                Collections.<Account>emptyList());
+
+        Assert.assertTrue("Should be empty", vacationDaysLeft.isEmpty());
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAO, applicationService);
+    }
+
+
+    @Test
+    public void ensureAddsUsedDaysOfNewApplicationForLeaveToPersistedUsedVacationDays() {
+
+        Account account = getPersistedAccount(2015);
+        mockHolidaysAccount(account);
+
+        // 2 days before April + 2 days after April
+        Application application = getApplicationAroundApril(account.getPerson(), ApplicationStatus.WAITING);
+
+        vacationDaysService.updateUsedVacationDays(application, Optional.empty());
+
+        verifyAddedUsedDays(account, "2", "2");
+        Mockito.verify(usedVacationDaysDAO, Mockito.never()).save(Mockito.any(UsedVacationDays.class));
+    }
+
+
+    @Test
+    public void ensureSubtractsUsedDaysOfCancelledApplicationForLeaveFromPersistedUsedVacationDays() {
+
+        Account account = getPersistedAccount(2015);
+        mockHolidaysAccount(account);
+
+        // 2 days before April + 2 days after April
+        Application application = getApplicationAroundApril(account.getPerson(), ApplicationStatus.CANCELLED);
+
+        vacationDaysService.updateUsedVacationDays(application, Optional.of(ApplicationStatus.ALLOWED));
+
+        verifyAddedUsedDays(account, "-2", "-2");
+    }
+
+
+    @Test
+    public void ensureDoesNotUpdatePersistedUsedVacationDaysIfApplicationForLeaveStillUsesVacationDays() {
+
+        Account account = getPersistedAccount(2015);
+        mockHolidaysAccount(account);
+
+        Application application = getApplicationAroundApril(account.getPerson(), ApplicationStatus.ALLOWED);
+
+        vacationDaysService.updateUsedVacationDays(application, Optional.of(ApplicationStatus.WAITING));
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAO);
+    }
+
+
+    @Test
+    public void ensureDoesNotUpdateUsedVacationDaysOfYearWithoutHolidaysAccount() {
+
+        Person person = TestDataCreator.createPerson();
+        Mockito.when(accountService.getHolidaysAccount(2015, person)).thenReturn(Optional.empty());
+
+        Application application = getApplicationAroundApril(person, ApplicationStatus.WAITING);
+
+        vacationDaysService.updateUsedVacationDays(application, Optional.empty());
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAO);
+    }
+
+
+    @Test
+    public void ensureUpdatesPersistedUsedVacationDaysOfBothYearsForApplicationForLeaveAtTurnOfTheYear() {
+
+        Account account2014 = getPersistedAccount(2014);
+        Account account2015 = getPersistedAccount(2015);
+        account2015.setPerson(account2014.getPerson());
+
+        mockHolidaysAccount(account2014);
+        mockHolidaysAccount(account2015);
+
+        // 2.5 days in 2014 (29.12., 30.12. and half of 31.12.) + 1 day in 2015 (2.1., since 1.1. is a public holiday)
+        Application application = new Application();
+        application.setPerson(account2014.getPerson());
+        application.setStartDate(new DateMidnight(2014, DateTimeConstants.DECEMBER, 29));
+        application.setEndDate(new DateMidnight(2015, DateTimeConstants.JANUARY, 2));
+        application.setDayLength(DayLength.FULL);
+        application.setStatus(ApplicationStatus.WAITING);
+        application.setVacationType(getVacationType(VacationCategory.HOLIDAY));
+
+        vacationDaysService.updateUsedVacationDays(application, Optional.empty());
+
+        verifyAddedUsedDays(account2014, "0", "2.5");
+        verifyAddedUsedDays(account2015, "1", "0");
+    }
+
+
+    @Test
+    public void ensureVerificationCorrectsDifferingPersistedUsedVacationDays() {
+
+        initCustomService("4", "20");
+
+        UsedVacationDays correctUsedVacationDays = new UsedVacationDays(getPersistedAccount(2014),
+                new BigDecimal("4.00"), new BigDecimal("20.00"));
+        UsedVacationDays differingUsedVacationDays = new UsedVacationDays(getPersistedAccount(2015),
+                new BigDecimal("3.00"), new BigDecimal("20.00"));
+
+        Mockito.when(usedVacationDaysDAO.findAll())
+            .thenReturn(Arrays.asList(correctUsedVacationDays, differingUsedVacationDays));
+
+        List<UsedVacationDays> correctedUsedVacationDays = vacationDaysService.verifyUsedVacationDays();
+
+        Assert.assertEquals("Wrong number of corrected used vacation days", 1, correctedUsedVacationDays.size());
+        Assert.assertEquals("Wrong used days before April", new BigDecimal("4"),
+            differingUsedVacationDays.getUsedDaysBeforeApril());
+
+        Mockito.verify(usedVacationDaysDAO).save(differingUsedVacationDays);
+        Mockito.verify(usedVacationDaysDAO, Mockito.never()).save(correctUsedVacationDays);
+    }
+
+
+    private Account getPersistedAccount(int year) {
+
+        Account account = Mockito.spy(new Account(TestDataCreator.createPerson(), new DateMidnight(year, 1, 1).toDate(),
+                    new DateMidnight(year, 12, 31).toDate(), new BigDecimal("30"), new BigDecimal("6"),
+                    new BigDecimal("2")));
+        account.setVacationDays(new BigDecimal("30"));
+
+        Mockito.doReturn(year).when(account).getId();
+
+        return account;
+    }
+
+
+    private void mockHolidaysAccount(Account account) {
+
+        Mockito.when(accountService.getHolidaysAccount(account.getYear(), account.getPerson()))
+            .thenReturn(Optional.of(account));
+    }
+
+
+    private void verifyAddedUsedDays(Account account, String daysBeforeApril, String daysAfterApril) {
+
+        ArgumentCaptor<BigDecimal> daysBeforeAprilCaptor = ArgumentCaptor.forClass(BigDecimal.class);
+        ArgumentCaptor<BigDecimal> daysAfterAprilCaptor = ArgumentCaptor.forClass(BigDecimal.class);
+
+        Mockito.verify(usedVacationDaysDAO)
+            .addUsedDays(Mockito.eq(account), daysBeforeAprilCaptor.capture(), daysAfterAprilCaptor.capture());
+
+        Assert.assertEquals("Wrong used days before April", 0,
+            new BigDecimal(daysBeforeApril).compareTo(daysBeforeAprilCaptor.getValue()));
+        Assert.assertEquals("Wrong used days after April", 0,
+            new BigDecimal(daysAfterApril).compareTo(daysAfterAprilCaptor.getValue()));
+    }
+
+
+    private Application getApplicationAroundApril(Person person, ApplicationStatus status) {
+
+        // 30.03. - 02.04.2015: Monday to Thursday
+        Application application = new Application();
+        application.setPerson(person);
+        application.setStartDate(new DateMidnight(2015, DateTimeConstants.MARCH, 30));
+        application.setEndDate(new DateMidnight(2015, DateTimeConstants.APRIL, 2));
+        application.setDayLength(DayLength.FULL);
+        application.setStatus(status);
+        application.setVacationType(getVacationType(VacationCategory.HOLIDAY));
+
+        return application;
+    }
+
+
     private void initCustomService(final String daysBeforeApril, final String daysAfterApril) {
 
         vacationDaysService = new VacationDaysService(Mockito.mock(WorkDaysService.class), nowService,
-                applicationService) {
+                applicationService, accountService, usedVacationDaysDAO) {
 
             @Override
             protected BigDecimal getUsedDaysBeforeApril(Account account) {
@@ -9,9 +9,14 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import org.synyx.urlaubsverwaltung.core.account.service.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
 import org.synyx.urlaubsverwaltung.core.application.domain.*;
 import org.synyx.urlaubsverwaltung.core.application.service.exception.ImpatientAboutApplicationForLeaveProcessException;
 import org.synyx.urlaubsverwaltung.core.application.service.exception.RemindAlreadySentException;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.mail.MailService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
@@ -25,6 +30,7 @@ import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMapping;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMappingService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,6 +58,11 @@ public class ApplicationInteractionServiceImplTest {
     private AbsenceMappingService absenceMappingService;
     private SettingsService settingsService;
     private DepartmentService departmentService;
+    private VacationDaysService vacationDaysService;
+    private ApplicationForLeaveDaysService applicationForLeaveDaysService;
+    private DepartmentCoverageService departmentCoverageService;
+    private DataVersionService dataVersionService;
+    private ChangeLogService changeLogService;
 
     @Before
     public void setUp() {
@@ -65,6 +76,11 @@ public class ApplicationInteractionServiceImplTest {
         absenceMappingService = Mockito.mock(AbsenceMappingService.class);
         settingsService = Mockito.mock(SettingsService.class);
         departmentService = Mockito.mock(DepartmentService.class);
+        vacationDaysService = Mockito.mock(VacationDaysService.class);
+        applicationForLeaveDaysService = Mockito.mock(ApplicationForLeaveDaysService.class);
+        departmentCoverageService = Mockito.mock(DepartmentCoverageService.class);
+        dataVersionService = Mockito.mock(DataVersionService.class);
+        changeLogService = Mockito.mock(ChangeLogService.class);
 
         Mockito.when(calendarSyncService.addAbsence(any(Absence.class))).thenReturn(Optional.of("42"));
         Mockito.when(absenceMappingService.getAbsenceByIdAndType(anyInt(), eq(AbsenceType.VACATION)))
@@ -73,7 +89,8 @@ public class ApplicationInteractionServiceImplTest {
 
         service = new ApplicationInteractionServiceImpl(applicationService, commentService, accountInteractionService,
                 signService, mailService, calendarSyncService, absenceMappingService, settingsService,
-                departmentService);
+                departmentService, vacationDaysService, applicationForLeaveDaysService, departmentCoverageService,
+                dataVersionService, changeLogService);
     }
 
 
@@ -185,6 +202,23 @@ public class ApplicationInteractionServiceImplTest {
         Mockito.verify(accountInteractionService).updateRemainingVacationDays(2013, person);
     }
 
+
+    @Test
+    public void ensureApplyingForLeaveUpdatesTheUsedVacationDays() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person applier = TestDataCreator.createPerson("applier");
+
+        Application applicationForLeave = getDummyApplication(person);
+
+        service.apply(applicationForLeave, applier, Optional.of("Foo"));
+
+        Mockito.verify(vacationDaysService).updateUsedVacationDays(applicationForLeave, Optional.empty());
+        Mockito.verify(applicationForLeaveDaysService).evict(person);
+        Mockito.verify(departmentCoverageService).evict(person);
+        Mockito.verify(dataVersionService).bump(person);
+    }
+
     // ALLOW APPLICATION FOR LEAVE -------------------------------------------------------------------------------------
 
 
@@ -628,6 +662,22 @@ public class ApplicationInteractionServiceImplTest {
     }
 
 
+    @Test
+    public void ensureRejectingApplicationForLeaveUpdatesTheUsedVacationDays() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person boss = TestDataCreator.createPerson("boss");
+
+        Application applicationForLeave = getDummyApplication(person);
+        applicationForLeave.setStatus(ApplicationStatus.WAITING);
+
+        service.reject(applicationForLeave, boss, Optional.of("Foo"));
+
+        Mockito.verify(vacationDaysService)
+            .updateUsedVacationDays(applicationForLeave, Optional.of(ApplicationStatus.WAITING));
+    }
+
+
     // CANCEL APPLICATION FOR LEAVE ------------------------------------------------------------------------------------
 
     @Test
@@ -723,6 +773,36 @@ public class ApplicationInteractionServiceImplTest {
     }
 
 
+    @Test
+    public void ensureCancellingAllowedApplicationForLeaveUpdatesTheUsedVacationDays() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        person.setPermissions(Arrays.asList(Role.USER, Role.OFFICE));
+
+        Application applicationForLeave = getDummyApplication(person);
+        applicationForLeave.setStatus(ApplicationStatus.ALLOWED);
+
+        service.cancel(applicationForLeave, person, Optional.of("Foo"));
+
+        Mockito.verify(vacationDaysService)
+            .updateUsedVacationDays(applicationForLeave, Optional.of(ApplicationStatus.ALLOWED));
+    }
+
+
+    @Test
+    public void ensureRequestingCancellationDoesNotUpdateTheUsedVacationDays() {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        Application applicationForLeave = getDummyApplication(person);
+        applicationForLeave.setStatus(ApplicationStatus.ALLOWED);
+
+        service.cancel(applicationForLeave, person, Optional.of("Foo"));
+
+        Mockito.verifyZeroInteractions(vacationDaysService);
+    }
+
+
     @Test
     public void ensureCancellingAllowedApplicationForLeaveOnBehalfForSomeOneChangesStateAndOtherAttributesAndSendsAnEmail() {
 
@@ -908,4 +988,22 @@ public class ApplicationInteractionServiceImplTest {
 
         Mockito.verify(mailService).sendReferApplicationNotification(applicationForLeave, recipient, sender);
     }
+
+
+    @Test
+    public void ensureApplyingForLeaveAndRejectingAreAppendedToChangeLog() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person boss = TestDataCreator.createPerson("boss");
+
+        Application applicationForLeave = getDummyApplication(person);
+
+        service.apply(applicationForLeave, person, Optional.empty());
+        service.reject(applicationForLeave, boss, Optional.empty());
+
+        Mockito.verify(changeLogService)
+            .append(ChangeType.APPLICATION, applicationForLeave.getId(), person, ApplicationAction.APPLIED.name());
+        Mockito.verify(changeLogService)
+            .append(ChangeType.APPLICATION, applicationForLeave.getId(), person, ApplicationAction.REJECTED.name());
+    }
 }
@@ -17,6 +17,10 @@ import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.math.BigDecimal;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -109,4 +113,35 @@ public class ApplicationServiceImplTest {
         Assert.assertNotNull("Should not be null", totalHours);
         Assert.assertEquals("Wrong total overtime reduction", BigDecimal.ONE, totalHours);
     }
+
+
+    @Test
+    public void ensureReturnsTotalOvertimeReductionOfSeveralPersonsAtOnce() throws IllegalAccessException {
+
+        Person person = TestDataCreator.createPerson(1, "muster");
+        Person personWithoutOvertimeReduction = TestDataCreator.createPerson(2, "dampf");
+        List<Person> persons = Arrays.asList(person, personWithoutOvertimeReduction);
+
+        Mockito.when(applicationDAO.calculateTotalOvertimeOfPersons(persons))
+            .thenReturn(Collections.singletonList(new Object[] { 1, BigDecimal.ONE }));
+
+        Map<Person, BigDecimal> totalHours = applicationService.getTotalOvertimeReductionOfPersons(persons);
+
+        Assert.assertEquals("Wrong number of persons", 2, totalHours.size());
+        Assert.assertEquals("Wrong total overtime reduction", BigDecimal.ONE, totalHours.get(person));
+        Assert.assertEquals("Wrong total overtime reduction", BigDecimal.ZERO,
+            totalHours.get(personWithoutOvertimeReduction));
+    }
+
+
+    @Test
+    public void ensureReturnsNoTotalOvertimeReductionWithoutPersons() {
+
+        Map<Person, BigDecimal> totalHours = applicationService.getTotalOvertimeReductionOfPersons(
+                Collections.<Person>emptyList());
+
+        Assert.assertTrue("Should be empty", totalHours.isEmpty());
+
+        Mockito.verifyZeroInteractions(applicationDAO);
+    }
 }
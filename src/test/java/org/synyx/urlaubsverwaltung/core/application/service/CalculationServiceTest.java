@@ -18,6 +18,7 @@ import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeTimeline;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
@@ -29,6 +30,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,10 +67,10 @@ public class CalculationServiceTest {
         List<Integer> workingDays = Arrays.asList(DateTimeConstants.MONDAY, DateTimeConstants.TUESDAY,
                 DateTimeConstants.WEDNESDAY, DateTimeConstants.THURSDAY, DateTimeConstants.FRIDAY);
         workingTime.setWorkingDays(workingDays, DayLength.FULL);
+        workingTime.setValidFrom(new DateMidnight(2000, DateTimeConstants.JANUARY, 1));
 
-        Mockito.when(workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(Mockito.any(Person.class),
-                    Mockito.any(DateMidnight.class)))
-            .thenReturn(Optional.of(workingTime));
+        Mockito.when(workingTimeService.getTimeline(Mockito.any(Person.class)))
+            .thenReturn(new WorkingTimeTimeline(Collections.singletonList(workingTime)));
 
         service = new CalculationService(vacationDaysService, accountService, accountInteractionService,
                 calendarService);
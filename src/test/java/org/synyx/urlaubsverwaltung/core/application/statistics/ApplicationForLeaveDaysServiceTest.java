@@ -0,0 +1,340 @@
+package org.synyx.urlaubsverwaltung.core.application.statistics;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.math.BigDecimal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Unit test for {@link ApplicationForLeaveDaysService}.
+ */
+public class ApplicationForLeaveDaysServiceTest {
+
+    private ApplicationService applicationService;
+    private WorkDaysService calendarService;
+
+    private ApplicationForLeaveDaysService service;
+
+    @Before
+    public void setUp() {
+
+        applicationService = Mockito.mock(ApplicationService.class);
+        calendarService = Mockito.mock(WorkDaysService.class);
+
+        // just return 1 day for each application for leave
+        Mockito.when(calendarService.getWorkDays(Mockito.anyListOf(WorkDaysRequest.class)))
+            .thenAnswer(invocation ->
+                    Collections.nCopies(((List<?>) invocation.getArguments()[0]).size(), BigDecimal.ONE));
+
+        service = new ApplicationForLeaveDaysService(applicationService, calendarService);
+    }
+
+
+    private static Application createApplication(Person person, DateMidnight startDate, DateMidnight endDate,
+        ApplicationStatus status) {
+
+        Application application = TestDataCreator.createApplication(person, startDate, endDate, DayLength.FULL);
+        application.setStatus(status);
+
+        return application;
+    }
+
+
+    @Test
+    public void ensureConsidersOnlyWaitingTemporaryAllowedAndAllowedApplicationsForLeave() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        DateMidnight date = new DateMidnight(2015, 10, 13);
+
+        Application waiting = createApplication(person, date, date, ApplicationStatus.WAITING);
+        Application temporaryAllowed = createApplication(person, date, date, ApplicationStatus.TEMPORARY_ALLOWED);
+        Application allowed = createApplication(person, date, date, ApplicationStatus.ALLOWED);
+        Application rejected = createApplication(person, date, date, ApplicationStatus.REJECTED);
+        Application cancelled = createApplication(person, date, date, ApplicationStatus.CANCELLED);
+
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1),
+                    new DateMidnight(2015, 12, 31), persons))
+            .thenReturn(Arrays.asList(waiting, temporaryAllowed, allowed, rejected, cancelled));
+
+        List<ApplicationForLeaveDays> days = service.getApplicationForLeaveDays(2015, persons).get(person);
+
+        Assert.assertEquals("Wrong number of applications for leave", 3, days.size());
+        Assert.assertEquals("Wrong status", ApplicationStatus.WAITING, days.get(0).getStatus());
+        Assert.assertEquals("Wrong status", ApplicationStatus.TEMPORARY_ALLOWED, days.get(1).getStatus());
+        Assert.assertEquals("Wrong status", ApplicationStatus.ALLOWED, days.get(2).getStatus());
+    }
+
+
+    @Test
+    public void ensureCalculatesOnlyTheWorkDaysWithinTheYearOfApplicationsForLeaveSpanningTwoYears() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        Application fromLastYear = createApplication(person, new DateMidnight(2014, 12, 29),
+                new DateMidnight(2015, 1, 9), ApplicationStatus.ALLOWED);
+        Application untilNextYear = createApplication(person, new DateMidnight(2015, 12, 21),
+                new DateMidnight(2016, 1, 4), ApplicationStatus.WAITING);
+
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1),
+                    new DateMidnight(2015, 12, 31), persons))
+            .thenReturn(Arrays.asList(untilNextYear, fromLastYear));
+
+        Mockito.when(calendarService.getWorkDays(
+                    Arrays.asList(
+                        new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2015, 12, 21),
+                            new DateMidnight(2015, 12, 31)),
+                        new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2015, 1, 1),
+                            new DateMidnight(2015, 1, 9)))))
+            .thenReturn(Arrays.asList(new BigDecimal("7"), new BigDecimal("5")));
+
+        List<ApplicationForLeaveDays> days = service.getApplicationForLeaveDays(2015, persons).get(person);
+
+        Assert.assertEquals("Wrong number of applications for leave", 2, days.size());
+        Assert.assertEquals("Wrong work days", new BigDecimal("7"), days.get(0).getWorkDays());
+        Assert.assertEquals("Wrong work days", new BigDecimal("5"), days.get(1).getWorkDays());
+
+        Assert.assertEquals("Start date should not be clipped", new DateMidnight(2014, 12, 29),
+            days.get(1).getStartDate());
+        Assert.assertEquals("End date should not be clipped", new DateMidnight(2016, 1, 4), days.get(0).getEndDate());
+    }
+
+
+    @Test
+    public void ensureContainsEveryGivenPersonEvenWithoutApplicationsForLeave() {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        Map<Person, List<ApplicationForLeaveDays>> days = service.getApplicationForLeaveDays(2015,
+                Collections.singletonList(person));
+
+        Assert.assertTrue("Should contain the person", days.containsKey(person));
+        Assert.assertTrue("Should have no applications for leave", days.get(person).isEmpty());
+    }
+
+
+    @Test
+    public void ensureFetchesOnlyTheApplicationsForLeaveOfPersonsWithoutCachedWorkDays() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("dampf");
+
+        service.getApplicationForLeaveDays(2015, Collections.singletonList(person));
+        service.getApplicationForLeaveDays(2015, Arrays.asList(person, otherPerson));
+
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                Collections.singletonList(person));
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                Collections.singletonList(otherPerson));
+        Mockito.verifyNoMoreInteractions(applicationService);
+    }
+
+
+    @Test
+    public void ensureCachesTheWorkDaysPerYear() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        service.getApplicationForLeaveDays(2015, persons);
+        service.getApplicationForLeaveDays(2016, persons);
+        service.getApplicationForLeaveDays(2015, persons);
+        service.getApplicationForLeaveDays(2016, persons);
+
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                persons);
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2016, 1, 1), new DateMidnight(2016, 12, 31),
+                persons);
+        Mockito.verifyNoMoreInteractions(applicationService);
+    }
+
+
+    @Test
+    public void ensureRecalculatesTheWorkDaysOfAPersonAfterEviction() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("dampf");
+        List<Person> persons = Arrays.asList(person, otherPerson);
+
+        service.getApplicationForLeaveDays(2015, persons);
+        service.evict(person);
+        service.getApplicationForLeaveDays(2015, persons);
+
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                persons);
+        Mockito.verify(applicationService)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                Collections.singletonList(person));
+        Mockito.verifyNoMoreInteractions(applicationService);
+    }
+
+
+    @Test
+    public void ensureEvictsTheWorkDaysOfAPersonAgainAfterCommit() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            service.evict(person);
+
+            // calculated from the not yet committed state
+            service.getApplicationForLeaveDays(2015, persons);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        service.getApplicationForLeaveDays(2015, persons);
+
+        Mockito.verify(applicationService, Mockito.times(2))
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                persons);
+    }
+
+
+    @Test
+    public void ensureRecalculatesTheWorkDaysOfAllPersonsAfterEvictingAll() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        service.getApplicationForLeaveDays(2015, persons);
+        service.evictAll();
+        service.getApplicationForLeaveDays(2015, persons);
+
+        Mockito.verify(applicationService, Mockito.times(2))
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                persons);
+    }
+
+
+    @Test
+    public void ensureRebuildRecalculatesTheWorkDaysOfTheCachedPersonsWithOneQueryPerYear() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("dampf");
+
+        service.getApplicationForLeaveDays(2015, Collections.singletonList(person));
+        service.getApplicationForLeaveDays(2015, Collections.singletonList(otherPerson));
+
+        DateTime created = service.getCreated(2015);
+
+        service.rebuild();
+
+        // one query for both persons
+        Mockito.verify(applicationService, Mockito.times(3))
+            .getApplicationsForACertainPeriodAndPersons(Mockito.any(DateMidnight.class),
+                Mockito.any(DateMidnight.class), Mockito.anyListOf(Person.class));
+
+        // rebuilt snapshot is used afterwards
+        service.getApplicationForLeaveDays(2015, Arrays.asList(person, otherPerson));
+
+        Mockito.verifyNoMoreInteractions(applicationService);
+
+        Assert.assertFalse("Snapshot should be recreated", service.getCreated(2015).isBefore(created));
+    }
+
+
+    @Test
+    public void ensureRebuildDoesNotRestoreTheWorkDaysOfAPersonEvictedDuringTheRebuild() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        service.getApplicationForLeaveDays(2015, persons);
+
+        // an application for leave of the person is changed while the snapshot is being rebuilt
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1),
+                    new DateMidnight(2015, 12, 31), persons))
+            .thenAnswer(invocation -> {
+                    service.evict(person);
+
+                    return Collections.emptyList();
+                });
+
+        service.rebuild();
+
+        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1),
+                    new DateMidnight(2015, 12, 31), persons))
+            .thenReturn(Collections.emptyList());
+
+        service.getApplicationForLeaveDays(2015, persons);
+
+        // the work days are calculated again on access instead of using the rebuilt ones
+        Mockito.verify(applicationService, Mockito.times(3))
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31),
+                persons);
+    }
+
+
+    @Test
+    public void ensureKeepsTheCreationTimeOfTheSnapshotOnEvictionOfAPerson() {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        service.getApplicationForLeaveDays(2015, Collections.singletonList(person));
+
+        DateTime created = service.getCreated(2015);
+
+        service.evict(person);
+
+        Assert.assertEquals("Wrong creation time", created, service.getCreated(2015));
+    }
+
+
+    @Test
+    public void ensureChecksIfApplicationForLeaveOverlapsPeriod() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Application application = createApplication(person, new DateMidnight(2015, 12, 21),
+                new DateMidnight(2016, 1, 4), ApplicationStatus.ALLOWED);
+
+        ApplicationForLeaveDays days = new ApplicationForLeaveDays(application, BigDecimal.ONE);
+
+        Assert.assertTrue("Should overlap", days.isOverlapping(new DateMidnight(2016, 1, 1),
+                new DateMidnight(2016, 3, 31)));
+        Assert.assertTrue("Should overlap", days.isOverlapping(new DateMidnight(2016, 1, 4),
+                new DateMidnight(2016, 1, 4)));
+        Assert.assertFalse("Should not overlap", days.isOverlapping(new DateMidnight(2016, 1, 5),
+                new DateMidnight(2016, 3, 31)));
+        Assert.assertFalse("Should not overlap", days.isOverlapping(new DateMidnight(2015, 4, 1),
+                new DateMidnight(2015, 12, 20)));
+    }
+}
@@ -0,0 +1,95 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+
+/**
+ * Unit test for {@link AbsenceIntervals}.
+ */
+public class AbsenceIntervalsTest {
+
+    private static AbsencePeriod period(int startDayOfMonth, int endDayOfMonth) {
+
+        return new AbsencePeriod(AbsencePeriod.Type.APPLICATION, null, new DateMidnight(2016, 3, startDayOfMonth),
+                new DateMidnight(2016, 3, endDayOfMonth), DayLength.FULL, "ALLOWED");
+    }
+
+
+    private static OverlapCase getOverlapCase(AbsenceIntervals intervals, int startDayOfMonth, int endDayOfMonth) {
+
+        return intervals.getOverlapCase(EpochDay.of(2016, 3, startDayOfMonth), EpochDay.of(2016, 3, endDayOfMonth));
+    }
+
+
+    @Test
+    public void ensureMergesUnsortedOverlappingAndAbuttingPeriods() {
+
+        AbsenceIntervals intervals = AbsenceIntervals.of(Arrays.asList(period(19, 20), period(10, 12), period(16, 18),
+                    period(11, 14)));
+
+        // 10.-14. and 16.-20.
+        Assert.assertEquals("Wrong number of intervals", 2, intervals.size());
+    }
+
+
+    @Test
+    public void ensureMergesPeriodsContainedInOtherPeriods() {
+
+        AbsenceIntervals intervals = AbsenceIntervals.of(Arrays.asList(period(1, 31), period(5, 6), period(10, 10)));
+
+        Assert.assertEquals("Wrong number of intervals", 1, intervals.size());
+        Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, getOverlapCase(intervals, 1, 31));
+    }
+
+
+    @Test
+    public void ensureDeterminesOverlapCase() {
+
+        AbsenceIntervals intervals = AbsenceIntervals.of(Arrays.asList(period(19, 20), period(10, 12), period(16, 18)));
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.NO_OVERLAPPING, getOverlapCase(intervals, 1, 9));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.NO_OVERLAPPING, getOverlapCase(intervals, 13, 15));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.NO_OVERLAPPING, getOverlapCase(intervals, 21, 31));
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, getOverlapCase(intervals, 10, 12));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, getOverlapCase(intervals, 11, 11));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, getOverlapCase(intervals, 17, 20));
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.PARTLY_OVERLAPPING, getOverlapCase(intervals, 9, 10));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.PARTLY_OVERLAPPING, getOverlapCase(intervals, 12, 16));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.PARTLY_OVERLAPPING, getOverlapCase(intervals, 10, 20));
+        Assert.assertEquals("Wrong overlap case", OverlapCase.PARTLY_OVERLAPPING, getOverlapCase(intervals, 20, 21));
+    }
+
+
+    @Test
+    public void ensureNoOverlappingForEmptyIntervals() {
+
+        AbsenceIntervals intervals = AbsenceIntervals.of(Collections.emptyList());
+
+        Assert.assertEquals("Wrong number of intervals", 0, intervals.size());
+        Assert.assertEquals("Wrong overlap case", OverlapCase.NO_OVERLAPPING, getOverlapCase(intervals, 1, 31));
+    }
+
+
+    @Test
+    public void ensureMarksCoveredDaysWithinThePeriodOnly() {
+
+        AbsenceIntervals intervals = AbsenceIntervals.of(Arrays.asList(period(1, 3), period(10, 12), period(5, 5)));
+
+        // period 2.-10.
+        byte[] days = new byte[9];
+        intervals.mark(days, EpochDay.of(2016, 3, 2), (byte) 2);
+
+        Assert.assertArrayEquals("Wrong marked days", new byte[] { 2, 2, 0, 2, 0, 0, 0, 0, 2 }, days);
+    }
+}
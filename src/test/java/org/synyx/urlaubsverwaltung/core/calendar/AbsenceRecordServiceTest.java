@@ -0,0 +1,202 @@
+package org.synyx.urlaubsverwaltung.core.calendar;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.data.domain.PageRequest;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationCategory;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteCategory;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * Unit test for {@link AbsenceRecordService}.
+ */
+public class AbsenceRecordServiceTest {
+
+    private AbsenceRecordDAO absenceRecordDAO;
+
+    private AbsenceRecordService service;
+
+    private DateMidnight from;
+    private DateMidnight to;
+
+    @Before
+    public void setUp() {
+
+        absenceRecordDAO = Mockito.mock(AbsenceRecordDAO.class);
+
+        service = new AbsenceRecordService(absenceRecordDAO);
+
+        from = new DateMidnight(2016, 1, 1);
+        to = new DateMidnight(2016, 12, 31);
+    }
+
+
+    private static Object[] applicationRow(int id, DateMidnight startDate) {
+
+        return new Object[] {
+            id, startDate.toDate(), startDate.toDate(), DayLength.MORNING, VacationCategory.HOLIDAY,
+            "Erholungsurlaub", ApplicationStatus.ALLOWED, "muster", "Muster", "Marlene", "muster@test.de"
+        };
+    }
+
+
+    @Test
+    public void ensureConvertsRows() {
+
+        Object[] row = new Object[] {
+            42, new DateMidnight(2016, 3, 1).toDate(), new DateMidnight(2016, 3, 4).toDate(), DayLength.FULL,
+            SickNoteCategory.SICK_NOTE_CHILD, "Kind-Krankmeldung", SickNoteStatus.ACTIVE, "muster", "Muster",
+            "Marlene", "muster@test.de"
+        };
+
+        Mockito.when(absenceRecordDAO.findSickNotes(SickNoteStatus.ACTIVE, from.toDate(), to.toDate(),
+                    AbsenceCursor.FIRST.getStartDate().toDate(), 0, new PageRequest(0, 10)))
+            .thenReturn(Collections.singletonList(row));
+
+        List<AbsenceRecord> records = service.getSickNotes(SickNoteStatus.ACTIVE, from, to, null, AbsenceCursor.FIRST,
+                10);
+
+        Assert.assertEquals("Wrong number of records", 1, records.size());
+
+        AbsenceRecord record = records.get(0);
+
+        Assert.assertEquals("Wrong id", Integer.valueOf(42), record.getId());
+        Assert.assertEquals("Wrong start date", new DateMidnight(2016, 3, 1), record.getStartDate());
+        Assert.assertEquals("Wrong end date", new DateMidnight(2016, 3, 4), record.getEndDate());
+        Assert.assertEquals("Wrong day length", DayLength.FULL, record.getDayLength());
+        Assert.assertEquals("Wrong category", "SICK_NOTE_CHILD", record.getCategory());
+        Assert.assertEquals("Wrong type name", "Kind-Krankmeldung", record.getTypeName());
+        Assert.assertEquals("Wrong status", "ACTIVE", record.getStatus());
+        Assert.assertEquals("Wrong login name", "muster", record.getPerson().getLoginName());
+        Assert.assertEquals("Wrong name", "Marlene Muster", record.getPerson().getNiceName());
+        Assert.assertEquals("Wrong email", "muster@test.de", record.getPerson().getEmail());
+    }
+
+
+    @Test
+    public void ensureLoadsPageAfterCursor() {
+
+        AbsenceCursor cursor = AbsenceCursor.parse("2016-03-01,42");
+
+        service.getApplications(ApplicationStatus.ALLOWED, from, to, null, cursor, 10);
+
+        Mockito.verify(absenceRecordDAO)
+            .findApplications(ApplicationStatus.ALLOWED, from.toDate(), to.toDate(),
+                new DateMidnight(2016, 3, 1).toDate(), 42, new PageRequest(0, 10));
+    }
+
+
+    @Test
+    public void ensureLoadsOnlyAbsencesOfPersonIfPersonIsGiven() {
+
+        service.getApplications(ApplicationStatus.ALLOWED, from, to, 23, AbsenceCursor.FIRST, 10);
+        service.getSickNotes(SickNoteStatus.ACTIVE, from, to, 23, AbsenceCursor.FIRST, 10);
+
+        Date first = AbsenceCursor.FIRST.getStartDate().toDate();
+
+        Mockito.verify(absenceRecordDAO)
+            .findApplicationsOfPerson(23, ApplicationStatus.ALLOWED, from.toDate(), to.toDate(), first, 0,
+                new PageRequest(0, 10));
+        Mockito.verify(absenceRecordDAO)
+            .findSickNotesOfPerson(23, SickNoteStatus.ACTIVE, from.toDate(), to.toDate(), first, 0,
+                new PageRequest(0, 10));
+        Mockito.verifyNoMoreInteractions(absenceRecordDAO);
+    }
+
+
+    @Test
+    public void ensureLoadsAllPagesForEachAbsence() {
+
+        List<Object[]> firstPage = new ArrayList<>();
+
+        for (int i = 1; i <= AbsenceRecordService.PAGE_SIZE; i++) {
+            firstPage.add(applicationRow(i, new DateMidnight(2016, 1, 4)));
+        }
+
+        DateMidnight lastStartDate = new DateMidnight(2016, 1, 4);
+        int lastId = AbsenceRecordService.PAGE_SIZE;
+
+        PageRequest page = new PageRequest(0, AbsenceRecordService.PAGE_SIZE);
+
+        Mockito.when(absenceRecordDAO.findApplications(ApplicationStatus.ALLOWED, from.toDate(), to.toDate(),
+                    AbsenceCursor.FIRST.getStartDate().toDate(), 0, page))
+            .thenReturn(firstPage);
+        Mockito.when(absenceRecordDAO.findApplications(ApplicationStatus.ALLOWED, from.toDate(), to.toDate(),
+                    lastStartDate.toDate(), lastId, page))
+            .thenReturn(Collections.singletonList(applicationRow(7, new DateMidnight(2016, 2, 1))));
+
+        List<AbsenceRecord> records = new ArrayList<>();
+
+        service.forEachApplication(ApplicationStatus.ALLOWED, from, to, null, records::add);
+
+        Assert.assertEquals("Wrong number of records", AbsenceRecordService.PAGE_SIZE + 1, records.size());
+        Assert.assertEquals("Wrong last record", Integer.valueOf(7), records.get(records.size() - 1).getId());
+
+        Mockito.verify(absenceRecordDAO, Mockito.times(2))
+            .findApplications(Mockito.any(ApplicationStatus.class), Mockito.any(Date.class), Mockito.any(Date.class),
+                Mockito.any(Date.class), Mockito.anyInt(), Mockito.any(PageRequest.class));
+    }
+
+
+    @Test
+    public void ensureStopsAfterEmptyPage() {
+
+        List<AbsenceRecord> records = new ArrayList<>();
+
+        service.forEachSickNote(SickNoteStatus.ACTIVE, from, to, null, records::add);
+
+        Assert.assertTrue("Should not contain any record", records.isEmpty());
+
+        Mockito.verify(absenceRecordDAO)
+            .findSickNotes(SickNoteStatus.ACTIVE, from.toDate(), to.toDate(),
+                AbsenceCursor.FIRST.getStartDate().toDate(), 0, new PageRequest(0, AbsenceRecordService.PAGE_SIZE));
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfLimitIsNotPositive() {
+
+        service.getApplications(ApplicationStatus.ALLOWED, from, to, null, AbsenceCursor.FIRST, 0);
+    }
+
+
+    @Test
+    public void ensureCursorCanBeParsedFromItsStringRepresentation() {
+
+        AbsenceCursor cursor = AbsenceCursor.parse("2016-03-01,42");
+
+        Assert.assertEquals("Wrong start date", new DateMidnight(2016, 3, 1), cursor.getStartDate());
+        Assert.assertEquals("Wrong id", 42, cursor.getId());
+        Assert.assertEquals("Wrong string representation", "2016-03-01,42", cursor.toString());
+        Assert.assertEquals("Should be equal", cursor, AbsenceCursor.parse(cursor.toString()));
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfCursorHasNoId() {
+
+        AbsenceCursor.parse("2016-03-01");
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfCursorHasInvalidStartDate() {
+
+        AbsenceCursor.parse("foo,42");
+    }
+}
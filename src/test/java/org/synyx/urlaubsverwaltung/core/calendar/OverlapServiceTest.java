@@ -10,18 +10,19 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
-import org.synyx.urlaubsverwaltung.core.application.dao.ApplicationDAO;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteDAO;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 
 /**
@@ -32,15 +33,46 @@ import java.util.Date;
 public class OverlapServiceTest {
 
     private OverlapService service;
-    private ApplicationDAO applicationDAO;
-    private SickNoteDAO sickNoteDAO;
+    private AbsencePeriodDAO absencePeriodDAO;
+    private Person person;
 
     @Before
     public void setup() {
 
-        applicationDAO = Mockito.mock(ApplicationDAO.class);
-        sickNoteDAO = Mockito.mock(SickNoteDAO.class);
-        service = new OverlapService(applicationDAO, sickNoteDAO);
+        absencePeriodDAO = Mockito.mock(AbsencePeriodDAO.class);
+        service = new OverlapService(absencePeriodDAO);
+
+        person = TestDataCreator.createPerson();
+    }
+
+
+    private void mockAbsences(List<?> absences) {
+
+        List<Object[]> rows = new ArrayList<>();
+
+        for (Object absence : absences) {
+            if (absence instanceof Application) {
+                Application application = (Application) absence;
+                rows.add(new Object[] { "APPLICATION", application.getId(), toSqlDate(application.getStartDate()),
+                        toSqlDate(application.getEndDate()), application.getDayLength().name(),
+                        application.getStatus().name() });
+            } else {
+                SickNote sickNote = (SickNote) absence;
+                rows.add(new Object[] { "SICK_NOTE", sickNote.getId(), toSqlDate(sickNote.getStartDate()),
+                        toSqlDate(sickNote.getEndDate()), sickNote.getDayLength().name(),
+                        sickNote.getStatus().name() });
+            }
+        }
+
+        Mockito.when(absencePeriodDAO.findByPersonAndPeriod(Mockito.anyInt(), Mockito.any(Date.class),
+                    Mockito.any(Date.class)))
+            .thenReturn(rows);
+    }
+
+
+    private static java.sql.Date toSqlDate(DateMidnight date) {
+
+        return new java.sql.Date(date.getMillis());
     }
 
 
@@ -51,22 +83,26 @@ public class OverlapServiceTest {
         DateMidnight endDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 18);
 
         Application cancelledApplication = new Application();
+
+        cancelledApplication.setPerson(person);
         cancelledApplication.setDayLength(DayLength.FULL);
         cancelledApplication.setStartDate(startDate);
         cancelledApplication.setEndDate(endDate);
         cancelledApplication.setStatus(ApplicationStatus.CANCELLED);
 
         Application rejectedApplication = new Application();
+
+        rejectedApplication.setPerson(person);
         rejectedApplication.setDayLength(DayLength.MORNING);
         rejectedApplication.setStartDate(startDate);
         rejectedApplication.setEndDate(endDate);
         rejectedApplication.setStatus(ApplicationStatus.REJECTED);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(cancelledApplication, rejectedApplication));
+        mockAbsences(Arrays.asList(cancelledApplication, rejectedApplication));
 
         Application applicationToBeChecked = new Application();
+
+        applicationToBeChecked.setPerson(person);
         applicationToBeChecked.setDayLength(DayLength.FULL);
         applicationToBeChecked.setStartDate(startDate);
         applicationToBeChecked.setEndDate(endDate);
@@ -81,15 +117,14 @@ public class OverlapServiceTest {
     @Test
     public void ensureNoOverlappingIfNoActiveApplicationsForLeaveInThePeriod() {
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(new ArrayList<>());
+        mockAbsences(Collections.emptyList());
 
         DateMidnight startDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 16);
         DateMidnight endDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 18);
 
         // application for leave to check: 16.01. - 18.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(startDate);
         applicationToCheck.setEndDate(endDate);
@@ -106,6 +141,7 @@ public class OverlapServiceTest {
 
         // first application for leave: 16.01. - 18.01.
         Application waitingApplication = new Application();
+        waitingApplication.setPerson(person);
         waitingApplication.setDayLength(DayLength.FULL);
         waitingApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         waitingApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
@@ -113,17 +149,17 @@ public class OverlapServiceTest {
 
         // second application for leave: 19.01. - 20.01.
         Application allowedApplication = new Application();
+        allowedApplication.setPerson(person);
         allowedApplication.setDayLength(DayLength.FULL);
         allowedApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
         allowedApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
         allowedApplication.setStatus(ApplicationStatus.ALLOWED);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(waitingApplication, allowedApplication));
+        mockAbsences(Arrays.asList(waitingApplication, allowedApplication));
 
         // application for leave to check: 18.01. - 19.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
@@ -140,17 +176,17 @@ public class OverlapServiceTest {
 
         // application for leave: 16.01. - 18.01.
         Application waitingApplication = new Application();
+        waitingApplication.setPerson(person);
         waitingApplication.setDayLength(DayLength.FULL);
         waitingApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         waitingApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         waitingApplication.setStatus(ApplicationStatus.WAITING);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(waitingApplication));
+        mockAbsences(Arrays.asList(waitingApplication));
 
         // application for leave to check: 14.01. - 16.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 14));
         applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
@@ -167,17 +203,17 @@ public class OverlapServiceTest {
 
         // application for leave: 16.01. - 18.01.
         Application allowedApplication = new Application();
+        allowedApplication.setPerson(person);
         allowedApplication.setDayLength(DayLength.FULL);
         allowedApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         allowedApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         allowedApplication.setStatus(ApplicationStatus.ALLOWED);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(allowedApplication));
+        mockAbsences(Arrays.asList(allowedApplication));
 
         // application for leave to check: 18.01. - 20.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
@@ -196,17 +232,18 @@ public class OverlapServiceTest {
         DateMidnight endDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 18);
 
         SickNote inactiveSickNote = new SickNote();
+
+        inactiveSickNote.setPerson(person);
         inactiveSickNote.setDayLength(DayLength.FULL);
         inactiveSickNote.setStartDate(startDate);
         inactiveSickNote.setEndDate(endDate);
         inactiveSickNote.setStatus(SickNoteStatus.CANCELLED);
 
-        Mockito.when(sickNoteDAO.findByPersonAndPeriod(Mockito.any(Person.class), Mockito.any(Date.class),
-                    Mockito.any(Date.class)))
-            .thenReturn(Arrays.asList(inactiveSickNote));
+        mockAbsences(Arrays.asList(inactiveSickNote));
 
         // sick note to be checked: 16.01. - 18.01.
         SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
@@ -221,12 +258,11 @@ public class OverlapServiceTest {
     @Test
     public void ensureNoOverlappingIfNoActiveSickNotesInThePeriod() {
 
-        Mockito.when(sickNoteDAO.findByPersonAndPeriod(Mockito.any(Person.class), Mockito.any(Date.class),
-                    Mockito.any(Date.class)))
-            .thenReturn(new ArrayList<SickNote>());
+        mockAbsences(Collections.emptyList());
 
         // sick note to be checked: 16.01. - 18.01.
         SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
@@ -243,17 +279,17 @@ public class OverlapServiceTest {
 
         // sick note: 16.01. - 19.01.
         SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
         sickNote.setStatus(SickNoteStatus.ACTIVE);
 
-        Mockito.when(sickNoteDAO.findByPersonAndPeriod(Mockito.any(Person.class), Mockito.any(Date.class),
-                    Mockito.any(Date.class)))
-            .thenReturn(Arrays.asList(sickNote));
+        mockAbsences(Arrays.asList(sickNote));
 
         // application for leave to check: 18.01. - 19.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
@@ -270,17 +306,17 @@ public class OverlapServiceTest {
 
         // sick note: 16.01. - 18.01.
         SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
         sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
         sickNote.setStatus(SickNoteStatus.ACTIVE);
 
-        Mockito.when(sickNoteDAO.findByPersonAndPeriod(Mockito.any(Person.class), Mockito.any(Date.class),
-                    Mockito.any(Date.class)))
-            .thenReturn(Arrays.asList(sickNote));
+        mockAbsences(Arrays.asList(sickNote));
 
         // application for leave to check: 14.01. - 16.01.
         Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
         applicationToCheck.setDayLength(DayLength.FULL);
         applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 14));
         applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
@@ -297,18 +333,18 @@ public class OverlapServiceTest {
 
         // sick note: 16.03. - 16.03.
         SickNote existentSickNote = new SickNote();
+        existentSickNote.setPerson(person);
         existentSickNote.setId(23);
         existentSickNote.setDayLength(DayLength.FULL);
         existentSickNote.setStartDate(new DateMidnight(2015, DateTimeConstants.MARCH, 16));
         existentSickNote.setEndDate(new DateMidnight(2015, DateTimeConstants.MARCH, 16));
         existentSickNote.setStatus(SickNoteStatus.ACTIVE);
 
-        Mockito.when(sickNoteDAO.findByPersonAndPeriod(Mockito.any(Person.class), Mockito.any(Date.class),
-                    Mockito.any(Date.class)))
-            .thenReturn(Arrays.asList(existentSickNote));
+        mockAbsences(Arrays.asList(existentSickNote));
 
         // sick note should be edited to: 16.03. - 17.03.
         SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
         sickNote.setId(23);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(new DateMidnight(2015, DateTimeConstants.MARCH, 16));
@@ -329,16 +365,18 @@ public class OverlapServiceTest {
         DateMidnight vacationDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 16);
 
         Application morningVacation = new Application();
+
+        morningVacation.setPerson(person);
         morningVacation.setDayLength(DayLength.MORNING);
         morningVacation.setStartDate(vacationDate);
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(ApplicationStatus.WAITING);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(morningVacation));
+        mockAbsences(Arrays.asList(morningVacation));
 
         Application noonVacation = new Application();
+
+        noonVacation.setPerson(person);
         noonVacation.setDayLength(DayLength.NOON);
         noonVacation.setStartDate(vacationDate);
         noonVacation.setEndDate(vacationDate);
@@ -356,16 +394,18 @@ public class OverlapServiceTest {
         DateMidnight vacationDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 16);
 
         Application morningVacation = new Application();
+
+        morningVacation.setPerson(person);
         morningVacation.setDayLength(DayLength.MORNING);
         morningVacation.setStartDate(vacationDate);
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(ApplicationStatus.WAITING);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(morningVacation));
+        mockAbsences(Arrays.asList(morningVacation));
 
         Application otherMorningVacation = new Application();
+
+        otherMorningVacation.setPerson(person);
         otherMorningVacation.setDayLength(DayLength.MORNING);
         otherMorningVacation.setStartDate(vacationDate);
         otherMorningVacation.setEndDate(vacationDate);
@@ -383,16 +423,18 @@ public class OverlapServiceTest {
         DateMidnight vacationDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 16);
 
         Application morningVacation = new Application();
+
+        morningVacation.setPerson(person);
         morningVacation.setDayLength(DayLength.MORNING);
         morningVacation.setStartDate(vacationDate);
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(ApplicationStatus.WAITING);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(morningVacation));
+        mockAbsences(Arrays.asList(morningVacation));
 
         Application fullDayVacation = new Application();
+
+        fullDayVacation.setPerson(person);
         fullDayVacation.setDayLength(DayLength.FULL);
         fullDayVacation.setStartDate(vacationDate);
         fullDayVacation.setEndDate(vacationDate);
@@ -410,16 +452,18 @@ public class OverlapServiceTest {
         DateMidnight vacationDate = new DateMidnight(2012, DateTimeConstants.JANUARY, 16);
 
         Application morningVacation = new Application();
+
+        morningVacation.setPerson(person);
         morningVacation.setDayLength(DayLength.MORNING);
         morningVacation.setStartDate(vacationDate);
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(ApplicationStatus.ALLOWED);
 
-        Mockito.when(applicationDAO.getApplicationsForACertainTimeAndPerson(Mockito.any(Date.class),
-                    Mockito.any(Date.class), Mockito.any(Person.class)))
-            .thenReturn(Arrays.asList(morningVacation));
+        mockAbsences(Arrays.asList(morningVacation));
 
         SickNote sickNote = new SickNote();
+
+        sickNote.setPerson(person);
         sickNote.setDayLength(DayLength.FULL);
         sickNote.setStartDate(vacationDate);
         sickNote.setEndDate(vacationDate);
@@ -430,4 +474,184 @@ public class OverlapServiceTest {
         Assert.assertNotNull("Should not be null", overlapCase);
         Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, overlapCase);
     }
+
+
+    @Test
+    public void ensureFullyOverlappingIfUnsortedApplicationsForLeaveAndSickNotesAbut() {
+
+        // application for leave: 19.01. - 20.01.
+        Application application = new Application();
+        application.setPerson(person);
+        application.setDayLength(DayLength.FULL);
+        application.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
+        application.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+        application.setStatus(ApplicationStatus.ALLOWED);
+
+        // sick note: 16.01. - 18.01.
+        SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
+        sickNote.setDayLength(DayLength.FULL);
+        sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
+        sickNote.setStatus(SickNoteStatus.ACTIVE);
+
+        mockAbsences(Arrays.asList(application, sickNote));
+
+        // application for leave to check: 16.01. - 20.01.
+        Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
+        applicationToCheck.setDayLength(DayLength.FULL);
+        applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+
+        OverlapCase overlapCase = service.checkOverlap(applicationToCheck);
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.FULLY_OVERLAPPING, overlapCase);
+    }
+
+
+    @Test
+    public void ensurePartlyOverlappingIfUnsortedApplicationsForLeaveAndSickNotesHaveAGap() {
+
+        // application for leave: 20.01. - 20.01.
+        Application application = new Application();
+        application.setPerson(person);
+        application.setDayLength(DayLength.FULL);
+        application.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+        application.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+        application.setStatus(ApplicationStatus.WAITING);
+
+        // sick note: 16.01. - 18.01.
+        SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
+        sickNote.setDayLength(DayLength.FULL);
+        sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
+        sickNote.setStatus(SickNoteStatus.ACTIVE);
+
+        mockAbsences(Arrays.asList(application, sickNote));
+
+        // sick note to check: 16.01. - 20.01., 19.01. is not covered
+        SickNote sickNoteToCheck = new SickNote();
+        sickNoteToCheck.setPerson(person);
+        sickNoteToCheck.setDayLength(DayLength.FULL);
+        sickNoteToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        sickNoteToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+
+        OverlapCase overlapCase = service.checkOverlap(sickNoteToCheck);
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.PARTLY_OVERLAPPING, overlapCase);
+    }
+
+
+    @Test
+    public void ensureQueriesAbsencesOfThePersonInThePeriod() throws IllegalAccessException {
+
+        Person personWithId = TestDataCreator.createPerson(42, "muster");
+
+        mockAbsences(Collections.emptyList());
+
+        Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(personWithId);
+        applicationToCheck.setDayLength(DayLength.FULL);
+        applicationToCheck.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        applicationToCheck.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+
+        service.checkOverlap(applicationToCheck);
+
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonAndPeriod(42, new DateMidnight(2012, DateTimeConstants.JANUARY, 16).toDate(),
+                new DateMidnight(2012, DateTimeConstants.JANUARY, 20).toDate());
+    }
+
+
+    @Test
+    public void ensureOverlapCalendarDistinguishesFreePartlyAndFullyBlockedDays() {
+
+        // application for leave in the morning: 16.01. - 17.01.
+        Application morningApplication = new Application();
+        morningApplication.setPerson(person);
+        morningApplication.setDayLength(DayLength.MORNING);
+        morningApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 16));
+        morningApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 17));
+        morningApplication.setStatus(ApplicationStatus.ALLOWED);
+
+        // application for leave at noon: 17.01. - 18.01.
+        Application noonApplication = new Application();
+        noonApplication.setPerson(person);
+        noonApplication.setDayLength(DayLength.NOON);
+        noonApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 17));
+        noonApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 18));
+        noonApplication.setStatus(ApplicationStatus.WAITING);
+
+        // sick note: 20.01. - 25.01., exceeding the period
+        SickNote sickNote = new SickNote();
+        sickNote.setPerson(person);
+        sickNote.setDayLength(DayLength.FULL);
+        sickNote.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 20));
+        sickNote.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 25));
+        sickNote.setStatus(SickNoteStatus.ACTIVE);
+
+        // rejected application for leave: 19.01. - 19.01.
+        Application rejectedApplication = new Application();
+        rejectedApplication.setPerson(person);
+        rejectedApplication.setDayLength(DayLength.FULL);
+        rejectedApplication.setStartDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
+        rejectedApplication.setEndDate(new DateMidnight(2012, DateTimeConstants.JANUARY, 19));
+        rejectedApplication.setStatus(ApplicationStatus.REJECTED);
+
+        mockAbsences(Arrays.asList(sickNote, noonApplication, rejectedApplication, morningApplication));
+
+        OverlapCalendar overlapCalendar = service.getOverlapCalendar(person,
+                new DateMidnight(2012, DateTimeConstants.JANUARY, 15),
+                new DateMidnight(2012, DateTimeConstants.JANUARY, 21));
+
+        Assert.assertEquals("Wrong start date", new DateMidnight(2012, DateTimeConstants.JANUARY, 15),
+            overlapCalendar.getStartDate());
+        Assert.assertEquals("Wrong end date", new DateMidnight(2012, DateTimeConstants.JANUARY, 21),
+            overlapCalendar.getEndDate());
+
+        OverlapCase[] expected = {
+            OverlapCase.NO_OVERLAPPING, // 15.01.
+            OverlapCase.PARTLY_OVERLAPPING, // 16.01.
+            OverlapCase.FULLY_OVERLAPPING, // 17.01.
+            OverlapCase.PARTLY_OVERLAPPING, // 18.01.
+            OverlapCase.NO_OVERLAPPING, // 19.01.
+            OverlapCase.FULLY_OVERLAPPING, // 20.01.
+            OverlapCase.FULLY_OVERLAPPING // 21.01.
+        };
+
+        for (int i = 0; i < expected.length; i++) {
+            DateMidnight date = new DateMidnight(2012, DateTimeConstants.JANUARY, 15 + i);
+            Assert.assertEquals("Wrong overlap case for " + date, expected[i], overlapCalendar.getOverlapCase(date));
+        }
+    }
+
+
+    @Test
+    public void ensureOverlapCalendarQueriesAbsencesOnlyOnce() throws IllegalAccessException {
+
+        Person personWithId = TestDataCreator.createPerson(42, "muster");
+
+        mockAbsences(Collections.emptyList());
+
+        OverlapCalendar overlapCalendar = service.getOverlapCalendar(personWithId,
+                new DateMidnight(2012, DateTimeConstants.JANUARY, 1),
+                new DateMidnight(2012, DateTimeConstants.DECEMBER, 31));
+
+        Assert.assertEquals("Wrong overlap case", OverlapCase.NO_OVERLAPPING,
+            overlapCalendar.getOverlapCase(new DateMidnight(2012, DateTimeConstants.JUNE, 1)));
+
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonAndPeriod(42, new DateMidnight(2012, DateTimeConstants.JANUARY, 1).toDate(),
+                new DateMidnight(2012, DateTimeConstants.DECEMBER, 31).toDate());
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureOverlapCalendarThrowsIfStartDateIsAfterEndDate() {
+
+        service.getOverlapCalendar(person, new DateMidnight(2012, DateTimeConstants.JANUARY, 2),
+            new DateMidnight(2012, DateTimeConstants.JANUARY, 1));
+    }
 }
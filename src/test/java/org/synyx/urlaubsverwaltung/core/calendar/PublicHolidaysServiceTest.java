@@ -1,6 +1,8 @@
 
 package org.synyx.urlaubsverwaltung.core.calendar;
 
+import de.jollyday.Holiday;
+
 import org.joda.time.DateMidnight;
 import org.joda.time.DateTimeConstants;
 
@@ -19,6 +21,8 @@ import java.io.IOException;
 
 import java.math.BigDecimal;
 
+import java.util.Set;
+
 
 /**
  * Unit test for {@link org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService}.
@@ -273,4 +277,132 @@ public class PublicHolidaysServiceTest {
 
         Assert.assertEquals("Wrong working duration", BigDecimal.ZERO, workingDuration);
     }
+
+
+    @Test
+    public void ensureWorkingDurationTableContainsEveryDayOfTheYear() {
+
+        WorkingDurationTable table = publicHolidaysService.getWorkingDurationTable(2016, state);
+
+        Assert.assertEquals("Wrong year", 2016, table.getYear());
+        Assert.assertEquals("Wrong working duration", 2,
+            table.getHalfDays(new DateMidnight(2016, DateTimeConstants.DECEMBER, 30)));
+        Assert.assertEquals("Wrong working duration", 1,
+            table.getHalfDays(new DateMidnight(2016, DateTimeConstants.DECEMBER, 31)));
+        Assert.assertEquals("Wrong working duration", 0,
+            table.getHalfDays(new DateMidnight(2016, DateTimeConstants.JANUARY, 1)));
+    }
+
+
+    @Test
+    public void ensureWorkingDurationTableIsCachedPerYearAndFederalState() {
+
+        int year = DateMidnight.now().getYear();
+
+        WorkingDurationTable table = publicHolidaysService.getWorkingDurationTable(year, state);
+
+        Assert.assertSame("Table should be cached", table, publicHolidaysService.getWorkingDurationTable(year, state));
+        Assert.assertNotSame("Table should be per year", table,
+            publicHolidaysService.getWorkingDurationTable(year - 1, state));
+        Assert.assertNotSame("Table should be per federal state", table,
+            publicHolidaysService.getWorkingDurationTable(year, FederalState.BERLIN));
+    }
+
+
+    @Test
+    public void ensureWorkingDurationTableOfDistantYearIsNotCached() {
+
+        int year = DateMidnight.now().getYear() + 50;
+
+        WorkingDurationTable table = publicHolidaysService.getWorkingDurationTable(year, state);
+
+        Assert.assertEquals("Wrong year", year, table.getYear());
+        Assert.assertNotSame("Table should not be cached", table,
+            publicHolidaysService.getWorkingDurationTable(year, state));
+    }
+
+
+    @Test
+    public void ensureWorkingDurationTablesWithSameWorkingDurationsAreEqual() {
+
+        int year = DateMidnight.now().getYear() + 50;
+
+        WorkingDurationTable table = publicHolidaysService.getWorkingDurationTable(year, state);
+        WorkingDurationTable rebuiltTable = publicHolidaysService.getWorkingDurationTable(year, state);
+
+        Assert.assertEquals("Tables should be equal", table, rebuiltTable);
+        Assert.assertEquals("Hash codes should be equal", table.hashCode(), rebuiltTable.hashCode());
+        Assert.assertNotEquals("Tables of other years should not be equal", table,
+            publicHolidaysService.getWorkingDurationTable(year + 1, state));
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.ZERO);
+
+        Mockito.when(settingsService.getSettings()).thenReturn(settings);
+
+        Assert.assertNotEquals("Tables with other working durations should not be equal", table,
+            publicHolidaysService.getWorkingDurationTable(year, state));
+    }
+
+
+    @Test
+    public void ensurePublicHolidaysAreCachedPerYearAndFederalState() {
+
+        int year = DateMidnight.now().getYear();
+
+        Set<Holiday> holidays = publicHolidaysService.getHolidays(year, state);
+
+        Assert.assertFalse("Missing public holidays", holidays.isEmpty());
+        Assert.assertSame("Public holidays should be cached", holidays, publicHolidaysService.getHolidays(year, state));
+        Assert.assertNotSame("Public holidays should be per year", holidays,
+            publicHolidaysService.getHolidays(year - 1, state));
+        Assert.assertNotSame("Public holidays should be per federal state", holidays,
+            publicHolidaysService.getHolidays(year, FederalState.BERLIN));
+    }
+
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void ensureCachedPublicHolidaysCanNotBeModified() {
+
+        publicHolidaysService.getHolidays(DateMidnight.now().getYear(), state).clear();
+    }
+
+
+    @Test
+    public void ensurePublicHolidaysOfDistantYearAreNotCached() {
+
+        int year = DateMidnight.now().getYear() - 50;
+
+        Set<Holiday> holidays = publicHolidaysService.getHolidays(year, state);
+
+        Assert.assertEquals("Wrong public holidays", holidays, publicHolidaysService.getHolidays(year, state));
+        Assert.assertNotSame("Public holidays should not be cached", holidays,
+            publicHolidaysService.getHolidays(year, state));
+    }
+
+
+    @Test
+    public void ensureWorkingDurationTableIsRebuiltIfSettingsForChristmasEveChange() {
+
+        DateMidnight christmasEve = new DateMidnight(2016, DateTimeConstants.DECEMBER, 24);
+
+        Assert.assertEquals("Wrong working duration", new BigDecimal("0.5"),
+            publicHolidaysService.getWorkingDurationOfDate(christmasEve, state));
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.ZERO);
+
+        Mockito.when(settingsService.getSettings()).thenReturn(settings);
+
+        Assert.assertEquals("Wrong working duration", BigDecimal.ZERO,
+            publicHolidaysService.getWorkingDurationOfDate(christmasEve, state));
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureWorkingDurationTableThrowsIfDateIsNotInTheYearOfTheTable() {
+
+        publicHolidaysService.getWorkingDurationTable(2016, state)
+            .getWorkingDuration(new DateMidnight(2015, DateTimeConstants.DECEMBER, 30));
+    }
 }
@@ -11,8 +11,10 @@ import org.mockito.Mockito;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.VacationCategory;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.NoValidWorkingTimeException;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeTimeline;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
@@ -25,8 +27,11 @@ import java.io.IOException;
 import java.math.BigDecimal;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -64,10 +69,10 @@ public class WorkDaysServiceTest {
                 TestDataCreator.createVacationType(VacationCategory.HOLIDAY));
 
         workingTime = TestDataCreator.createWorkingTime();
+        workingTime.setValidFrom(new DateMidnight(2000, DateTimeConstants.JANUARY, 1));
 
-        Mockito.when(workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(Mockito.eq(person),
-                    Mockito.any(DateMidnight.class)))
-            .thenReturn(Optional.of(workingTime));
+        Mockito.when(workingTimeService.getTimeline(person))
+            .thenReturn(new WorkingTimeTimeline(Collections.singletonList(workingTime)));
     }
 
 
@@ -321,12 +326,212 @@ public class WorkDaysServiceTest {
 
         workingTime.setFederalStateOverride(FederalState.BAYERN_AUGSBURG);
 
-        Mockito.when(workingTimeService.getByPersonAndValidityDateEqualsOrMinorDate(Mockito.eq(person),
-                    Mockito.any(DateMidnight.class)))
-            .thenReturn(Optional.of(workingTime));
+        BigDecimal workDays = instance.getWorkDays(DayLength.FULL, from, to, person);
+
+        assertEquals(new BigDecimal("0.0"), workDays);
+    }
+
+
+    @Test
+    public void ensureCorrectWorkDaysForPeriodSpanningSeveralYears() {
+
+        DateMidnight from = new DateMidnight(2014, DateTimeConstants.DECEMBER, 29);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.JANUARY, 8);
+
+        BigDecimal workDays = instance.getWorkDays(DayLength.FULL, from, to, person);
+
+        // 2014: 29., 30. and half of 31. December = 2.5
+        // 2015: 261 weekdays minus 9 public holidays on weekdays and two half days for Christmas and New Year's Eve
+        // = 251
+        // 2016: 4. - 8. January minus Epiphany = 4
+        assertEquals(new BigDecimal("257.5"), workDays);
+    }
+
+
+    @Test
+    public void ensureWorkDaysAreZeroIfStartDateIsAfterEndDate() {
+
+        DateMidnight from = new DateMidnight(2016, DateTimeConstants.AUGUST, 16);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.AUGUST, 15);
 
         BigDecimal workDays = instance.getWorkDays(DayLength.FULL, from, to, person);
 
         assertEquals(new BigDecimal("0.0"), workDays);
     }
+
+
+    @Test
+    public void ensureChangedWorkingDaysAreConsideredForAlreadyCalculatedPeriod() {
+
+        DateMidnight from = new DateMidnight(2016, DateTimeConstants.AUGUST, 15);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.AUGUST, 21);
+
+        assertEquals(new BigDecimal("5.0"), instance.getWorkDays(DayLength.FULL, from, to, person));
+
+        workingTime.setWorkingDays(Arrays.asList(DateTimeConstants.MONDAY, DateTimeConstants.TUESDAY),
+            DayLength.FULL);
+
+        assertEquals(new BigDecimal("2.0"), instance.getWorkDays(DayLength.FULL, from, to, person));
+    }
+
+
+    @Test(expected = NoValidWorkingTimeException.class)
+    public void ensureThrowsIfPersonHasNoValidWorkingTimeAtStartDate() {
+
+        DateMidnight from = new DateMidnight(1999, DateTimeConstants.DECEMBER, 27);
+        DateMidnight to = new DateMidnight(2000, DateTimeConstants.JANUARY, 7);
+
+        instance.getWorkDays(DayLength.FULL, from, to, person);
+    }
+
+
+    @Test
+    public void ensureConsidersChangeOfWorkingTimeWithinPeriod() {
+
+        WorkingTime workingTimeSinceAugust = TestDataCreator.createWorkingTime();
+        workingTimeSinceAugust.setWorkingDays(Arrays.asList(DateTimeConstants.MONDAY, DateTimeConstants.TUESDAY),
+            DayLength.FULL);
+        workingTimeSinceAugust.setValidFrom(new DateMidnight(2016, DateTimeConstants.AUGUST, 17));
+
+        Mockito.when(workingTimeService.getTimeline(person))
+            .thenReturn(new WorkingTimeTimeline(Arrays.asList(workingTime, workingTimeSinceAugust)));
+
+        // Monday, 15th August until Tuesday, 23th August
+        DateMidnight from = new DateMidnight(2016, DateTimeConstants.AUGUST, 15);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.AUGUST, 23);
+
+        BigDecimal workDays = instance.getWorkDays(DayLength.FULL, from, to, person);
+
+        // 15th and 16th with MON-FRI working time, 17th - 23th with MON-TUE working time
+        assertEquals(new BigDecimal("4.0"), workDays);
+    }
+
+
+    @Test
+    public void ensureConsidersChangeOfFederalStateWithinPeriod() {
+
+        WorkingTime workingTimeInBavaria = TestDataCreator.createWorkingTime();
+        workingTimeInBavaria.setFederalStateOverride(FederalState.BAYERN_AUGSBURG);
+        workingTimeInBavaria.setValidFrom(new DateMidnight(2016, DateTimeConstants.AUGUST, 8));
+
+        Mockito.when(workingTimeService.getTimeline(person))
+            .thenReturn(new WorkingTimeTimeline(Arrays.asList(workingTime, workingTimeInBavaria)));
+
+        DateMidnight from = new DateMidnight(2016, DateTimeConstants.AUGUST, 1);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.AUGUST, 19);
+
+        BigDecimal workDays = instance.getWorkDays(DayLength.FULL, from, to, person);
+
+        // 15 weekdays minus Augsburg Peace Festival and Assumption Day which are public holidays in Augsburg
+        assertEquals(new BigDecimal("13.0"), workDays);
+    }
+
+
+    @Test
+    public void ensureCalculatesWorkDaysOfSeveralRequestsWithASingleWorkingTimeLookup() {
+
+        Person otherPerson = TestDataCreator.createPerson("horst");
+
+        WorkingTime workingTimeBeforeAugust = TestDataCreator.createWorkingTime();
+        workingTimeBeforeAugust.setValidFrom(new DateMidnight(2015, DateTimeConstants.JANUARY, 1));
+
+        WorkingTime workingTimeSinceAugust = TestDataCreator.createWorkingTime();
+        workingTimeSinceAugust.setWorkingDays(Arrays.asList(DateTimeConstants.MONDAY, DateTimeConstants.TUESDAY),
+            DayLength.FULL);
+        workingTimeSinceAugust.setValidFrom(new DateMidnight(2016, DateTimeConstants.AUGUST, 1));
+
+        WorkingTime workingTimeOfOtherPerson = TestDataCreator.createWorkingTime();
+        workingTimeOfOtherPerson.setValidFrom(new DateMidnight(2010, DateTimeConstants.JANUARY, 1));
+
+        Map<Person, WorkingTimeTimeline> timelines = new HashMap<>();
+        timelines.put(person, new WorkingTimeTimeline(Arrays.asList(workingTimeBeforeAugust, workingTimeSinceAugust)));
+        timelines.put(otherPerson, new WorkingTimeTimeline(Collections.singletonList(workingTimeOfOtherPerson)));
+
+        Mockito.when(workingTimeService.getTimelines(Mockito.anyCollectionOf(Person.class))).thenReturn(timelines);
+
+        List<BigDecimal> workDays = instance.getWorkDays(Arrays.asList(
+                    new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2016, DateTimeConstants.JULY, 18),
+                        new DateMidnight(2016, DateTimeConstants.JULY, 24)),
+                    new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2016, DateTimeConstants.AUGUST, 15),
+                        new DateMidnight(2016, DateTimeConstants.AUGUST, 21)),
+                    new WorkDaysRequest(otherPerson, DayLength.MORNING,
+                        new DateMidnight(2016, DateTimeConstants.AUGUST, 16),
+                        new DateMidnight(2016, DateTimeConstants.AUGUST, 16))));
+
+        assertEquals(Arrays.asList(new BigDecimal("5.0"), new BigDecimal("2.0"), new BigDecimal("0.5")), workDays);
+
+        Mockito.verify(workingTimeService).getTimelines(new HashSet<>(Arrays.asList(person, otherPerson)));
+        Mockito.verify(workingTimeService, Mockito.never()).getTimeline(Mockito.any(Person.class));
+    }
+
+
+    @Test(expected = NoValidWorkingTimeException.class)
+    public void ensureCalculatingWorkDaysOfSeveralRequestsThrowsIfAPersonHasNoValidWorkingTime() {
+
+        workingTime.setValidFrom(new DateMidnight(2016, DateTimeConstants.AUGUST, 1));
+
+        Mockito.when(workingTimeService.getTimelines(Mockito.anyCollectionOf(Person.class)))
+            .thenReturn(Collections.singletonMap(person,
+                    new WorkingTimeTimeline(Collections.singletonList(workingTime))));
+
+        instance.getWorkDays(Collections.singletonList(
+                new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2016, DateTimeConstants.JULY, 18),
+                    new DateMidnight(2016, DateTimeConstants.JULY, 24))));
+    }
+
+
+    @Test
+    public void ensureCorrectWorkDaysForHalfDayWorkingTimeOnChristmasEve() {
+
+        // Christmas Eve 2015 is a Thursday
+        workingTime.setDayLengthForWeekDay(DateTimeConstants.THURSDAY, DayLength.MORNING);
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.FULL);
+        Mockito.when(settingsService.getSettings()).thenReturn(settings);
+
+        DateMidnight date = new DateMidnight(2015, DateTimeConstants.DECEMBER, 24);
+
+        assertEquals(new BigDecimal("0.5"), instance.getWorkDays(DayLength.FULL, date, date, person));
+    }
+
+
+    @Test
+    public void ensureCorrectWorkDaysForPeriodSpanningMoreThanTwoYears() {
+
+        DateMidnight from = new DateMidnight(2013, DateTimeConstants.JANUARY, 1);
+        DateMidnight to = new DateMidnight(2016, DateTimeConstants.DECEMBER, 31);
+
+        BigDecimal total = instance.getWorkDays(DayLength.FULL, from, to, person);
+
+        BigDecimal sumOfYears = BigDecimal.ZERO;
+
+        for (int year = 2013; year <= 2016; year++) {
+            sumOfYears = sumOfYears.add(instance.getWorkDays(DayLength.FULL,
+                        new DateMidnight(year, DateTimeConstants.JANUARY, 1),
+                        new DateMidnight(year, DateTimeConstants.DECEMBER, 31), person));
+        }
+
+        assertEquals(sumOfYears, total);
+    }
+
+
+    @Test
+    public void ensureConsidersChangedSettingsForYearsThatAreNotCached() {
+
+        // a thursday, far enough from now to not be cached
+        DateMidnight christmasEve = new DateMidnight(2099, DateTimeConstants.DECEMBER, 24);
+
+        BigDecimal workDays = instance.getWorkDays(DayLength.FULL, christmasEve, christmasEve, person);
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.ZERO);
+
+        Mockito.when(settingsService.getSettings()).thenReturn(settings);
+
+        BigDecimal changedWorkDays = instance.getWorkDays(DayLength.FULL, christmasEve, christmasEve, person);
+
+        assertEquals(new BigDecimal("0.5"), workDays);
+        assertEquals(BigDecimal.ZERO, changedWorkDays.setScale(0));
+    }
 }
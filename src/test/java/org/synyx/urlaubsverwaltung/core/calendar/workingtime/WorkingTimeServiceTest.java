@@ -8,13 +8,24 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.account.domain.UsedVacationDays;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 
 /**
@@ -26,14 +37,23 @@ public class WorkingTimeServiceTest {
 
     private WorkingTimeDAO workingTimeDAOMock;
     private SettingsService settingsServiceMock;
+    private DataVersionService dataVersionServiceMock;
+    private UsedVacationDaysDAO usedVacationDaysDAOMock;
+    private ApplicationForLeaveDaysService applicationForLeaveDaysServiceMock;
+    private SickNoteStatisticsService sickNoteStatisticsServiceMock;
 
     @Before
     public void setUp() {
 
         workingTimeDAOMock = Mockito.mock(WorkingTimeDAO.class);
         settingsServiceMock = Mockito.mock(SettingsService.class);
+        dataVersionServiceMock = Mockito.mock(DataVersionService.class);
+        usedVacationDaysDAOMock = Mockito.mock(UsedVacationDaysDAO.class);
+        applicationForLeaveDaysServiceMock = Mockito.mock(ApplicationForLeaveDaysService.class);
+        sickNoteStatisticsServiceMock = Mockito.mock(SickNoteStatisticsService.class);
 
-        workingTimeService = new WorkingTimeService(workingTimeDAOMock, settingsServiceMock);
+        workingTimeService = new WorkingTimeService(workingTimeDAOMock, settingsServiceMock, dataVersionServiceMock,
+                usedVacationDaysDAOMock, applicationForLeaveDaysServiceMock, sickNoteStatisticsServiceMock);
     }
 
 
@@ -113,4 +133,189 @@ public class WorkingTimeServiceTest {
         Assert.assertNotNull("Missing federal state", federalState);
         Assert.assertEquals("Wrong federal state", FederalState.BADEN_WUERTTEMBERG, federalState);
     }
+
+
+    @Test
+    public void ensureTimelineIsCachedUntilWorkingTimeIsTouched() {
+
+        Person person = TestDataCreator.createPerson();
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setPerson(person);
+        workingTime.setValidFrom(new DateMidnight(2015, 1, 1));
+
+        Mockito.when(workingTimeDAOMock.findByPerson(person)).thenReturn(Collections.singletonList(workingTime));
+
+        WorkingTimeTimeline timeline = workingTimeService.getTimeline(person);
+
+        Assert.assertSame("Timeline should be cached", timeline, workingTimeService.getTimeline(person));
+        Mockito.verify(workingTimeDAOMock, Mockito.times(1)).findByPerson(person);
+
+        workingTimeService.touch(Collections.singletonList(1), Optional.empty(), new DateMidnight(2016, 1, 1),
+            person);
+
+        Assert.assertNotSame("Timeline should be evicted", timeline, workingTimeService.getTimeline(person));
+        Mockito.verify(workingTimeDAOMock, Mockito.times(2)).findByPerson(person);
+        Mockito.verify(dataVersionServiceMock).bump(person);
+    }
+
+
+    @Test
+    public void ensureResetsUsedVacationDaysIfWorkingDaysChange() {
+
+        Person person = TestDataCreator.createPerson();
+        List<UsedVacationDays> usedVacationDays = Collections.singletonList(new UsedVacationDays());
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setWorkingDays(Arrays.asList(1, 2, 3, 4, 5), DayLength.FULL);
+
+        Mockito.when(workingTimeDAOMock.findByPersonAndValidityDate(Mockito.eq(person), Mockito.any(Date.class)))
+            .thenReturn(workingTime);
+        Mockito.when(usedVacationDaysDAOMock.findByPerson(person)).thenReturn(usedVacationDays);
+
+        workingTimeService.touch(Arrays.asList(1, 2, 3, 4), Optional.empty(), new DateMidnight(2016, 1, 1), person);
+
+        Mockito.verify(usedVacationDaysDAOMock).delete(usedVacationDays);
+    }
+
+
+    @Test
+    public void ensureEvictsStatisticsIfWorkingDaysChange() {
+
+        Person person = TestDataCreator.createPerson();
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setWorkingDays(Arrays.asList(1, 2, 3, 4, 5), DayLength.FULL);
+
+        Mockito.when(workingTimeDAOMock.findByPersonAndValidityDate(Mockito.eq(person), Mockito.any(Date.class)))
+            .thenReturn(workingTime);
+
+        workingTimeService.touch(Arrays.asList(1, 2, 3, 4), Optional.empty(), new DateMidnight(2016, 1, 1), person);
+
+        Mockito.verify(applicationForLeaveDaysServiceMock).evict(person);
+        Mockito.verify(sickNoteStatisticsServiceMock).evictAll();
+    }
+
+
+    @Test
+    public void ensureResetsUsedVacationDaysIfFederalStateChanges() {
+
+        Person person = TestDataCreator.createPerson();
+        List<UsedVacationDays> usedVacationDays = Collections.singletonList(new UsedVacationDays());
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setWorkingDays(Arrays.asList(1, 2, 3, 4, 5), DayLength.FULL);
+
+        Mockito.when(workingTimeDAOMock.findByPersonAndValidityDate(Mockito.eq(person), Mockito.any(Date.class)))
+            .thenReturn(workingTime);
+        Mockito.when(usedVacationDaysDAOMock.findByPerson(person)).thenReturn(usedVacationDays);
+
+        workingTimeService.touch(Arrays.asList(1, 2, 3, 4, 5), Optional.of(FederalState.BAYERN),
+            new DateMidnight(2016, 1, 1), person);
+
+        Mockito.verify(usedVacationDaysDAOMock).delete(usedVacationDays);
+    }
+
+
+    @Test
+    public void ensureDoesNotResetUsedVacationDaysOrStatisticsIfWorkingTimeDoesNotChange() {
+
+        Person person = TestDataCreator.createPerson();
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setWorkingDays(Arrays.asList(1, 2, 3, 4, 5), DayLength.FULL);
+        workingTime.setFederalStateOverride(FederalState.BAYERN);
+
+        Mockito.when(workingTimeDAOMock.findByPersonAndValidityDate(Mockito.eq(person), Mockito.any(Date.class)))
+            .thenReturn(workingTime);
+
+        workingTimeService.touch(Arrays.asList(1, 2, 3, 4, 5), Optional.of(FederalState.BAYERN),
+            new DateMidnight(2016, 1, 1), person);
+        workingTimeService.touch(Arrays.asList(1, 2, 3, 4, 5), Optional.empty(), new DateMidnight(2016, 1, 1),
+            person);
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAOMock, applicationForLeaveDaysServiceMock,
+            sickNoteStatisticsServiceMock);
+    }
+
+
+    @Test
+    public void ensureFetchesTimelinesOfSeveralPersonsWithASingleQuery() {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("horst");
+        Person personWithoutWorkingTime = TestDataCreator.createPerson("niemand");
+
+        WorkingTime secondWorkingTime = new WorkingTime();
+        secondWorkingTime.setPerson(person);
+        secondWorkingTime.setValidFrom(new DateMidnight(2016, 1, 1));
+
+        WorkingTime workingTimeOfOtherPerson = new WorkingTime();
+        workingTimeOfOtherPerson.setPerson(otherPerson);
+        workingTimeOfOtherPerson.setValidFrom(new DateMidnight(2015, 6, 1));
+
+        WorkingTime firstWorkingTime = new WorkingTime();
+        firstWorkingTime.setPerson(person);
+        firstWorkingTime.setValidFrom(new DateMidnight(2015, 1, 1));
+
+        List<Person> persons = Arrays.asList(person, otherPerson, personWithoutWorkingTime);
+
+        Mockito.when(workingTimeDAOMock.findByPersons(persons))
+            .thenReturn(Arrays.asList(secondWorkingTime, workingTimeOfOtherPerson, firstWorkingTime));
+
+        Map<Person, WorkingTimeTimeline> timelines = workingTimeService.getTimelines(persons);
+
+        Mockito.verify(workingTimeDAOMock).findByPersons(persons);
+
+        Assert.assertEquals("Wrong working times", Arrays.asList(firstWorkingTime, secondWorkingTime),
+            timelines.get(person).getWorkingTimes());
+        Assert.assertEquals("Wrong working times", Collections.singletonList(workingTimeOfOtherPerson),
+            timelines.get(otherPerson).getWorkingTimes());
+        Assert.assertTrue("Should be empty", timelines.get(personWithoutWorkingTime).getWorkingTimes().isEmpty());
+
+        // cached timelines are not fetched again
+        workingTimeService.getTimelines(persons);
+        workingTimeService.getTimeline(person);
+
+        Mockito.verifyNoMoreInteractions(workingTimeDAOMock);
+    }
+
+
+    @Test
+    public void ensureReturnsFederalStatesOfSeveralPersonsWithASingleQuery() {
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(FederalState.BADEN_WUERTTEMBERG);
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person personWithoutWorkingTime = TestDataCreator.createPerson("niemand");
+
+        WorkingTime firstWorkingTime = new WorkingTime();
+        firstWorkingTime.setPerson(person);
+        firstWorkingTime.setValidFrom(new DateMidnight(2015, 1, 1));
+
+        WorkingTime secondWorkingTime = new WorkingTime();
+        secondWorkingTime.setPerson(person);
+        secondWorkingTime.setValidFrom(new DateMidnight(2016, 1, 1));
+        secondWorkingTime.setFederalStateOverride(FederalState.BAYERN);
+
+        List<Person> persons = Arrays.asList(person, personWithoutWorkingTime);
+
+        Mockito.when(settingsServiceMock.getSettings()).thenReturn(settings);
+        Mockito.when(workingTimeDAOMock.findByPersons(persons))
+            .thenReturn(Arrays.asList(firstWorkingTime, secondWorkingTime));
+
+        Map<Person, FederalState> federalStates = workingTimeService.getFederalStatesForPersons(persons,
+                new DateMidnight(2016, 3, 1));
+
+        Assert.assertEquals("Wrong federal state", FederalState.BAYERN, federalStates.get(person));
+        Assert.assertEquals("Wrong federal state", FederalState.BADEN_WUERTTEMBERG,
+            federalStates.get(personWithoutWorkingTime));
+
+        Assert.assertEquals("Wrong federal state", FederalState.BADEN_WUERTTEMBERG,
+            workingTimeService.getFederalStatesForPersons(persons, new DateMidnight(2015, 3, 1)).get(person));
+
+        Mockito.verify(workingTimeDAOMock).findByPersons(persons);
+        Mockito.verifyNoMoreInteractions(workingTimeDAOMock);
+    }
 }
@@ -70,4 +70,23 @@ public class WorkingTimeTest {
 
         Assert.assertFalse("Working days are identical", returnValue);
     }
+
+
+    @Test
+    public void ensureReturnsWorkingDurationOfWeekDayAsNumberOfHalfDays() {
+
+        WorkingTime workingTime = new WorkingTime();
+        workingTime.setDayLengthForWeekDay(DateTimeConstants.MONDAY, DayLength.FULL);
+        workingTime.setDayLengthForWeekDay(DateTimeConstants.TUESDAY, DayLength.MORNING);
+        workingTime.setDayLengthForWeekDay(DateTimeConstants.WEDNESDAY, DayLength.NOON);
+
+        Assert.assertEquals("Wrong number of half days", 2,
+            workingTime.getHalfDaysForWeekDay(DateTimeConstants.MONDAY));
+        Assert.assertEquals("Wrong number of half days", 1,
+            workingTime.getHalfDaysForWeekDay(DateTimeConstants.TUESDAY));
+        Assert.assertEquals("Wrong number of half days", 1,
+            workingTime.getHalfDaysForWeekDay(DateTimeConstants.WEDNESDAY));
+        Assert.assertEquals("Wrong number of half days", 0,
+            workingTime.getHalfDaysForWeekDay(DateTimeConstants.THURSDAY));
+    }
 }
@@ -0,0 +1,114 @@
+package org.synyx.urlaubsverwaltung.core.calendar.workingtime;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Unit test for {@link WorkingTimeTimeline}.
+ */
+public class WorkingTimeTimelineTest {
+
+    private WorkingTime first;
+    private WorkingTime second;
+    private WorkingTimeTimeline timeline;
+
+    @Before
+    public void setUp() {
+
+        first = new WorkingTime();
+        first.setValidFrom(new DateMidnight(2015, 1, 1));
+
+        second = new WorkingTime();
+        second.setValidFrom(new DateMidnight(2016, 3, 15));
+
+        timeline = new WorkingTimeTimeline(Arrays.asList(second, first));
+    }
+
+
+    @Test
+    public void ensureWorkingTimesAreSortedByValidityDate() {
+
+        Assert.assertEquals("Wrong order", Arrays.asList(first, second), timeline.getWorkingTimes());
+    }
+
+
+    @Test
+    public void ensureReturnsWorkingTimeValidAtTheGivenDate() {
+
+        Assert.assertFalse("Should be empty",
+            timeline.getValidWorkingTime(new DateMidnight(2014, 12, 31)).isPresent());
+        Assert.assertEquals("Wrong working time", first,
+            timeline.getValidWorkingTime(new DateMidnight(2015, 1, 1)).get());
+        Assert.assertEquals("Wrong working time", first,
+            timeline.getValidWorkingTime(new DateMidnight(2016, 3, 14)).get());
+        Assert.assertEquals("Wrong working time", second,
+            timeline.getValidWorkingTime(new DateMidnight(2016, 3, 15)).get());
+        Assert.assertEquals("Wrong working time", second,
+            timeline.getValidWorkingTime(new DateMidnight(2020, 1, 1)).get());
+    }
+
+
+    @Test
+    public void ensureSplitsPeriodAtValidityBoundaries() {
+
+        List<WorkingTimeTimeline.ValidityInterval> intervals = timeline.getValidityIntervals(
+                EpochDay.of(2016, 3, 1), EpochDay.of(2016, 3, 31));
+
+        Assert.assertEquals("Wrong number of intervals", 2, intervals.size());
+
+        Assert.assertEquals("Wrong working time", first, intervals.get(0).getWorkingTime());
+        Assert.assertEquals("Wrong start day", EpochDay.of(2016, 3, 1), intervals.get(0).getStartDay());
+        Assert.assertEquals("Wrong end day", EpochDay.of(2016, 3, 14), intervals.get(0).getEndDay());
+
+        Assert.assertEquals("Wrong working time", second, intervals.get(1).getWorkingTime());
+        Assert.assertEquals("Wrong start day", EpochDay.of(2016, 3, 15), intervals.get(1).getStartDay());
+        Assert.assertEquals("Wrong end day", EpochDay.of(2016, 3, 31), intervals.get(1).getEndDay());
+    }
+
+
+    @Test
+    public void ensureDoesNotSplitPeriodWithinValidityOfOneWorkingTime() {
+
+        List<WorkingTimeTimeline.ValidityInterval> intervals = timeline.getValidityIntervals(
+                EpochDay.of(2016, 4, 1), EpochDay.of(2016, 4, 30));
+
+        Assert.assertEquals("Wrong number of intervals", 1, intervals.size());
+        Assert.assertEquals("Wrong working time", second, intervals.get(0).getWorkingTime());
+        Assert.assertEquals("Wrong start day", EpochDay.of(2016, 4, 1), intervals.get(0).getStartDay());
+        Assert.assertEquals("Wrong end day", EpochDay.of(2016, 4, 30), intervals.get(0).getEndDay());
+    }
+
+
+    @Test
+    public void ensureDaysBeforeFirstWorkingTimeAreNotCovered() {
+
+        List<WorkingTimeTimeline.ValidityInterval> intervals = timeline.getValidityIntervals(
+                EpochDay.of(2014, 12, 1), EpochDay.of(2015, 1, 31));
+
+        Assert.assertEquals("Wrong number of intervals", 1, intervals.size());
+        Assert.assertEquals("Wrong start day", EpochDay.of(2015, 1, 1), intervals.get(0).getStartDay());
+        Assert.assertEquals("Wrong end day", EpochDay.of(2015, 1, 31), intervals.get(0).getEndDay());
+    }
+
+
+    @Test
+    public void ensureEmptyTimelineHasNoIntervals() {
+
+        WorkingTimeTimeline emptyTimeline = new WorkingTimeTimeline(Collections.emptyList());
+
+        Assert.assertFalse("Should be empty", emptyTimeline.getValidWorkingTime(DateMidnight.now()).isPresent());
+        Assert.assertTrue("Should be empty",
+            emptyTimeline.getValidityIntervals(EpochDay.of(2016, 1, 1), EpochDay.of(2016, 12, 31))
+            .isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package org.synyx.urlaubsverwaltung.core.change;
+
+import org.joda.time.DateTime;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import org.springframework.data.domain.PageRequest;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+
+/**
+ * Unit test for {@link ChangeLogService}.
+ */
+public class ChangeLogServiceTest {
+
+    private ChangeLogEntryDAO changeLogEntryDAO;
+    private PlatformTransactionManager transactionManager;
+
+    private ChangeLogService service;
+
+    @Before
+    public void setUp() {
+
+        changeLogEntryDAO = Mockito.mock(ChangeLogEntryDAO.class);
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+        Mockito.when(changeLogEntryDAO.findWithoutSequenceNumber()).thenReturn(Collections.emptyList());
+
+        service = new ChangeLogService(changeLogEntryDAO, transactionManager);
+    }
+
+
+    @Test
+    public void ensureAppendsEntryForChange() throws IllegalAccessException {
+
+        Person person = TestDataCreator.createPerson(23, "muster");
+
+        service.append(ChangeType.SICK_NOTE, 42, person, "CREATED");
+
+        ArgumentCaptor<ChangeLogEntry> entryCaptor = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        Mockito.verify(changeLogEntryDAO).save(entryCaptor.capture());
+
+        ChangeLogEntry entry = entryCaptor.getValue();
+
+        Assert.assertEquals("Wrong type", ChangeType.SICK_NOTE, entry.getType());
+        Assert.assertEquals("Wrong entity", Integer.valueOf(42), entry.getEntityId());
+        Assert.assertEquals("Wrong person", Integer.valueOf(23), entry.getPersonId());
+        Assert.assertEquals("Wrong action", "CREATED", entry.getAction());
+        Assert.assertNull("Should not have a sequence number yet", entry.getSequenceNumber());
+        Assert.assertFalse("Should not be in the future", entry.getCreated().isAfterNow());
+    }
+
+
+    @Test
+    public void ensureAppendsEntryWithinTheTransactionOfTheChange() {
+
+        service.append(ChangeType.APPLICATION, 42, TestDataCreator.createPerson(), "APPLIED");
+
+        Mockito.verify(changeLogEntryDAO).save(Mockito.any(ChangeLogEntry.class));
+        Mockito.verifyZeroInteractions(transactionManager);
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfEntityHasNoID() {
+
+        service.append(ChangeType.APPLICATION, null, TestDataCreator.createPerson(), "APPLIED");
+    }
+
+
+    @Test
+    public void ensureAssignsSequenceNumbersToNewEntriesInNewTransactionBeforeReading() {
+
+        ChangeLogEntry entry = new ChangeLogEntry(DateTime.now(), ChangeType.APPLICATION, "APPLIED", 42, 1);
+        ChangeLogEntry otherEntry = new ChangeLogEntry(DateTime.now(), ChangeType.SICK_NOTE, "CREATED", 43, 1);
+
+        Mockito.when(changeLogEntryDAO.findWithoutSequenceNumber()).thenReturn(Arrays.asList(entry, otherEntry));
+        Mockito.when(changeLogEntryDAO.findMaxSequenceNumber()).thenReturn(17);
+
+        service.getChanges(17, 100);
+
+        Assert.assertEquals("Wrong sequence number", Integer.valueOf(18), entry.getSequenceNumber());
+        Assert.assertEquals("Wrong sequence number", Integer.valueOf(19), otherEntry.getSequenceNumber());
+
+        InOrder inOrder = Mockito.inOrder(changeLogEntryDAO);
+        inOrder.verify(changeLogEntryDAO).save(Arrays.asList(entry, otherEntry));
+        inOrder.verify(changeLogEntryDAO).findAfter(17, new PageRequest(0, 100));
+
+        ArgumentCaptor<TransactionDefinition> definitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        Mockito.verify(transactionManager).getTransaction(definitionCaptor.capture());
+        Assert.assertEquals("Should use a new transaction", TransactionDefinition.PROPAGATION_REQUIRES_NEW,
+            definitionCaptor.getValue().getPropagationBehavior());
+    }
+
+
+    @Test
+    public void ensureStartsSequenceNumbersWithOne() {
+
+        ChangeLogEntry entry = new ChangeLogEntry(DateTime.now(), ChangeType.APPLICATION, "APPLIED", 42, 1);
+
+        Mockito.when(changeLogEntryDAO.findWithoutSequenceNumber()).thenReturn(Collections.singletonList(entry));
+
+        service.getChanges(0, 100);
+
+        Assert.assertEquals("Wrong sequence number", Integer.valueOf(1), entry.getSequenceNumber());
+    }
+
+
+    @Test
+    public void ensureGetsTheChangesAfterTheGivenOne() {
+
+        service.getChanges(17, 100);
+
+        Mockito.verify(changeLogEntryDAO).findAfter(17, new PageRequest(0, 100));
+        Mockito.verify(changeLogEntryDAO, Mockito.never()).findMaxSequenceNumber();
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfLimitIsNotPositive() {
+
+        service.getChanges(0, 0);
+    }
+}
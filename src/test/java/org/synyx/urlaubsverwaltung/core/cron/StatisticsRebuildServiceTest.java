@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.core.cron;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+
+
+public class StatisticsRebuildServiceTest {
+
+    private StatisticsRebuildService service;
+
+    private SickNoteStatisticsService sickNoteStatisticsService;
+    private ApplicationForLeaveDaysService applicationForLeaveDaysService;
+
+    @Before
+    public void setUp() {
+
+        sickNoteStatisticsService = Mockito.mock(SickNoteStatisticsService.class);
+        applicationForLeaveDaysService = Mockito.mock(ApplicationForLeaveDaysService.class);
+
+        service = new StatisticsRebuildService(sickNoteStatisticsService, applicationForLeaveDaysService);
+    }
+
+
+    @Test
+    public void ensureRebuildsAllStatisticsSnapshots() {
+
+        service.rebuildStatistics();
+
+        Mockito.verify(sickNoteStatisticsService).rebuildStatistics();
+        Mockito.verify(applicationForLeaveDaysService).rebuild();
+    }
+}
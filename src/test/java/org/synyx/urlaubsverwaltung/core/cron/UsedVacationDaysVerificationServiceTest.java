@@ -0,0 +1,51 @@
+package org.synyx.urlaubsverwaltung.core.cron;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
+
+import java.util.Collections;
+
+
+public class UsedVacationDaysVerificationServiceTest {
+
+    private UsedVacationDaysVerificationService service;
+
+    private VacationDaysService vacationDaysService;
+
+    @Before
+    public void setUp() {
+
+        vacationDaysService = Mockito.mock(VacationDaysService.class);
+
+        service = new UsedVacationDaysVerificationService(vacationDaysService);
+    }
+
+
+    @Test
+    public void ensureVerifiesUsedVacationDays() {
+
+        Mockito.when(vacationDaysService.verifyUsedVacationDays()).thenReturn(Collections.emptyList());
+        Mockito.when(vacationDaysService.persistMissingUsedVacationDays()).thenReturn(Collections.emptyList());
+
+        service.verifyUsedVacationDays();
+
+        Mockito.verify(vacationDaysService).verifyUsedVacationDays();
+        Mockito.verify(vacationDaysService).persistMissingUsedVacationDays();
+    }
+
+
+    @Test
+    public void ensurePersistsMissingUsedVacationDays() {
+
+        Mockito.when(vacationDaysService.persistMissingUsedVacationDays()).thenReturn(Collections.emptyList());
+
+        service.persistMissingUsedVacationDays();
+
+        Mockito.verify(vacationDaysService).persistMissingUsedVacationDays();
+        Mockito.verify(vacationDaysService, Mockito.never()).verifyUsedVacationDays();
+    }
+}
@@ -0,0 +1,232 @@
+package org.synyx.urlaubsverwaltung.core.department;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriodDAO;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.math.BigDecimal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Unit test for {@link DepartmentCoverageService}.
+ */
+public class DepartmentCoverageServiceTest {
+
+    private AbsencePeriodDAO absencePeriodDAO;
+
+    private DepartmentCoverageService service;
+
+    private Person person;
+    private Person otherPerson;
+    private Department department;
+
+    @Before
+    public void setUp() throws IllegalAccessException {
+
+        absencePeriodDAO = Mockito.mock(AbsencePeriodDAO.class);
+
+        service = new DepartmentCoverageService(absencePeriodDAO);
+
+        person = TestDataCreator.createPerson(1, "muster");
+        otherPerson = TestDataCreator.createPerson(2, "dampf");
+
+        department = TestDataCreator.createDepartment();
+        department.setMembers(Arrays.asList(person, otherPerson));
+    }
+
+
+    private static Object[] row(Person person, String type, DateMidnight startDate, DateMidnight endDate,
+        String status) {
+
+        return new Object[] { person.getId(), type, 42, startDate.toDate(), endDate.toDate(), "FULL", status };
+    }
+
+
+    private void mockRows(int year, List<Integer> personIds, Object[]... rows) {
+
+        Mockito.when(absencePeriodDAO.findByPersonsAndPeriod(personIds, new DateMidnight(year, 1, 1).toDate(),
+                    new DateMidnight(year, 12, 31).toDate()))
+            .thenReturn(Arrays.asList(rows));
+    }
+
+
+    @Test
+    public void ensureCountsAbsentMembersPerDayAndType() {
+
+        mockRows(2016, Arrays.asList(1, 2),
+            row(person, "APPLICATION", new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 5), "ALLOWED"),
+            row(person, "SICK_NOTE", new DateMidnight(2016, 1, 5), new DateMidnight(2016, 1, 6), "ACTIVE"),
+            row(otherPerson, "APPLICATION", new DateMidnight(2016, 1, 5), new DateMidnight(2016, 1, 5), "WAITING"));
+
+        DepartmentCoverage coverage = service.getCoverage(department, new DateMidnight(2016, 1, 4),
+                new DateMidnight(2016, 1, 7));
+
+        Assert.assertEquals("Wrong number of members", 2, coverage.getMembers());
+        Assert.assertEquals("Wrong end date", new DateMidnight(2016, 1, 7), coverage.getEndDate());
+
+        List<DayCoverage> days = coverage.getDays();
+
+        Assert.assertEquals("Wrong number of days", 4, days.size());
+        Assert.assertEquals("Wrong date", new DateMidnight(2016, 1, 5), days.get(1).getDate());
+
+        Assert.assertEquals("Wrong vacation", 1, days.get(0).getVacation());
+        Assert.assertEquals("Wrong absent", 1, days.get(0).getAbsent());
+
+        Assert.assertEquals("Wrong vacation", 1, days.get(1).getVacation());
+        Assert.assertEquals("Wrong waiting", 1, days.get(1).getWaiting());
+        Assert.assertEquals("Wrong sick", 1, days.get(1).getSick());
+        Assert.assertEquals("Absent members should be counted once", 2, days.get(1).getAbsent());
+
+        Assert.assertEquals("Wrong sick", 1, days.get(2).getSick());
+        Assert.assertEquals("Wrong absent", 1, days.get(2).getAbsent());
+
+        Assert.assertEquals("Wrong absent", 0, days.get(3).getAbsent());
+    }
+
+
+    @Test
+    public void ensureIgnoresInactiveAbsences() {
+
+        mockRows(2016, Arrays.asList(1, 2),
+            row(person, "APPLICATION", new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 4), "REJECTED"),
+            row(person, "APPLICATION", new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 4), "CANCELLED"),
+            row(otherPerson, "SICK_NOTE", new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 4), "CANCELLED"),
+            row(otherPerson, "SICK_NOTE", new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 4),
+                "CONVERTED_TO_VACATION"));
+
+        DepartmentCoverage coverage = service.getCoverage(department, new DateMidnight(2016, 1, 4),
+                new DateMidnight(2016, 1, 4));
+
+        Assert.assertEquals("Wrong absent", 0, coverage.getDays().get(0).getAbsent());
+    }
+
+
+    @Test
+    public void ensureConsidersOnlyActiveMembers() throws IllegalAccessException {
+
+        Person inactivePerson = TestDataCreator.createPerson(3, "inactive");
+        inactivePerson.setPermissions(Collections.singletonList(Role.INACTIVE));
+
+        department.setMembers(Arrays.asList(person, inactivePerson));
+
+        DepartmentCoverage coverage = service.getCoverage(department, new DateMidnight(2016, 1, 1),
+                new DateMidnight(2016, 1, 31));
+
+        Assert.assertEquals("Wrong number of members", 1, coverage.getMembers());
+
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Collections.singletonList(1), new DateMidnight(2016, 1, 1).toDate(),
+                new DateMidnight(2016, 12, 31).toDate());
+    }
+
+
+    @Test
+    public void ensureCalculatesPeriodsSpanningTwoYears() {
+
+        mockRows(2015, Arrays.asList(1, 2),
+            row(person, "APPLICATION", new DateMidnight(2015, 12, 31), new DateMidnight(2016, 1, 1), "ALLOWED"));
+        mockRows(2016, Arrays.asList(1, 2),
+            row(person, "APPLICATION", new DateMidnight(2015, 12, 31), new DateMidnight(2016, 1, 1), "ALLOWED"));
+
+        List<DayCoverage> days = service.getCoverage(department, new DateMidnight(2015, 12, 30),
+                new DateMidnight(2016, 1, 2))
+            .getDays();
+
+        Assert.assertEquals("Wrong number of days", 4, days.size());
+        Assert.assertEquals("Wrong vacation", 0, days.get(0).getVacation());
+        Assert.assertEquals("Wrong vacation", 1, days.get(1).getVacation());
+        Assert.assertEquals("Wrong vacation", 1, days.get(2).getVacation());
+        Assert.assertEquals("Wrong vacation", 0, days.get(3).getVacation());
+    }
+
+
+    @Test
+    public void ensureLoadsOnlyTheAbsencesOfMembersWithoutCachedAbsenceDays() {
+
+        DateMidnight from = new DateMidnight(2016, 1, 1);
+        DateMidnight to = new DateMidnight(2016, 12, 31);
+
+        service.getCoverage(department, from, to);
+        service.getCoverage(department, from, to);
+
+        Mockito.verify(absencePeriodDAO).findByPersonsAndPeriod(Arrays.asList(1, 2), from.toDate(), to.toDate());
+
+        service.evict(person);
+        service.getCoverage(department, from, to);
+
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Collections.singletonList(1), from.toDate(), to.toDate());
+
+        service.evictAll();
+        service.getCoverage(department, from, to);
+
+        Mockito.verify(absencePeriodDAO, Mockito.times(2))
+            .findByPersonsAndPeriod(Arrays.asList(1, 2), from.toDate(), to.toDate());
+        Mockito.verifyNoMoreInteractions(absencePeriodDAO);
+    }
+
+
+    @Test
+    public void ensureEvictsTheAbsenceDaysOfAPersonAgainAfterCommit() {
+
+        DateMidnight from = new DateMidnight(2016, 1, 1);
+        DateMidnight to = new DateMidnight(2016, 12, 31);
+
+        service.getCoverage(department, from, to);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            service.evict(person);
+
+            // loaded from the not yet committed state
+            service.getCoverage(department, from, to);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        service.getCoverage(department, from, to);
+
+        Mockito.verify(absencePeriodDAO, Mockito.times(2))
+            .findByPersonsAndPeriod(Collections.singletonList(1), from.toDate(), to.toDate());
+    }
+
+
+    @Test
+    public void ensureCalculatesRatioOfAbsentMembers() {
+
+        Assert.assertEquals("Wrong ratio", new BigDecimal("0.33"),
+            new DayCoverage(DateMidnight.now(), 3, 1, 0, 0, 1).getAbsentRatio());
+        Assert.assertEquals("Wrong ratio", new BigDecimal("1.00"),
+            new DayCoverage(DateMidnight.now(), 2, 1, 0, 1, 2).getAbsentRatio());
+        Assert.assertEquals("Wrong ratio", BigDecimal.ZERO,
+            new DayCoverage(DateMidnight.now(), 0, 0, 0, 0, 0).getAbsentRatio());
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfStartDateIsAfterEndDate() {
+
+        service.getCoverage(department, new DateMidnight(2016, 1, 2), new DateMidnight(2016, 1, 1));
+    }
+}
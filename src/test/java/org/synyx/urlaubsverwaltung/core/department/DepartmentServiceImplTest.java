@@ -15,6 +15,7 @@ import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.Role;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -36,14 +37,16 @@ public class DepartmentServiceImplTest {
 
     private DepartmentDAO departmentDAO;
     private ApplicationService applicationService;
+    private DataVersionService dataVersionService;
 
     @Before
     public void setUp() throws Exception {
 
         departmentDAO = Mockito.mock(DepartmentDAO.class);
         applicationService = Mockito.mock(ApplicationService.class);
+        dataVersionService = Mockito.mock(DataVersionService.class);
 
-        sut = new DepartmentServiceImpl(departmentDAO, applicationService);
+        sut = new DepartmentServiceImpl(departmentDAO, applicationService, dataVersionService);
     }
 
 
@@ -55,6 +58,7 @@ public class DepartmentServiceImplTest {
         sut.create(department);
 
         Mockito.verify(departmentDAO).save(eq(department));
+        Mockito.verify(dataVersionService).bumpAll();
     }
 
 
@@ -74,6 +78,7 @@ public class DepartmentServiceImplTest {
         sut.update(department);
 
         Mockito.verify(departmentDAO).save(eq(department));
+        Mockito.verify(dataVersionService).bumpAll();
     }
 
 
@@ -373,4 +378,53 @@ public class DepartmentServiceImplTest {
         Assert.assertFalse("Should not contain an application with other status",
             applications.contains(otherApplication));
     }
+
+
+    @Test
+    public void ensureManagedDepartmentsOfOfficeAreAllDepartments() {
+
+        Person office = TestDataCreator.createPerson();
+        office.setPermissions(Arrays.asList(Role.USER, Role.OFFICE));
+
+        List<Department> allDepartments = Arrays.asList(TestDataCreator.createDepartment("Admins"),
+                TestDataCreator.createDepartment("Marketing"));
+        Mockito.when(departmentDAO.findAll()).thenReturn(allDepartments);
+
+        List<Department> departments = sut.getManagedDepartments(office);
+
+        Assert.assertEquals("Wrong number of departments", 2, departments.size());
+        Assert.assertTrue("Should contain all departments", departments.containsAll(allDepartments));
+    }
+
+
+    @Test
+    public void ensureManagedDepartmentsOfDepartmentHeadAndSecondStageAuthorityContainNoDuplicates() {
+
+        Person person = TestDataCreator.createPerson();
+        person.setPermissions(Arrays.asList(Role.USER, Role.DEPARTMENT_HEAD, Role.SECOND_STAGE_AUTHORITY));
+
+        Department admins = TestDataCreator.createDepartment("Admins");
+        Department marketing = TestDataCreator.createDepartment("Marketing");
+
+        Mockito.when(departmentDAO.getManagedDepartments(person)).thenReturn(Arrays.asList(admins, marketing));
+        Mockito.when(departmentDAO.getDepartmentsForSecondStageAuthority(person))
+            .thenReturn(Collections.singletonList(marketing));
+
+        List<Department> departments = sut.getManagedDepartments(person);
+
+        Assert.assertEquals("Wrong number of departments", 2, departments.size());
+        Assert.assertTrue("Should contain the managed departments", departments.containsAll(Arrays.asList(admins,
+                    marketing)));
+    }
+
+
+    @Test
+    public void ensureUserManagesNoDepartments() {
+
+        Person person = TestDataCreator.createPerson();
+        person.setPermissions(Collections.singletonList(Role.USER));
+
+        Assert.assertTrue("Should not manage any department", sut.getManagedDepartments(person).isEmpty());
+        Mockito.verifyZeroInteractions(departmentDAO);
+    }
 }
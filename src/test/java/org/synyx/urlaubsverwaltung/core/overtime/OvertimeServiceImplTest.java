@@ -10,6 +10,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.mail.MailService;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
@@ -19,6 +21,9 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -33,6 +38,7 @@ public class OvertimeServiceImplTest {
     private OvertimeCommentDAO commentDAO;
     private ApplicationService applicationService;
     private MailService mailService;
+    private ChangeLogService changeLogService;
 
     private Overtime overtimeMock;
     private Person authorMock;
@@ -44,8 +50,10 @@ public class OvertimeServiceImplTest {
         overtimeDAO = Mockito.mock(OvertimeDAO.class);
         applicationService = Mockito.mock(ApplicationService.class);
         mailService = Mockito.mock(MailService.class);
+        changeLogService = Mockito.mock(ChangeLogService.class);
 
-        overtimeService = new OvertimeServiceImpl(overtimeDAO, commentDAO, applicationService, mailService);
+        overtimeService = new OvertimeServiceImpl(overtimeDAO, commentDAO, applicationService, mailService,
+                changeLogService);
 
         overtimeMock = Mockito.mock(Overtime.class);
         authorMock = Mockito.mock(Person.class);
@@ -382,4 +390,46 @@ public class OvertimeServiceImplTest {
         Assert.assertNotNull("Should not be null", leftOvertime);
         Assert.assertEquals("Wrong left overtime", BigDecimal.ZERO, leftOvertime);
     }
+
+
+    @Test
+    public void ensureTheLeftOvertimeOfSeveralPersonsIsCalculatedAtOnce() throws IllegalAccessException {
+
+        Person person = TestDataCreator.createPerson(1, "muster");
+        Person personWithoutOvertimeRecords = TestDataCreator.createPerson(2, "dampf");
+        List<Person> persons = Arrays.asList(person, personWithoutOvertimeRecords);
+
+        Mockito.when(overtimeDAO.calculateTotalHoursForPersons(persons))
+            .thenReturn(Collections.singletonList(new Object[] { 1, BigDecimal.TEN }));
+
+        Map<Person, BigDecimal> overtimeReductions = new HashMap<>();
+        overtimeReductions.put(person, BigDecimal.ONE);
+        overtimeReductions.put(personWithoutOvertimeRecords, BigDecimal.ONE);
+        Mockito.when(applicationService.getTotalOvertimeReductionOfPersons(persons)).thenReturn(overtimeReductions);
+
+        Map<Person, BigDecimal> leftOvertime = overtimeService.getLeftOvertimeForPersons(persons);
+
+        Assert.assertEquals("Wrong left overtime", new BigDecimal("9"), leftOvertime.get(person));
+        Assert.assertEquals("Wrong left overtime", new BigDecimal("-1"),
+            leftOvertime.get(personWithoutOvertimeRecords));
+
+        Mockito.verify(overtimeDAO, Mockito.never()).calculateTotalHoursForPerson(Mockito.any(Person.class));
+        Mockito.verify(applicationService, Mockito.never())
+            .getTotalOvertimeReductionOfPerson(Mockito.any(Person.class));
+    }
+
+
+    @Test
+    public void ensureRecordingOvertimeAppendsToChangeLog() {
+
+        Person person = TestDataCreator.createPerson();
+
+        Mockito.when(overtimeMock.isNew()).thenReturn(true);
+        Mockito.when(overtimeMock.getId()).thenReturn(23);
+        Mockito.when(overtimeMock.getPerson()).thenReturn(person);
+
+        overtimeService.record(overtimeMock, Optional.empty(), authorMock);
+
+        Mockito.verify(changeLogService).append(ChangeType.OVERTIME, 23, person, "CREATED");
+    }
 }
@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.core.period;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTimeConstants;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * Unit test for {@link EpochDay}.
+ */
+public class EpochDayTest {
+
+    @Test
+    public void ensureEpochStartsAtFirstOfJanuary1970() {
+
+        Assert.assertEquals("Wrong epoch day", 0, EpochDay.of(1970, 1, 1));
+        Assert.assertEquals("Wrong epoch day", -1, EpochDay.of(1969, 12, 31));
+        Assert.assertEquals("Wrong epoch day", 16801, EpochDay.of(2016, 1, 1));
+    }
+
+
+    @Test
+    public void ensureConversionIsConsistentWithJodaTime() {
+
+        DateMidnight date = new DateMidnight(1899, 1, 1);
+        int epochDay = EpochDay.of(date);
+
+        while (date.getYear() < 2101) {
+            Assert.assertEquals("Wrong epoch day for " + date, epochDay, EpochDay.of(date));
+            Assert.assertEquals("Wrong date for " + epochDay, date, EpochDay.toDateMidnight(epochDay));
+            Assert.assertEquals("Wrong day of week for " + date, date.getDayOfWeek(), EpochDay.getDayOfWeek(epochDay));
+            Assert.assertEquals("Wrong year for " + date, date.getYear(), EpochDay.getYear(epochDay));
+            Assert.assertEquals("Wrong day of year for " + date, date.getDayOfYear(), EpochDay.getDayOfYear(epochDay));
+            Assert.assertEquals("Wrong ISO string for " + date, date.toString("yyyy-MM-dd"),
+                EpochDay.toIsoString(epochDay));
+
+            date = date.plusDays(1);
+            epochDay++;
+        }
+    }
+
+
+    @Test
+    public void ensureReturnsCorrectDayOfWeek() {
+
+        Assert.assertEquals("Wrong day of week", DateTimeConstants.THURSDAY, EpochDay.getDayOfWeek(0));
+        Assert.assertEquals("Wrong day of week", DateTimeConstants.WEDNESDAY, EpochDay.getDayOfWeek(-1));
+        Assert.assertEquals("Wrong day of week", DateTimeConstants.MONDAY,
+            EpochDay.getDayOfWeek(EpochDay.of(2011, 12, 26)));
+    }
+
+
+    @Test
+    public void ensureWeekendIsNoWorkDay() {
+
+        Assert.assertTrue("Monday should be a work day", EpochDay.isWorkDay(EpochDay.of(2011, 12, 26)));
+        Assert.assertTrue("Friday should be a work day", EpochDay.isWorkDay(EpochDay.of(2011, 12, 30)));
+        Assert.assertFalse("Saturday should be no work day", EpochDay.isWorkDay(EpochDay.of(2011, 12, 31)));
+        Assert.assertFalse("Sunday should be no work day", EpochDay.isWorkDay(EpochDay.of(2014, 11, 23)));
+    }
+
+
+    @Test
+    public void ensureReturnsFirstAndLastDayOfYear() {
+
+        Assert.assertEquals("Wrong first day", EpochDay.of(2016, 1, 1), EpochDay.getFirstDayOfYear(2016));
+        Assert.assertEquals("Wrong last day", EpochDay.of(2016, 12, 31), EpochDay.getLastDayOfYear(2016));
+        Assert.assertEquals("Leap year should have 366 days", 366,
+            EpochDay.getLastDayOfYear(2016) - EpochDay.getFirstDayOfYear(2016) + 1);
+        Assert.assertEquals("Year 1900 should have 365 days", 365,
+            EpochDay.getLastDayOfYear(1900) - EpochDay.getFirstDayOfYear(1900) + 1);
+        Assert.assertEquals("Year 2000 should have 366 days", 366,
+            EpochDay.getLastDayOfYear(2000) - EpochDay.getFirstDayOfYear(2000) + 1);
+    }
+}
@@ -6,9 +6,12 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
 import org.synyx.urlaubsverwaltung.core.keys.KeyPairService;
 import org.synyx.urlaubsverwaltung.core.util.CryptoUtil;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
@@ -30,6 +33,8 @@ public class PersonServiceImplTest {
 
     private PersonDAO personDAO;
     private KeyPairService keyPairService;
+    private DataVersionService dataVersionService;
+    private ChangeLogService changeLogService;
 
     private KeyPair generatedKeyPair;
 
@@ -38,8 +43,10 @@ public class PersonServiceImplTest {
 
         personDAO = Mockito.mock(PersonDAO.class);
         keyPairService = Mockito.mock(KeyPairService.class);
+        dataVersionService = Mockito.mock(DataVersionService.class);
+        changeLogService = Mockito.mock(ChangeLogService.class);
 
-        sut = new PersonServiceImpl(personDAO, keyPairService);
+        sut = new PersonServiceImpl(personDAO, keyPairService, dataVersionService, changeLogService);
 
         generatedKeyPair = CryptoUtil.generateKeyPair();
         Mockito.when(keyPairService.generate(Mockito.anyString())).thenReturn(generatedKeyPair);
@@ -78,6 +85,7 @@ public class PersonServiceImplTest {
                 Arrays.asList(Role.USER, Role.BOSS));
 
         Mockito.verify(personDAO).save(person);
+        Mockito.verify(dataVersionService).bump(person);
     }
 
 
@@ -395,4 +403,46 @@ public class PersonServiceImplTest {
         Assert.assertEquals("Wrong second person", rick, sortedList.get(1));
         Assert.assertEquals("Wrong third person", shane, sortedList.get(2));
     }
+
+
+    @Test
+    public void ensureGetPersonsByIDsFetchesPersonsWithSingleQuery() {
+
+        List<Person> persons = Arrays.asList(TestDataCreator.createPerson("shane"),
+                TestDataCreator.createPerson("carl"));
+
+        Mockito.when(personDAO.findAll(Arrays.asList(1, 2))).thenReturn(persons);
+
+        Assert.assertEquals("Wrong persons", persons, sut.getPersonsByIDs(Arrays.asList(1, 2)));
+    }
+
+
+    @Test
+    public void ensureGetPersonsByIDsDoesNotQueryForEmptyIDs() {
+
+        Assert.assertTrue("Should be empty", sut.getPersonsByIDs(Collections.emptyList()).isEmpty());
+
+        Mockito.verifyZeroInteractions(personDAO);
+    }
+
+
+    @Test
+    public void ensureSaveAppendsToChangeLog() throws IllegalAccessException {
+
+        Person person = TestDataCreator.createPerson(42, "muster");
+
+        sut.save(person);
+
+        Mockito.verify(changeLogService).append(ChangeType.PERSON, 42, person, "EDITED");
+    }
+
+
+    @Test
+    public void ensureCreationOfPersonAppendsToChangeLog() {
+
+        Person person = sut.create("rick", "Grimes", "Rick", "rick@grimes.de",
+                Collections.singletonList(MailNotification.NOTIFICATION_USER), Collections.singletonList(Role.USER));
+
+        Mockito.verify(changeLogService).append(ChangeType.PERSON, null, person, "CREATED");
+    }
 }
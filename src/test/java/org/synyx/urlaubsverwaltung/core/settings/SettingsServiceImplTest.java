@@ -0,0 +1,121 @@
+package org.synyx.urlaubsverwaltung.core.settings;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.synyx.urlaubsverwaltung.core.account.dao.UsedVacationDaysDAO;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+
+
+/**
+ * Unit test for {@link SettingsServiceImpl}.
+ */
+public class SettingsServiceImplTest {
+
+    private SettingsService settingsService;
+
+    private SettingsDAO settingsDAO;
+    private DataVersionService dataVersionService;
+    private UsedVacationDaysDAO usedVacationDaysDAO;
+    private ApplicationForLeaveDaysService applicationForLeaveDaysService;
+    private SickNoteStatisticsService sickNoteStatisticsService;
+
+    @Before
+    public void setUp() {
+
+        settingsDAO = Mockito.mock(SettingsDAO.class);
+        dataVersionService = Mockito.mock(DataVersionService.class);
+        usedVacationDaysDAO = Mockito.mock(UsedVacationDaysDAO.class);
+        applicationForLeaveDaysService = Mockito.mock(ApplicationForLeaveDaysService.class);
+        sickNoteStatisticsService = Mockito.mock(SickNoteStatisticsService.class);
+
+        settingsService = new SettingsServiceImpl(settingsDAO, dataVersionService, usedVacationDaysDAO,
+                applicationForLeaveDaysService, sickNoteStatisticsService);
+
+        Mockito.when(settingsDAO.findOne(1)).thenReturn(new Settings());
+    }
+
+
+    @Test
+    public void ensureSavesSettingsAndBumpsVersion() {
+
+        Settings settings = new Settings();
+
+        settingsService.save(settings);
+
+        Mockito.verify(settingsDAO).save(settings);
+        Mockito.verify(dataVersionService).bumpSettings();
+    }
+
+
+    @Test
+    public void ensureDoesNotResetUsedVacationDaysOrStatisticsIfPublicHolidaysDoNotChange() {
+
+        Settings settings = new Settings();
+        settings.getMailSettings().setActive(true);
+        settings.getAbsenceSettings().setMaximumAnnualVacationDays(42);
+
+        settingsService.save(settings);
+
+        Mockito.verifyZeroInteractions(usedVacationDaysDAO, applicationForLeaveDaysService,
+            sickNoteStatisticsService);
+    }
+
+
+    @Test
+    public void ensureResetsUsedVacationDaysIfFederalStateChanges() {
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(FederalState.BAYERN);
+
+        settingsService.save(settings);
+
+        Mockito.verify(usedVacationDaysDAO).deleteAllInBatch();
+    }
+
+
+    @Test
+    public void ensureEvictsStatisticsIfFederalStateChanges() {
+
+        Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(FederalState.BAYERN);
+
+        settingsService.save(settings);
+
+        Mockito.verify(applicationForLeaveDaysService).evictAll();
+        Mockito.verify(sickNoteStatisticsService).evictAll();
+    }
+
+
+    @Test
+    public void ensureResetsUsedVacationDaysIfWorkingDurationOfChristmasOrNewYearsEveChanges() {
+
+        Settings christmasEveSettings = new Settings();
+        christmasEveSettings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.FULL);
+
+        Settings newYearsEveSettings = new Settings();
+        newYearsEveSettings.getWorkingTimeSettings().setWorkingDurationForNewYearsEve(DayLength.ZERO);
+
+        settingsService.save(christmasEveSettings);
+        settingsService.save(newYearsEveSettings);
+
+        Mockito.verify(usedVacationDaysDAO, Mockito.times(2)).deleteAllInBatch();
+    }
+
+
+    @Test
+    public void ensureResetsUsedVacationDaysIfLoadedSettingsHaveBeenModified() {
+
+        Settings settings = new Settings();
+        Mockito.when(settingsDAO.findOne(1)).thenReturn(settings);
+
+        settingsService.save(settings);
+
+        Mockito.verify(usedVacationDaysDAO).deleteAllInBatch();
+    }
+}
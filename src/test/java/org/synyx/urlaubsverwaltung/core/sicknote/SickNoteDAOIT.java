@@ -0,0 +1,88 @@
+package org.synyx.urlaubsverwaltung.core.sicknote;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.boot.test.SpringApplicationConfiguration;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import org.synyx.urlaubsverwaltung.UrlaubsverwaltungApplication;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonDAO;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Integration test for {@link SickNoteDAO}.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringApplicationConfiguration(classes = UrlaubsverwaltungApplication.class)
+@WebAppConfiguration
+@ActiveProfiles("dev")
+@Transactional
+public class SickNoteDAOIT {
+
+    @Autowired
+    private PersonDAO personDAO;
+
+    @Autowired
+    private SickNoteDAO sickNoteDAO;
+
+    @Autowired
+    private SickNoteTypeDAO sickNoteTypeDAO;
+
+    private Person person;
+
+    @Before
+    public void setUp() {
+
+        person = personDAO.save(TestDataCreator.createPerson("sickNoteDAOIT"));
+    }
+
+
+    private SickNote saveSickNote(DateMidnight startDate, DateMidnight endDate) {
+
+        SickNote sickNote = TestDataCreator.createSickNote(person, startDate, endDate, DayLength.FULL);
+        sickNote.setSickNoteType(sickNoteTypeDAO.findAll().get(0));
+
+        return sickNoteDAO.save(sickNote);
+    }
+
+
+    @Test
+    public void ensureFindsSickNotesOverlappingThePeriodOfPersons() {
+
+        SickNote startingBefore = saveSickNote(new DateMidnight(2016, 2, 25), new DateMidnight(2016, 3, 2));
+        SickNote within = saveSickNote(new DateMidnight(2016, 3, 10), new DateMidnight(2016, 3, 11));
+        SickNote endingAfter = saveSickNote(new DateMidnight(2016, 3, 30), new DateMidnight(2016, 4, 5));
+        SickNote enclosing = saveSickNote(new DateMidnight(2016, 2, 1), new DateMidnight(2016, 4, 30));
+
+        saveSickNote(new DateMidnight(2016, 2, 10), new DateMidnight(2016, 2, 29));
+        saveSickNote(new DateMidnight(2016, 4, 1), new DateMidnight(2016, 4, 10));
+
+        List<SickNote> sickNotes = sickNoteDAO.findByPersonsAndPeriod(Collections.singletonList(person),
+                new DateMidnight(2016, 3, 1).toDate(), new DateMidnight(2016, 3, 31).toDate());
+
+        Assert.assertEquals("Wrong number of sick notes", 4, sickNotes.size());
+        Assert.assertEquals("Wrong sick note or order", enclosing, sickNotes.get(0));
+        Assert.assertEquals("Wrong sick note or order", startingBefore, sickNotes.get(1));
+        Assert.assertEquals("Wrong sick note or order", within, sickNotes.get(2));
+        Assert.assertEquals("Wrong sick note or order", endingAfter, sickNotes.get(3));
+    }
+}
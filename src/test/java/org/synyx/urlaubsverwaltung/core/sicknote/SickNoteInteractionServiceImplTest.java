@@ -11,16 +11,21 @@ import org.mockito.Mockito;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationInteractionService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.sicknote.statistics.SickNoteStatisticsService;
 import org.synyx.urlaubsverwaltung.core.sync.CalendarSyncService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.Absence;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMapping;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceMappingService;
 import org.synyx.urlaubsverwaltung.core.sync.absence.AbsenceType;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 
 import java.util.Optional;
 
@@ -44,6 +49,10 @@ public class SickNoteInteractionServiceImplTest {
     private CalendarSyncService calendarSyncService;
     private AbsenceMappingService absenceMappingService;
     private SettingsService settingsService;
+    private SickNoteStatisticsService sickNoteStatisticsService;
+    private DepartmentCoverageService departmentCoverageService;
+    private DataVersionService dataVersionService;
+    private ChangeLogService changeLogService;
 
     private SickNote sickNote;
     private Person person;
@@ -57,6 +66,10 @@ public class SickNoteInteractionServiceImplTest {
         calendarSyncService = Mockito.mock(CalendarSyncService.class);
         absenceMappingService = Mockito.mock(AbsenceMappingService.class);
         settingsService = Mockito.mock(SettingsService.class);
+        sickNoteStatisticsService = Mockito.mock(SickNoteStatisticsService.class);
+        departmentCoverageService = Mockito.mock(DepartmentCoverageService.class);
+        dataVersionService = Mockito.mock(DataVersionService.class);
+        changeLogService = Mockito.mock(ChangeLogService.class);
 
         Mockito.when(calendarSyncService.addAbsence(any(Absence.class))).thenReturn(Optional.of("42"));
         Mockito.when(absenceMappingService.getAbsenceByIdAndType(anyInt(), eq(AbsenceType.SICKNOTE)))
@@ -64,7 +77,8 @@ public class SickNoteInteractionServiceImplTest {
         Mockito.when(settingsService.getSettings()).thenReturn(new Settings());
 
         sickNoteInteractionService = new SickNoteInteractionServiceImpl(sickNoteService, commentService,
-                applicationInteractionService, calendarSyncService, absenceMappingService, settingsService);
+                applicationInteractionService, calendarSyncService, absenceMappingService, settingsService,
+                sickNoteStatisticsService, departmentCoverageService, dataVersionService, changeLogService);
 
         sickNote = new SickNote();
         sickNote.setId(42);
@@ -104,6 +118,17 @@ public class SickNoteInteractionServiceImplTest {
     }
 
 
+    @Test
+    public void ensureCreatingSickNoteEvictsTheStatisticsSnapshot() {
+
+        sickNoteInteractionService.create(sickNote, person);
+
+        Mockito.verify(sickNoteStatisticsService).evict(sickNote);
+        Mockito.verify(departmentCoverageService).evict(sickNote.getPerson());
+        Mockito.verify(dataVersionService).bump(sickNote.getPerson());
+    }
+
+
     @Test
     public void ensureUpdatedSickNoteIsPersisted() {
 
@@ -129,6 +154,28 @@ public class SickNoteInteractionServiceImplTest {
     }
 
 
+    @Test
+    public void ensureUpdatingSickNoteEvictsAllStatisticsSnapshots() {
+
+        sickNoteInteractionService.update(sickNote, person);
+
+        Mockito.verify(sickNoteStatisticsService).evictAll();
+        Mockito.verify(departmentCoverageService).evict(sickNote.getPerson());
+        Mockito.verify(dataVersionService).bump(sickNote.getPerson());
+    }
+
+
+    @Test
+    public void ensureCancellingSickNoteEvictsTheStatisticsSnapshot() {
+
+        sickNoteInteractionService.cancel(sickNote, person);
+
+        Mockito.verify(sickNoteStatisticsService).evict(sickNote);
+        Mockito.verify(departmentCoverageService).evict(sickNote.getPerson());
+        Mockito.verify(dataVersionService).bump(sickNote.getPerson());
+    }
+
+
     @Test
     public void ensureCancelledSickNoteIsPersisted() {
 
@@ -205,4 +252,17 @@ public class SickNoteInteractionServiceImplTest {
         Mockito.verify(absenceMappingService)
             .create(Mockito.anyInt(), Mockito.eq(AbsenceType.VACATION), Mockito.anyString());
     }
+
+
+    @Test
+    public void ensureChangesOfSickNoteAreAppendedToChangeLog() {
+
+        sickNoteInteractionService.create(sickNote, person);
+        sickNoteInteractionService.update(sickNote, person);
+        sickNoteInteractionService.cancel(sickNote, person);
+
+        Mockito.verify(changeLogService).append(ChangeType.SICK_NOTE, 42, sickNote.getPerson(), "CREATED");
+        Mockito.verify(changeLogService).append(ChangeType.SICK_NOTE, 42, sickNote.getPerson(), "EDITED");
+        Mockito.verify(changeLogService).append(ChangeType.SICK_NOTE, 42, sickNote.getPerson(), "CANCELLED");
+    }
 }
@@ -0,0 +1,165 @@
+package org.synyx.urlaubsverwaltung.core.sicknote.statistics;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteDAO;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.Collections;
+import java.util.Date;
+
+
+/**
+ * Unit test for {@link SickNoteStatisticsService}.
+ */
+public class SickNoteStatisticsServiceTest {
+
+    private SickNoteStatisticsService service;
+
+    private SickNoteDAO sickNoteDAO;
+
+    @Before
+    public void setUp() {
+
+        sickNoteDAO = Mockito.mock(SickNoteDAO.class);
+
+        WorkDaysService calendarService = Mockito.mock(WorkDaysService.class);
+        Mockito.when(calendarService.getWorkDays(Mockito.anyListOf(WorkDaysRequest.class)))
+            .thenReturn(Collections.emptyList());
+
+        Mockito.when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(Mockito.any(Date.class),
+                    Mockito.any(Date.class)))
+            .thenReturn(0L);
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(Mockito.any(Date.class), Mockito.any(Date.class)))
+            .thenReturn(Collections.emptyList());
+
+        service = new SickNoteStatisticsService(sickNoteDAO, calendarService);
+    }
+
+
+    @Test
+    public void ensureReusesTheSnapshotOfAYear() {
+
+        SickNoteStatistics statistics = service.getStatistics(2015);
+
+        Assert.assertSame("Should reuse the snapshot", statistics, service.getStatistics(2015));
+        Assert.assertEquals("Wrong year", 2015, statistics.getYear());
+
+        Mockito.verify(sickNoteDAO)
+            .findPeriodsOfActiveSickNotes(new DateMidnight(2015, 1, 1).toDate(),
+                new DateMidnight(2015, 12, 31).toDate());
+    }
+
+
+    @Test
+    public void ensureEvictsTheSnapshotsOfAllYearsOfTheSickNote() {
+
+        SickNoteStatistics statistics2014 = service.getStatistics(2014);
+        SickNoteStatistics statistics2015 = service.getStatistics(2015);
+        SickNoteStatistics statistics2016 = service.getStatistics(2016);
+
+        SickNote sickNote = TestDataCreator.createSickNote(TestDataCreator.createPerson(),
+                new DateMidnight(2014, 12, 29), new DateMidnight(2015, 1, 2), DayLength.FULL);
+
+        service.evict(sickNote);
+
+        Assert.assertNotSame("Snapshot should be evicted", statistics2014, service.getStatistics(2014));
+        Assert.assertNotSame("Snapshot should be evicted", statistics2015, service.getStatistics(2015));
+        Assert.assertSame("Snapshot should not be evicted", statistics2016, service.getStatistics(2016));
+    }
+
+
+    @Test
+    public void ensureEvictsTheSnapshotsOfAllYears() {
+
+        SickNoteStatistics statistics = service.getStatistics(2015);
+
+        service.evictAll();
+
+        Assert.assertNotSame("Snapshot should be evicted", statistics, service.getStatistics(2015));
+    }
+
+
+    @Test
+    public void ensureEvictsTheSnapshotsAgainAfterCommit() {
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            SickNote sickNote = TestDataCreator.createSickNote(TestDataCreator.createPerson(),
+                    new DateMidnight(2015, 3, 2), new DateMidnight(2015, 3, 4), DayLength.FULL);
+
+            service.evict(sickNote);
+            service.evictAll();
+
+            // created from the not yet committed state
+            SickNoteStatistics statistics = service.getStatistics(2015);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+
+            Assert.assertNotSame("Snapshot should be evicted after commit", statistics, service.getStatistics(2015));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    @Test
+    public void ensureRebuildsTheExistingSnapshots() {
+
+        SickNoteStatistics statistics = service.getStatistics(2015);
+
+        service.rebuildStatistics();
+
+        Assert.assertNotSame("Snapshot should be rebuilt", statistics, service.getStatistics(2015));
+
+        Mockito.verify(sickNoteDAO, Mockito.times(2))
+            .findPeriodsOfActiveSickNotes(new DateMidnight(2015, 1, 1).toDate(),
+                new DateMidnight(2015, 12, 31).toDate());
+        Mockito.verify(sickNoteDAO, Mockito.never())
+            .findPeriodsOfActiveSickNotes(new DateMidnight(2016, 1, 1).toDate(),
+                new DateMidnight(2016, 12, 31).toDate());
+    }
+
+
+    @Test
+    public void ensureRebuildDoesNotReplaceASnapshotEvictedDuringTheRebuild() {
+
+        service.getStatistics(2015);
+
+        // a sick note is changed while the snapshot is being rebuilt
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(Mockito.any(Date.class), Mockito.any(Date.class)))
+            .thenAnswer(invocation -> {
+                    service.evictAll();
+
+                    return Collections.emptyList();
+                });
+
+        service.rebuildStatistics();
+
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(Mockito.any(Date.class), Mockito.any(Date.class)))
+            .thenReturn(Collections.emptyList());
+
+        service.getStatistics(2015);
+
+        // the snapshot is created again on access instead of using the rebuilt one
+        Mockito.verify(sickNoteDAO, Mockito.times(3))
+            .findPeriodsOfActiveSickNotes(new DateMidnight(2015, 1, 1).toDate(),
+                new DateMidnight(2015, 12, 31).toDate());
+    }
+}
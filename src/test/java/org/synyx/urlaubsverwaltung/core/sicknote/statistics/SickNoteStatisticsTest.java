@@ -9,6 +9,7 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysRequest;
 import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
@@ -20,6 +21,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 
@@ -33,7 +37,7 @@ public class SickNoteStatisticsTest {
     private SickNoteStatistics statistics;
     private WorkDaysService calendarService;
     private SickNoteDAO sickNoteDAO;
-    private List<SickNote> sickNotes;
+    private List<Object[]> sickNotes;
 
     @Before
     public void setUp() throws Exception {
@@ -52,21 +56,34 @@ public class SickNoteStatisticsTest {
                 new DateMidnight(2013, DateTimeConstants.DECEMBER, 18),
                 new DateMidnight(2014, DateTimeConstants.JANUARY, 3), DayLength.FULL);
 
-        sickNotes.add(sickNote1);
-        sickNotes.add(sickNote2);
+        sickNotes.add(toPeriod(sickNote1));
+        sickNotes.add(toPeriod(sickNote2));
+
+        Mockito.when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(
+                    new DateMidnight(2013, 1, 1).toDate(), new DateMidnight(2013, 12, 31).toDate()))
+            .thenReturn(7L);
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(new DateMidnight(2013, 1, 1).toDate(),
+                    new DateMidnight(2013, 12, 31).toDate()))
+            .thenReturn(sickNotes);
+
+        Mockito.when(calendarService.getWorkDays(
+                    Arrays.asList(
+                        new WorkDaysRequest(person, DayLength.FULL,
+                            new DateMidnight(2013, DateTimeConstants.OCTOBER, 7),
+                            new DateMidnight(2013, DateTimeConstants.OCTOBER, 11)),
+                        new WorkDaysRequest(person, DayLength.FULL,
+                            new DateMidnight(2013, DateTimeConstants.DECEMBER, 18),
+                            new DateMidnight(2013, DateTimeConstants.DECEMBER, 31)))))
+            .thenReturn(Arrays.asList(new BigDecimal("5"), new BigDecimal("9")));
 
-        Mockito.when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(2013)).thenReturn(7L);
-        Mockito.when(sickNoteDAO.findAllActiveByYear(2013)).thenReturn(sickNotes);
+        statistics = new SickNoteStatistics(2013, sickNoteDAO, calendarService);
+    }
 
-        Mockito.when(calendarService.getWorkDays(DayLength.FULL, new DateMidnight(2013, DateTimeConstants.OCTOBER, 7),
-                    new DateMidnight(2013, DateTimeConstants.OCTOBER, 11), person))
-            .thenReturn(new BigDecimal("5"));
 
-        Mockito.when(calendarService.getWorkDays(DayLength.FULL, new DateMidnight(2013, DateTimeConstants.DECEMBER, 18),
-                    new DateMidnight(2013, DateTimeConstants.DECEMBER, 31), person))
-            .thenReturn(new BigDecimal("9"));
+    private static Object[] toPeriod(SickNote sickNote) {
 
-        statistics = new SickNoteStatistics(2013, sickNoteDAO, calendarService);
+        return new Object[] { sickNote.getPerson(), sickNote.getDayLength(), sickNote.getStartDate().toDate(),
+                sickNote.getEndDate().toDate() };
     }
 
 
@@ -100,7 +117,9 @@ public class SickNoteStatisticsTest {
     @Test
     public void testGetAverageDurationOfDiseasePerPersonDivisionByZero() throws Exception {
 
-        Mockito.when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(2013)).thenReturn(0L);
+        Mockito.when(sickNoteDAO.findNumberOfPersonsWithMinimumOneSickNote(Mockito.any(Date.class),
+                    Mockito.any(Date.class)))
+            .thenReturn(0L);
 
         statistics = new SickNoteStatistics(2013, sickNoteDAO, calendarService);
 
@@ -111,10 +130,37 @@ public class SickNoteStatisticsTest {
     @Test(expected = IllegalArgumentException.class)
     public void testGetTotalNumberOfSickDaysInvalidDateRange() throws Exception {
 
-        Mockito.when(sickNoteDAO.findAllActiveByYear(2015)).thenReturn(sickNotes);
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(new DateMidnight(2015, 1, 1).toDate(),
+                    new DateMidnight(2015, 12, 31).toDate()))
+            .thenReturn(sickNotes);
 
         statistics = new SickNoteStatistics(2015, sickNoteDAO, calendarService);
 
         statistics.getTotalNumberOfSickDays();
     }
+
+
+    @Test
+    public void ensureCalculatesOnlyTheSickDaysWithinTheYearOfSickNotesSpanningSeveralYears() {
+
+        Person person = TestDataCreator.createPerson();
+
+        SickNote sickNote = TestDataCreator.createSickNote(person, new DateMidnight(2012, 11, 5),
+                new DateMidnight(2014, 2, 7), DayLength.FULL);
+
+        Mockito.when(sickNoteDAO.findPeriodsOfActiveSickNotes(new DateMidnight(2013, 1, 1).toDate(),
+                    new DateMidnight(2013, 12, 31).toDate()))
+            .thenReturn(Collections.singletonList(toPeriod(sickNote)));
+
+        Mockito.when(calendarService.getWorkDays(
+                    Collections.singletonList(
+                        new WorkDaysRequest(person, DayLength.FULL, new DateMidnight(2013, 1, 1),
+                            new DateMidnight(2013, 12, 31)))))
+            .thenReturn(Collections.singletonList(new BigDecimal("250")));
+
+        statistics = new SickNoteStatistics(2013, sickNoteDAO, calendarService);
+
+        Assert.assertEquals("Wrong number of sick notes", 1, statistics.getTotalNumberOfSickNotes());
+        Assert.assertEquals("Wrong number of sick days", new BigDecimal("250"), statistics.getTotalNumberOfSickDays());
+    }
 }
@@ -0,0 +1,299 @@
+package org.synyx.urlaubsverwaltung.core.sync.ical;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTimeZone;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.synyx.urlaubsverwaltung.core.calendar.AbsencePeriodDAO;
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.settings.Settings;
+import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Unit test for {@link ICalFeedService}.
+ */
+public class ICalFeedServiceTest {
+
+    private PersonService personService;
+    private DepartmentService departmentService;
+    private AbsencePeriodDAO absencePeriodDAO;
+    private DataVersionService dataVersionService;
+
+    private ICalFeedService service;
+
+    private Person person;
+    private Person otherPerson;
+
+    @Before
+    public void setUp() throws IllegalAccessException {
+
+        personService = Mockito.mock(PersonService.class);
+        departmentService = Mockito.mock(DepartmentService.class);
+        absencePeriodDAO = Mockito.mock(AbsencePeriodDAO.class);
+        dataVersionService = new DataVersionService();
+
+        SettingsService settingsService = Mockito.mock(SettingsService.class);
+        Mockito.when(settingsService.getSettings()).thenReturn(new Settings());
+
+        service = new ICalFeedService(personService, departmentService, settingsService, absencePeriodDAO,
+                dataVersionService);
+
+        person = TestDataCreator.createPerson(1, "muster");
+        otherPerson = TestDataCreator.createPerson(2, "dampf");
+
+        Mockito.when(personService.getPersonByID(1)).thenReturn(Optional.of(person));
+    }
+
+
+    private static Object[] row(Person person, String type, int id, DateMidnight startDate, DateMidnight endDate,
+        String dayLength, String status) {
+
+        return new Object[] { person.getId(), type, id, startDate.toDate(), endDate.toDate(), dayLength, status };
+    }
+
+
+    private static String content(ICalFeed feed) {
+
+        return new String(feed.getContent(), StandardCharsets.UTF_8);
+    }
+
+
+    @Test
+    public void ensureWritesAllowedAndWaitingApplicationsAndActiveSickNotesOfPerson() {
+
+        int year = DateMidnight.now().getYear();
+
+        List<Object[]> rows = Arrays.asList(
+                row(person, "APPLICATION", 11, new DateMidnight(year, 3, 7), new DateMidnight(year, 3, 8), "FULL",
+                    "ALLOWED"),
+                row(person, "APPLICATION", 12, new DateMidnight(year, 4, 4), new DateMidnight(year, 4, 4), "MORNING",
+                    "WAITING"),
+                row(person, "SICK_NOTE", 13, new DateMidnight(year, 5, 2), new DateMidnight(year, 5, 2), "FULL",
+                    "ACTIVE"),
+                row(person, "APPLICATION", 14, new DateMidnight(year, 6, 1), new DateMidnight(year, 6, 1), "FULL",
+                    "REJECTED"),
+                row(person, "SICK_NOTE", 15, new DateMidnight(year, 6, 2), new DateMidnight(year, 6, 2), "FULL",
+                    "CANCELLED"));
+
+        Mockito.when(absencePeriodDAO.findByPersonsAndPeriod(Collections.singletonList(1),
+                    new DateMidnight(year - 1, 1, 1).toDate(), new DateMidnight(year + 1, 12, 31).toDate()))
+            .thenReturn(rows);
+
+        String content = content(service.getFeedOfPerson(1, true).get());
+
+        Assert.assertTrue("Wrong begin", content.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        Assert.assertTrue("Wrong end", content.endsWith("END:VCALENDAR\r\n"));
+        Assert.assertTrue("Wrong name", content.contains("X-WR-CALNAME:" + person.getNiceName() + "\r\n"));
+
+        Assert.assertTrue("Missing allowed application",
+            content.contains("UID:application-11@urlaubsverwaltung\r\n"));
+        Assert.assertTrue("Wrong start of full day", content.contains("DTSTART;VALUE=DATE:" + year + "0307\r\n"));
+        Assert.assertTrue("Wrong exclusive end of full day",
+            content.contains("DTEND;VALUE=DATE:" + year + "0309\r\n"));
+        Assert.assertTrue("Wrong summary", content.contains("SUMMARY:Urlaub " + person.getNiceName() + "\r\n"));
+
+        Assert.assertTrue("Missing waiting application",
+            content.contains("UID:application-12@urlaubsverwaltung\r\n"));
+        Assert.assertTrue("Wrong start of half day", content.contains("DTSTART:" + year + "0404T080000\r\n"));
+        Assert.assertTrue("Wrong end of half day", content.contains("DTEND:" + year + "0404T120000\r\n"));
+
+        Assert.assertTrue("Missing sick note", content.contains("UID:sicknote-13@urlaubsverwaltung\r\n"));
+
+        Assert.assertFalse("Rejected application must be ignored", content.contains("application-14"));
+        Assert.assertFalse("Cancelled sick note must be ignored", content.contains("sicknote-15"));
+    }
+
+
+    @Test
+    public void ensureCachesFeedWithoutSickNotesSeparately() {
+
+        int year = DateMidnight.now().getYear();
+
+        List<Object[]> rows = Arrays.asList(
+                row(person, "APPLICATION", 11, new DateMidnight(year, 3, 7), new DateMidnight(year, 3, 8), "FULL",
+                    "ALLOWED"),
+                row(person, "SICK_NOTE", 13, new DateMidnight(year, 5, 2), new DateMidnight(year, 5, 2), "FULL",
+                    "ACTIVE"));
+
+        Mockito.when(absencePeriodDAO.findByPersonsAndPeriod(Matchers.eq(Collections.singletonList(1)),
+                    Matchers.any(Date.class), Matchers.any(Date.class)))
+            .thenReturn(rows);
+
+        ICalFeed feedWithoutSickNotes = service.getFeedOfPerson(1, false).get();
+        ICalFeed feedWithSickNotes = service.getFeedOfPerson(1, true).get();
+
+        Assert.assertTrue("Missing application", content(feedWithoutSickNotes).contains("application-11"));
+        Assert.assertFalse("Sick note must be left out", content(feedWithoutSickNotes).contains("sicknote-13"));
+        Assert.assertTrue("Missing sick note", content(feedWithSickNotes).contains("sicknote-13"));
+        Assert.assertNotEquals("Entity tags must differ", feedWithoutSickNotes.getETag(),
+            feedWithSickNotes.getETag());
+
+        Assert.assertSame("Feed should be cached", feedWithoutSickNotes, service.getFeedOfPerson(1, false).get());
+        Assert.assertSame("Feed should be cached", feedWithSickNotes, service.getFeedOfPerson(1, true).get());
+    }
+
+
+    @Test
+    public void ensureWritesLocalDatesAndTimesIndependentOfTheDefaultTimeZone() {
+
+        DateTimeZone defaultZone = DateTimeZone.getDefault();
+
+        try {
+            DateTimeZone.setDefault(DateTimeZone.forID("Europe/Berlin"));
+
+            int year = DateMidnight.now().getYear();
+
+            List<Object[]> rows = Arrays.asList(
+                    row(person, "APPLICATION", 11, new DateMidnight(year, 3, 1), new DateMidnight(year, 3, 1), "FULL",
+                        "ALLOWED"),
+                    row(person, "APPLICATION", 12, new DateMidnight(year, 7, 4), new DateMidnight(year, 7, 4), "NOON",
+                        "ALLOWED"));
+
+            Mockito.when(absencePeriodDAO.findByPersonsAndPeriod(Matchers.eq(Collections.singletonList(1)),
+                        Matchers.any(Date.class), Matchers.any(Date.class)))
+                .thenReturn(rows);
+
+            String content = content(service.getFeedOfPerson(1, true).get());
+
+            Assert.assertTrue("Wrong start of full day", content.contains("DTSTART;VALUE=DATE:" + year + "0301\r\n"));
+            Assert.assertTrue("Wrong end of full day", content.contains("DTEND;VALUE=DATE:" + year + "0302\r\n"));
+            Assert.assertTrue("Wrong start of half day", content.contains("DTSTART:" + year + "0704T120000\r\n"));
+            Assert.assertTrue("Wrong end of half day", content.contains("DTEND:" + year + "0704T160000\r\n"));
+        } finally {
+            DateTimeZone.setDefault(defaultZone);
+        }
+    }
+
+
+    @Test
+    public void ensureServesCachedFeedOfPersonUntilDataOfPersonChanges() {
+
+        ICalFeed feed = service.getFeedOfPerson(1, true).get();
+
+        Assert.assertSame("Feed should be cached", feed, service.getFeedOfPerson(1, true).get());
+
+        dataVersionService.bump(otherPerson);
+
+        Assert.assertSame("Feed should be cached", feed, service.getFeedOfPerson(1, true).get());
+
+        Mockito.verify(personService).getPersonByID(1);
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Matchers.anyListOf(Integer.class), Matchers.any(Date.class),
+                Matchers.any(Date.class));
+
+        dataVersionService.bump(person);
+
+        ICalFeed changedFeed = service.getFeedOfPerson(1, true).get();
+
+        Assert.assertNotSame("Feed should be regenerated", feed, changedFeed);
+        Assert.assertNotEquals("Entity tag should change", feed.getETag(), changedFeed.getETag());
+
+        Mockito.verify(absencePeriodDAO, Mockito.times(2))
+            .findByPersonsAndPeriod(Matchers.anyListOf(Integer.class), Matchers.any(Date.class),
+                Matchers.any(Date.class));
+    }
+
+
+    @Test
+    public void ensureReturnsEmptyFeedIfPersonDoesNotExist() {
+
+        Mockito.when(personService.getPersonByID(42)).thenReturn(Optional.empty());
+
+        Assert.assertFalse("Feed should be empty", service.getFeedOfPerson(42, true).isPresent());
+    }
+
+
+    @Test
+    public void ensureFeedOfDepartmentContainsActiveMembersAndChangesWithMembers() throws IllegalAccessException {
+
+        Person inactivePerson = TestDataCreator.createPerson(3, "inactive");
+        inactivePerson.setPermissions(Collections.singletonList(Role.INACTIVE));
+
+        Department department = TestDataCreator.createDepartment("Entwicklung");
+        department.setMembers(Arrays.asList(person, inactivePerson));
+
+        Mockito.when(departmentService.getDepartmentById(5)).thenReturn(Optional.of(department));
+
+        ICalFeed feed = service.getFeedOfDepartment(5, true).get();
+
+        Assert.assertTrue("Wrong name", content(feed).contains("X-WR-CALNAME:Entwicklung\r\n"));
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Matchers.eq(Collections.singletonList(1)), Matchers.any(Date.class),
+                Matchers.any(Date.class));
+
+        dataVersionService.bump(otherPerson);
+
+        Assert.assertSame("Feed should be cached", feed, service.getFeedOfDepartment(5, true).get());
+
+        department.setMembers(Arrays.asList(person, otherPerson));
+
+        Assert.assertNotSame("Feed should be regenerated", feed, service.getFeedOfDepartment(5, true).get());
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Matchers.eq(Arrays.asList(1, 2)), Matchers.any(Date.class),
+                Matchers.any(Date.class));
+    }
+
+
+    @Test
+    public void ensureFeedOfDepartmentWithoutMembersDoesNotQueryAbsences() {
+
+        Mockito.when(departmentService.getDepartmentById(5)).thenReturn(Optional.of(
+                TestDataCreator.createDepartment()));
+
+        String content = content(service.getFeedOfDepartment(5, true).get());
+
+        Assert.assertFalse("Feed should not contain events", content.contains("BEGIN:VEVENT"));
+        Mockito.verifyZeroInteractions(absencePeriodDAO);
+    }
+
+
+    @Test
+    public void ensureReturnsEmptyFeedIfDepartmentDoesNotExist() {
+
+        Mockito.when(departmentService.getDepartmentById(42)).thenReturn(Optional.empty());
+
+        Assert.assertFalse("Feed should be empty", service.getFeedOfDepartment(42, true).isPresent());
+    }
+
+
+    @Test
+    public void ensureServesCachedFeedOfCompanyUntilAnyDataChanges() {
+
+        List<Person> persons = Arrays.asList(person, otherPerson);
+        Mockito.when(personService.getActivePersons()).thenReturn(persons);
+
+        ICalFeed feed = service.getFeedOfCompany(true);
+
+        Assert.assertSame("Feed should be cached", feed, service.getFeedOfCompany(true));
+
+        Mockito.verify(personService).getActivePersons();
+        Mockito.verify(absencePeriodDAO)
+            .findByPersonsAndPeriod(Matchers.eq(Arrays.asList(1, 2)), Matchers.any(Date.class),
+                Matchers.any(Date.class));
+
+        dataVersionService.bumpAll();
+
+        Assert.assertNotSame("Feed should be regenerated", feed, service.getFeedOfCompany(true));
+    }
+}
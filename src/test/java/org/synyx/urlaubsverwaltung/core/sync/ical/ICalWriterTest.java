@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.core.sync.ical;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Unit test for {@link ICalWriter}.
+ */
+public class ICalWriterTest {
+
+    private static String write(String name) {
+
+        return new String(new ICalWriter(name, new DateTime(2016, 3, 1, 12, 0, DateTimeZone.UTC)).finish(),
+                StandardCharsets.UTF_8);
+    }
+
+
+    @Test
+    public void ensureEscapesText() {
+
+        Assert.assertTrue("Wrong escaping", write("a;b,c\\d\ne").contains("X-WR-CALNAME:a\\;b\\,c\\\\d\\ne\r\n"));
+    }
+
+
+    @Test
+    public void ensureFoldsLinesLongerThan75Octets() {
+
+        String name = "Ü" + new String(new char[100]).replace('\0', 'x');
+
+        String[] lines = write(name).split("\r\n");
+
+        for (String line : lines) {
+            Assert.assertTrue("Line too long: " + line, line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+
+        Assert.assertTrue("Folded line should be continued with a space", write(name).contains("\r\n x"));
+        Assert.assertTrue("Folded line should be restored", write(name).replace("\r\n ", "").contains(name));
+    }
+}
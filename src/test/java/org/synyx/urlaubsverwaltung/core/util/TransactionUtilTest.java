@@ -0,0 +1,49 @@
+package org.synyx.urlaubsverwaltung.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Unit test for {@link TransactionUtil}.
+ */
+public class TransactionUtilTest {
+
+    @Test
+    public void ensureRunsActionOnceWithoutTransaction() {
+
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionUtil.runNowAndAfterCommit(runs::incrementAndGet);
+
+        Assert.assertEquals("Wrong number of runs", 1, runs.get());
+    }
+
+
+    @Test
+    public void ensureRunsActionAgainAfterCommit() {
+
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            TransactionUtil.runNowAndAfterCommit(runs::incrementAndGet);
+
+            Assert.assertEquals("Action should run immediately", 1, runs.get());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+
+            Assert.assertEquals("Action should run again after commit", 2, runs.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
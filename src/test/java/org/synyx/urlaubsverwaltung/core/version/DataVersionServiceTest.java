@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.core.version;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+
+/**
+ * Unit test for {@link DataVersionService}.
+ */
+public class DataVersionServiceTest {
+
+    private DataVersionService service;
+
+    private Person person;
+    private Person otherPerson;
+
+    @Before
+    public void setUp() throws IllegalAccessException {
+
+        service = new DataVersionService();
+
+        person = TestDataCreator.createPerson(1, "muster");
+        otherPerson = TestDataCreator.createPerson(2, "dampf");
+    }
+
+
+    @Test
+    public void ensureBumpingAPersonChangesTheVersionOfThePersonAndTheGlobalVersion() {
+
+        DataVersion globalVersion = service.getGlobalVersion();
+        DataVersion versionOfPerson = service.getVersionOfPerson(1);
+        DataVersion versionOfOtherPerson = service.getVersionOfPerson(2);
+
+        service.bump(person);
+
+        Assert.assertNotEquals("Global version should change", globalVersion.getETag(),
+            service.getGlobalVersion().getETag());
+        Assert.assertNotEquals("Version of person should change", versionOfPerson.getETag(),
+            service.getVersionOfPerson(1).getETag());
+        Assert.assertEquals("Version of other person should not change", versionOfOtherPerson.getETag(),
+            service.getVersionOfPerson(2).getETag());
+    }
+
+
+    @Test
+    public void ensureBumpingAllChangesOnlyTheGlobalVersion() {
+
+        DataVersion globalVersion = service.getGlobalVersion();
+        DataVersion versionOfPerson = service.getVersionOfPerson(1);
+
+        service.bumpAll();
+
+        Assert.assertNotEquals("Global version should change", globalVersion.getETag(),
+            service.getGlobalVersion().getETag());
+        Assert.assertEquals("Version of person should not change", versionOfPerson.getETag(),
+            service.getVersionOfPerson(1).getETag());
+    }
+
+
+    @Test
+    public void ensureBumpingSettingsChangesTheVersionOfSettingsAndTheGlobalVersion() {
+
+        DataVersion globalVersion = service.getGlobalVersion();
+        DataVersion versionOfSettings = service.getVersionOfSettings();
+
+        service.bumpSettings();
+
+        Assert.assertNotEquals("Global version should change", globalVersion.getETag(),
+            service.getGlobalVersion().getETag());
+        Assert.assertNotEquals("Version of settings should change", versionOfSettings.getETag(),
+            service.getVersionOfSettings().getETag());
+
+        versionOfSettings = service.getVersionOfSettings();
+
+        service.bump(person);
+        service.bumpAll();
+
+        Assert.assertEquals("Version of settings should not change", versionOfSettings.getETag(),
+            service.getVersionOfSettings().getETag());
+    }
+
+
+    @Test
+    public void ensureVersionsOfDifferentInstancesHaveDifferentETags() throws InterruptedException {
+
+        // instance ids are based on the start time
+        Thread.sleep(5);
+
+        Assert.assertNotEquals("Versions should differ after restart", service.getGlobalVersion().getETag(),
+            new DataVersionService().getGlobalVersion().getETag());
+    }
+
+
+    @Test
+    public void ensureBumpingAPersonWithoutIdChangesTheGlobalVersion() {
+
+        DataVersion globalVersion = service.getGlobalVersion();
+
+        service.bump(TestDataCreator.createPerson());
+
+        Assert.assertNotEquals("Global version should change", globalVersion.getETag(),
+            service.getGlobalVersion().getETag());
+    }
+}
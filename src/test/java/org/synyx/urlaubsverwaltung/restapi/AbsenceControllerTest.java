@@ -17,6 +17,7 @@ import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Collections;
@@ -40,6 +41,7 @@ public class AbsenceControllerTest {
     private PersonService personServiceMock;
     private SickNoteService sickNoteServiceMock;
     private ApplicationService applicationServiceMock;
+    private DataVersionService dataVersionService;
 
     @Before
     public void setUp() {
@@ -47,9 +49,12 @@ public class AbsenceControllerTest {
         personServiceMock = Mockito.mock(PersonService.class);
         applicationServiceMock = Mockito.mock(ApplicationService.class);
         sickNoteServiceMock = Mockito.mock(SickNoteService.class);
+        dataVersionService = new DataVersionService();
 
         mockMvc = MockMvcBuilders.standaloneSetup(new AbsenceController(personServiceMock, applicationServiceMock,
-                        sickNoteServiceMock)).setControllerAdvice(new ApiExceptionHandlerControllerAdvice()).build();
+                        sickNoteServiceMock, dataVersionService))
+                .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
+                .build();
     }
 
 
@@ -175,6 +180,142 @@ public class AbsenceControllerTest {
     }
 
 
+    @Test
+    public void ensureCompactFormatReturnsOneRangePerAbsence() throws Exception {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        SickNote sickNote = TestDataCreator.createSickNote(person, new DateMidnight(2016, 5, 19),
+                new DateMidnight(2016, 5, 20), DayLength.FULL);
+        sickNote.setId(1);
+
+        Application vacation = TestDataCreator.createApplication(person, new DateMidnight(2016, 4, 6),
+                new DateMidnight(2016, 4, 6), DayLength.MORNING);
+
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        Mockito.when(sickNoteServiceMock.getByPersonAndPeriod(Mockito.any(Person.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(DateMidnight.class)))
+            .thenReturn(Collections.singletonList(sickNote));
+
+        Mockito.when(applicationServiceMock.getApplicationsForACertainPeriodAndPerson(Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(Person.class)))
+            .thenReturn(Collections.singletonList(vacation));
+
+        mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23").param("format", "compact"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/json;charset=UTF-8"))
+            .andExpect(jsonPath("$.response.absences", hasSize(2)))
+            .andExpect(jsonPath("$.response.absences[0].start", is("2016-04-06")))
+            .andExpect(jsonPath("$.response.absences[0].end", is("2016-04-06")))
+            .andExpect(jsonPath("$.response.absences[0].dayLength", is(0.5)))
+            .andExpect(jsonPath("$.response.absences[0].type", is("VACATION")))
+            .andExpect(jsonPath("$.response.absences[0].status", is("WAITING")))
+            .andExpect(jsonPath("$.response.absences[1].start", is("2016-05-19")))
+            .andExpect(jsonPath("$.response.absences[1].end", is("2016-05-20")))
+            .andExpect(jsonPath("$.response.absences[1].type", is("SICK_NOTE")))
+            .andExpect(jsonPath("$.response.absences[1].status", is("ACTIVE")))
+            .andExpect(jsonPath("$.response.absences[1].href", is("1")));
+    }
+
+
+    @Test
+    public void ensureCompactFormatClipsRangesToTheRequestedMonth() throws Exception {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        Application vacation = TestDataCreator.createApplication(person, new DateMidnight(2016, 5, 30),
+                new DateMidnight(2016, 6, 1), DayLength.FULL);
+
+        SickNote sickNote = TestDataCreator.createSickNote(person, new DateMidnight(2016, 6, 30),
+                new DateMidnight(2016, 7, 6), DayLength.FULL);
+
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        Mockito.when(sickNoteServiceMock.getByPersonAndPeriod(Mockito.any(Person.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(DateMidnight.class)))
+            .thenReturn(Collections.singletonList(sickNote));
+
+        Mockito.when(applicationServiceMock.getApplicationsForACertainPeriodAndPerson(Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(Person.class)))
+            .thenReturn(Collections.singletonList(vacation));
+
+        mockMvc.perform(get("/api/absences").param("year", "2016").param("month", "6").param("person", "23")
+                .param("format", "compact"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.absences", hasSize(2)))
+            .andExpect(jsonPath("$.response.absences[0].start", is("2016-06-01")))
+            .andExpect(jsonPath("$.response.absences[0].end", is("2016-06-01")))
+            .andExpect(jsonPath("$.response.absences[1].start", is("2016-06-30")))
+            .andExpect(jsonPath("$.response.absences[1].end", is("2016-06-30")));
+    }
+
+
+    @Test
+    public void ensureCompactFormatConsidersTypeFilter() throws Exception {
+
+        Person person = TestDataCreator.createPerson("muster");
+
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        Mockito.when(sickNoteServiceMock.getByPersonAndPeriod(Mockito.any(Person.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(DateMidnight.class)))
+            .thenReturn(Collections.singletonList(TestDataCreator.createSickNote(person)));
+
+        mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23").param("type", "VACATION")
+                .param("format", "compact"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.absences", hasSize(0)));
+
+        Mockito.verifyZeroInteractions(sickNoteServiceMock);
+    }
+
+
+    @Test
+    public void ensureReturnsNotModifiedWithoutLoadingTheAbsencesIfPersonHasNoChanges() throws Exception {
+
+        Person person = TestDataCreator.createPerson("muster");
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        String eTag = mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "private, no-cache"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        Mockito.reset(personServiceMock, applicationServiceMock, sickNoteServiceMock);
+
+        mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23")
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag));
+
+        Mockito.verifyZeroInteractions(personServiceMock, applicationServiceMock, sickNoteServiceMock);
+    }
+
+
+    @Test
+    public void ensureReturnsAbsencesAgainIfPersonHasChanges() throws Exception {
+
+        Person person = TestDataCreator.createPerson(23, "muster");
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        String eTag = mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23")
+                    .param("format", "compact"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        dataVersionService.bump(person);
+
+        mockMvc.perform(get("/api/absences").param("year", "2016").param("person", "23").param("format", "compact")
+                .header("If-None-Match", eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.absences").exists());
+    }
+
+
     @Test
     public void ensureBadRequestForMissingYearParameter() throws Exception {
 
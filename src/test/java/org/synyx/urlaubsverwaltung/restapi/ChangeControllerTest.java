@@ -0,0 +1,109 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.joda.time.DateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogEntry;
+import org.synyx.urlaubsverwaltung.core.change.ChangeLogService;
+import org.synyx.urlaubsverwaltung.core.change.ChangeType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+public class ChangeControllerTest {
+
+    private MockMvc mockMvc;
+
+    private ChangeLogService changeLogServiceMock;
+
+    @Before
+    public void setUp() {
+
+        changeLogServiceMock = Mockito.mock(ChangeLogService.class);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ChangeController(changeLogServiceMock))
+            .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
+            .build();
+    }
+
+
+    private static ChangeLogEntry entry(int id, ChangeType type, String action, int entityId, int personId) {
+
+        ChangeLogEntry entry = Mockito.mock(ChangeLogEntry.class);
+        Mockito.when(entry.getSequenceNumber()).thenReturn(id);
+        Mockito.when(entry.getCreated()).thenReturn(new DateTime(2016, 3, 1, 12, 0));
+        Mockito.when(entry.getType()).thenReturn(type);
+        Mockito.when(entry.getAction()).thenReturn(action);
+        Mockito.when(entry.getEntityId()).thenReturn(entityId);
+        Mockito.when(entry.getPersonId()).thenReturn(personId);
+
+        return entry;
+    }
+
+
+    @Test
+    public void ensureReturnsChangesWithCursorOfLastChange() throws Exception {
+
+        List<ChangeLogEntry> changes = Arrays.asList(entry(11, ChangeType.APPLICATION, "ALLOWED", 5, 1),
+                entry(14, ChangeType.SICK_NOTE, "CREATED", 7, 2));
+
+        Mockito.when(changeLogServiceMock.getChanges(10, 500)).thenReturn(changes);
+
+        mockMvc.perform(get("/api/changes").param("since", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.changes", hasSize(2)))
+            .andExpect(jsonPath("$.response.changes[0].id", is(11)))
+            .andExpect(jsonPath("$.response.changes[0].type", is("APPLICATION")))
+            .andExpect(jsonPath("$.response.changes[0].action", is("ALLOWED")))
+            .andExpect(jsonPath("$.response.changes[0].entityId", is(5)))
+            .andExpect(jsonPath("$.response.changes[0].personId", is(1)))
+            .andExpect(jsonPath("$.response.changes[1].type", is("SICK_NOTE")))
+            .andExpect(jsonPath("$.response.next", is(14)));
+    }
+
+
+    @Test
+    public void ensureReturnsGivenCursorIfThereAreNoChanges() throws Exception {
+
+        mockMvc.perform(get("/api/changes").param("since", "10").param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.changes", hasSize(0)))
+            .andExpect(jsonPath("$.response.next", is(10)));
+
+        Mockito.verify(changeLogServiceMock).getChanges(10, 20);
+    }
+
+
+    @Test
+    public void ensureReadsFromTheBeginningIfNoCursorIsGiven() throws Exception {
+
+        mockMvc.perform(get("/api/changes")).andExpect(status().isOk());
+
+        Mockito.verify(changeLogServiceMock).getChanges(0, 500);
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidParameters() throws Exception {
+
+        mockMvc.perform(get("/api/changes").param("since", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/changes").param("since", "foo")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/changes").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/changes").param("limit", "1001")).andExpect(status().isBadRequest());
+    }
+}
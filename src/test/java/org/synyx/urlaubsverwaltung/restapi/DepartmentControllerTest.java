@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.restapi;
 
+import org.joda.time.DateMidnight;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -8,11 +10,22 @@ import org.mockito.Mockito;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverage;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentCoverageService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.security.SessionService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -24,13 +37,23 @@ public class DepartmentControllerTest {
     private MockMvc mockMvc;
 
     private DepartmentService departmentServiceMock;
+    private DepartmentCoverageService departmentCoverageServiceMock;
+
+    private Person signedInUser;
 
     @Before
     public void setUp() {
 
         departmentServiceMock = Mockito.mock(DepartmentService.class);
+        departmentCoverageServiceMock = Mockito.mock(DepartmentCoverageService.class);
+
+        signedInUser = TestDataCreator.createPerson();
 
-        mockMvc = MockMvcBuilders.standaloneSetup(new DepartmentController(departmentServiceMock))
+        SessionService sessionServiceMock = Mockito.mock(SessionService.class);
+        Mockito.when(sessionServiceMock.getSignedInUser()).thenReturn(signedInUser);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new DepartmentController(departmentServiceMock,
+                        departmentCoverageServiceMock, sessionServiceMock))
             .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
                 .build();
     }
@@ -45,4 +68,75 @@ public class DepartmentControllerTest {
 
         Mockito.verify(departmentServiceMock).getAllDepartments();
     }
+
+
+    @Test
+    public void ensureReturnsCoverageOfDepartmentForYear() throws Exception {
+
+        Department department = TestDataCreator.createDepartment();
+        Mockito.when(departmentServiceMock.getDepartmentById(42)).thenReturn(Optional.of(department));
+        Mockito.when(departmentServiceMock.getManagedDepartments(signedInUser))
+            .thenReturn(Collections.singletonList(department));
+        Mockito.when(departmentCoverageServiceMock.getCoverage(Mockito.eq(department), Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(new DepartmentCoverage(new DateMidnight(2016, 1, 1), 2, new int[] { 1 }, new int[] { 0 },
+                    new int[] { 0 }, new int[] { 1 }));
+
+        mockMvc.perform(get("/api/departments/42/coverage").param("year", "2016"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.members", is(2)))
+            .andExpect(jsonPath("$.response.days", hasSize(1)))
+            .andExpect(jsonPath("$.response.days[0].date", is("2016-01-01")))
+            .andExpect(jsonPath("$.response.days[0].vacation", is(1)))
+            .andExpect(jsonPath("$.response.days[0].absent", is(1)))
+            .andExpect(jsonPath("$.response.days[0].absentRatio", is(0.5)));
+
+        Mockito.verify(departmentCoverageServiceMock)
+            .getCoverage(department, new DateMidnight(2016, 1, 1), new DateMidnight(2016, 12, 31));
+    }
+
+
+    @Test
+    public void ensureReturnsCoverageOfDepartmentForMonth() throws Exception {
+
+        Department department = TestDataCreator.createDepartment();
+        Mockito.when(departmentServiceMock.getDepartmentById(42)).thenReturn(Optional.of(department));
+        Mockito.when(departmentServiceMock.getManagedDepartments(signedInUser))
+            .thenReturn(Collections.singletonList(department));
+        Mockito.when(departmentCoverageServiceMock.getCoverage(Mockito.eq(department), Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(new DepartmentCoverage(new DateMidnight(2016, 2, 1), 0, new int[0], new int[0], new int[0],
+                    new int[0]));
+
+        mockMvc.perform(get("/api/departments/42/coverage").param("year", "2016").param("month", "2"))
+            .andExpect(status().isOk());
+
+        Mockito.verify(departmentCoverageServiceMock)
+            .getCoverage(department, new DateMidnight(2016, 2, 1), new DateMidnight(2016, 2, 29));
+    }
+
+
+    @Test
+    public void ensureForbiddenIfSignedInUserDoesNotManageTheDepartment() throws Exception {
+
+        Department department = TestDataCreator.createDepartment("Entwicklung");
+        Mockito.when(departmentServiceMock.getDepartmentById(42)).thenReturn(Optional.of(department));
+        Mockito.when(departmentServiceMock.getManagedDepartments(signedInUser))
+            .thenReturn(Collections.singletonList(TestDataCreator.createDepartment("Marketing")));
+
+        mockMvc.perform(get("/api/departments/42/coverage").param("year", "2016"))
+            .andExpect(status().isForbidden());
+
+        Mockito.verifyZeroInteractions(departmentCoverageServiceMock);
+    }
+
+
+    @Test
+    public void ensureBadRequestForUnknownDepartment() throws Exception {
+
+        Mockito.when(departmentServiceMock.getDepartmentById(Mockito.anyInt())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/departments/42/coverage").param("year", "2016"))
+            .andExpect(status().isBadRequest());
+    }
 }
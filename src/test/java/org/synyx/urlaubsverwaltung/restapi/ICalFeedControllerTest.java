@@ -0,0 +1,140 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.http.HttpHeaders;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.synyx.urlaubsverwaltung.core.sync.ical.ICalFeed;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.sync.ical.ICalFeedService;
+import org.synyx.urlaubsverwaltung.security.SessionService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+public class ICalFeedControllerTest {
+
+    private static final String CALENDAR = "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n";
+
+    private MockMvc mockMvc;
+
+    private ICalFeedService iCalFeedServiceMock;
+    private SessionService sessionServiceMock;
+
+    private ICalFeed feed;
+
+    @Before
+    public void setUp() throws IllegalAccessException {
+
+        iCalFeedServiceMock = Mockito.mock(ICalFeedService.class);
+        sessionServiceMock = Mockito.mock(SessionService.class);
+
+        Person office = TestDataCreator.createPerson(1, "office");
+        office.setPermissions(Arrays.asList(Role.USER, Role.OFFICE));
+
+        Mockito.when(sessionServiceMock.getSignedInUser()).thenReturn(office);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ICalFeedController(iCalFeedServiceMock, sessionServiceMock))
+            .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
+            .build();
+
+        feed = new ICalFeed("version", CALENDAR.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    @Test
+    public void ensureReturnsCalendarOfPerson() throws Exception {
+
+        Mockito.when(iCalFeedServiceMock.getFeedOfPerson(1, true)).thenReturn(Optional.of(feed));
+
+        mockMvc.perform(get("/api/calendar/persons/1/absences.ics"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/calendar;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.ETAG, feed.getETag()))
+            .andExpect(content().string(CALENDAR));
+    }
+
+
+    @Test
+    public void ensureReturnsCalendarOfDepartment() throws Exception {
+
+        Mockito.when(iCalFeedServiceMock.getFeedOfDepartment(2, true)).thenReturn(Optional.of(feed));
+
+        mockMvc.perform(get("/api/calendar/departments/2/absences.ics"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(CALENDAR));
+    }
+
+
+    @Test
+    public void ensureReturnsCalendarOfCompany() throws Exception {
+
+        Mockito.when(iCalFeedServiceMock.getFeedOfCompany(true)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/calendar/absences.ics"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(CALENDAR));
+    }
+
+
+    @Test
+    public void ensureCalendarsContainSickNotesOfOthersOnlyForOffice() throws Exception {
+
+        Person user = TestDataCreator.createPerson(1, "muster");
+        user.setPermissions(Arrays.asList(Role.USER, Role.BOSS));
+
+        Mockito.when(sessionServiceMock.getSignedInUser()).thenReturn(user);
+        Mockito.when(iCalFeedServiceMock.getFeedOfPerson(1, true)).thenReturn(Optional.of(feed));
+        Mockito.when(iCalFeedServiceMock.getFeedOfPerson(2, false)).thenReturn(Optional.of(feed));
+        Mockito.when(iCalFeedServiceMock.getFeedOfDepartment(2, false)).thenReturn(Optional.of(feed));
+        Mockito.when(iCalFeedServiceMock.getFeedOfCompany(false)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/calendar/persons/1/absences.ics")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/calendar/persons/2/absences.ics")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/calendar/departments/2/absences.ics")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/calendar/absences.ics")).andExpect(status().isOk());
+
+        Mockito.verify(iCalFeedServiceMock).getFeedOfPerson(1, true);
+        Mockito.verify(iCalFeedServiceMock).getFeedOfPerson(2, false);
+        Mockito.verify(iCalFeedServiceMock).getFeedOfDepartment(2, false);
+        Mockito.verify(iCalFeedServiceMock).getFeedOfCompany(false);
+    }
+
+
+    @Test
+    public void ensureNotModifiedIfCalendarHasNotChanged() throws Exception {
+
+        Mockito.when(iCalFeedServiceMock.getFeedOfCompany(true)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/calendar/absences.ics").header(HttpHeaders.IF_NONE_MATCH, feed.getETag()))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+
+    @Test
+    public void ensureBadRequestForUnknownPersonOrDepartment() throws Exception {
+
+        Mockito.when(iCalFeedServiceMock.getFeedOfPerson(42, true)).thenReturn(Optional.empty());
+        Mockito.when(iCalFeedServiceMock.getFeedOfDepartment(42, true)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/calendar/persons/42/absences.ics")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/calendar/departments/42/absences.ics")).andExpect(status().isBadRequest());
+    }
+}
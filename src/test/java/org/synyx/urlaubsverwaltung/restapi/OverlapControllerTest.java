@@ -0,0 +1,159 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import org.joda.time.DateMidnight;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.synyx.urlaubsverwaltung.core.calendar.OverlapCalendar;
+import org.synyx.urlaubsverwaltung.core.calendar.OverlapCase;
+import org.synyx.urlaubsverwaltung.core.calendar.OverlapService;
+import org.synyx.urlaubsverwaltung.core.period.EpochDay;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+public class OverlapControllerTest {
+
+    private MockMvc mockMvc;
+
+    private PersonService personServiceMock;
+    private OverlapService overlapServiceMock;
+
+    @Before
+    public void setUp() {
+
+        personServiceMock = Mockito.mock(PersonService.class);
+        overlapServiceMock = Mockito.mock(OverlapService.class);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new OverlapController(personServiceMock, overlapServiceMock))
+            .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
+                .build();
+    }
+
+
+    @Test
+    public void ensureReturnsFreePartlyAndFullyBlockedDays() throws Exception {
+
+        Person person = TestDataCreator.createPerson();
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        OverlapCalendar overlapCalendar = Mockito.mock(OverlapCalendar.class);
+        Mockito.when(overlapCalendar.getOverlapCase(Mockito.anyInt())).thenReturn(OverlapCase.NO_OVERLAPPING);
+        Mockito.when(overlapCalendar.getOverlapCase(EpochDay.of(2016, 1, 5)))
+            .thenReturn(OverlapCase.PARTLY_OVERLAPPING);
+        Mockito.when(overlapServiceMock.getOverlapCalendar(Mockito.any(Person.class), Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(overlapCalendar);
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-04")
+                .param("to", "2016-01-06")
+                .param("person", "23"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/json;charset=UTF-8"))
+            .andExpect(jsonPath("$.response").exists())
+            .andExpect(jsonPath("$.response.freeDays", contains("2016-01-04", "2016-01-06")))
+            .andExpect(jsonPath("$.response.partlyBlockedDays", contains("2016-01-05")))
+            .andExpect(jsonPath("$.response.fullyBlockedDays", hasSize(0)));
+
+        Mockito.verify(personServiceMock).getPersonByID(23);
+        Mockito.verify(overlapServiceMock)
+            .getOverlapCalendar(person, new DateMidnight(2016, 1, 4), new DateMidnight(2016, 1, 6));
+    }
+
+
+    @Test
+    public void ensureBadRequestForMissingFromParameter() throws Exception {
+
+        mockMvc.perform(get("/api/overlaps").param("to", "2016-01-06").param("person", "23"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidToParameter() throws Exception {
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01").param("to", "foo").param("person", "23"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestForMissingPersonParameter() throws Exception {
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01").param("to", "2016-01-06"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestIfThereIsNoPersonForGivenID() throws Exception {
+
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01")
+                .param("to", "2016-01-06")
+                .param("person", "23"))
+            .andExpect(status().isBadRequest());
+
+        Mockito.verify(personServiceMock).getPersonByID(23);
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidPeriod() throws Exception {
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01")
+                .param("to", "2015-01-06")
+                .param("person", "23"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureAcceptsPeriodOfMaximumLength() throws Exception {
+
+        Person person = TestDataCreator.createPerson();
+        Mockito.when(personServiceMock.getPersonByID(Mockito.anyInt())).thenReturn(Optional.of(person));
+
+        OverlapCalendar overlapCalendar = Mockito.mock(OverlapCalendar.class);
+        Mockito.when(overlapCalendar.getOverlapCase(Mockito.anyInt())).thenReturn(OverlapCase.NO_OVERLAPPING);
+        Mockito.when(overlapServiceMock.getOverlapCalendar(Mockito.any(Person.class), Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(overlapCalendar);
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("person", "23"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.freeDays", hasSize(OverlapController.MAX_DAYS)));
+    }
+
+
+    @Test
+    public void ensureBadRequestForTooLongPeriod() throws Exception {
+
+        mockMvc.perform(get("/api/overlaps").param("from", "2016-01-01")
+                .param("to", "2017-01-01")
+                .param("person", "23"))
+            .andExpect(status().isBadRequest());
+
+        Mockito.verifyZeroInteractions(personServiceMock, overlapServiceMock);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Arrays;
@@ -30,13 +31,15 @@ public class PersonControllerTest {
     private MockMvc mockMvc;
 
     private PersonService personServiceMock;
+    private DataVersionService dataVersionService;
 
     @Before
     public void setUp() {
 
         personServiceMock = Mockito.mock(PersonService.class);
+        dataVersionService = new DataVersionService();
 
-        mockMvc = MockMvcBuilders.standaloneSetup(new PersonController(personServiceMock))
+        mockMvc = MockMvcBuilders.standaloneSetup(new PersonController(personServiceMock, dataVersionService))
             .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
                 .build();
     }
@@ -93,4 +96,23 @@ public class PersonControllerTest {
 
         Mockito.verify(personServiceMock).getPersonByLogin("muster");
     }
+
+
+    @Test
+    public void ensureReturnsNotModifiedUntilDataHasChanged() throws Exception {
+
+        String eTag = mockMvc.perform(get("/api/persons"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        mockMvc.perform(get("/api/persons").header("If-None-Match", eTag)).andExpect(status().isNotModified());
+
+        dataVersionService.bumpAll();
+
+        mockMvc.perform(get("/api/persons").header("If-None-Match", eTag)).andExpect(status().isOk());
+
+        Mockito.verify(personServiceMock, Mockito.times(2)).getActivePersons();
+    }
 }
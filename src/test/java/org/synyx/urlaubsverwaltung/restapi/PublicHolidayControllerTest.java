@@ -7,6 +7,8 @@ import org.junit.Test;
 
 import org.mockito.Mockito;
 
+import org.springframework.http.HttpHeaders;
+
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -17,11 +19,13 @@ import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.settings.FederalState;
 import org.synyx.urlaubsverwaltung.core.settings.Settings;
 import org.synyx.urlaubsverwaltung.core.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Optional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -36,6 +40,7 @@ public class PublicHolidayControllerTest {
     private PersonService personServiceMock;
     private WorkingTimeService workingTimeServiceMock;
     private SettingsService settingsServiceMock;
+    private DataVersionService dataVersionService;
 
     @Before
     public void setUp() {
@@ -44,9 +49,10 @@ public class PublicHolidayControllerTest {
         publicHolidayServiceMock = Mockito.mock(PublicHolidaysService.class);
         workingTimeServiceMock = Mockito.mock(WorkingTimeService.class);
         settingsServiceMock = Mockito.mock(SettingsService.class);
+        dataVersionService = new DataVersionService();
 
         mockMvc = MockMvcBuilders.standaloneSetup(new PublicHolidayController(publicHolidayServiceMock,
-                        personServiceMock, workingTimeServiceMock, settingsServiceMock))
+                        personServiceMock, workingTimeServiceMock, settingsServiceMock, dataVersionService))
                 .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
                 .build();
 
@@ -146,4 +152,49 @@ public class PublicHolidayControllerTest {
         mockMvc.perform(get("/api/holidays").param("year", "2016").param("person", "23"))
             .andExpect(status().isBadRequest());
     }
+
+
+    @Test
+    public void ensurePublicHolidaysOfSystemDefaultsMayBeCachedByClients() throws Exception {
+
+        String eTag = dataVersionService.getVersionOfSettings().getETag();
+
+        mockMvc.perform(get("/api/holidays").param("year", "2016"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=86400"))
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        mockMvc.perform(get("/api/holidays").param("year", "2016").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+
+    @Test
+    public void ensurePublicHolidaysOfPersonAreRevalidatedWithoutLoadingThePerson() throws Exception {
+
+        Person person = TestDataCreator.createPerson();
+        Mockito.when(personServiceMock.getPersonByID(23)).thenReturn(Optional.of(person));
+        Mockito.when(workingTimeServiceMock.getFederalStateForPerson(Mockito.any(Person.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(FederalState.BAYERN);
+
+        String eTag = mockMvc.perform(get("/api/holidays").param("year", "2016").param("person", "23"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/holidays").param("year", "2016").param("person", "23")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        Mockito.verify(personServiceMock).getPersonByID(23);
+
+        dataVersionService.bumpSettings();
+
+        mockMvc.perform(get("/api/holidays").param("year", "2016").param("person", "23")
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
 }
@@ -10,15 +10,22 @@ import org.mockito.Mockito;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecordService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteCategory;
 import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -38,14 +45,17 @@ public class SickNoteControllerTest {
 
     private PersonService personServiceMock;
     private SickNoteService sickNoteServiceMock;
+    private AbsenceRecordService absenceRecordServiceMock;
 
     @Before
     public void setUp() {
 
         sickNoteServiceMock = Mockito.mock(SickNoteService.class);
         personServiceMock = Mockito.mock(PersonService.class);
+        absenceRecordServiceMock = Mockito.mock(AbsenceRecordService.class);
 
-        mockMvc = MockMvcBuilders.standaloneSetup(new SickNoteController(sickNoteServiceMock, personServiceMock))
+        mockMvc = MockMvcBuilders.standaloneSetup(new SickNoteController(sickNoteServiceMock, personServiceMock,
+                        new DataVersionService(), absenceRecordServiceMock))
             .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
                 .build();
     }
@@ -158,4 +168,73 @@ public class SickNoteControllerTest {
         mockMvc.perform(get("/api/sicknotes").param("from", "2016-01-01").param("to", "foo").param("person", "23"))
             .andExpect(status().isBadRequest());
     }
+
+
+    private static AbsenceRecord record(int id, String loginName, DateMidnight startDate, DateMidnight endDate) {
+
+        return AbsenceRecord.of(new Object[] {
+                id, startDate.toDate(), endDate.toDate(), DayLength.FULL, SickNoteCategory.SICK_NOTE, "Krankmeldung",
+                SickNoteStatus.ACTIVE, loginName, "Muster", "Marlene", loginName + "@test.de"
+            });
+    }
+
+
+    @Test
+    public void ensureReturnsPageOfActiveSickNotesWithCursorOfNextPage() throws Exception {
+
+        Mockito.when(absenceRecordServiceMock.getSickNotes(SickNoteStatus.ACTIVE, new DateMidnight(2016, 1, 1),
+                    new DateMidnight(2016, 12, 31), null, AbsenceCursor.FIRST, 1))
+            .thenReturn(Arrays.asList(record(4, "foo", new DateMidnight(2016, 4, 5), new DateMidnight(2016, 4, 6))));
+
+        mockMvc.perform(get("/api/sicknotes").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.sickNotes", hasSize(1)))
+            .andExpect(jsonPath("$.response.sickNotes[0].from", is("2016-04-05")))
+            .andExpect(jsonPath("$.response.sickNotes[0].status", is("ACTIVE")))
+            .andExpect(jsonPath("$.response.sickNotes[0].type", is("SICK_NOTE")))
+            .andExpect(jsonPath("$.response.next", is("2016-04-05,4")));
+
+        Mockito.verifyZeroInteractions(sickNoteServiceMock);
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidLimitParameter() throws Exception {
+
+        mockMvc.perform(get("/api/sicknotes").param("from", "2016-01-01").param("to", "2016-12-31")
+                .param("limit", "foo"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/sicknotes").param("from", "2016-01-01").param("to", "2016-12-31")
+                .param("limit", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void ensureStreamsAllActiveSickNotes() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+                    Consumer<AbsenceRecord> consumer = (Consumer<AbsenceRecord>) invocation.getArguments()[4];
+                    consumer.accept(record(4, "foo", new DateMidnight(2016, 4, 5), new DateMidnight(2016, 4, 6)));
+
+                    return null;
+                })
+            .when(absenceRecordServiceMock)
+            .forEachSickNote(Mockito.eq(SickNoteStatus.ACTIVE), Mockito.eq(new DateMidnight(2016, 1, 1)),
+                Mockito.eq(new DateMidnight(2016, 12, 31)), Mockito.eq(23), Mockito.any());
+
+        mockMvc.perform(get("/api/sicknotes").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("person", "23")
+                .param("stream", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.sickNotes", hasSize(1)))
+            .andExpect(jsonPath("$.response.sickNotes[0].person.email", is("foo@test.de")));
+
+        Mockito.verifyZeroInteractions(sickNoteServiceMock, personServiceMock);
+    }
 }
@@ -0,0 +1,292 @@
+package org.synyx.urlaubsverwaltung.restapi;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayType;
+import de.jollyday.holidaytype.LocalizedHolidayType;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.LocalDate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.synyx.urlaubsverwaltung.core.application.domain.Application;
+import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.core.calendar.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.core.department.Department;
+import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.core.period.DayLength;
+import org.synyx.urlaubsverwaltung.core.person.Person;
+import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.person.Role;
+import org.synyx.urlaubsverwaltung.core.settings.FederalState;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.core.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
+import org.synyx.urlaubsverwaltung.security.SessionService;
+import org.synyx.urlaubsverwaltung.test.TestDataCreator;
+
+import java.math.BigDecimal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+public class TeamAbsencesControllerTest {
+
+    private MockMvc mockMvc;
+
+    private PersonService personServiceMock;
+    private DepartmentService departmentServiceMock;
+    private ApplicationService applicationServiceMock;
+    private SickNoteService sickNoteServiceMock;
+    private WorkingTimeService workingTimeServiceMock;
+    private PublicHolidaysService publicHolidaysServiceMock;
+    private SessionService sessionServiceMock;
+
+    private Person person;
+    private Person otherPerson;
+
+    @Before
+    public void setUp() throws IllegalAccessException {
+
+        personServiceMock = Mockito.mock(PersonService.class);
+        departmentServiceMock = Mockito.mock(DepartmentService.class);
+        applicationServiceMock = Mockito.mock(ApplicationService.class);
+        sickNoteServiceMock = Mockito.mock(SickNoteService.class);
+        workingTimeServiceMock = Mockito.mock(WorkingTimeService.class);
+        publicHolidaysServiceMock = Mockito.mock(PublicHolidaysService.class);
+        sessionServiceMock = Mockito.mock(SessionService.class);
+
+        Mockito.when(sessionServiceMock.getSignedInUser())
+            .thenReturn(TestDataCreator.createPerson("office", Role.USER, Role.OFFICE));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new TeamAbsencesController(personServiceMock,
+                        departmentServiceMock, applicationServiceMock, sickNoteServiceMock, workingTimeServiceMock,
+                        publicHolidaysServiceMock, new DataVersionService(), sessionServiceMock))
+                .setControllerAdvice(new ApiExceptionHandlerControllerAdvice())
+                .build();
+
+        person = TestDataCreator.createPerson(1, "muster");
+        otherPerson = TestDataCreator.createPerson(2, "dampf");
+
+        Map<Person, FederalState> federalStates = new HashMap<>();
+        federalStates.put(person, FederalState.BAYERN);
+        federalStates.put(otherPerson, FederalState.BAYERN);
+
+        Mockito.when(workingTimeServiceMock.getFederalStatesForPersons(Mockito.anyListOf(Person.class),
+                    Mockito.any(DateMidnight.class)))
+            .thenReturn(federalStates);
+        Mockito.when(publicHolidaysServiceMock.getWorkingDurationOfDate(Mockito.any(DateMidnight.class),
+                    Mockito.any(FederalState.class)))
+            .thenReturn(BigDecimal.ZERO);
+    }
+
+
+    @Test
+    public void ensureReturnsAbsencesGroupedByPerson() throws Exception {
+
+        SickNote sickNote = TestDataCreator.createSickNote(otherPerson, new DateMidnight(2016, 5, 19),
+                new DateMidnight(2016, 5, 20), DayLength.FULL);
+        sickNote.setId(1);
+
+        Application vacation = TestDataCreator.createApplication(person, new DateMidnight(2016, 4, 28),
+                new DateMidnight(2016, 5, 3), DayLength.FULL);
+
+        Mockito.when(personServiceMock.getPersonsByIDs(Arrays.asList(1, 2)))
+            .thenReturn(Arrays.asList(person, otherPerson));
+        Mockito.when(applicationServiceMock.getApplicationsForACertainPeriodAndPersons(Mockito.any(DateMidnight.class),
+                    Mockito.any(DateMidnight.class), Mockito.anyListOf(Person.class)))
+            .thenReturn(Collections.singletonList(vacation));
+        Mockito.when(sickNoteServiceMock.getByPersonsAndPeriod(Mockito.anyListOf(Person.class),
+                    Mockito.any(DateMidnight.class), Mockito.any(DateMidnight.class)))
+            .thenReturn(Collections.singletonList(sickNote));
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1,2").param("from", "2016-05-01")
+                .param("to", "2016-05-31"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/json;charset=UTF-8"))
+            .andExpect(jsonPath("$.response.from", is("2016-05-01")))
+            .andExpect(jsonPath("$.response.to", is("2016-05-31")))
+            .andExpect(jsonPath("$.response.persons", hasSize(2)))
+            .andExpect(jsonPath("$.response.persons[0].ldapName", is("dampf")))
+            .andExpect(jsonPath("$.response.persons[0].federalState", is("BAYERN")))
+            .andExpect(jsonPath("$.response.persons[0].absences", hasSize(1)))
+            .andExpect(jsonPath("$.response.persons[0].absences[0].start", is("2016-05-19")))
+            .andExpect(jsonPath("$.response.persons[0].absences[0].end", is("2016-05-20")))
+            .andExpect(jsonPath("$.response.persons[0].absences[0].type", is("SICK_NOTE")))
+            .andExpect(jsonPath("$.response.persons[1].ldapName", is("muster")))
+            .andExpect(jsonPath("$.response.persons[1].absences", hasSize(1)))
+            .andExpect(jsonPath("$.response.persons[1].absences[0].start", is("2016-05-01")))
+            .andExpect(jsonPath("$.response.persons[1].absences[0].end", is("2016-05-03")))
+            .andExpect(jsonPath("$.response.persons[1].absences[0].type", is("VACATION")));
+
+        List<Person> persons = Arrays.asList(otherPerson, person);
+
+        Mockito.verify(applicationServiceMock)
+            .getApplicationsForACertainPeriodAndPersons(new DateMidnight(2016, 5, 1), new DateMidnight(2016, 5, 31),
+                persons);
+        Mockito.verify(sickNoteServiceMock)
+            .getByPersonsAndPeriod(persons, new DateMidnight(2016, 5, 1), new DateMidnight(2016, 5, 31));
+    }
+
+
+    @Test
+    public void ensureDoesNotReturnSickNotesIfSignedInUserIsNotOffice() throws Exception {
+
+        Mockito.when(sessionServiceMock.getSignedInUser()).thenReturn(TestDataCreator.createPerson("user",
+                Role.USER, Role.DEPARTMENT_HEAD, Role.BOSS));
+        Mockito.when(personServiceMock.getPersonsByIDs(Collections.singletonList(2)))
+            .thenReturn(Collections.singletonList(otherPerson));
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "2").param("from", "2016-05-01")
+                .param("to", "2016-05-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.persons", hasSize(1)))
+            .andExpect(jsonPath("$.response.persons[0].absences", hasSize(0)));
+
+        Mockito.verifyZeroInteractions(sickNoteServiceMock);
+    }
+
+
+    @Test
+    public void ensureResolvesPublicHolidaysOncePerFederalStateAndYear() throws Exception {
+
+        HolidayType official = LocalizedHolidayType.OFFICIAL_HOLIDAY;
+
+        Mockito.when(personServiceMock.getPersonsByIDs(Arrays.asList(1, 2)))
+            .thenReturn(Arrays.asList(person, otherPerson));
+        Mockito.when(publicHolidaysServiceMock.getHolidays(2016, FederalState.BAYERN))
+            .thenReturn(new HashSet<>(Arrays.asList(
+                        new Holiday(new LocalDate(2016, 12, 26), "STEPHENS", official),
+                        new Holiday(new LocalDate(2016, 12, 25), "CHRISTMAS", official),
+                        new Holiday(new LocalDate(2016, 1, 1), "NEW_YEAR", official))));
+        Mockito.when(publicHolidaysServiceMock.getHolidays(2017, FederalState.BAYERN))
+            .thenReturn(Collections.singleton(
+                    new Holiday(new LocalDate(2017, 1, 1), "NEW_YEAR", official)));
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1,2").param("from", "2016-12-01")
+                .param("to", "2017-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.publicHolidays.BAYERN", hasSize(3)))
+            .andExpect(jsonPath("$.response.publicHolidays.BAYERN[0].date", is("2016-12-25")))
+            .andExpect(jsonPath("$.response.publicHolidays.BAYERN[1].date", is("2016-12-26")))
+            .andExpect(jsonPath("$.response.publicHolidays.BAYERN[2].date", is("2017-01-01")));
+
+        Mockito.verify(publicHolidaysServiceMock).getHolidays(2016, FederalState.BAYERN);
+        Mockito.verify(publicHolidaysServiceMock).getHolidays(2017, FederalState.BAYERN);
+    }
+
+
+    @Test
+    public void ensureReturnsAbsencesOfActiveDepartmentMembers() throws Exception {
+
+        Person inactivePerson = TestDataCreator.createPerson(3, "inactive");
+        inactivePerson.setPermissions(Collections.singletonList(Role.INACTIVE));
+
+        Department department = TestDataCreator.createDepartment();
+        department.setMembers(Arrays.asList(person, inactivePerson));
+
+        Mockito.when(departmentServiceMock.getDepartmentById(42)).thenReturn(Optional.of(department));
+
+        mockMvc.perform(get("/api/absences/team").param("department", "42").param("from", "2016-05-01")
+                .param("to", "2016-05-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.persons", hasSize(1)))
+            .andExpect(jsonPath("$.response.persons[0].ldapName", is("muster")));
+
+        Mockito.verify(sickNoteServiceMock)
+            .getByPersonsAndPeriod(Collections.singletonList(person), new DateMidnight(2016, 5, 1),
+                new DateMidnight(2016, 5, 31));
+        Mockito.verifyZeroInteractions(personServiceMock);
+    }
+
+
+    @Test
+    public void ensureBadRequestIfNeitherDepartmentNorPersonsAreGiven() throws Exception {
+
+        mockMvc.perform(get("/api/absences/team").param("from", "2016-05-01").param("to", "2016-05-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestIfDepartmentAndPersonsAreGiven() throws Exception {
+
+        mockMvc.perform(get("/api/absences/team").param("department", "42").param("persons", "1,2")
+                .param("from", "2016-05-01").param("to", "2016-05-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestIfThereIsNoDepartmentForGivenID() throws Exception {
+
+        Mockito.when(departmentServiceMock.getDepartmentById(Mockito.anyInt())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/absences/team").param("department", "42").param("from", "2016-05-01")
+                .param("to", "2016-05-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestIfThereIsNoPersonForOneOfTheGivenIDs() throws Exception {
+
+        Mockito.when(personServiceMock.getPersonsByIDs(Arrays.asList(1, 2)))
+            .thenReturn(Collections.singletonList(person));
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1,2").param("from", "2016-05-01")
+                .param("to", "2016-05-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestIfStartDateIsAfterEndDate() throws Exception {
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1").param("from", "2016-05-31")
+                .param("to", "2016-05-01"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestForTooLongPeriod() throws Exception {
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1").param("from", "2016-01-01")
+                .param("to", "2017-01-01"))
+            .andExpect(status().isBadRequest());
+
+        Mockito.verifyZeroInteractions(personServiceMock, applicationServiceMock, sickNoteServiceMock);
+    }
+
+
+    @Test
+    public void ensureAcceptsPeriodOfMaximumLength() throws Exception {
+
+        Mockito.when(personServiceMock.getPersonsByIDs(Collections.singletonList(1)))
+            .thenReturn(Collections.singletonList(person));
+
+        mockMvc.perform(get("/api/absences/team").param("persons", "1").param("from", "2016-01-01")
+                .param("to", "2016-12-31"))
+            .andExpect(status().isOk());
+    }
+}
@@ -12,15 +12,21 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.core.application.domain.VacationCategory;
 import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceCursor;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecord;
+import org.synyx.urlaubsverwaltung.core.calendar.AbsenceRecordService;
 import org.synyx.urlaubsverwaltung.core.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.core.person.PersonService;
+import org.synyx.urlaubsverwaltung.core.version.DataVersionService;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -39,6 +45,7 @@ public class VacationControllerTest {
     private PersonService personServiceMock;
     private ApplicationService applicationServiceMock;
     private DepartmentService departmentServiceMock;
+    private AbsenceRecordService absenceRecordServiceMock;
 
     @Before
     public void setUp() {
@@ -46,9 +53,11 @@ public class VacationControllerTest {
         personServiceMock = Mockito.mock(PersonService.class);
         applicationServiceMock = Mockito.mock(ApplicationService.class);
         departmentServiceMock = Mockito.mock(DepartmentService.class);
+        absenceRecordServiceMock = Mockito.mock(AbsenceRecordService.class);
 
         mockMvc = MockMvcBuilders.standaloneSetup(new VacationController(personServiceMock, applicationServiceMock,
-                        departmentServiceMock)).setControllerAdvice(new ApiExceptionHandlerControllerAdvice()).build();
+                        departmentServiceMock, new DataVersionService(), absenceRecordServiceMock))
+                .setControllerAdvice(new ApiExceptionHandlerControllerAdvice()).build();
     }
 
 
@@ -164,4 +173,107 @@ public class VacationControllerTest {
         mockMvc.perform(get("/api/vacations").param("from", "2016-01-01").param("to", "foo").param("person", "23"))
             .andExpect(status().isBadRequest());
     }
+
+
+    private static AbsenceRecord record(int id, String loginName, DateMidnight startDate, DateMidnight endDate) {
+
+        return AbsenceRecord.of(new Object[] {
+                id, startDate.toDate(), endDate.toDate(), DayLength.FULL, VacationCategory.HOLIDAY,
+                "Erholungsurlaub", ApplicationStatus.ALLOWED, loginName, "Muster", "Marlene", loginName + "@test.de"
+            });
+    }
+
+
+    @Test
+    public void ensureReturnsPageOfAllowedVacationsWithCursorOfNextPage() throws Exception {
+
+        Mockito.when(absenceRecordServiceMock.getApplications(ApplicationStatus.ALLOWED, new DateMidnight(2016, 1, 1),
+                    new DateMidnight(2016, 12, 31), null, AbsenceCursor.FIRST, 2))
+            .thenReturn(Arrays.asList(record(3, "foo", new DateMidnight(2016, 4, 5), new DateMidnight(2016, 4, 10)),
+                    record(1, "bar", new DateMidnight(2016, 5, 19), new DateMidnight(2016, 5, 20))));
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.vacations", hasSize(2)))
+            .andExpect(jsonPath("$.response.vacations[0].from", is("2016-04-05")))
+            .andExpect(jsonPath("$.response.vacations[0].status", is("ALLOWED")))
+            .andExpect(jsonPath("$.response.vacations[0].type", is("HOLIDAY")))
+            .andExpect(jsonPath("$.response.vacations[0].person.ldapName", is("foo")))
+            .andExpect(jsonPath("$.response.vacations[0].person.niceName", is("Marlene Muster")))
+            .andExpect(jsonPath("$.response.vacations[1].to", is("2016-05-20")))
+            .andExpect(jsonPath("$.response.next", is("2016-05-19,1")));
+
+        Mockito.verifyZeroInteractions(applicationServiceMock);
+    }
+
+
+    @Test
+    public void ensureReturnsNoCursorOnLastPage() throws Exception {
+
+        Mockito.when(absenceRecordServiceMock.getApplications(ApplicationStatus.ALLOWED, new DateMidnight(2016, 1, 1),
+                    new DateMidnight(2016, 12, 31), 23, AbsenceCursor.parse("2016-05-19,1"), 2))
+            .thenReturn(Arrays.asList(record(5, "foo", new DateMidnight(2016, 6, 1), new DateMidnight(2016, 6, 1))));
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("person", "23")
+                .param("limit", "2")
+                .param("after", "2016-05-19,1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.response.vacations", hasSize(1)))
+            .andExpect(jsonPath("$.response.next").doesNotExist());
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidLimitParameter() throws Exception {
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01").param("to", "2016-12-31")
+                .param("limit", "0"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01").param("to", "2016-12-31")
+                .param("limit", "1001"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    public void ensureBadRequestForInvalidCursorParameter() throws Exception {
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01").param("to", "2016-12-31")
+                .param("limit", "10")
+                .param("after", "2016-05-19"))
+            .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void ensureStreamsAllAllowedVacations() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+                    Consumer<AbsenceRecord> consumer = (Consumer<AbsenceRecord>) invocation.getArguments()[4];
+                    consumer.accept(record(3, "foo", new DateMidnight(2016, 4, 5), new DateMidnight(2016, 4, 10)));
+                    consumer.accept(record(1, "bar", new DateMidnight(2016, 5, 19), new DateMidnight(2016, 5, 20)));
+
+                    return null;
+                })
+            .when(absenceRecordServiceMock)
+            .forEachApplication(Mockito.eq(ApplicationStatus.ALLOWED), Mockito.eq(new DateMidnight(2016, 1, 1)),
+                Mockito.eq(new DateMidnight(2016, 12, 31)), Mockito.isNull(Integer.class), Mockito.any());
+
+        mockMvc.perform(get("/api/vacations").param("from", "2016-01-01")
+                .param("to", "2016-12-31")
+                .param("stream", "true"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/json;charset=UTF-8"))
+            .andExpect(jsonPath("$.response.vacations", hasSize(2)))
+            .andExpect(jsonPath("$.response.vacations[0].from", is("2016-04-05")))
+            .andExpect(jsonPath("$.response.vacations[1].person.ldapName", is("bar")));
+
+        Mockito.verifyZeroInteractions(applicationServiceMock);
+    }
 }
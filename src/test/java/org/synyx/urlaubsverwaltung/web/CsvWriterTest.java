@@ -0,0 +1,101 @@
+package org.synyx.urlaubsverwaltung.web;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.math.BigDecimal;
+
+import java.util.Locale;
+
+
+/**
+ * Unit test for {@link CsvWriter}.
+ */
+public class CsvWriterTest {
+
+    private StringWriter writer;
+    private CsvWriter csv;
+
+    @Before
+    public void setUp() {
+
+        writer = new StringWriter();
+        csv = new CsvWriter(writer, Locale.GERMAN);
+    }
+
+
+    @Test
+    public void ensureSeparatesValuesAndRows() throws IOException {
+
+        csv.write("Marlene").write("Muster").endRow();
+        csv.write("Max").write("Mustermann").endRow();
+        csv.flush();
+
+        Assert.assertEquals("Wrong CSV", "Marlene;Muster\r\nMax;Mustermann\r\n", writer.toString());
+    }
+
+
+    @Test
+    public void ensureQuotesValuesContainingSpecialCharacters() throws IOException {
+
+        csv.write("a;b").write("say \"hello\"").write("two\nlines").endRow();
+        csv.flush();
+
+        Assert.assertEquals("Wrong CSV", "\"a;b\";\"say \"\"hello\"\"\";\"two\nlines\"\r\n", writer.toString());
+    }
+
+
+    @Test
+    public void ensureEscapesValuesThatWouldBeEvaluatedAsFormula() throws IOException {
+
+        csv.write("=1+2").write("+49 721").write("-x").write("@SUM(A1)").write("a=b").write("").endRow();
+        csv.write("=HYPERLINK(\"http://example.com\";\"click\")").write(new BigDecimal("-1.5")).endRow();
+        csv.flush();
+
+        Assert.assertEquals("Wrong CSV",
+            "'=1+2;'+49 721;'-x;'@SUM(A1);a=b;\r\n\"'=HYPERLINK(\"\"http://example.com\"\";\"\"click\"\")\";-1,5\r\n",
+            writer.toString());
+    }
+
+
+    @Test
+    public void ensureFormatsNumbersWithDecimalSeparatorOfLocale() throws IOException {
+
+        csv.write(new BigDecimal("1.5")).write(new BigDecimal("3.00")).write(new BigDecimal("0.126")).endRow();
+        csv.flush();
+
+        Assert.assertEquals("Wrong CSV", "1,5;3;0,13\r\n", writer.toString());
+    }
+
+
+    @Test
+    public void ensureWritesEmptyValueForNull() throws IOException {
+
+        csv.write((String) null).write((BigDecimal) null).write("x").endRow();
+        csv.flush();
+
+        Assert.assertEquals("Wrong CSV", ";;x\r\n", writer.toString());
+    }
+
+
+    @Test
+    public void ensurePreparesResponseForDownload() throws IOException {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        CsvWriter responseCsv = CsvWriter.forResponse(response, "export.csv", Locale.GERMAN);
+        responseCsv.write("Muster").endRow();
+        responseCsv.flush();
+
+        Assert.assertEquals("Wrong content type", "text/csv;charset=UTF-8", response.getContentType());
+        Assert.assertEquals("Wrong content disposition", "attachment; filename=\"export.csv\"",
+            response.getHeader("Content-Disposition"));
+        Assert.assertEquals("Wrong content", "\uFEFFMuster\r\n", response.getContentAsString());
+    }
+}
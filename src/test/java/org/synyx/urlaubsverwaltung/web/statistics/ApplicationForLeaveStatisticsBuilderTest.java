@@ -14,19 +14,20 @@ import org.synyx.urlaubsverwaltung.core.account.service.VacationDaysService;
 import org.synyx.urlaubsverwaltung.core.application.domain.Application;
 import org.synyx.urlaubsverwaltung.core.application.domain.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.core.application.domain.VacationType;
-import org.synyx.urlaubsverwaltung.core.application.service.ApplicationService;
 import org.synyx.urlaubsverwaltung.core.application.service.VacationTypeService;
-import org.synyx.urlaubsverwaltung.core.calendar.WorkDaysService;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDays;
+import org.synyx.urlaubsverwaltung.core.application.statistics.ApplicationForLeaveDaysService;
 import org.synyx.urlaubsverwaltung.core.overtime.OvertimeService;
-import org.synyx.urlaubsverwaltung.core.period.DayLength;
 import org.synyx.urlaubsverwaltung.core.person.Person;
 import org.synyx.urlaubsverwaltung.test.TestDataCreator;
 
 import java.math.BigDecimal;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 
 /**
@@ -37,11 +38,10 @@ import java.util.Optional;
 public class ApplicationForLeaveStatisticsBuilderTest {
 
     private AccountService accountService;
-    private ApplicationService applicationService;
-    private WorkDaysService calendarService;
     private VacationDaysService vacationDaysService;
     private OvertimeService overtimeService;
     private VacationTypeService vacationTypeService;
+    private ApplicationForLeaveDaysService applicationForLeaveDaysService;
 
     private ApplicationForLeaveStatisticsBuilder builder;
     private List<VacationType> vacationTypes;
@@ -50,24 +50,37 @@ public class ApplicationForLeaveStatisticsBuilderTest {
     public void setUp() {
 
         accountService = Mockito.mock(AccountService.class);
-        applicationService = Mockito.mock(ApplicationService.class);
-        calendarService = Mockito.mock(WorkDaysService.class);
         vacationDaysService = Mockito.mock(VacationDaysService.class);
         overtimeService = Mockito.mock(OvertimeService.class);
         vacationTypeService = Mockito.mock(VacationTypeService.class);
+        applicationForLeaveDaysService = Mockito.mock(ApplicationForLeaveDaysService.class);
 
         vacationTypes = TestDataCreator.createVacationTypes();
         Mockito.when(vacationTypeService.getVacationTypes()).thenReturn(vacationTypes);
 
-        builder = new ApplicationForLeaveStatisticsBuilder(accountService, applicationService, calendarService,
-                vacationDaysService, overtimeService, vacationTypeService);
+        builder = new ApplicationForLeaveStatisticsBuilder(accountService, vacationDaysService, overtimeService,
+                vacationTypeService, applicationForLeaveDaysService);
+    }
+
+
+    private ApplicationForLeaveDays createApplicationForLeaveDays(Person person, VacationType vacationType,
+        DateMidnight startDate, DateMidnight endDate, ApplicationStatus status, BigDecimal workDays) {
+
+        Application application = new Application();
+        application.setPerson(person);
+        application.setVacationType(vacationType);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setStatus(status);
+
+        return new ApplicationForLeaveDays(application, workDays);
     }
 
 
     @Test(expected = IllegalArgumentException.class)
     public void ensureThrowsIfTheGivenPersonIsNull() {
 
-        builder.build(null, new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31));
+        builder.build((Person) null, new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31));
     }
 
 
@@ -86,9 +99,16 @@ public class ApplicationForLeaveStatisticsBuilderTest {
 
 
     @Test(expected = IllegalArgumentException.class)
-    public void ensureThrowsIfTheGivenFromAndToDatesAreNotInTheSameYear() {
+    public void ensureThrowsIfTheGivenFromDateIsAfterTheGivenToDate() {
+
+        builder.build(Mockito.mock(Person.class), new DateMidnight(2015, 1, 2), new DateMidnight(2015, 1, 1));
+    }
+
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureThrowsIfTheGivenPersonsAreNull() {
 
-        builder.build(Mockito.mock(Person.class), new DateMidnight(2014, 1, 1), new DateMidnight(2015, 1, 1));
+        builder.build((List<Person>) null, new DateMidnight(2015, 1, 1), new DateMidnight(2015, 12, 31));
     }
 
 
@@ -98,74 +118,30 @@ public class ApplicationForLeaveStatisticsBuilderTest {
         DateMidnight from = new DateMidnight(2014, 1, 1);
         DateMidnight to = new DateMidnight(2014, 12, 31);
 
-        Person person = Mockito.mock(Person.class);
-        Account account = Mockito.mock(Account.class);
-
-        Mockito.when(person.getEmail()).thenReturn("muster@muster.de");
-        Mockito.when(accountService.getHolidaysAccount(2014, person)).thenReturn(Optional.of(account));
-        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Mockito.eq(account)))
-            .thenReturn(BigDecimal.TEN);
-        Mockito.when(overtimeService.getLeftOvertimeForPerson(person)).thenReturn(new BigDecimal("9"));
-
-        Application holidayWaiting = new Application();
-        holidayWaiting.setVacationType(vacationTypes.get(0));
-        holidayWaiting.setStartDate(new DateMidnight(2014, 10, 13));
-        holidayWaiting.setEndDate(new DateMidnight(2014, 10, 13));
-        holidayWaiting.setStatus(ApplicationStatus.WAITING);
-        holidayWaiting.setPerson(person);
-
-        Application holidayTemporaryAllowed = new Application();
-        holidayTemporaryAllowed.setVacationType(vacationTypes.get(0));
-        holidayTemporaryAllowed.setStartDate(new DateMidnight(2014, 10, 12));
-        holidayTemporaryAllowed.setEndDate(new DateMidnight(2014, 10, 12));
-        holidayTemporaryAllowed.setStatus(ApplicationStatus.TEMPORARY_ALLOWED);
-        holidayTemporaryAllowed.setPerson(person);
-
-        Application holidayAllowed = new Application();
-        holidayAllowed.setVacationType(vacationTypes.get(0));
-        holidayAllowed.setStartDate(new DateMidnight(2014, 10, 14));
-        holidayAllowed.setEndDate(new DateMidnight(2014, 10, 14));
-        holidayAllowed.setStatus(ApplicationStatus.ALLOWED);
-        holidayAllowed.setPerson(person);
-
-        Application holidayRejected = new Application();
-        holidayRejected.setVacationType(vacationTypes.get(0));
-        holidayRejected.setStartDate(new DateMidnight(2014, 11, 6));
-        holidayRejected.setEndDate(new DateMidnight(2014, 11, 6));
-        holidayRejected.setStatus(ApplicationStatus.REJECTED);
-        holidayRejected.setPerson(person);
-
-        Application specialLeaveWaiting = new Application();
-        specialLeaveWaiting.setVacationType(vacationTypes.get(1));
-        specialLeaveWaiting.setStartDate(new DateMidnight(2014, 10, 15));
-        specialLeaveWaiting.setEndDate(new DateMidnight(2014, 10, 15));
-        specialLeaveWaiting.setStatus(ApplicationStatus.WAITING);
-        specialLeaveWaiting.setPerson(person);
-
-        Application unpaidLeaveAllowed = new Application();
-        unpaidLeaveAllowed.setVacationType(vacationTypes.get(2));
-        unpaidLeaveAllowed.setStartDate(new DateMidnight(2014, 10, 16));
-        unpaidLeaveAllowed.setEndDate(new DateMidnight(2014, 10, 16));
-        unpaidLeaveAllowed.setStatus(ApplicationStatus.ALLOWED);
-        unpaidLeaveAllowed.setPerson(person);
-
-        Application overTimeWaiting = new Application();
-        overTimeWaiting.setVacationType(vacationTypes.get(3));
-        overTimeWaiting.setStartDate(new DateMidnight(2014, 11, 3));
-        overTimeWaiting.setEndDate(new DateMidnight(2014, 11, 3));
-        overTimeWaiting.setStatus(ApplicationStatus.WAITING);
-        overTimeWaiting.setPerson(person);
-
-        List<Application> applications = Arrays.asList(holidayWaiting, holidayTemporaryAllowed, holidayAllowed,
-                holidayRejected, specialLeaveWaiting, unpaidLeaveAllowed, overTimeWaiting);
-
-        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPerson(from, to, person))
-            .thenReturn(applications);
-
-        // just return 1 day for each application for leave
-        Mockito.when(calendarService.getWorkDays(Mockito.any(DayLength.class), Mockito.any(DateMidnight.class),
-                    Mockito.any(DateMidnight.class), Mockito.eq(person)))
-            .thenReturn(BigDecimal.ONE);
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        Account account = TestDataCreator.createHolidaysAccount(person, 2014);
+        Mockito.when(accountService.getHolidaysAccounts(2014, persons)).thenReturn(Collections.singletonList(account));
+        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Collections.singletonList(account)))
+            .thenReturn(Collections.singletonMap(account, BigDecimal.TEN));
+
+        List<ApplicationForLeaveDays> days = Arrays.asList(
+                createApplicationForLeaveDays(person, vacationTypes.get(0), new DateMidnight(2014, 10, 13),
+                    new DateMidnight(2014, 10, 13), ApplicationStatus.WAITING, BigDecimal.ONE),
+                createApplicationForLeaveDays(person, vacationTypes.get(0), new DateMidnight(2014, 10, 12),
+                    new DateMidnight(2014, 10, 12), ApplicationStatus.TEMPORARY_ALLOWED, BigDecimal.ONE),
+                createApplicationForLeaveDays(person, vacationTypes.get(0), new DateMidnight(2014, 10, 14),
+                    new DateMidnight(2014, 10, 14), ApplicationStatus.ALLOWED, BigDecimal.ONE),
+                createApplicationForLeaveDays(person, vacationTypes.get(1), new DateMidnight(2014, 10, 15),
+                    new DateMidnight(2014, 10, 15), ApplicationStatus.WAITING, BigDecimal.ONE),
+                createApplicationForLeaveDays(person, vacationTypes.get(2), new DateMidnight(2014, 10, 16),
+                    new DateMidnight(2014, 10, 16), ApplicationStatus.ALLOWED, BigDecimal.ONE),
+                createApplicationForLeaveDays(person, vacationTypes.get(3), new DateMidnight(2014, 11, 3),
+                    new DateMidnight(2014, 11, 3), ApplicationStatus.WAITING, BigDecimal.ONE));
+
+        Mockito.when(applicationForLeaveDaysService.getApplicationForLeaveDays(2014, persons))
+            .thenReturn(Collections.singletonMap(person, days));
 
         ApplicationForLeaveStatistics statistics = builder.build(person, from, to);
 
@@ -189,61 +165,80 @@ public class ApplicationForLeaveStatisticsBuilderTest {
 
 
     @Test
-    public void ensureCallsCalendarServiceToCalculatePartialVacationDaysOfVacationsSpanningTwoYears() {
+    public void ensureOnlyConsidersApplicationsForLeaveOverlappingThePeriod() {
 
-        DateMidnight from = new DateMidnight(2015, 1, 1);
-        DateMidnight to = new DateMidnight(2015, 12, 31);
+        DateMidnight from = new DateMidnight(2015, 4, 1);
+        DateMidnight to = new DateMidnight(2015, 4, 30);
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
 
-        Person person = Mockito.mock(Person.class);
-        Account account = Mockito.mock(Account.class);
-
-        Mockito.when(person.getEmail()).thenReturn("muster@muster.de");
-        Mockito.when(accountService.getHolidaysAccount(2015, person)).thenReturn(Optional.of(account));
-        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Mockito.eq(account)))
-            .thenReturn(BigDecimal.TEN);
-        Mockito.when(overtimeService.getLeftOvertimeForPerson(person)).thenReturn(new BigDecimal("9"));
-
-        Application holidayAllowed = new Application();
-        holidayAllowed.setVacationType(vacationTypes.get(0));
-        holidayAllowed.setStartDate(new DateMidnight(2014, 12, 29));
-        holidayAllowed.setEndDate(new DateMidnight(2015, 1, 9));
-        holidayAllowed.setStatus(ApplicationStatus.ALLOWED);
-        holidayAllowed.setDayLength(DayLength.FULL);
-        holidayAllowed.setPerson(person);
-
-        Application holidayWaiting = new Application();
-        holidayWaiting.setVacationType(vacationTypes.get(0));
-        holidayWaiting.setStartDate(new DateMidnight(2015, 12, 21));
-        holidayWaiting.setEndDate(new DateMidnight(2016, 1, 4));
-        holidayWaiting.setStatus(ApplicationStatus.WAITING);
-        holidayWaiting.setDayLength(DayLength.FULL);
-        holidayWaiting.setPerson(person);
-
-        List<Application> applications = Arrays.asList(holidayWaiting, holidayAllowed);
-
-        Mockito.when(applicationService.getApplicationsForACertainPeriodAndPerson(from, to, person))
-            .thenReturn(applications);
-
-        Mockito.when(calendarService.getWorkDays(DayLength.FULL, new DateMidnight(2015, 1, 1),
-                    new DateMidnight(2015, 1, 9), person))
-            .thenReturn(new BigDecimal("5"));
-        Mockito.when(calendarService.getWorkDays(DayLength.FULL, new DateMidnight(2015, 12, 21),
-                    new DateMidnight(2015, 12, 31), person))
-            .thenReturn(new BigDecimal("7"));
+        List<ApplicationForLeaveDays> days = Arrays.asList(
+                createApplicationForLeaveDays(person, vacationTypes.get(0), new DateMidnight(2015, 3, 30),
+                    new DateMidnight(2015, 4, 2), ApplicationStatus.ALLOWED, new BigDecimal("4")),
+                createApplicationForLeaveDays(person, vacationTypes.get(0), new DateMidnight(2015, 5, 4),
+                    new DateMidnight(2015, 5, 5), ApplicationStatus.ALLOWED, new BigDecimal("2")));
+
+        Mockito.when(applicationForLeaveDaysService.getApplicationForLeaveDays(2015, persons))
+            .thenReturn(Collections.singletonMap(person, days));
 
         ApplicationForLeaveStatistics statistics = builder.build(person, from, to);
 
-        // VACATION DAYS
+        Assert.assertEquals("Wrong number of allowed vacation days", new BigDecimal("4"),
+            statistics.getTotalAllowedVacationDays());
+    }
 
-        Assert.assertNotNull("Waiting vacation days should not be null", statistics.getTotalWaitingVacationDays());
-        Assert.assertNotNull("Allowed vacation days should not be null", statistics.getTotalAllowedVacationDays());
-        Assert.assertNotNull("Left vacation days should not be null", statistics.getLeftVacationDays());
 
-        Assert.assertEquals("Wrong number of waiting vacation days", new BigDecimal("7"),
-            statistics.getTotalWaitingVacationDays());
-        Assert.assertEquals("Wrong number of allowed vacation days", new BigDecimal("5"),
+    @Test
+    public void ensureMergesTheVacationDaysOfAllYearsOfAPeriodSpanningSeveralYears() {
+
+        DateMidnight from = new DateMidnight(2015, 4, 1);
+        DateMidnight to = new DateMidnight(2016, 3, 31);
+
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
+
+        Account account = TestDataCreator.createHolidaysAccount(person, 2016);
+        Mockito.when(accountService.getHolidaysAccounts(2016, persons)).thenReturn(Collections.singletonList(account));
+        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Collections.singletonList(account)))
+            .thenReturn(Collections.singletonMap(account, new BigDecimal("20")));
+
+        // spans two years: 7 days in 2015 and 1 day in 2016
+        ApplicationForLeaveDays allowedIn2015 = createApplicationForLeaveDays(person, vacationTypes.get(0),
+                new DateMidnight(2015, 12, 21), new DateMidnight(2016, 1, 4), ApplicationStatus.ALLOWED,
+                new BigDecimal("7"));
+        ApplicationForLeaveDays allowedIn2016 = createApplicationForLeaveDays(person, vacationTypes.get(0),
+                new DateMidnight(2015, 12, 21), new DateMidnight(2016, 1, 4), ApplicationStatus.ALLOWED,
+                BigDecimal.ONE);
+
+        ApplicationForLeaveDays waitingBeforePeriod = createApplicationForLeaveDays(person, vacationTypes.get(0),
+                new DateMidnight(2015, 2, 2), new DateMidnight(2015, 2, 3), ApplicationStatus.WAITING,
+                new BigDecimal("2"));
+        ApplicationForLeaveDays waitingAfterPeriod = createApplicationForLeaveDays(person, vacationTypes.get(0),
+                new DateMidnight(2016, 4, 4), new DateMidnight(2016, 4, 5), ApplicationStatus.WAITING,
+                new BigDecimal("2"));
+        ApplicationForLeaveDays waitingWithinPeriod = createApplicationForLeaveDays(person, vacationTypes.get(1),
+                new DateMidnight(2016, 3, 1), new DateMidnight(2016, 3, 3), ApplicationStatus.WAITING,
+                new BigDecimal("3"));
+
+        Mockito.when(applicationForLeaveDaysService.getApplicationForLeaveDays(2015, persons))
+            .thenReturn(Collections.singletonMap(person, Arrays.asList(waitingBeforePeriod, allowedIn2015)));
+        Mockito.when(applicationForLeaveDaysService.getApplicationForLeaveDays(2016, persons))
+            .thenReturn(Collections.singletonMap(person,
+                    Arrays.asList(allowedIn2016, waitingWithinPeriod, waitingAfterPeriod)));
+
+        ApplicationForLeaveStatistics statistics = builder.build(person, from, to);
+
+        Assert.assertEquals("Wrong number of allowed vacation days", new BigDecimal("8"),
             statistics.getTotalAllowedVacationDays());
-        Assert.assertEquals("Wrong number of left vacation days", BigDecimal.TEN, statistics.getLeftVacationDays());
+        Assert.assertEquals("Wrong number of waiting vacation days", new BigDecimal("3"),
+            statistics.getTotalWaitingVacationDays());
+        Assert.assertEquals("Wrong number of left vacation days", new BigDecimal("20"),
+            statistics.getLeftVacationDays());
+
+        Mockito.verify(applicationForLeaveDaysService).getApplicationForLeaveDays(2015, persons);
+        Mockito.verify(applicationForLeaveDaysService).getApplicationForLeaveDays(2016, persons);
+        Mockito.verify(accountService).getHolidaysAccounts(2016, persons);
     }
 
 
@@ -253,19 +248,78 @@ public class ApplicationForLeaveStatisticsBuilderTest {
         DateMidnight from = new DateMidnight(2015, 1, 1);
         DateMidnight to = new DateMidnight(2015, 12, 31);
 
-        Person person = Mockito.mock(Person.class);
-        Account account = Mockito.mock(Account.class);
+        Person person = TestDataCreator.createPerson("muster");
+        List<Person> persons = Collections.singletonList(person);
 
-        Mockito.when(accountService.getHolidaysAccount(2015, person)).thenReturn(Optional.of(account));
-        Mockito.when(overtimeService.getLeftOvertimeForPerson(person)).thenReturn(new BigDecimal("6.5"));
-        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(account)).thenReturn(new BigDecimal("8.5"));
+        Account account = TestDataCreator.createHolidaysAccount(person, 2015);
+        Mockito.when(accountService.getHolidaysAccounts(2015, persons)).thenReturn(Collections.singletonList(account));
+        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Collections.singletonList(account)))
+            .thenReturn(Collections.singletonMap(account, new BigDecimal("8.5")));
+        Mockito.when(overtimeService.getLeftOvertimeForPersons(persons))
+            .thenReturn(Collections.singletonMap(person, new BigDecimal("6.5")));
 
         ApplicationForLeaveStatistics statistics = builder.build(person, from, to);
 
         Assert.assertEquals("Wrong left overtime", new BigDecimal("6.5"), statistics.getLeftOvertime());
         Assert.assertEquals("Wrong left vacation days", new BigDecimal("8.5"), statistics.getLeftVacationDays());
+    }
+
+
+    @Test
+    public void ensureBuildsStatisticsOfSeveralPersonsAtOnce() {
 
-        Mockito.verify(overtimeService).getLeftOvertimeForPerson(person);
-        Mockito.verify(vacationDaysService).calculateTotalLeftVacationDays(account);
+        DateMidnight from = new DateMidnight(2015, 1, 1);
+        DateMidnight to = new DateMidnight(2015, 12, 31);
+
+        Person person = TestDataCreator.createPerson("muster");
+        Person otherPerson = TestDataCreator.createPerson("dampf");
+        List<Person> persons = Arrays.asList(person, otherPerson);
+
+        Account account = TestDataCreator.createHolidaysAccount(person, 2015);
+        Mockito.when(accountService.getHolidaysAccounts(2015, persons)).thenReturn(Collections.singletonList(account));
+        Mockito.when(vacationDaysService.calculateTotalLeftVacationDays(Collections.singletonList(account)))
+            .thenReturn(Collections.singletonMap(account, new BigDecimal("8.5")));
+
+        Map<Person, BigDecimal> leftOvertime = new HashMap<>();
+        leftOvertime.put(person, new BigDecimal("6.5"));
+        leftOvertime.put(otherPerson, BigDecimal.ONE);
+        Mockito.when(overtimeService.getLeftOvertimeForPersons(persons)).thenReturn(leftOvertime);
+
+        Map<Person, List<ApplicationForLeaveDays>> days = new HashMap<>();
+        days.put(person,
+            Collections.singletonList(
+                createApplicationForLeaveDays(person, vacationTypes.get(1), new DateMidnight(2014, 12, 29),
+                    new DateMidnight(2015, 1, 9), ApplicationStatus.ALLOWED, new BigDecimal("5"))));
+        days.put(otherPerson,
+            Collections.singletonList(
+                createApplicationForLeaveDays(otherPerson, vacationTypes.get(0), new DateMidnight(2015, 10, 13),
+                    new DateMidnight(2015, 10, 14), ApplicationStatus.WAITING, new BigDecimal("2"))));
+        Mockito.when(applicationForLeaveDaysService.getApplicationForLeaveDays(2015, persons)).thenReturn(days);
+
+        List<ApplicationForLeaveStatistics> statistics = builder.build(persons, from, to);
+
+        Assert.assertEquals("Wrong number of statistics", 2, statistics.size());
+
+        ApplicationForLeaveStatistics statisticsOfPerson = statistics.get(0);
+        Assert.assertEquals("Wrong person", person, statisticsOfPerson.getPerson());
+        Assert.assertEquals("Wrong number of allowed vacation days", new BigDecimal("5"),
+            statisticsOfPerson.getAllowedVacationDays().get(vacationTypes.get(1)));
+        Assert.assertEquals("Wrong number of waiting vacation days", BigDecimal.ZERO,
+            statisticsOfPerson.getTotalWaitingVacationDays());
+        Assert.assertEquals("Wrong left vacation days", new BigDecimal("8.5"),
+            statisticsOfPerson.getLeftVacationDays());
+        Assert.assertEquals("Wrong left overtime", new BigDecimal("6.5"), statisticsOfPerson.getLeftOvertime());
+
+        ApplicationForLeaveStatistics statisticsOfOtherPerson = statistics.get(1);
+        Assert.assertEquals("Wrong person", otherPerson, statisticsOfOtherPerson.getPerson());
+        Assert.assertEquals("Wrong number of waiting vacation days", new BigDecimal("2"),
+            statisticsOfOtherPerson.getWaitingVacationDays().get(vacationTypes.get(0)));
+        Assert.assertEquals("Wrong number of allowed vacation days", BigDecimal.ZERO,
+            statisticsOfOtherPerson.getTotalAllowedVacationDays());
+        Assert.assertEquals("Person without holidays account should have no left vacation days", BigDecimal.ZERO,
+            statisticsOfOtherPerson.getLeftVacationDays());
+        Assert.assertEquals("Wrong left overtime", BigDecimal.ONE, statisticsOfOtherPerson.getLeftOvertime());
+
+        Mockito.verify(vacationTypeService).getVacationTypes();
     }
 }